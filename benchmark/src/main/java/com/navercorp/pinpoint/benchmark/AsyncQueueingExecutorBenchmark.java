@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.pinpoint.profiler.sender.AsyncQueueingExecutor;
+import com.navercorp.pinpoint.profiler.sender.AsyncQueueingExecutorListener;
+
+/**
+ * {@link AsyncQueueingExecutor#execute(Object)} from several producer threads into a single io thread.
+ * the listener only consumes the data, so the result is the enqueue/hand-off cost. a full queue drops data(execute returns false),
+ * which is also counted as an operation just like in the agent.
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncQueueingExecutorBenchmark {
+
+    private static final Object DATA = new Object();
+
+    private AsyncQueueingExecutor<Object> executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = new AsyncQueueingExecutor<Object>(1024 * 5, "Pinpoint-Benchmark-Executor");
+        this.executor.setListener(new AsyncQueueingExecutorListener<Object>() {
+            @Override
+            public void execute(Collection<Object> dtoList) {
+                Blackhole.consumeCPU(dtoList.size());
+            }
+
+            @Override
+            public void execute(Object dto) {
+                Blackhole.consumeCPU(1);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.executor.stop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean execute() {
+        return executor.execute(DATA);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean executeContended() {
+        return executor.execute(DATA);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.AgentInformation;
+import com.navercorp.pinpoint.profiler.context.DefaultTraceContext;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+
+/**
+ * shared fixtures of the benchmark suites.
+ * @author agent
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static DefaultTraceContext newTraceContext() {
+        final AgentInformation agentInformation = new AgentInformation("benchmarkAgent", "benchmarkApplication", System.currentTimeMillis(), 1, "benchmarkMachine",
+                "127.0.0.1", ServiceType.STAND_ALONE, System.getProperty("java.version"), "benchmark");
+        return new DefaultTraceContext(agentInformation);
+    }
+
+    static Storage newDiscardStorage() {
+        return new Storage() {
+            @Override
+            public void store(SpanEvent spanEvent) {
+            }
+
+            @Override
+            public void store(Span span) {
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
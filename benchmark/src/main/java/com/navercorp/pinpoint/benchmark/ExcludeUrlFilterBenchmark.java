@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.bootstrap.util.AntPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.CompiledPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.EqualsPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.PathMatcher;
+
+/**
+ * exclude url check of a web container plugin with patternCount exclude patterns(half exact, half ant style).
+ * listScan is the former ExcludeUrlFilter(one matcher per pattern), compiled is {@link CompiledPathMatcher}.
+ * the request uri does not match any pattern, which is the common case and the worst case of the list scan.
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcludeUrlFilterBenchmark {
+
+    @Param({"4", "40"})
+    private int patternCount;
+
+    @Param({"/api/v1/orders/12345/items", "/static/css/app.css"})
+    private String requestUri;
+
+    private List<PathMatcher> matcherList;
+    private PathMatcher compiledMatcher;
+
+    @Setup
+    public void setup() {
+        final List<String> patterns = new ArrayList<String>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            if (i % 2 == 0) {
+                patterns.add("/monitor" + i + "/l7check.html");
+            } else {
+                patterns.add("/static" + i + "/**/*.css");
+            }
+        }
+        this.matcherList = new ArrayList<PathMatcher>(patternCount);
+        for (String pattern : patterns) {
+            if (AntPathMatcher.isAntStylePattern(pattern)) {
+                matcherList.add(new AntPathMatcher(pattern));
+            } else {
+                matcherList.add(new EqualsPathMatcher(pattern));
+            }
+        }
+        this.compiledMatcher = new CompiledPathMatcher(patterns);
+    }
+
+    @Benchmark
+    public boolean listScan() {
+        for (PathMatcher pathMatcher : matcherList) {
+            if (pathMatcher.isMatched(requestUri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiledMatcher.isMatched(requestUri);
+    }
+}
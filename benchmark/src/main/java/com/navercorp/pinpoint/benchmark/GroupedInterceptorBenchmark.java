@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.group.ExecutionPolicy;
+import com.navercorp.pinpoint.bootstrap.interceptor.group.GroupedInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.group.InterceptorGroup;
+import com.navercorp.pinpoint.bootstrap.interceptor.registry.DefaultInterceptorRegistryAdaptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.registry.InterceptorRegistry;
+import com.navercorp.pinpoint.profiler.interceptor.group.DefaultInterceptorGroup;
+
+/**
+ * interceptor invocation as emitted into instrumented methods: lookup through {@link InterceptorRegistry} then before/after.
+ * nested calls a BOUNDARY interceptor from inside another one of the same group, so the inner pair is skipped by the group.
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupedInterceptorBenchmark {
+
+    private final Object lock = new Object();
+
+    private int plainKey;
+    private int outerKey;
+    private int innerKey;
+
+    private final Object target = new Object();
+    private final Object[] args = new Object[] {"arg0"};
+    private final Object result = new Object();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final DefaultInterceptorRegistryAdaptor registryAdaptor = new DefaultInterceptorRegistryAdaptor();
+        final InterceptorGroup group = new DefaultInterceptorGroup("BENCHMARK_GROUP");
+
+        this.plainKey = registryAdaptor.addInterceptor(new CountingInterceptor());
+        this.outerKey = registryAdaptor.addInterceptor(newGroupedInterceptor(group));
+        this.innerKey = registryAdaptor.addInterceptor(newGroupedInterceptor(group));
+
+        InterceptorRegistry.bind(registryAdaptor, lock);
+    }
+
+    private GroupedInterceptor newGroupedInterceptor(InterceptorGroup group) {
+        final CountingInterceptor interceptor = new CountingInterceptor();
+        return new GroupedInterceptor(interceptor, interceptor, group, ExecutionPolicy.BOUNDARY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        InterceptorRegistry.unbind(lock);
+    }
+
+    @Benchmark
+    public void plain() {
+        final AroundInterceptor interceptor = (AroundInterceptor) InterceptorRegistry.getInterceptor(plainKey);
+        interceptor.before(target, args);
+        interceptor.after(target, result, null, args);
+    }
+
+    @Benchmark
+    public void grouped() {
+        final AroundInterceptor interceptor = (AroundInterceptor) InterceptorRegistry.getInterceptor(outerKey);
+        interceptor.before(target, args);
+        interceptor.after(target, result, null, args);
+    }
+
+    @Benchmark
+    public void nested() {
+        final AroundInterceptor outer = (AroundInterceptor) InterceptorRegistry.getInterceptor(outerKey);
+        outer.before(target, args);
+
+        final AroundInterceptor inner = (AroundInterceptor) InterceptorRegistry.getInterceptor(innerKey);
+        inner.before(target, args);
+        inner.after(target, result, null, args);
+
+        outer.after(target, result, null, args);
+    }
+
+    private static class CountingInterceptor implements AroundInterceptor {
+
+        @Override
+        public void before(Object target, Object[] args) {
+            Blackhole.consumeCPU(1);
+        }
+
+        @Override
+        public void after(Object target, Object result, Throwable throwable, Object[] args) {
+            Blackhole.consumeCPU(1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.profiler.context.IdGenerator;
+
+/**
+ * transaction id generation from many request threads.
+ * sharedAtomic is the former IdGenerator(one AtomicLong for every thread), blockAllocation is {@link IdGenerator} with blockSize.
+ * blockSize 1 reserves from the shared counter on every call, so it shows the thread local overhead alone.
+ * sharedAtomic keeps its counter in a state without parameters, so it runs once instead of once per blockSize.
+ * run with -t to change the thread count.
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(64)
+public class IdGeneratorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedCounter {
+        private final AtomicLong transactionId = new AtomicLong();
+    }
+
+    @State(Scope.Benchmark)
+    public static class BlockCounter {
+        @Param({"1", "16", "64"})
+        private int blockSize;
+
+        private IdGenerator idGenerator;
+
+        @Setup
+        public void setup() {
+            this.idGenerator = new IdGenerator(blockSize);
+        }
+    }
+
+    @Benchmark
+    public long sharedAtomic(SharedCounter counter) {
+        return counter.transactionId.getAndIncrement();
+    }
+
+    @Benchmark
+    public long blockAllocation(BlockCounter counter) {
+        return counter.idGenerator.nextTransactionId();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.rpc.Future;
+import com.navercorp.pinpoint.rpc.PinpointSocket;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
+import com.navercorp.pinpoint.rpc.client.PinpointClient;
+import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.rpc.netty4.Netty4ServerAcceptor;
+import com.navercorp.pinpoint.rpc.packet.HandshakeResponseCode;
+import com.navercorp.pinpoint.rpc.packet.HandshakeResponseType;
+import com.navercorp.pinpoint.rpc.packet.PingPacket;
+import com.navercorp.pinpoint.rpc.packet.RequestPacket;
+import com.navercorp.pinpoint.rpc.packet.SendPacket;
+import com.navercorp.pinpoint.rpc.server.PinpointServer;
+import com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerMessageListener;
+
+/**
+ * collector tcp transport throughput. the same netty 3 {@link PinpointClient} talks to
+ * the netty 3 {@link PinpointServerAcceptor} or the netty 4 {@link Netty4ServerAcceptor}(epoll and pooled buffers where available) over loopback.
+ * request measures a full round trip, send measures the one way agent to collector path.
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar RpcTransportBenchmark -p payloadSize=1024
+ * </pre>
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RpcTransportBenchmark {
+
+    @Param({"netty3", "netty4"})
+    public String transport;
+
+    @Param({"256", "4096"})
+    public int payloadSize;
+
+    private ServerAcceptor serverAcceptor;
+    private PinpointClientFactory clientFactory;
+    private PinpointClient client;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final int port = findAvailablePort();
+
+        this.serverAcceptor = createServerAcceptor(transport);
+        this.serverAcceptor.setMessageListener(new EchoListener());
+        this.serverAcceptor.bind("127.0.0.1", port);
+
+        this.clientFactory = new PinpointClientFactory();
+        this.client = clientFactory.connect("127.0.0.1", port);
+
+        this.payload = new byte[payloadSize];
+        new Random(0).nextBytes(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        if (clientFactory != null) {
+            clientFactory.release();
+        }
+        if (serverAcceptor != null) {
+            serverAcceptor.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] request() {
+        final Future<ResponseMessage> future = client.request(payload);
+        future.await();
+        return future.getResult().getMessage();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sendSync() {
+        client.sendSync(payload);
+    }
+
+    private static ServerAcceptor createServerAcceptor(String transport) {
+        if ("netty4".equals(transport)) {
+            return new Netty4ServerAcceptor();
+        }
+        if ("netty3".equals(transport)) {
+            return new PinpointServerAcceptor();
+        }
+        throw new IllegalArgumentException("unknown transport:" + transport);
+    }
+
+    private static int findAvailablePort() throws IOException {
+        final ServerSocket serverSocket = new ServerSocket(0);
+        try {
+            return serverSocket.getLocalPort();
+        } finally {
+            serverSocket.close();
+        }
+    }
+
+    private static class EchoListener implements ServerMessageListener {
+
+        @Override
+        public void handleSend(SendPacket sendPacket, PinpointSocket pinpointSocket) {
+        }
+
+        @Override
+        public void handleRequest(RequestPacket requestPacket, PinpointSocket pinpointSocket) {
+            pinpointSocket.response(requestPacket, requestPacket.getPayload());
+        }
+
+        @Override
+        public HandshakeResponseCode handleHandshake(Map properties) {
+            return HandshakeResponseType.Success.SIMPLEX_COMMUNICATION;
+        }
+
+        @Override
+        public void handlePing(PingPacket pingPacket, PinpointServer pinpointServer) {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.profiler.context.DefaultTraceContext;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.WrappedSpanEventRecorder;
+
+/**
+ * annotation recording cost of {@link WrappedSpanEventRecorder}.
+ * the span event is recreated per invocation so the annotation list does not grow across iterations.
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpanEventRecorderBenchmark {
+
+    private static final String URL = "/benchmark/request.pinpoint";
+
+    private WrappedSpanEventRecorder recorder;
+    private Span span;
+    private Object[] args;
+
+    @Setup
+    public void setup() {
+        final DefaultTraceContext traceContext = BenchmarkFixtures.newTraceContext();
+        this.recorder = new WrappedSpanEventRecorder(traceContext);
+        this.span = new Span();
+        this.args = new Object[] {"arg0", 1, Boolean.TRUE};
+    }
+
+    @Benchmark
+    public SpanEvent recordStringAttribute() {
+        final SpanEvent spanEvent = new SpanEvent(span);
+        recorder.setWrapped(spanEvent);
+        recorder.recordAttribute(AnnotationKey.HTTP_URL, URL);
+        return spanEvent;
+    }
+
+    @Benchmark
+    public SpanEvent recordIntAttribute() {
+        final SpanEvent spanEvent = new SpanEvent(span);
+        recorder.setWrapped(spanEvent);
+        recorder.recordAttribute(AnnotationKey.API_TAG, 200);
+        return spanEvent;
+    }
+
+    @Benchmark
+    public SpanEvent recordArgs() {
+        final SpanEvent spanEvent = new SpanEvent(span);
+        recorder.setWrapped(spanEvent);
+        for (int i = 0; i < args.length; i++) {
+            recorder.recordAttribute(AnnotationKey.getArgs(i), args[i]);
+        }
+        return spanEvent;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
+
+/**
+ * serialization of a span with spanEventCount children through {@link HeaderTBaseSerializer}, as done by the span sender.
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpanSerializerBenchmark {
+
+    @Param({"1", "16", "128"})
+    private int spanEventCount;
+
+    private HeaderTBaseSerializer serializer;
+    private Span span;
+
+    @Setup
+    public void setup() {
+        this.serializer = HeaderTBaseSerializerFactory.DEFAULT_FACTORY.createSerializer();
+        this.span = createSpan(spanEventCount);
+    }
+
+    private Span createSpan(int spanEventCount) {
+        final Span span = new Span();
+        span.setAgentId("benchmarkAgent");
+        span.setApplicationName("benchmarkApplication");
+        span.setAgentStartTime(System.currentTimeMillis());
+        span.setTransactionId(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        span.setSpanId(1234567L);
+        span.setParentSpanId(-1L);
+        span.setStartTime(System.currentTimeMillis());
+        span.setElapsed(100);
+        span.setRpc("/benchmark/request.pinpoint");
+        span.setServiceType(ServiceType.STAND_ALONE.getCode());
+        span.setEndPoint("localhost:8080");
+        span.setRemoteAddr("127.0.0.1");
+
+        final List<TSpanEvent> spanEventList = new ArrayList<TSpanEvent>(spanEventCount);
+        for (int i = 0; i < spanEventCount; i++) {
+            final SpanEvent spanEvent = new SpanEvent(span);
+            spanEvent.setSequence((short) i);
+            spanEvent.setDepth(i % 8 + 1);
+            spanEvent.setStartElapsed(i);
+            spanEvent.setEndElapsed(1);
+            spanEvent.setApiId(i + 1);
+            spanEvent.setServiceType(ServiceType.INTERNAL_METHOD.getCode());
+            spanEvent.addAnnotation(new Annotation(AnnotationKey.ARGS0.getCode(), "arg" + i));
+            spanEventList.add(spanEvent);
+        }
+        span.setSpanEventList(spanEventList);
+        return span;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws TException {
+        return serializer.serialize(span);
+    }
+}
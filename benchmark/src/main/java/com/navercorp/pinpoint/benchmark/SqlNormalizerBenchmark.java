@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.profiler.context.DefaultCachingSqlNormalizer;
+
+/**
+ * {@link DefaultCachingSqlNormalizer} on a cache hit(same sql repeated) and on a miss(new sql every call).
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlNormalizerBenchmark {
+
+    private static final String SQL = "SELECT id, name, price FROM product WHERE category = 'book' AND price > 1000 AND id IN (1, 2, 3) ORDER BY price";
+
+    @Param({"false", "true"})
+    private boolean hashId;
+
+    private DefaultCachingSqlNormalizer normalizer;
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        this.normalizer = new DefaultCachingSqlNormalizer(1024, hashId);
+    }
+
+    @Benchmark
+    public ParsingResult cacheHit() {
+        final ParsingResult parsingResult = normalizer.wrapSql(SQL);
+        normalizer.normalizedSql(parsingResult);
+        return parsingResult;
+    }
+
+    @Benchmark
+    public ParsingResult cacheMiss() {
+        final ParsingResult parsingResult = normalizer.wrapSql(SQL + " LIMIT " + sequence++);
+        normalizer.normalizedSql(parsingResult);
+        return parsingResult;
+    }
+}
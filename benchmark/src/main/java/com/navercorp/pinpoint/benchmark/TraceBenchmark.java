@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.CallStack;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.DefaultTraceContext;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+
+/**
+ * push/pop cost of a transaction's call stack.
+ * traceBlock measures the whole DefaultTrace path(traceBlockBegin/End + storage), callStack measures {@link CallStack} alone.
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TraceBenchmark {
+
+    @Param({"1", "8", "32"})
+    private int depth;
+
+    private DefaultTraceContext traceContext;
+    private Storage storage;
+    private long transactionId;
+
+    private Span span;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.traceContext = BenchmarkFixtures.newTraceContext();
+        this.storage = BenchmarkFixtures.newDiscardStorage();
+        this.span = new Span();
+    }
+
+    @Benchmark
+    public void traceBlock(Blackhole blackhole) {
+        final DefaultTrace trace = new DefaultTrace(traceContext, transactionId++, true);
+        trace.setStorage(storage);
+        for (int i = 0; i < depth; i++) {
+            final SpanEventRecorder recorder = trace.traceBlockBegin();
+            recorder.recordServiceType(ServiceType.INTERNAL_METHOD);
+            blackhole.consume(recorder);
+        }
+        for (int i = 0; i < depth; i++) {
+            trace.traceBlockEnd();
+        }
+        trace.close();
+    }
+
+    @Benchmark
+    public void callStack(Blackhole blackhole) {
+        final CallStack callStack = new CallStack(span);
+        for (int i = 0; i < depth; i++) {
+            callStack.push(new SpanEvent(span));
+        }
+        for (int i = 0; i < depth; i++) {
+            blackhole.consume(callStack.pop());
+        }
+    }
+}
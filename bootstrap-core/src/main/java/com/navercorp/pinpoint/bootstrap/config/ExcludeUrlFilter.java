@@ -16,21 +16,21 @@
 
 package com.navercorp.pinpoint.bootstrap.config;
 
-import com.navercorp.pinpoint.bootstrap.util.AntPathMatcher;
+import com.navercorp.pinpoint.bootstrap.util.CompiledPathMatcher;
 import com.navercorp.pinpoint.bootstrap.util.PathMatcher;
-import com.navercorp.pinpoint.bootstrap.util.EqualsPathMatcher;
 import com.navercorp.pinpoint.bootstrap.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
+ * all exclude patterns are compiled into a single {@link CompiledPathMatcher}
+ * so the request uri is checked once instead of once per pattern.
  * @author emeroad
  */
 public class ExcludeUrlFilter implements Filter<String> {
 
-    private final List<PathMatcher> excludeMatcherList;
+    private final PathMatcher excludePathMatcher;
 
     public ExcludeUrlFilter(String excludeFormat) {
         this(excludeFormat, ",");
@@ -38,32 +38,17 @@ public class ExcludeUrlFilter implements Filter<String> {
 
     public ExcludeUrlFilter(String excludeFormat, String separator) {
         if (StringUtils.isEmpty(excludeFormat)) {
-            this.excludeMatcherList = Collections.emptyList();
+            this.excludePathMatcher = new CompiledPathMatcher(Collections.<String>emptyList());
             return;
         }
         final List<String> splitList = StringUtils.splitAndTrim(excludeFormat, separator);
-        final List<PathMatcher> buildList = new ArrayList<PathMatcher>(splitList.size());
-        for (String path : splitList) {
-            final PathMatcher pathMatcher = createPathMatcher(path);
-            buildList.add(pathMatcher);
-        }
-
-        this.excludeMatcherList = buildList;
-    }
-
-    protected PathMatcher createPathMatcher(String pattern) {
-        if (AntPathMatcher.isAntStylePattern(pattern)) {
-            return new AntPathMatcher(pattern);
-        }
-        return new EqualsPathMatcher(pattern);
+        this.excludePathMatcher = new CompiledPathMatcher(splitList);
     }
 
     @Override
     public boolean filter(String requestURI) {
-        for (PathMatcher excludePathMatcher : this.excludeMatcherList) {
-            if (excludePathMatcher.isMatched(requestURI)) {
-                return FILTERED;
-            }
+        if (excludePathMatcher.isMatched(requestURI)) {
+            return FILTERED;
         }
         return false;
     }
@@ -71,7 +56,7 @@ public class ExcludeUrlFilter implements Filter<String> {
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("ExcludeUrlFilter{");
-        sb.append("excludeMatcherList=").append(excludeMatcherList);
+        sb.append("excludePathMatcher=").append(excludePathMatcher);
         sb.append('}');
         return sb.toString();
     }
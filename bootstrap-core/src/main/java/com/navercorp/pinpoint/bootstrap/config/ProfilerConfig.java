@@ -91,6 +91,11 @@ public class ProfilerConfig {
     private String collectorTcpServerIp = DEFAULT_IP;
     private int collectorTcpServerPort = 9994;
 
+    // empty if a single collector is used
+    private List<String> collectorIpList = Collections.emptyList();
+    private List<String> collectorWeightList = Collections.emptyList();
+    private int collectorHealthCheckInterval = 1000 * 30;
+
     private int spanDataSenderWriteQueueSize = 1024 * 5;
     private int spanDataSenderSocketSendBufferSize = 1024 * 64 * 16;
     private int spanDataSenderSocketTimeout = 1000 * 3;
@@ -100,12 +105,35 @@ public class ProfilerConfig {
     private int statDataSenderSocketSendBufferSize = 1024 * 64 * 16;
     private int statDataSenderSocketTimeout = 1000 * 3;
     private int statDataSenderChunkSize = 1024 * 16;
+
+    private boolean spillEnable = false;
+    private String spillDirectory;
+    private int spillSegmentSize = 1024 * 1024 * 8;
+    private int spillSegmentCount = 4;
+    private int spillDrainRate = 500;
+
+    private boolean dataSenderCompressionEnable = false;
+    private int dataSenderCompressionThreshold = 512;
     
     private boolean tcpDataSenderCommandAcceptEnable = false;
 
     private boolean traceAgentActiveThread = true;
 
+    private boolean metaDataHashId = false;
+
+    private boolean stackSamplingEnable = false;
+    private int stackSamplingThreshold = 1000;
+    private int stackSamplingInterval = 100;
+    private int stackSamplingMaxDepth = 64;
+    private int stackSamplingMaxStackCount = 64;
+
+    private boolean uriStatEnable = true;
+    private int uriStatInterval = 1000 * 60;
+    private int uriStatMaxUriCount = 1000;
+
     private int callStackMaxDepth = 512;
+
+    private boolean spanEventAggregationEnable = false;
     
     private int jdbcSqlCacheSize = 1024;
 
@@ -211,6 +239,18 @@ public class ProfilerConfig {
         return collectorTcpServerPort;
     }
 
+    public List<String> getCollectorIpList() {
+        return collectorIpList;
+    }
+
+    public List<String> getCollectorWeightList() {
+        return collectorWeightList;
+    }
+
+    public int getCollectorHealthCheckInterval() {
+        return collectorHealthCheckInterval;
+    }
+
     public int getStatDataSenderWriteQueueSize() {
         return statDataSenderWriteQueueSize;
     }
@@ -239,6 +279,42 @@ public class ProfilerConfig {
         return traceAgentActiveThread;
     }
 
+    public boolean isMetaDataHashId() {
+        return metaDataHashId;
+    }
+
+    public boolean isStackSamplingEnable() {
+        return stackSamplingEnable;
+    }
+
+    public int getStackSamplingThreshold() {
+        return stackSamplingThreshold;
+    }
+
+    public int getStackSamplingInterval() {
+        return stackSamplingInterval;
+    }
+
+    public int getStackSamplingMaxDepth() {
+        return stackSamplingMaxDepth;
+    }
+
+    public int getStackSamplingMaxStackCount() {
+        return stackSamplingMaxStackCount;
+    }
+
+    public boolean isUriStatEnable() {
+        return uriStatEnable;
+    }
+
+    public int getUriStatInterval() {
+        return uriStatInterval;
+    }
+
+    public int getUriStatMaxUriCount() {
+        return uriStatMaxUriCount;
+    }
+
     public int getSpanDataSenderSocketTimeout() {
         return spanDataSenderSocketTimeout;
     }
@@ -439,6 +515,38 @@ public class ProfilerConfig {
     public void setCallStackMaxDepth(int callStackMaxDepth) {
         this.callStackMaxDepth = callStackMaxDepth;
     }
+
+    public boolean isSpanEventAggregationEnable() {
+        return spanEventAggregationEnable;
+    }
+
+    public boolean isSpillEnable() {
+        return spillEnable;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public int getSpillSegmentSize() {
+        return spillSegmentSize;
+    }
+
+    public int getSpillSegmentCount() {
+        return spillSegmentCount;
+    }
+
+    public int getSpillDrainRate() {
+        return spillDrainRate;
+    }
+
+    public boolean isDataSenderCompressionEnable() {
+        return dataSenderCompressionEnable;
+    }
+
+    public int getDataSenderCompressionThreshold() {
+        return dataSenderCompressionThreshold;
+    }
     
     public boolean isPropagateInterceptorException() {
         return propagateInterceptorException;
@@ -461,6 +569,10 @@ public class ProfilerConfig {
         this.collectorTcpServerIp = readString("profiler.collector.tcp.ip", DEFAULT_IP, placeHolderResolver);
         this.collectorTcpServerPort = readInt("profiler.collector.tcp.port", 9994);
 
+        this.collectorIpList = readList("profiler.collector.ip.list");
+        this.collectorWeightList = readList("profiler.collector.weight.list");
+        this.collectorHealthCheckInterval = readInt("profiler.collector.healthcheck.interval", 1000 * 30);
+
         this.spanDataSenderWriteQueueSize = readInt("profiler.spandatasender.write.queue.size", 1024 * 5);
         this.spanDataSenderSocketSendBufferSize = readInt("profiler.spandatasender.socket.sendbuffersize", 1024 * 64 * 16);
         this.spanDataSenderSocketTimeout = readInt("profiler.spandatasender.socket.timeout", 1000 * 3);
@@ -471,15 +583,37 @@ public class ProfilerConfig {
         this.statDataSenderSocketTimeout = readInt("profiler.statdatasender.socket.timeout", 1000 * 3);
         this.statDataSenderChunkSize = readInt("profiler.statdatasender.chunk.size", 1024 * 16);
 
+        this.spillEnable = readBoolean("profiler.spill.enable", false);
+        this.spillDirectory = readString("profiler.spill.dir", null, placeHolderResolver);
+        this.spillSegmentSize = readInt("profiler.spill.segment.size", 1024 * 1024 * 8);
+        this.spillSegmentCount = readInt("profiler.spill.segment.count", 4);
+        this.spillDrainRate = readInt("profiler.spill.drain.rate", 500);
+
+        this.dataSenderCompressionEnable = readBoolean("profiler.datasender.compression.enable", false);
+        this.dataSenderCompressionThreshold = readInt("profiler.datasender.compression.threshold", 512);
+
         this.tcpDataSenderCommandAcceptEnable = readBoolean("profiler.tcpdatasender.command.accept.enable", false);
 
         this.traceAgentActiveThread = readBoolean("profiler.pinpoint.activethread", true);
 
+        this.metaDataHashId = readBoolean("profiler.metadata.hashid", false);
+
+        this.stackSamplingEnable = readBoolean("profiler.stacksampling.enable", false);
+        this.stackSamplingThreshold = readInt("profiler.stacksampling.threshold", 1000);
+        this.stackSamplingInterval = readInt("profiler.stacksampling.interval", 100);
+        this.stackSamplingMaxDepth = readInt("profiler.stacksampling.maxdepth", 64);
+        this.stackSamplingMaxStackCount = readInt("profiler.stacksampling.maxstack", 64);
+
+        this.uriStatEnable = readBoolean("profiler.uristat.enable", false);
+        this.uriStatInterval = readInt("profiler.uristat.interval", 1000 * 60);
+        this.uriStatMaxUriCount = readInt("profiler.uristat.max.uri", 1000);
+
         // CallStck
         this.callStackMaxDepth = readInt("profiler.callstack.max.depth", 64);
         if(this.callStackMaxDepth < 2) {
             this.callStackMaxDepth = 2;
         }
+        this.spanEventAggregationEnable = readBoolean("profiler.spanevent.aggregation.enable", false);
         
         // JDBC
         this.jdbcSqlCacheSize = readInt("profiler.jdbc.sqlcachesize", 1024);
@@ -674,6 +808,12 @@ public class ProfilerConfig {
         builder.append(collectorTcpServerIp);
         builder.append(", collectorTcpServerPort=");
         builder.append(collectorTcpServerPort);
+        builder.append(", collectorIpList=");
+        builder.append(collectorIpList);
+        builder.append(", collectorWeightList=");
+        builder.append(collectorWeightList);
+        builder.append(", collectorHealthCheckInterval=");
+        builder.append(collectorHealthCheckInterval);
         builder.append(", spanDataSenderWriteQueueSize=");
         builder.append(spanDataSenderWriteQueueSize);
         builder.append(", spanDataSenderSocketSendBufferSize=");
@@ -694,8 +834,42 @@ public class ProfilerConfig {
         builder.append(tcpDataSenderCommandAcceptEnable);
         builder.append(", traceAgentActiveThread=");
         builder.append(traceAgentActiveThread);
+        builder.append(", metaDataHashId=");
+        builder.append(metaDataHashId);
+        builder.append(", stackSamplingEnable=");
+        builder.append(stackSamplingEnable);
+        builder.append(", stackSamplingThreshold=");
+        builder.append(stackSamplingThreshold);
+        builder.append(", stackSamplingInterval=");
+        builder.append(stackSamplingInterval);
+        builder.append(", stackSamplingMaxDepth=");
+        builder.append(stackSamplingMaxDepth);
+        builder.append(", stackSamplingMaxStackCount=");
+        builder.append(stackSamplingMaxStackCount);
+        builder.append(", uriStatEnable=");
+        builder.append(uriStatEnable);
+        builder.append(", uriStatInterval=");
+        builder.append(uriStatInterval);
+        builder.append(", uriStatMaxUriCount=");
+        builder.append(uriStatMaxUriCount);
         builder.append(", callStackMaxDepth=");
         builder.append(callStackMaxDepth);
+        builder.append(", spanEventAggregationEnable=");
+        builder.append(spanEventAggregationEnable);
+        builder.append(", spillEnable=");
+        builder.append(spillEnable);
+        builder.append(", spillDirectory=");
+        builder.append(spillDirectory);
+        builder.append(", spillSegmentSize=");
+        builder.append(spillSegmentSize);
+        builder.append(", spillSegmentCount=");
+        builder.append(spillSegmentCount);
+        builder.append(", spillDrainRate=");
+        builder.append(spillDrainRate);
+        builder.append(", dataSenderCompressionEnable=");
+        builder.append(dataSenderCompressionEnable);
+        builder.append(", dataSenderCompressionThreshold=");
+        builder.append(dataSenderCompressionThreshold);
         builder.append(", jdbcSqlCacheSize=");
         builder.append(jdbcSqlCacheSize);
         builder.append(", tomcatHidePinpointHeader=");
@@ -70,6 +70,18 @@ public interface TraceContext {
 
     Trace disableSampling();
 
+    /**
+     * record the response time of a server transaction which was not sampled.
+     * sampled transactions are recorded when their trace is closed.
+     * <p>
+     * must be called by the server plugin where it discards an unsampled trace. tomcat, jetty and the thrift server do.
+     * unsampled transactions of other entry points are missing from the uri statistics.
+     * sampled transactions take the status code from the {@link com.navercorp.pinpoint.common.trace.AnnotationKey#HTTP_STATUS_CODE} attribute of their span.
+     *
+     * @param httpStatusCode response status code, 0 if the entry point has none
+     */
+    void recordUriStat(String uri, int httpStatusCode, boolean error, long startTime);
+
     ProfilerConfig getProfilerConfig();
 
 
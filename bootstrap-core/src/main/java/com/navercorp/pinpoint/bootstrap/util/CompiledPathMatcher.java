@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.bootstrap.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches a path against many patterns at once.
+ * <p>
+ * Patterns without wildcards are looked up in a hash set. ant style patterns are merged into one trie of path segments
+ * that is walked as an automaton: the path is tokenized once and each segment is looked at once per active node,
+ * instead of tokenizing the path again for every pattern.
+ * Matching follows {@link AntPathMatcher}. patterns with uri template variables({name}) are not compiled and are checked with it.
+ *
+ * @author agent
+ */
+public class CompiledPathMatcher implements PathMatcher {
+
+    private static final char SEPARATOR = '/';
+
+    private final List<String> patterns;
+
+    private final Set<String> exactPatterns = new HashSet<String>();
+    // patterns starting with the separator
+    private final Node absoluteRoot = new Node(false);
+    private final Node relativeRoot = new Node(false);
+    private boolean compiled = false;
+    private final List<PathMatcher> fallbackMatchers = new ArrayList<PathMatcher>();
+
+    public CompiledPathMatcher(List<String> patterns) {
+        if (patterns == null) {
+            throw new NullPointerException("patterns must not be null");
+        }
+        this.patterns = Collections.unmodifiableList(new ArrayList<String>(patterns));
+        for (String pattern : this.patterns) {
+            if (pattern == null) {
+                throw new NullPointerException("pattern must not be null");
+            }
+            if (!AntPathMatcher.isAntStylePattern(pattern)) {
+                exactPatterns.add(pattern);
+            } else if (pattern.indexOf('{') != -1) {
+                fallbackMatchers.add(new AntPathMatcher(pattern));
+            } else {
+                compile(pattern);
+                compiled = true;
+            }
+        }
+    }
+
+    private void compile(String pattern) {
+        final boolean absolute = pattern.length() > 0 && pattern.charAt(0) == SEPARATOR;
+        final List<String> tokens = tokenize(pattern);
+        boolean doubleWildcard = false;
+        Node node = absolute ? absoluteRoot : relativeRoot;
+        Node beforeLast = null;
+        for (String token : tokens) {
+            beforeLast = node;
+            if ("**".equals(token)) {
+                doubleWildcard = true;
+                node = node.addDoubleWildcard();
+            } else if (AntPathMatcher.isAntStylePattern(token)) {
+                node = node.addGlob(token);
+            } else {
+                node = node.addLiteral(token);
+            }
+        }
+        if (doubleWildcard) {
+            // AntPathMatcher ignores a trailing separator once "**" is involved
+            node.terminal = true;
+            node.terminalWithSeparator = true;
+            return;
+        }
+        if (pattern.length() > 0 && pattern.charAt(pattern.length() - 1) == SEPARATOR) {
+            node.terminalWithSeparator = true;
+        } else {
+            node.terminal = true;
+        }
+        if (beforeLast != null && "*".equals(tokens.get(tokens.size() - 1))) {
+            // "/a/*" also matches "/a/"
+            beforeLast.terminalWithSeparator = true;
+        }
+    }
+
+    @Override
+    public boolean isMatched(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPatterns.contains(path)) {
+            return true;
+        }
+        if (compiled && matchTrie(path)) {
+            return true;
+        }
+        for (PathMatcher fallbackMatcher : fallbackMatchers) {
+            if (fallbackMatcher.isMatched(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchTrie(String path) {
+        final Node root = (path.length() > 0 && path.charAt(0) == SEPARATOR) ? absoluteRoot : relativeRoot;
+        if (root.isEmpty()) {
+            return false;
+        }
+        List<Node> current = new ArrayList<Node>(4);
+        root.addTo(current);
+
+        final int length = path.length();
+        int index = 0;
+        while (index < length) {
+            int start = index;
+            int end = path.indexOf(SEPARATOR, start);
+            if (end == -1) {
+                end = length;
+            }
+            index = end + 1;
+            // same as StringUtils.tokenizeToStringArray(path, "/", trimTokens=true, ignoreEmptyTokens=true)
+            while (start < end && Character.isWhitespace(path.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(path.charAt(end - 1))) {
+                end--;
+            }
+            if (start == end) {
+                continue;
+            }
+            final String segment = path.substring(start, end);
+            final List<Node> next = new ArrayList<Node>(4);
+            for (Node node : current) {
+                node.step(segment, next);
+            }
+            if (next.isEmpty()) {
+                return false;
+            }
+            current = next;
+        }
+
+        final boolean endsWithSeparator = length > 0 && path.charAt(length - 1) == SEPARATOR;
+        for (Node node : current) {
+            if (endsWithSeparator ? node.terminalWithSeparator : node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> tokenize(String pattern) {
+        final List<String> tokens = new ArrayList<String>();
+        for (String token : pattern.split(String.valueOf(SEPARATOR))) {
+            final String trimmed = trimWhitespace(token);
+            if (trimmed.length() > 0) {
+                tokens.add(trimmed);
+            }
+        }
+        return tokens;
+    }
+
+    private static String trimWhitespace(String str) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && Character.isWhitespace(str.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(str.charAt(end - 1))) {
+            end--;
+        }
+        return str.substring(start, end);
+    }
+
+    /**
+     * '*' matches zero or more characters and '?' exactly one character of a single segment.
+     */
+    static boolean matchGlob(String glob, String segment) {
+        int g = 0;
+        int s = 0;
+        int starGlob = -1;
+        int starSegment = 0;
+        final int globLength = glob.length();
+        final int segmentLength = segment.length();
+        while (s < segmentLength) {
+            if (g < globLength) {
+                final char c = glob.charAt(g);
+                if (c == '*') {
+                    starGlob = g++;
+                    starSegment = s;
+                    continue;
+                }
+                if (c == '?' || c == segment.charAt(s)) {
+                    g++;
+                    s++;
+                    continue;
+                }
+            }
+            if (starGlob == -1) {
+                return false;
+            }
+            // let the last '*' consume one more character
+            g = starGlob + 1;
+            s = ++starSegment;
+        }
+        while (g < globLength && glob.charAt(g) == '*') {
+            g++;
+        }
+        return g == globLength;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CompiledPathMatcher{");
+        sb.append("patterns=").append(patterns);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static class Node {
+        // "**" node. stays active for any number of segments
+        private final boolean doubleWildcardNode;
+
+        private Map<String, Node> literalChildren;
+        private List<String> globs;
+        private List<Node> globChildren;
+        private Node doubleWildcardChild;
+
+        // a pattern ends here. checked when the path does not / does end with the separator
+        private boolean terminal;
+        private boolean terminalWithSeparator;
+
+        private Node(boolean doubleWildcardNode) {
+            this.doubleWildcardNode = doubleWildcardNode;
+        }
+
+        private Node addLiteral(String token) {
+            if (literalChildren == null) {
+                literalChildren = new HashMap<String, Node>();
+            }
+            Node child = literalChildren.get(token);
+            if (child == null) {
+                child = new Node(false);
+                literalChildren.put(token, child);
+            }
+            return child;
+        }
+
+        private Node addGlob(String token) {
+            if (globs == null) {
+                globs = new ArrayList<String>();
+                globChildren = new ArrayList<Node>();
+            }
+            final int index = globs.indexOf(token);
+            if (index != -1) {
+                return globChildren.get(index);
+            }
+            final Node child = new Node(false);
+            globs.add(token);
+            globChildren.add(child);
+            return child;
+        }
+
+        private Node addDoubleWildcard() {
+            if (doubleWildcardChild == null) {
+                doubleWildcardChild = new Node(true);
+            }
+            return doubleWildcardChild;
+        }
+
+        private boolean isEmpty() {
+            return literalChildren == null && globs == null && doubleWildcardChild == null && !terminal && !terminalWithSeparator;
+        }
+
+        /**
+         * adds this node and the nodes reachable without consuming a segment("**" matches zero segments).
+         */
+        private void addTo(List<Node> nodes) {
+            for (Node node : nodes) {
+                if (node == this) {
+                    return;
+                }
+            }
+            nodes.add(this);
+            if (doubleWildcardChild != null) {
+                doubleWildcardChild.addTo(nodes);
+            }
+        }
+
+        private void step(String segment, List<Node> next) {
+            if (doubleWildcardNode) {
+                this.addTo(next);
+            }
+            if (literalChildren != null) {
+                final Node child = literalChildren.get(segment);
+                if (child != null) {
+                    child.addTo(next);
+                }
+            }
+            if (globs != null) {
+                for (int i = 0; i < globs.size(); i++) {
+                    if (matchGlob(globs.get(i), segment)) {
+                        globChildren.get(i).addTo(next);
+                    }
+                }
+            }
+        }
+    }
+}
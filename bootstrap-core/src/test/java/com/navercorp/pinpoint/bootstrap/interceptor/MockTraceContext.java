@@ -125,6 +125,10 @@ public class MockTraceContext implements TraceContext {
         return null;
     }
 
+    @Override
+    public void recordUriStat(String uri, int httpStatusCode, boolean error, long startTime) {
+    }
+
     @Override
     public ProfilerConfig getProfilerConfig() {
         return null;
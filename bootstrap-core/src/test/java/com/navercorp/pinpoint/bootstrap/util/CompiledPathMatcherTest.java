@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.bootstrap.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CompiledPathMatcherTest {
+
+    private static final String[] PATTERNS = {
+            "/monitor/l7check.html", "/monitor/l7check.*", "/*/l7check.*", "/static/**", "/**/*.css", "/a/*", "/a/*/", "/a/b/",
+            "/a/**/b", "/a/**/b/**/c", "/**", "/*", "/", "test/l4check.html", "test/*", "**/*.js", "/a/?b", "/a/*b*c", "/a/**/**/d",
+            "/ws/*/health", "/ws/**/health/", "/a/**.gif"
+    };
+
+    private static final String[] PATHS = {
+            "", "/", "//", "/a", "/a/", "/a/b", "/a/b/", "/a/bb", "/a/xb", "/a/xbyc", "/a/bc", "/a/x/b", "/a/x/y/b", "/a/x/b/", "/a/b/c",
+            "/a/x/b/y/c", "/a/b/b/c", "/a/d", "/a/x/d", "/a/x.gif", "/a/x/y.gif", "/monitor/l7check.html", "/monitor/l7check.jsp",
+            "/monitor/test.jsp", "/*/l7check.html", "/x/l7check.html", "/static", "/static/", "/static/css/app.css", "/app.css",
+            "/deep/path/app.css", "/app.css/", "test/l4check.html", "test/", "test/x", "test/x/y", "x.js", "a/b/x.js", "/x.js",
+            "/ws/1/health", "/ws/1/2/health", "/ws/1/2/health/", "/a//b", "/a/ b ", " /a"
+    };
+
+    @Test
+    public void sameAsAntPathMatcher() {
+        for (String pattern : PATTERNS) {
+            final PathMatcher expectedMatcher = AntPathMatcher.isAntStylePattern(pattern) ? new AntPathMatcher(pattern) : new EqualsPathMatcher(pattern);
+            final PathMatcher compiledMatcher = new CompiledPathMatcher(Collections.singletonList(pattern));
+            for (String path : PATHS) {
+                Assert.assertEquals("pattern:" + pattern + " path:" + path, expectedMatcher.isMatched(path), compiledMatcher.isMatched(path));
+            }
+        }
+    }
+
+    @Test
+    public void mergedPatterns() {
+        final PathMatcher compiledMatcher = new CompiledPathMatcher(Arrays.asList(PATTERNS));
+        for (String path : PATHS) {
+            boolean expected = false;
+            for (String pattern : PATTERNS) {
+                final PathMatcher matcher = AntPathMatcher.isAntStylePattern(pattern) ? new AntPathMatcher(pattern) : new EqualsPathMatcher(pattern);
+                expected |= matcher.isMatched(path);
+            }
+            Assert.assertEquals("path:" + path, expected, compiledMatcher.isMatched(path));
+        }
+    }
+
+    @Test
+    public void uriTemplateFallback() {
+        final PathMatcher compiledMatcher = new CompiledPathMatcher(Arrays.asList("/user/{id}/*", "/health"));
+
+        Assert.assertTrue(compiledMatcher.isMatched("/user/{id}/profile"));
+        Assert.assertTrue(compiledMatcher.isMatched("/user/1/profile"));
+        Assert.assertTrue(compiledMatcher.isMatched("/health"));
+        Assert.assertFalse(compiledMatcher.isMatched("/user/1"));
+    }
+
+    @Test
+    public void matchGlob() {
+        Assert.assertTrue(CompiledPathMatcher.matchGlob("*", ""));
+        Assert.assertTrue(CompiledPathMatcher.matchGlob("*.css", "app.css"));
+        Assert.assertTrue(CompiledPathMatcher.matchGlob("a*b*c", "aXXbYYbZc"));
+        Assert.assertTrue(CompiledPathMatcher.matchGlob("?b", "xb"));
+
+        Assert.assertFalse(CompiledPathMatcher.matchGlob("*.css", "app.cs"));
+        Assert.assertFalse(CompiledPathMatcher.matchGlob("?b", "b"));
+        Assert.assertFalse(CompiledPathMatcher.matchGlob("a*b*c", "aXXbYYbZ"));
+    }
+
+    @Test
+    public void nullPath() {
+        final PathMatcher compiledMatcher = new CompiledPathMatcher(Arrays.asList(PATTERNS));
+        Assert.assertFalse(compiledMatcher.isMatched(null));
+    }
+}
@@ -60,6 +60,8 @@ public class CollectorConfiguration implements InitializingBean {
     private int tcpWorkerThread;
     private int tcpWorkerQueueSize;
 
+    private boolean tcpNetty4Enable;
+
     private String udpStatListenIp = DEFAULT_LISTEN_IP;
     private int udpStatListenPort;
 
@@ -76,6 +78,23 @@ public class CollectorConfiguration implements InitializingBean {
     
     private int agentEventWorkerThreadSize;
     private int agentEventWorkerQueueSize;
+
+    private boolean spanPipelineEnable;
+    private int spanPipelineDecodeThreadSize;
+    private int spanPipelineDecodeQueueSize;
+    private int spanPipelineTraceThreadSize;
+    private int spanPipelineTraceQueueSize;
+    private int spanPipelineIndexThreadSize;
+    private int spanPipelineIndexQueueSize;
+    private int spanPipelineStatisticsThreadSize;
+    private int spanPipelineStatisticsQueueSize;
+
+    private boolean metaDataHashEnable;
+    private int metaDataHashCacheSize;
+
+    private int hostApplicationMapCacheSize;
+    private long hostApplicationMapCacheExpire;
+    private int hostApplicationMapQueueSize;
     
     private List<String> l4IpList = Collections.emptyList();
 
@@ -114,6 +133,14 @@ public class CollectorConfiguration implements InitializingBean {
         this.tcpWorkerQueueSize = tcpWorkerQueueSize;
     }
 
+    public boolean isTcpNetty4Enable() {
+        return tcpNetty4Enable;
+    }
+
+    public void setTcpNetty4Enable(boolean tcpNetty4Enable) {
+        this.tcpNetty4Enable = tcpNetty4Enable;
+    }
+
     public String getUdpStatListenIp() {
         return udpStatListenIp;
     }
@@ -210,6 +237,118 @@ public class CollectorConfiguration implements InitializingBean {
         this.agentEventWorkerQueueSize = agentEventWorkerQueueSize;
     }
 
+    public boolean isSpanPipelineEnable() {
+        return spanPipelineEnable;
+    }
+
+    public void setSpanPipelineEnable(boolean spanPipelineEnable) {
+        this.spanPipelineEnable = spanPipelineEnable;
+    }
+
+    public int getSpanPipelineDecodeThreadSize() {
+        return spanPipelineDecodeThreadSize;
+    }
+
+    public void setSpanPipelineDecodeThreadSize(int spanPipelineDecodeThreadSize) {
+        this.spanPipelineDecodeThreadSize = spanPipelineDecodeThreadSize;
+    }
+
+    public int getSpanPipelineDecodeQueueSize() {
+        return spanPipelineDecodeQueueSize;
+    }
+
+    public void setSpanPipelineDecodeQueueSize(int spanPipelineDecodeQueueSize) {
+        this.spanPipelineDecodeQueueSize = spanPipelineDecodeQueueSize;
+    }
+
+    public int getSpanPipelineTraceThreadSize() {
+        return spanPipelineTraceThreadSize;
+    }
+
+    public void setSpanPipelineTraceThreadSize(int spanPipelineTraceThreadSize) {
+        this.spanPipelineTraceThreadSize = spanPipelineTraceThreadSize;
+    }
+
+    public int getSpanPipelineTraceQueueSize() {
+        return spanPipelineTraceQueueSize;
+    }
+
+    public void setSpanPipelineTraceQueueSize(int spanPipelineTraceQueueSize) {
+        this.spanPipelineTraceQueueSize = spanPipelineTraceQueueSize;
+    }
+
+    public int getSpanPipelineIndexThreadSize() {
+        return spanPipelineIndexThreadSize;
+    }
+
+    public void setSpanPipelineIndexThreadSize(int spanPipelineIndexThreadSize) {
+        this.spanPipelineIndexThreadSize = spanPipelineIndexThreadSize;
+    }
+
+    public int getSpanPipelineIndexQueueSize() {
+        return spanPipelineIndexQueueSize;
+    }
+
+    public void setSpanPipelineIndexQueueSize(int spanPipelineIndexQueueSize) {
+        this.spanPipelineIndexQueueSize = spanPipelineIndexQueueSize;
+    }
+
+    public int getSpanPipelineStatisticsThreadSize() {
+        return spanPipelineStatisticsThreadSize;
+    }
+
+    public void setSpanPipelineStatisticsThreadSize(int spanPipelineStatisticsThreadSize) {
+        this.spanPipelineStatisticsThreadSize = spanPipelineStatisticsThreadSize;
+    }
+
+    public int getSpanPipelineStatisticsQueueSize() {
+        return spanPipelineStatisticsQueueSize;
+    }
+
+    public void setSpanPipelineStatisticsQueueSize(int spanPipelineStatisticsQueueSize) {
+        this.spanPipelineStatisticsQueueSize = spanPipelineStatisticsQueueSize;
+    }
+
+    public boolean isMetaDataHashEnable() {
+        return metaDataHashEnable;
+    }
+
+    public void setMetaDataHashEnable(boolean metaDataHashEnable) {
+        this.metaDataHashEnable = metaDataHashEnable;
+    }
+
+    public int getMetaDataHashCacheSize() {
+        return metaDataHashCacheSize;
+    }
+
+    public void setMetaDataHashCacheSize(int metaDataHashCacheSize) {
+        this.metaDataHashCacheSize = metaDataHashCacheSize;
+    }
+
+    public int getHostApplicationMapCacheSize() {
+        return hostApplicationMapCacheSize;
+    }
+
+    public void setHostApplicationMapCacheSize(int hostApplicationMapCacheSize) {
+        this.hostApplicationMapCacheSize = hostApplicationMapCacheSize;
+    }
+
+    public long getHostApplicationMapCacheExpire() {
+        return hostApplicationMapCacheExpire;
+    }
+
+    public void setHostApplicationMapCacheExpire(long hostApplicationMapCacheExpire) {
+        this.hostApplicationMapCacheExpire = hostApplicationMapCacheExpire;
+    }
+
+    public int getHostApplicationMapQueueSize() {
+        return hostApplicationMapQueueSize;
+    }
+
+    public void setHostApplicationMapQueueSize(int hostApplicationMapQueueSize) {
+        this.hostApplicationMapQueueSize = hostApplicationMapQueueSize;
+    }
+
     public List<String> getL4IpList() {
         return l4IpList;
     }
@@ -276,6 +415,8 @@ public class CollectorConfiguration implements InitializingBean {
         this.tcpWorkerThread = readInt(properties, "collector.tcpWorkerThread", 128);
         this.tcpWorkerQueueSize = readInt(properties, "collector.tcpWorkerQueueSize", 1024 * 5);
 
+        this.tcpNetty4Enable = readBoolean(properties, "collector.tcpNetty4.enable");
+
         this.udpStatListenIp = readString(properties, "collector.udpStatListenIp", DEFAULT_LISTEN_IP);
         this.udpStatListenPort = readInt(properties, "collector.udpStatListenPort", 9995);
 
@@ -292,6 +433,23 @@ public class CollectorConfiguration implements InitializingBean {
         
         this.agentEventWorkerThreadSize = readInt(properties, "collector.agentEventWorker.threadSize", 32);
         this.agentEventWorkerQueueSize = readInt(properties, "collector.agentEventWorker.queueSize", 1024 * 5);
+
+        this.spanPipelineEnable = readBoolean(properties, "collector.spanPipeline.enable");
+        this.spanPipelineDecodeThreadSize = readInt(properties, "collector.spanPipeline.decode.threadSize", 16);
+        this.spanPipelineDecodeQueueSize = readInt(properties, "collector.spanPipeline.decode.queueSize", 1024 * 5);
+        this.spanPipelineTraceThreadSize = readInt(properties, "collector.spanPipeline.trace.threadSize", 16);
+        this.spanPipelineTraceQueueSize = readInt(properties, "collector.spanPipeline.trace.queueSize", 1024 * 5);
+        this.spanPipelineIndexThreadSize = readInt(properties, "collector.spanPipeline.index.threadSize", 8);
+        this.spanPipelineIndexQueueSize = readInt(properties, "collector.spanPipeline.index.queueSize", 1024 * 5);
+        this.spanPipelineStatisticsThreadSize = readInt(properties, "collector.spanPipeline.statistics.threadSize", 8);
+        this.spanPipelineStatisticsQueueSize = readInt(properties, "collector.spanPipeline.statistics.queueSize", 1024 * 5);
+
+        this.metaDataHashEnable = readBoolean(properties, "collector.metadata.hash.enable");
+        this.metaDataHashCacheSize = readInt(properties, "collector.metadata.hash.cacheSize", 1024 * 64);
+
+        this.hostApplicationMapCacheSize = readInt(properties, "collector.hostApplicationMap.cacheSize", 1024 * 64);
+        this.hostApplicationMapCacheExpire = readLong(properties, "collector.hostApplicationMap.cacheExpire", 5 * 60 * 1000L);
+        this.hostApplicationMapQueueSize = readInt(properties, "collector.hostApplicationMap.queueSize", 1024 * 5);
         
         String[] l4Ips = StringUtils.split(readString(properties, "collector.l4.ip", null), ",");
         if (l4Ips == null) {
@@ -321,6 +479,15 @@ public class CollectorConfiguration implements InitializingBean {
         }
         return result;
     }
+
+    private long readLong(Properties properties, String propertyName, long defaultValue) {
+        final String value = properties.getProperty(propertyName);
+        long result = NumberUtils.toLong(value, defaultValue);
+        if (logger.isInfoEnabled()) {
+            logger.info("{}={}", propertyName, result);
+        }
+        return result;
+    }
     
     private boolean readBoolean(Properties properties, String propertyName) {
         final String value = properties.getProperty(propertyName);
@@ -342,6 +509,7 @@ public class CollectorConfiguration implements InitializingBean {
         sb.append(", tcpListenPort=").append(tcpListenPort);
         sb.append(", tcpWorkerThread=").append(tcpWorkerThread);
         sb.append(", tcpWorkerQueueSize=").append(tcpWorkerQueueSize);
+        sb.append(", tcpNetty4Enable=").append(tcpNetty4Enable);
         sb.append(", udpStatListenIp='").append(udpStatListenIp).append('\'');
         sb.append(", udpStatListenPort=").append(udpStatListenPort);
         sb.append(", udpStatWorkerThread=").append(udpStatWorkerThread);
@@ -354,6 +522,20 @@ public class CollectorConfiguration implements InitializingBean {
         sb.append(", udpSpanSocketReceiveBufferSize=").append(udpSpanSocketReceiveBufferSize);
         sb.append(", agentEventWorkerThreadSize=").append(agentEventWorkerThreadSize);
         sb.append(", agentEventWorkerQueueSize=").append(agentEventWorkerQueueSize);
+        sb.append(", spanPipelineEnable=").append(spanPipelineEnable);
+        sb.append(", spanPipelineDecodeThreadSize=").append(spanPipelineDecodeThreadSize);
+        sb.append(", spanPipelineDecodeQueueSize=").append(spanPipelineDecodeQueueSize);
+        sb.append(", spanPipelineTraceThreadSize=").append(spanPipelineTraceThreadSize);
+        sb.append(", spanPipelineTraceQueueSize=").append(spanPipelineTraceQueueSize);
+        sb.append(", spanPipelineIndexThreadSize=").append(spanPipelineIndexThreadSize);
+        sb.append(", spanPipelineIndexQueueSize=").append(spanPipelineIndexQueueSize);
+        sb.append(", spanPipelineStatisticsThreadSize=").append(spanPipelineStatisticsThreadSize);
+        sb.append(", spanPipelineStatisticsQueueSize=").append(spanPipelineStatisticsQueueSize);
+        sb.append(", metaDataHashEnable=").append(metaDataHashEnable);
+        sb.append(", metaDataHashCacheSize=").append(metaDataHashCacheSize);
+        sb.append(", hostApplicationMapCacheSize=").append(hostApplicationMapCacheSize);
+        sb.append(", hostApplicationMapCacheExpire=").append(hostApplicationMapCacheExpire);
+        sb.append(", hostApplicationMapQueueSize=").append(hostApplicationMapQueueSize);
         sb.append(", l4IpList=").append(l4IpList);
         sb.append(", clusterEnable=").append(clusterEnable);
         sb.append(", clusterAddress=").append(clusterAddress);
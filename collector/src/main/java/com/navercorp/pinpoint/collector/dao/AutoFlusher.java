@@ -41,6 +41,9 @@ public class AutoFlusher {
 
     private long flushPeriod = 1000;
 
+    // a time slot is written after it has been closed for slotGracePeriod to take in the spans accepted late
+    private long slotGracePeriod = 5000;
+
     @Autowired
     private List<CachedStatisticsDao> cachedStatisticsDaoList;
 
@@ -52,18 +55,28 @@ public class AutoFlusher {
         this.flushPeriod = flushPeriod;
     }
 
+    public long getSlotGracePeriod() {
+        return slotGracePeriod;
+    }
+
+    public void setSlotGracePeriod(long slotGracePeriod) {
+        this.slotGracePeriod = slotGracePeriod;
+    }
+
     private static final class Worker implements Runnable {
         private final Logger logger = LoggerFactory.getLogger(this.getClass());
         private final CachedStatisticsDao dao;
+        private final long slotGracePeriod;
 
-        public Worker(CachedStatisticsDao dao) {
+        public Worker(CachedStatisticsDao dao, long slotGracePeriod) {
             this.dao = dao;
+            this.slotGracePeriod = slotGracePeriod;
         }
 
         @Override
         public void run() {
             try {
-                dao.flushAll();
+                dao.flush(System.currentTimeMillis() - slotGracePeriod);
             } catch (Throwable th) {
                 logger.error("AutoFlusherWorker failed. Caused:{}", th.getMessage(), th);
             }
@@ -78,7 +91,7 @@ public class AutoFlusher {
         ThreadFactory threadFactory = PinpointThreadFactory.createThreadFactory(this.getClass().getSimpleName());
         executor = Executors.newScheduledThreadPool(cachedStatisticsDaoList.size(), threadFactory);
         for (CachedStatisticsDao dao : cachedStatisticsDaoList) {
-            executor.scheduleAtFixedRate(new Worker(dao), 0L, flushPeriod, TimeUnit.MILLISECONDS);
+            executor.scheduleAtFixedRate(new Worker(dao, slotGracePeriod), 0L, flushPeriod, TimeUnit.MILLISECONDS);
         }
         logger.info("Auto flusher initialized.");
     }
@@ -22,5 +22,14 @@ package com.navercorp.pinpoint.collector.dao;
  * 
  */
 public interface CachedStatisticsDao {
+
+    /**
+     * called every flush period. writes the statistics of the time slots closed before closeTime
+     */
+    void flush(long closeTime);
+
+    /**
+     * called on shutdown. writes every statistics including the open time slot
+     */
     void flushAll();
 }
@@ -48,6 +48,9 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
     @Qualifier("metadataRowKeyDistributor")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     @Override
     public void insert(TApiMetaData apiMetaData) {
         if (logger.isDebugEnabled()) {
@@ -58,23 +61,20 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
         ApiMetaDataBo apiMetaDataBo = new ApiMetaDataBo(apiMetaData.getAgentId(), apiMetaData.getAgentStartTime(), apiMetaData.getApiId());
         byte[] rowKey = getDistributedKey(apiMetaDataBo.toRowKey());
 
-        final Put put = new Put(rowKey);
-
         final Buffer buffer = new AutomaticBuffer(64);
         String api = apiMetaData.getApiInfo();
         buffer.putPrefixedString(api);
-        if (apiMetaData.isSetLine()) {
-            buffer.put(apiMetaData.getLine());
-        } else {
-            buffer.put(-1);
-        }
-        if(apiMetaData.isSetType()) {
-            buffer.put(apiMetaData.getType());
-        } else {
-            buffer.put(0);
-        }
+        final int line = apiMetaData.isSetLine() ? apiMetaData.getLine() : -1;
+        buffer.put(line);
+        final int type = apiMetaData.isSetType() ? apiMetaData.getType() : 0;
+        buffer.put(type);
         
         final byte[] apiMetaDataBytes = buffer.getBuffer();
+        if (metaDataHashDao.insertApi(apiMetaData.getApiId(), api, line, type, apiMetaDataBytes)) {
+            return;
+        }
+
+        final Put put = new Put(rowKey);
         put.addColumn(HBaseTables.API_METADATA_CF_API, HBaseTables.API_METADATA_CF_API_QUALI_SIGNATURE, apiMetaDataBytes);
 
         hbaseTemplate.put(HBaseTables.API_METADATA, put);
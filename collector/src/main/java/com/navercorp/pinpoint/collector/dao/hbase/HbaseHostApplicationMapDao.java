@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.collector.dao.hbase;
 
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.collector.dao.CachedStatisticsDao;
 import com.navercorp.pinpoint.collector.dao.HostApplicationMapDao;
 import com.navercorp.pinpoint.collector.util.AcceptedTimeService;
 import com.navercorp.pinpoint.collector.util.AtomicLongUpdateMap;
@@ -27,19 +29,30 @@ import com.navercorp.pinpoint.common.util.TimeSlot;
 import com.navercorp.pinpoint.common.util.TimeUtils;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
 
+import org.apache.hadoop.hbase.client.Put;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
 /**
- * 
+ * a new (host, application, parent) mapping of a time slot is queued and written in bulk by {@link com.navercorp.pinpoint.collector.dao.AutoFlusher}.
+ * the put is done on the caller thread only if the queue is full.
+ *
  * @author netspider
  * @author emeroad
  */
 @Repository
-public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
+public class HbaseHostApplicationMapDao implements HostApplicationMapDao, CachedStatisticsDao {
+
+    private static final int FLUSH_BATCH_SIZE = 1024;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -56,9 +69,18 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
     @Qualifier("acceptApplicationRowKeyDistributor")
     private AbstractRowKeyDistributor rowKeyDistributor;
 
-    // FIXME should modify to save a cachekey at each 30~50 seconds instead of saving at each time
-    private final AtomicLongUpdateMap<CacheKey> updater = new AtomicLongUpdateMap<CacheKey>();
+    @Autowired
+    private CollectorConfiguration configuration;
+
+    private AtomicLongUpdateMap<CacheKey> updater;
+
+    private BlockingQueue<QueuedPut> putQueue;
 
+    @PostConstruct
+    public void setup() {
+        this.updater = new AtomicLongUpdateMap<CacheKey>(configuration.getHostApplicationMapCacheSize(), configuration.getHostApplicationMapCacheExpire());
+        this.putQueue = new LinkedBlockingQueue<QueuedPut>(configuration.getHostApplicationMapQueueSize());
+    }
 
     @Override
     public void insert(String host, String bindApplicationName, short bindServiceType, String parentApplicationName, short parentServiceType) {
@@ -74,7 +96,7 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
         final CacheKey cacheKey = new CacheKey(host, bindApplicationName, bindServiceType, parentApplicationName, parentServiceType);
         final boolean needUpdate = updater.update(cacheKey, statisticsRowSlot);
         if (needUpdate) {
-            insertHostVer2(host, bindApplicationName, bindServiceType, statisticsRowSlot, parentApplicationName, parentServiceType);
+            insertHostVer2(cacheKey, statisticsRowSlot);
         }
     }
 
@@ -86,24 +108,69 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
 
 
 
-    private void insertHostVer2(String host, String bindApplicationName, short bindServiceType, long statisticsRowSlot, String parentApplicationName, short parentServiceType) {
+    private void insertHostVer2(CacheKey cacheKey, long statisticsRowSlot) {
         if (logger.isDebugEnabled()) {
             logger.debug("Insert host-application map. host={}, bindApplicationName={}, bindServiceType={}, parentApplicationName={}, parentServiceType={}",
-                    host, bindApplicationName, bindServiceType, parentApplicationName, parentServiceType);
+                    cacheKey.host, cacheKey.applicationName, cacheKey.serviceType, cacheKey.parentApplicationName, cacheKey.parentServiceType);
         }
 
         // TODO should consider to add bellow codes again later.
         //String parentAgentId = null;
         //final byte[] rowKey = createRowKey(parentApplicationName, parentServiceType, statisticsRowSlot, parentAgentId);
-        final byte[] rowKey = createRowKey(parentApplicationName, parentServiceType, statisticsRowSlot, null);
+        final byte[] rowKey = createRowKey(cacheKey.parentApplicationName, cacheKey.parentServiceType, statisticsRowSlot, null);
 
-        byte[] columnName = createColumnName(host, bindApplicationName, bindServiceType);
+        byte[] columnName = createColumnName(cacheKey.host, cacheKey.applicationName, cacheKey.serviceType);
 
+        final Put put = new Put(rowKey);
+        put.addColumn(HBaseTables.HOST_APPLICATION_MAP_VER2_CF_MAP, columnName, null);
+        if (!putQueue.offer(new QueuedPut(cacheKey, statisticsRowSlot, put))) {
+            logger.debug("host-application map queue is full. put directly");
+            hbaseTemplate.put(HBaseTables.HOST_APPLICATION_MAP_VER2, put);
+        }
+    }
+
+    @Override
+    public void flush(long closeTime) {
+        // mappings are not aggregated per time slot. write everything queued
+        flushAll();
+    }
+
+    /**
+     * a batch that fails twice is dropped and its mappings are forgotten, so they are queued again by the next insert of the same time slot.
+     */
+    @Override
+    public void flushAll() {
+        final List<QueuedPut> queuedPutList = new ArrayList<QueuedPut>(Math.min(putQueue.size(), FLUSH_BATCH_SIZE));
+        while (putQueue.drainTo(queuedPutList, FLUSH_BATCH_SIZE) > 0) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("flush {} Put:{}", this.getClass().getSimpleName(), queuedPutList.size());
+            }
+            final List<Put> putList = new ArrayList<Put>(queuedPutList.size());
+            for (QueuedPut queuedPut : queuedPutList) {
+                putList.add(queuedPut.put);
+            }
+            if (!put(putList)) {
+                for (QueuedPut queuedPut : queuedPutList) {
+                    updater.remove(queuedPut.cacheKey, queuedPut.statisticsRowSlot);
+                }
+            }
+            queuedPutList.clear();
+        }
+    }
+
+    private boolean put(List<Put> putList) {
         try {
-            hbaseTemplate.put(HBaseTables.HOST_APPLICATION_MAP_VER2, rowKey, HBaseTables.HOST_APPLICATION_MAP_VER2_CF_MAP, columnName, null);
+            hbaseTemplate.put(HBaseTables.HOST_APPLICATION_MAP_VER2, putList);
+            return true;
         } catch (Exception ex) {
             logger.warn("retry one. Caused:{}", ex.getCause(), ex);
-            hbaseTemplate.put(HBaseTables.HOST_APPLICATION_MAP_VER2, rowKey, HBaseTables.HOST_APPLICATION_MAP_VER2_CF_MAP, columnName, null);
+        }
+        try {
+            hbaseTemplate.put(HBaseTables.HOST_APPLICATION_MAP_VER2, putList);
+            return true;
+        } catch (Exception ex) {
+            logger.warn("host-application map put failed. drop Put:{} Caused:{}", putList.size(), ex.getCause(), ex);
+            return false;
         }
     }
 
@@ -135,6 +202,18 @@ public class HbaseHostApplicationMapDao implements HostApplicationMapDao {
         return rowKeyBuffer.getBuffer();
     }
 
+    private static final class QueuedPut {
+        private final CacheKey cacheKey;
+        private final long statisticsRowSlot;
+        private final Put put;
+
+        private QueuedPut(CacheKey cacheKey, long statisticsRowSlot, Put put) {
+            this.cacheKey = cacheKey;
+            this.statisticsRowSlot = statisticsRowSlot;
+            this.put = put;
+        }
+    }
+
     private static final class CacheKey {
         private final String host;
         private final String applicationName;
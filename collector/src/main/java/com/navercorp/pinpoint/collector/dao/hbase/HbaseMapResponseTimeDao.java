@@ -19,7 +19,7 @@ package com.navercorp.pinpoint.collector.dao.hbase;
 import com.navercorp.pinpoint.collector.dao.MapResponseTimeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.*;
 import com.navercorp.pinpoint.collector.util.AcceptedTimeService;
-import com.navercorp.pinpoint.collector.util.ConcurrentCounterMap;
+import com.navercorp.pinpoint.collector.util.TimeSlotCounterMap;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
@@ -33,7 +33,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 
 import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
 
@@ -63,7 +62,7 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
 
     private final boolean useBulk;
 
-    private final ConcurrentCounterMap<RowInfo> counter = new ConcurrentCounterMap<RowInfo>();
+    private final TimeSlotCounterMap<RowInfo> counter = new TimeSlotCounterMap<RowInfo>();
 
     public HbaseMapResponseTimeDao() {
         this(true);
@@ -96,7 +95,7 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
         final ColumnName selfColumnName = new ResponseColumnName(agentId, slotNumber);
         if (useBulk) {
             RowInfo rowInfo = new DefaultRowInfo(selfRowKey, selfColumnName);
-            this.counter.increment(rowInfo, 1L);
+            this.counter.increment(rowTimeSlot, rowInfo, 1L);
         } else {
             final byte[] rowKey = selfRowKey.getRowKey();
             // column name is the name of caller app.
@@ -116,18 +115,34 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
     }
 
 
+    @Override
+    public void flush(long closeTime) {
+        if (!useBulk) {
+            throw new IllegalStateException("useBulk is " + useBulk);
+        }
+        final long closedSlot = timeSlot.getTimeSlot(closeTime);
+        flush(this.counter.removeClosed(closedSlot));
+    }
+
     @Override
     public void flushAll() {
         if (!useBulk) {
             throw new IllegalStateException("useBulk is " + useBulk);
         }
+        flush(this.counter.removeAll());
+    }
 
-        // update statistics by rowkey and column for now. need to update it by rowkey later.
-        Map<RowInfo,ConcurrentCounterMap.LongAdder> remove = this.counter.remove();
-        List<Increment> merge = rowKeyMerge.createBulkIncrement(remove, null);
-        if (!merge.isEmpty()) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("flush {} Increment:{}", this.getClass().getSimpleName(), merge.size());
+    private void flush(List<TimeSlotCounterMap.SlotCounter<RowInfo>> slotCounterList) {
+        // a time slot is written as one batch
+        for (TimeSlotCounterMap.SlotCounter<RowInfo> slotCounter : slotCounterList) {
+            List<Increment> merge = rowKeyMerge.createBulkIncrement(slotCounter.getCounter(), null);
+            if (merge.isEmpty()) {
+                continue;
+            }
+            if (slotCounter.isLate()) {
+                logger.info("flush late {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("flush {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
             }
             hbaseTemplate.increment(MAP_STATISTICS_SELF, merge);
         }
@@ -21,7 +21,7 @@ import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.*;
 import com.navercorp.pinpoint.collector.util.AcceptedTimeService;
-import com.navercorp.pinpoint.collector.util.ConcurrentCounterMap;
+import com.navercorp.pinpoint.collector.util.TimeSlotCounterMap;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
@@ -38,7 +38,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Update statistics of callee node
@@ -70,7 +69,7 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
 
     private final boolean useBulk;
 
-    private final ConcurrentCounterMap<RowInfo> counter = new ConcurrentCounterMap<RowInfo>();
+    private final TimeSlotCounterMap<RowInfo> counter = new TimeSlotCounterMap<RowInfo>();
 
     public HbaseMapStatisticsCalleeDao() {
         this(true);
@@ -108,7 +107,7 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
 
         if (useBulk) {
             RowInfo rowInfo = new DefaultRowInfo(calleeRowKey, callerColumnName);
-            counter.increment(rowInfo, 1L);
+            counter.increment(rowTimeSlot, rowInfo, 1L);
         } else {
             final byte[] rowKey = getDistributedKey(calleeRowKey.getRowKey());
 
@@ -130,21 +129,37 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         hbaseTemplate.incrementColumnValue(MAP_STATISTICS_CALLER, rowKey, MAP_STATISTICS_CALLER_CF_COUNTER, columnName, increment);
     }
 
+    @Override
+    public void flush(long closeTime) {
+        if (!useBulk) {
+            throw new IllegalStateException();
+        }
+        final long closedSlot = timeSlot.getTimeSlot(closeTime);
+        flush(this.counter.removeClosed(closedSlot));
+    }
+
     @Override
     public void flushAll() {
         if (!useBulk) {
             throw new IllegalStateException();
         }
+        flush(this.counter.removeAll());
+    }
 
-        Map<RowInfo, ConcurrentCounterMap.LongAdder> remove = this.counter.remove();
-        List<Increment> merge = rowKeyMerge.createBulkIncrement(remove, rowKeyDistributorByHashPrefix);
-        if (!merge.isEmpty()) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("flush {} Increment:{}", this.getClass().getSimpleName(), merge.size());
+    private void flush(List<TimeSlotCounterMap.SlotCounter<RowInfo>> slotCounterList) {
+        // a time slot is written as one batch
+        for (TimeSlotCounterMap.SlotCounter<RowInfo> slotCounter : slotCounterList) {
+            List<Increment> merge = rowKeyMerge.createBulkIncrement(slotCounter.getCounter(), rowKeyDistributorByHashPrefix);
+            if (merge.isEmpty()) {
+                continue;
+            }
+            if (slotCounter.isLate()) {
+                logger.info("flush late {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("flush {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
             }
             hbaseTemplate.increment(MAP_STATISTICS_CALLER, merge);
         }
-
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -21,7 +21,7 @@ import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCallerDao;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.*;
 import com.navercorp.pinpoint.collector.util.AcceptedTimeService;
-import com.navercorp.pinpoint.collector.util.ConcurrentCounterMap;
+import com.navercorp.pinpoint.collector.util.TimeSlotCounterMap;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
@@ -37,7 +37,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Update statistics of caller node
@@ -69,7 +68,7 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
 
     private final boolean useBulk;
 
-    private final ConcurrentCounterMap<RowInfo> counter = new ConcurrentCounterMap<RowInfo>();
+    private final TimeSlotCounterMap<RowInfo> counter = new TimeSlotCounterMap<RowInfo>();
 
     public HbaseMapStatisticsCallerDao() {
         this(true);
@@ -105,7 +104,7 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
         final ColumnName calleeColumnName = new CalleeColumnName(callerAgentid, calleeServiceType.getCode(), calleeApplicationName, calleeHost, calleeSlotNumber);
         if (useBulk) {
             RowInfo rowInfo = new DefaultRowInfo(callerRowKey, calleeColumnName);
-            this.counter.increment(rowInfo, 1L);
+            this.counter.increment(rowTimeSlot, rowInfo, 1L);
         } else {
             final byte[] rowKey = getDistributedKey(callerRowKey.getRowKey());
             // column name is the name of caller app.
@@ -124,17 +123,34 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
         hbaseTemplate.incrementColumnValue(MAP_STATISTICS_CALLEE, rowKey, MAP_STATISTICS_CALLEE_CF_VER2_COUNTER, columnName, increment);
     }
 
+    @Override
+    public void flush(long closeTime) {
+        if (!useBulk) {
+            throw new IllegalStateException();
+        }
+        final long closedSlot = timeSlot.getTimeSlot(closeTime);
+        flush(this.counter.removeClosed(closedSlot));
+    }
+
     @Override
     public void flushAll() {
         if (!useBulk) {
             throw new IllegalStateException();
         }
-        // update statistics by rowkey and column for now. need to update it by rowkey later.
-        Map<RowInfo,ConcurrentCounterMap.LongAdder> remove = this.counter.remove();
-        List<Increment> merge = rowKeyMerge.createBulkIncrement(remove, rowKeyDistributorByHashPrefix);
-        if (!merge.isEmpty()) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("flush {} Increment:{}", this.getClass().getSimpleName(), merge.size());
+        flush(this.counter.removeAll());
+    }
+
+    private void flush(List<TimeSlotCounterMap.SlotCounter<RowInfo>> slotCounterList) {
+        // a time slot is written as one batch
+        for (TimeSlotCounterMap.SlotCounter<RowInfo> slotCounter : slotCounterList) {
+            List<Increment> merge = rowKeyMerge.createBulkIncrement(slotCounter.getCounter(), rowKeyDistributorByHashPrefix);
+            if (merge.isEmpty()) {
+                continue;
+            }
+            if (slotCounter.isLate()) {
+                logger.info("flush late {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("flush {} timeSlot:{} Increment:{}", this.getClass().getSimpleName(), slotCounter.getTimeSlot(), merge.size());
             }
             hbaseTemplate.increment(MAP_STATISTICS_CALLEE, merge);
         }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.MetaDataHashUtils;
+
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * content addressed metadata store.
+ * metadata whose id is the content hash of its text (profiler.metadata.hashid) is stored once per text in {@link HBaseTables#METADATA_HASH}
+ * instead of once per agent and agent start time. recently written entries are remembered so that the same text sent by many agents
+ * does not reach HBase again.
+ *
+ * @author agent
+ */
+@Repository
+public class HbaseMetaDataHashDao {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private HbaseOperations2 hbaseTemplate;
+
+    @Autowired
+    private CollectorConfiguration configuration;
+
+    private boolean enable;
+
+    private ConcurrentMap<Long, Boolean> sqlWritten;
+    private ConcurrentMap<Long, Boolean> apiWritten;
+    private ConcurrentMap<Long, Boolean> stringWritten;
+
+    @PostConstruct
+    public void setup() {
+        this.enable = configuration.isMetaDataHashEnable();
+        final int cacheSize = configuration.getMetaDataHashCacheSize();
+        this.sqlWritten = createCache(cacheSize);
+        this.apiWritten = createCache(cacheSize);
+        this.stringWritten = createCache(cacheSize);
+    }
+
+    private ConcurrentMap<Long, Boolean> createCache(int cacheSize) {
+        final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        cacheBuilder.concurrencyLevel(16);
+        cacheBuilder.maximumSize(cacheSize);
+        final Cache<Long, Boolean> cache = cacheBuilder.build();
+        return cache.asMap();
+    }
+
+    /**
+     * @return true if sql is stored (or already stored) as content addressed metadata
+     */
+    public boolean insertSql(int sqlId, String sql) {
+        if (!isHashId(sqlId, sql)) {
+            return false;
+        }
+        final long key = createKey(sqlId, sql);
+        if (sqlWritten.containsKey(key)) {
+            return true;
+        }
+        put(HBaseTables.METADATA_HASH_CF_SQL, sqlId, Bytes.toBytes(sql), EMPTY);
+        // marked only after the put succeeded, so a failed put is written again by the next agent that sends it
+        sqlWritten.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * the api descriptor(the hashed text) is the qualifier and the whole ApiMetaData is the value.
+     * a moved line number or a changed type overwrites the cell of the same descriptor instead of adding a second one,
+     * which web would show as an id collision.
+     * @param apiMetaDataBytes same format as the ApiMetaData column value
+     * @return true if api is stored (or already stored) as content addressed metadata
+     */
+    public boolean insertApi(int apiId, String apiInfo, int lineNumber, int type, byte[] apiMetaDataBytes) {
+        if (!isHashId(apiId, apiInfo)) {
+            return false;
+        }
+        final long key = createApiKey(apiId, apiInfo, lineNumber, type);
+        if (apiWritten.containsKey(key)) {
+            return true;
+        }
+        put(HBaseTables.METADATA_HASH_CF_API, apiId, Bytes.toBytes(apiInfo), apiMetaDataBytes);
+        // marked only after the put succeeded, so a failed put is written again by the next agent that sends it
+        apiWritten.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * @return true if string is stored (or already stored) as content addressed metadata
+     */
+    public boolean insertString(int stringId, String stringValue) {
+        if (!isHashId(stringId, stringValue)) {
+            return false;
+        }
+        final long key = createKey(stringId, stringValue);
+        if (stringWritten.containsKey(key)) {
+            return true;
+        }
+        put(HBaseTables.METADATA_HASH_CF_STR, stringId, Bytes.toBytes(stringValue), EMPTY);
+        // marked only after the put succeeded, so a failed put is written again by the next agent that sends it
+        stringWritten.put(key, Boolean.TRUE);
+        return true;
+    }
+
+    private boolean isHashId(int id, String value) {
+        if (!enable) {
+            return false;
+        }
+        return MetaDataHashUtils.isHashId(id, value);
+    }
+
+    private long createKey(int id, String value) {
+        // id is already the murmur hash. String.hashCode() as the second half keeps two colliding texts apart
+        return ((long) id << 32) | (value.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private long createApiKey(int apiId, String apiInfo, int lineNumber, int type) {
+        // line number and type are part of the written value, so a change has to be written again
+        int hash = apiInfo.hashCode();
+        hash = 31 * hash + lineNumber;
+        hash = 31 * hash + type;
+        return ((long) apiId << 32) | (hash & 0xFFFFFFFFL);
+    }
+
+    private void put(byte[] family, int id, byte[] qualifier, byte[] value) {
+        // hash ids are uniformly distributed, no row key distributor needed.
+        // the hashed text is stored in the qualifier so that colliding texts become separate cells of the same row
+        final Put put = new Put(Bytes.toBytes(id));
+        put.addColumn(family, qualifier, value);
+        if (logger.isDebugEnabled()) {
+            logger.debug("insert hash metadata. family:{}, id:{}", Bytes.toString(family), id);
+        }
+        hbaseTemplate.put(HBaseTables.METADATA_HASH, put);
+    }
+}
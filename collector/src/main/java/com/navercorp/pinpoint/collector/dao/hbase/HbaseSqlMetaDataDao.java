@@ -46,6 +46,9 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
     @Qualifier("metadataRowKeyDistributor2")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     @Override
     public void insert(TSqlMetaData sqlMetaData) {
         if (sqlMetaData == null) {
@@ -55,6 +58,10 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
             logger.debug("insert:{}", sqlMetaData);
         }
 
+        if (metaDataHashDao.insertSql(sqlMetaData.getSqlId(), sqlMetaData.getSql())) {
+            return;
+        }
+
         SqlMetaDataBo sqlMetaDataBo = new SqlMetaDataBo(sqlMetaData.getAgentId(), sqlMetaData.getAgentStartTime(), sqlMetaData.getSqlId());
         final byte[] rowKey = getDistributedKey(sqlMetaDataBo.toRowKey());
 
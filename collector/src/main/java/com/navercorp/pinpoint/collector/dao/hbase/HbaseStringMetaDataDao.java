@@ -47,6 +47,9 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
     @Qualifier("metadataRowKeyDistributor")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     @Override
     public void insert(TStringMetaData stringMetaData) {
         if (stringMetaData == null) {
@@ -56,6 +59,10 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
             logger.debug("insert:{}", stringMetaData);
         }
 
+        if (metaDataHashDao.insertString(stringMetaData.getStringId(), stringMetaData.getStringValue())) {
+            return;
+        }
+
         final StringMetaDataBo stringMetaDataBo = new StringMetaDataBo(stringMetaData.getAgentId(), stringMetaData.getAgentStartTime(), stringMetaData.getStringId());
         final byte[] rowKey = getDistributedKey(stringMetaDataBo.toRowKey());
 
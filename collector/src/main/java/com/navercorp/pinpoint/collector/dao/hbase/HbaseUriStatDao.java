@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
+
+import org.apache.hadoop.hbase.client.Put;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import com.navercorp.pinpoint.collector.dao.UriStatDao;
+import com.navercorp.pinpoint.common.bo.UriStatBo;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.LatencyHistogram;
+import com.navercorp.pinpoint.common.util.RowKeyUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.navercorp.pinpoint.thrift.dto.TUriStat;
+import com.navercorp.pinpoint.thrift.dto.TUriStatBatch;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+
+/**
+ * one row per batch, one column per uri and status.
+ *
+ * @author agent
+ */
+@Repository
+public class HbaseUriStatDao implements UriStatDao {
+
+    @Autowired
+    private HbaseOperations2 hbaseTemplate;
+
+    @Autowired
+    @Qualifier("agentStatRowKeyDistributor")
+    private AbstractRowKeyDistributor rowKeyDistributor;
+
+    @Override
+    public void insert(final TUriStatBatch uriStatBatch) {
+        if (uriStatBatch == null) {
+            throw new NullPointerException("uriStatBatch must not be null");
+        }
+        if (!uriStatBatch.isSetUriStats() || uriStatBatch.getUriStats().isEmpty()) {
+            return;
+        }
+        final String agentId = uriStatBatch.getAgentId();
+        final long timestamp = uriStatBatch.getTimestamp();
+        final byte[] key = getDistributedRowKey(agentId, timestamp);
+
+        final Put put = new Put(key);
+        for (TUriStat uriStat : uriStatBatch.getUriStats()) {
+            final UriStatBo uriStatBo = map(agentId, timestamp, uriStatBatch.getInterval(), uriStat);
+            put.addColumn(URI_STAT_CF_STATISTICS, uriStatBo.writeQualifier(), timestamp, uriStatBo.writeValue());
+        }
+
+        hbaseTemplate.put(URI_STAT, put);
+    }
+
+    private UriStatBo map(String agentId, long timestamp, int interval, TUriStat uriStat) {
+        final UriStatBo.Builder builder = new UriStatBo.Builder(agentId, timestamp);
+        builder.interval(interval);
+        if (uriStat.isSetUri()) {
+            builder.uri(uriStat.getUri());
+        } else {
+            builder.apiId(uriStat.getApiId());
+        }
+        builder.status(uriStat.getStatus());
+        builder.totalElapsed(uriStat.getTotalElapsed());
+        builder.maxElapsed(uriStat.getMaxElapsed());
+        // decode to validate the histogram sent by the agent
+        builder.histogram(LatencyHistogram.decode(uriStat.getHistogram()));
+        return builder.build();
+    }
+
+    /**
+     * Create row key based on the timestamp and distribute it into different buckets
+     * FIXME same as HbaseAgentStatDao
+     */
+    private byte[] getDistributedRowKey(String agentId, long timestamp) {
+        if (agentId == null) {
+            throw new IllegalArgumentException("agentId must not null");
+        }
+        byte[] bAgentId = BytesUtils.toBytes(agentId);
+        byte[] key = RowKeyUtils.concatFixedByteAndLong(bAgentId, AGENT_NAME_MAX_LEN, TimeUtils.reverseTimeMillis(timestamp));
+        return rowKeyDistributor.getDistributedKey(key);
+    }
+
+}
@@ -50,6 +50,9 @@ public class SpanChunkHandler implements SimpleHandler {
     @Autowired
     private ServiceTypeRegistryService registry;
 
+    @Autowired
+    private SpanPipeline spanPipeline;
+
     @Override
     public void handleSimple(TBase<?, ?> tbase) {
 
@@ -64,36 +67,65 @@ public class SpanChunkHandler implements SimpleHandler {
                 logger.debug("Received SpanChunk={}", spanChunk);
             }
 
+            if (spanPipeline.isEnable()) {
+                dispatch(spanChunk);
+                return;
+            }
+
             traceDao.insertSpanChunk(spanChunk);
+            insertStatistics(spanChunk);
+        } catch (Exception e) {
+            logger.warn("SpanChunk handle error Caused:{}", e.getMessage(), e);
+        }
+    }
 
-            final ServiceType applicationServiceType = getApplicationServiceType(spanChunk);
-            List<TSpanEvent> spanEventList = spanChunk.getSpanEventList();
-            if (spanEventList != null) {
-                logger.debug("SpanChunk Size:{}", spanEventList.size());
-                // TODO need to batch update later.
-                for (TSpanEvent spanEvent : spanEventList) {
-                    final ServiceType spanEventType = registry.findServiceType(spanEvent.getServiceType());
-
-                    if (!spanEventType.isRecordStatistics()) {
-                        continue;
-                    }
-
-                    // if terminal update statistics
-                    final int elapsed = spanEvent.getEndElapsed();
-                    final boolean hasException = SpanEventUtils.hasException(spanEvent);
-
-                    /**
-                     * save information to draw a server map based on statistics
-                     */
-                    // save the information of caller (the spanevent that span called)
-                    statisticsHandler.updateCaller(spanChunk.getApplicationName(), applicationServiceType, spanChunk.getAgentId(), spanEvent.getDestinationId(), spanEventType, spanEvent.getEndPoint(), elapsed, hasException);
-
-                    // save the information of callee (the span that called spanevent)
-                    statisticsHandler.updateCallee(spanEvent.getDestinationId(), spanEventType, spanChunk.getApplicationName(), applicationServiceType, spanChunk.getEndPoint(), elapsed, hasException);
+    private void dispatch(TSpanChunk received) {
+        // the binary fields of the received chunk wrap the packet buffer, which is reused once this handler returns.
+        // the statistics stage reads no binary field, so both stages share one copy.
+        final TSpanChunk spanChunk = new TSpanChunk(received);
+
+        // same lanes as the spans of the agent
+        final String agentId = spanChunk.getAgentId();
+        spanPipeline.getTraceStage().execute(agentId, new Runnable() {
+            @Override
+            public void run() {
+                traceDao.insertSpanChunk(spanChunk);
+            }
+        });
+        spanPipeline.getStatisticsStage().execute(agentId, new Runnable() {
+            @Override
+            public void run() {
+                insertStatistics(spanChunk);
+            }
+        });
+    }
+
+    private void insertStatistics(TSpanChunk spanChunk) {
+        final ServiceType applicationServiceType = getApplicationServiceType(spanChunk);
+        List<TSpanEvent> spanEventList = spanChunk.getSpanEventList();
+        if (spanEventList != null) {
+            logger.debug("SpanChunk Size:{}", spanEventList.size());
+            // TODO need to batch update later.
+            for (TSpanEvent spanEvent : spanEventList) {
+                final ServiceType spanEventType = registry.findServiceType(spanEvent.getServiceType());
+
+                if (!spanEventType.isRecordStatistics()) {
+                    continue;
                 }
+
+                // if terminal update statistics
+                final int elapsed = spanEvent.getEndElapsed();
+                final boolean hasException = SpanEventUtils.hasException(spanEvent);
+
+                /**
+                 * save information to draw a server map based on statistics
+                 */
+                // save the information of caller (the spanevent that span called)
+                statisticsHandler.updateCaller(spanChunk.getApplicationName(), applicationServiceType, spanChunk.getAgentId(), spanEvent.getDestinationId(), spanEventType, spanEvent.getEndPoint(), elapsed, hasException);
+
+                // save the information of callee (the span that called spanevent)
+                statisticsHandler.updateCallee(spanEvent.getDestinationId(), spanEventType, spanChunk.getApplicationName(), applicationServiceType, spanChunk.getEndPoint(), elapsed, hasException);
             }
-        } catch (Exception e) {
-            logger.warn("SpanChunk handle error Caused:{}", e.getMessage(), e);
         }
     }
     
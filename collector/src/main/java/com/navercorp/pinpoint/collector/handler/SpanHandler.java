@@ -60,6 +60,10 @@ public class SpanHandler implements SimpleHandler {
     @Autowired
     private ServiceTypeRegistryService registry;
 
+    // when disabled, every step runs on the receiver worker thread
+    @Autowired
+    private SpanPipeline spanPipeline;
+
     public void handleSimple(TBase<?, ?> tbase) {
 
         if (!(tbase instanceof TSpan)) {
@@ -72,18 +76,58 @@ public class SpanHandler implements SimpleHandler {
                 logger.debug("Received SPAN={}", span);
             }
 
+            if (spanPipeline.isEnable()) {
+                dispatch(span);
+                return;
+            }
+
             traceDao.insert(span);
             applicationTraceIndexDao.insert(span);
 
             // insert statistics info for server map
-            insertAcceptorHost(span);
-            insertSpanStat(span);
-            insertSpanEventStat(span);
+            insertStatistics(span);
         } catch (Exception e) {
             logger.warn("Span handle error. Caused:{}. Span:{}",e.getMessage(), tbase, e);
         }
     }
 
+    private void dispatch(final TSpan received) {
+        // the binary fields of the received span wrap the packet buffer, which is reused once this handler returns.
+        // getters of binary fields also rewrite the field, so the trace stage gets its own copy.
+        // the statistics stage reads no binary field and shares the copy of the index stage.
+        final TSpan traceSpan = new TSpan(received);
+        final TSpan span = new TSpan(received);
+
+        // trace and statistics are independent. a slow TRACES region only fills the trace stage queue
+        final String agentId = span.getAgentId();
+        spanPipeline.getTraceStage().execute(agentId, new Runnable() {
+            @Override
+            public void run() {
+                traceDao.insert(traceSpan);
+                // only after the trace is stored, so that an index row never points to a missing trace.
+                // waits for room instead of dropping the index of a stored trace
+                spanPipeline.getIndexStage().put(agentId, new Runnable() {
+                    @Override
+                    public void run() {
+                        applicationTraceIndexDao.insert(span);
+                    }
+                });
+            }
+        });
+        spanPipeline.getStatisticsStage().execute(agentId, new Runnable() {
+            @Override
+            public void run() {
+                insertStatistics(span);
+            }
+        });
+    }
+
+    private void insertStatistics(TSpan span) {
+        insertAcceptorHost(span);
+        insertSpanStat(span);
+        insertSpanEventStat(span);
+    }
+
     private void insertSpanStat(TSpan span) {
         final ServiceType applicationServiceType = getApplicationServiceType(span);
         // TODO consider to change span.isSetErr();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.collector.util.StageExecutor;
+
+/**
+ * stages shared by {@link SpanHandler} and {@link SpanChunkHandler}, so that the spans and span chunks of an agent
+ * are written in order by the same trace lane.
+ * decode -> trace write -> trace index write, and decode -> statistics.
+ * load is shed when a task enters the decode, trace or statistics stage. the index write is handed over from the trace stage
+ * with {@link StageExecutor#put(Object, Runnable)}, so an index row is written only after its trace and is never dropped alone.
+ *
+ * @author agent
+ */
+@Component
+public class SpanPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private CollectorConfiguration configuration;
+
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    // null when the pipeline is disabled
+    private StageExecutor decodeStage;
+    private StageExecutor traceStage;
+    private StageExecutor indexStage;
+    private StageExecutor statisticsStage;
+
+    @PostConstruct
+    public void start() {
+        if (!configuration.isSpanPipelineEnable()) {
+            return;
+        }
+        logger.info("span pipeline enabled. {}", configuration);
+        this.decodeStage = new StageExecutor("Pinpoint-SpanPipeline-Decode", configuration.getSpanPipelineDecodeThreadSize(), configuration.getSpanPipelineDecodeQueueSize(), metricRegistry);
+        this.traceStage = new StageExecutor("Pinpoint-SpanPipeline-Trace", configuration.getSpanPipelineTraceThreadSize(), configuration.getSpanPipelineTraceQueueSize(), metricRegistry);
+        this.indexStage = new StageExecutor("Pinpoint-SpanPipeline-Index", configuration.getSpanPipelineIndexThreadSize(), configuration.getSpanPipelineIndexQueueSize(), metricRegistry);
+        this.statisticsStage = new StageExecutor("Pinpoint-SpanPipeline-Statistics", configuration.getSpanPipelineStatisticsThreadSize(), configuration.getSpanPipelineStatisticsQueueSize(), metricRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // upstream stages first. queued tasks still hand their work to the next stage
+        if (decodeStage != null) {
+            decodeStage.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        if (traceStage != null) {
+            traceStage.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        if (indexStage != null) {
+            indexStage.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        if (statisticsStage != null) {
+            statisticsStage.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    public boolean isEnable() {
+        return traceStage != null;
+    }
+
+    /**
+     * @return null when the pipeline is disabled
+     */
+    public StageExecutor getDecodeStage() {
+        return decodeStage;
+    }
+
+    public StageExecutor getTraceStage() {
+        return traceStage;
+    }
+
+    public StageExecutor getIndexStage() {
+        return indexStage;
+    }
+
+    public StageExecutor getStatisticsStage() {
+        return statisticsStage;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import org.apache.thrift.TBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.navercorp.pinpoint.collector.dao.UriStatDao;
+import com.navercorp.pinpoint.thrift.dto.TUriStatBatch;
+
+/**
+ * @author agent
+ */
+@Service("uriStatHandler")
+public class UriStatHandler implements Handler {
+
+    private final Logger logger = LoggerFactory.getLogger(UriStatHandler.class.getName());
+
+    @Autowired
+    private UriStatDao uriStatDao;
+
+    public void handle(TBase<?, ?> tbase) {
+        if (!(tbase instanceof TUriStatBatch)) {
+            throw new IllegalArgumentException("unexpected tbase:" + tbase + " expected:" + TUriStatBatch.class.getName());
+        }
+        final TUriStatBatch uriStatBatch = (TUriStatBatch) tbase;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Received UriStats={}", uriStatBatch);
+        }
+        try {
+            uriStatDao.insert(uriStatBatch);
+        } catch (Exception e) {
+            logger.warn("UriStat handle error. Caused:{}", e.getMessage());
+        }
+    }
+}
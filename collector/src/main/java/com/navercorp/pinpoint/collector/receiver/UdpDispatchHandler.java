@@ -34,6 +34,10 @@ public class UdpDispatchHandler extends AbstractDispatchHandler {
     @Qualifier("agentStatHandler")
     private Handler agentStatHandler;
 
+    @Autowired()
+    @Qualifier("uriStatHandler")
+    private Handler uriStatHandler;
+
 
     public UdpDispatchHandler() {
         this.logger = LoggerFactory.getLogger(this.getClass());
@@ -47,6 +51,9 @@ public class UdpDispatchHandler extends AbstractDispatchHandler {
         if (tBase instanceof TAgentStat || tBase instanceof TAgentStatBatch) {
             return agentStatHandler;
         }
+        if (tBase instanceof TUriStatBatch) {
+            return uriStatHandler;
+        }
         return null;
     }
 
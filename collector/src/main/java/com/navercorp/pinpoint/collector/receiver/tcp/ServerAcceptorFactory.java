@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.receiver.tcp;
+
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.rpc.netty4.Netty4ServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerAcceptor;
+
+/**
+ * picks the tcp transport of the collector. collector.tcpNetty4.enable selects {@link Netty4ServerAcceptor}.
+ *
+ * @author agent
+ */
+public final class ServerAcceptorFactory {
+
+    private ServerAcceptorFactory() {
+    }
+
+    public static ServerAcceptor create(CollectorConfiguration configuration) {
+        if (configuration == null) {
+            throw new NullPointerException("configuration must not be null");
+        }
+        if (configuration.isTcpNetty4Enable()) {
+            return new Netty4ServerAcceptor();
+        }
+        return new PinpointServerAcceptor();
+    }
+}
@@ -29,7 +29,7 @@ import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
 import com.navercorp.pinpoint.rpc.PinpointSocket;
 import com.navercorp.pinpoint.rpc.packet.*;
 import com.navercorp.pinpoint.rpc.server.PinpointServer;
-import com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerAcceptor;
 import com.navercorp.pinpoint.rpc.server.ServerMessageListener;
 import com.navercorp.pinpoint.rpc.server.handler.ServerStateChangeEventHandler;
 import com.navercorp.pinpoint.rpc.util.MapUtils;
@@ -47,6 +47,7 @@ import javax.annotation.Resource;
 import java.net.InetAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -63,7 +64,7 @@ public class TCPReceiver {
 
     private final ThreadFactory tcpWorkerThreadFactory = new PinpointThreadFactory("Pinpoint-TCP-Worker");
     private final DispatchHandler dispatchHandler;
-    private final PinpointServerAcceptor serverAcceptor;
+    private final ServerAcceptor serverAcceptor;
     
     private final String bindAddress;
     private final int port;
@@ -72,7 +73,7 @@ public class TCPReceiver {
     private final ThreadPoolExecutor worker;
 
     private final SerializerFactory<HeaderTBaseSerializer> serializerFactory = new ThreadLocalHeaderTBaseSerializerFactory<HeaderTBaseSerializer>(new HeaderTBaseSerializerFactory(true, HeaderTBaseSerializerFactory.DEFAULT_UDP_STREAM_MAX_SIZE));
-    private final DeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
+    private final ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
 
     @Resource(name="agentEventWorker")
     private ExecutorService agentEventWorker;
@@ -87,10 +88,10 @@ public class TCPReceiver {
     private List<ServerStateChangeEventHandler> channelStateChangeEventHandlers = Collections.emptyList();
 
     public TCPReceiver(CollectorConfiguration configuration, DispatchHandler dispatchHandler) {
-        this(configuration, dispatchHandler, new PinpointServerAcceptor(), null);
+        this(configuration, dispatchHandler, ServerAcceptorFactory.create(configuration), null);
     }
 
-    public TCPReceiver(CollectorConfiguration configuration, DispatchHandler dispatchHandler, PinpointServerAcceptor serverAcceptor, ZookeeperClusterService service) {
+    public TCPReceiver(CollectorConfiguration configuration, DispatchHandler dispatchHandler, ServerAcceptor serverAcceptor, ZookeeperClusterService service) {
         if (configuration == null) {
             throw new NullPointerException("collector configuration must not be null");
         }
@@ -110,7 +111,7 @@ public class TCPReceiver {
         }
     }
     
-    private void setL4TcpChannel(PinpointServerAcceptor serverFactory) {
+    private void setL4TcpChannel(ServerAcceptor serverFactory) {
         if (l4ipList == null) {
             return;
         }
@@ -186,7 +187,8 @@ public class TCPReceiver {
 
     private void receive(SendPacket sendPacket, PinpointSocket pinpointSocket) {
         try {
-            worker.execute(new Dispatch(sendPacket.getPayload(), pinpointSocket.getRemoteAddress()));
+            // the payload stays a slice of the received frame and is deserialized in place by the worker
+            worker.execute(new Dispatch(sendPacket.getPayloadBuffer().toByteBuffer(), pinpointSocket.getRemoteAddress()));
         } catch (RejectedExecutionException e) {
             // cause is clear - full stack trace not necessary 
             logger.warn("RejectedExecutionException Caused:{}", e.getMessage());
@@ -216,10 +218,10 @@ public class TCPReceiver {
     }
 
     private class Dispatch implements Runnable {
-        private final byte[] bytes;
+        private final ByteBuffer bytes;
         private final SocketAddress remoteAddress;
 
-        private Dispatch(byte[] bytes, SocketAddress remoteAddress) {
+        private Dispatch(ByteBuffer bytes, SocketAddress remoteAddress) {
             if (bytes == null) {
                 throw new NullPointerException("bytes");
             }
@@ -237,7 +239,7 @@ public class TCPReceiver {
                     logger.warn("packet serialize error. SendSocketAddress:{} Cause:{}", remoteAddress, e.getMessage(), e);
                 }
                 if (logger.isDebugEnabled()) {
-                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteArray(bytes));
+                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteBuffer(bytes));
                 }
             } catch (Exception e) {
                 // there are cases where invalid headers are received
@@ -245,7 +247,7 @@ public class TCPReceiver {
                     logger.warn("Unexpected error. SendSocketAddress:{} Cause:{}", remoteAddress, e.getMessage(), e);
                 }
                 if (logger.isDebugEnabled()) {
-                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteArray(bytes));
+                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteBuffer(bytes));
                 }
             }
         }
@@ -267,7 +269,7 @@ public class TCPReceiver {
         @Override
         public void run() {
 
-            byte[] bytes = requestPacket.getPayload();
+            ByteBuffer bytes = requestPacket.getPayloadBuffer().toByteBuffer();
             SocketAddress remoteAddress = pinpointSocket.getRemoteAddress();
             try {
                 TBase<?, ?> tBase = SerializationUtils.deserialize(bytes, deserializerFactory);
@@ -288,7 +290,7 @@ public class TCPReceiver {
                     logger.warn("packet serialize error. SendSocketAddress:{} Cause:{}", remoteAddress, e.getMessage(), e);
                 }
                 if (logger.isDebugEnabled()) {
-                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteArray(bytes));
+                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteBuffer(bytes));
                 }
             } catch (Exception e) {
                 // there are cases where invalid headers are received
@@ -296,7 +298,7 @@ public class TCPReceiver {
                     logger.warn("Unexpected error. SendSocketAddress:{} Cause:{}", remoteAddress, e.getMessage(), e);
                 }
                 if (logger.isDebugEnabled()) {
-                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteArray(bytes));
+                    logger.debug("packet dump hex:{}", PacketUtils.dumpByteBuffer(bytes));
                 }
             }
         }
@@ -308,6 +310,7 @@ public class TCPReceiver {
         serverAcceptor.close();
         shutdownExecutor(worker);
         shutdownExecutor(agentEventWorker);
+        deserializerFactory.close();
     }
     
     private void shutdownExecutor(ExecutorService executor) {
@@ -35,7 +35,7 @@ public class BaseUDPHandlerFactory<T extends DatagramPacket> implements PacketHa
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final DeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
+    private final ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
 
     private final DispatchHandler dispatchHandler;
 
@@ -54,6 +54,11 @@ public class BaseUDPHandlerFactory<T extends DatagramPacket> implements PacketHa
         this.filter = filter;
     }
 
+    @Override
+    public void close() {
+        deserializerFactory.close();
+    }
+
     @Override
     public PacketHandler<T> createPacketHandler() {
         return this.dispatchPacket;
@@ -71,7 +76,7 @@ public class BaseUDPHandlerFactory<T extends DatagramPacket> implements PacketHa
             TBase<?, ?> tBase = null;
             SocketAddress socketAddress = packet.getSocketAddress();
             try {
-                tBase = deserializer.deserialize(packet.getData());
+                tBase = deserializer.deserialize(packet.getData(), packet.getOffset(), packet.getLength());
                 if (filter.filter(tBase, socketAddress) == TBaseFilter.BREAK) {
                     return;
                 }
@@ -37,7 +37,7 @@ public class ChunkedUDPPacketHandlerFactory<T extends DatagramPacket> implements
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final DeserializerFactory<ChunkHeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<ChunkHeaderTBaseDeserializer>(new ChunkHeaderTBaseDeserializerFactory());
+    private final ThreadLocalHeaderTBaseDeserializerFactory<ChunkHeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<ChunkHeaderTBaseDeserializer>(new ChunkHeaderTBaseDeserializerFactory());
 
     private final DispatchHandler dispatchHandler;
     private final TBaseFilter filter;
@@ -52,6 +52,11 @@ public class ChunkedUDPPacketHandlerFactory<T extends DatagramPacket> implements
         this.filter = filter;
     }
 
+    @Override
+    public void close() {
+        deserializerFactory.close();
+    }
+
     @Override
     public PacketHandler<T> createPacketHandler() {
         return this.dispatchPacket;
@@ -47,8 +47,9 @@ public class NetworkAvailabilityCheckPacketFilter<T extends SocketAddress> imple
     public boolean filter(TBase<?, ?> tBase, T remoteHostAddress) {
         // Network port availability check packet
         if (tBase instanceof NetworkAvailabilityCheckPacket) {
-            if (logger.isInfoEnabled()) {
-                logger.info("received udp network availability check packet. remoteAddress:{}", remoteHostAddress);
+            // agents with a collector list send this periodically as a health check
+            if (logger.isDebugEnabled()) {
+                logger.debug("received udp network availability check packet. remoteAddress:{}", remoteHostAddress);
             }
             responseOK(remoteHostAddress);
             return BREAK;
@@ -21,4 +21,9 @@ package com.navercorp.pinpoint.collector.receiver.udp;
  */
 public interface PacketHandlerFactory<T> {
     PacketHandler<T> createPacketHandler();
+
+    /**
+     * releases the resources shared by the handlers. called after the threads running them have stopped.
+     */
+    void close();
 }
@@ -39,7 +39,7 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final DeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
+    private final ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer> deserializerFactory = new ThreadLocalHeaderTBaseDeserializerFactory<HeaderTBaseDeserializer>(new HeaderTBaseDeserializerFactory());
     private final DispatchHandler dispatchHandler;
 
     @SuppressWarnings("unused")
@@ -58,6 +58,11 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
     }
 
 
+    @Override
+    public void close() {
+        deserializerFactory.close();
+    }
+
     @Override
     public PacketHandler<T> createPacketHandler() {
         return this.dispatchPacket;
@@ -73,7 +78,7 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
         public void receive(DatagramPacket packet) {
             final HeaderTBaseDeserializer deserializer = deserializerFactory.createDeserializer();
 
-            ByteBuffer requestBuffer = ByteBuffer.wrap(packet.getData());
+            ByteBuffer requestBuffer = ByteBuffer.wrap(packet.getData(), packet.getOffset(), packet.getLength());
             if (requestBuffer.remaining() < SpanStreamConstants.START_PROTOCOL_BUFFER_SIZE) {
                 return;
             }
@@ -91,14 +96,17 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
             
             try {
                 for (int i = 0; i < chunkSize; i++) {
-                    byte[] componentData = getComponentData(requestBuffer, deserializer);
-                    if (componentData == null) {
+                    final int componentSize = getComponentSize(requestBuffer);
+                    if (componentSize == -1) {
                         logger.warn("Buffer Wrong signature: 0x{} (expected: 0x{})", Integer.toHexString(signature & 0xFF),
                                 Integer.toHexString(SpanStreamConstants.Protocol.SPAN_STREAM_SIGNATURE & 0xFF));
                         break;
                     }
 
-                    List<TBase<?, ?>> tbaseList = deserializer.deserializeList(componentData);
+                    // read the component in place. no need to copy it out of the packet buffer
+                    final int componentOffset = requestBuffer.arrayOffset() + requestBuffer.position();
+                    requestBuffer.position(requestBuffer.position() + componentSize);
+                    List<TBase<?, ?>> tbaseList = deserializer.deserializeList(requestBuffer.array(), componentOffset, componentSize);
                     if (tbaseList == null || tbaseList.size() == 0) {
                         continue;
                     }
@@ -126,22 +134,19 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
         }
     }
 
-    private byte[] getComponentData(ByteBuffer buffer, HeaderTBaseDeserializer deserializer) {
+    private int getComponentSize(ByteBuffer buffer) {
         if (buffer.remaining() < 2) {
             logger.warn("Can't available {} fixed buffer.", 2);
-            return null;
+            return -1;
         }
 
         int componentSize = 0xffff & buffer.getShort();
         if (buffer.remaining() < componentSize) {
             logger.warn("Can't available {} fixed buffer.", buffer.remaining());
-            return null;
+            return -1;
         }
 
-        byte[] componentData = new byte[componentSize];
-        buffer.get(componentData);
-
-        return componentData;
+        return componentSize;
     }
 
     private List<TSpanEvent> getSpanEventList(List<TBase<?, ?>> tbaseList) {
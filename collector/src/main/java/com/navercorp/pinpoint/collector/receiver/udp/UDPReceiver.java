@@ -71,6 +71,9 @@ public class UDPReceiver implements DataReceiver {
     private int workerThreadSize = 128;
     private int workerThreadQueueSize = 1024;
 
+    // when set, packets are decoded on this stage instead of the worker pool
+    private StageExecutor dispatchStage;
+
     // can't really allocate memory as max udp packet sizes are unknown.
     // not allocating memory in advance as I am unsure of the max udp packet size.
     // packet cache is necessary as the JVM does not last long if they are dynamically created with the maximum size.
@@ -116,7 +119,13 @@ public class UDPReceiver implements DataReceiver {
         Assert.notNull(metricRegistry, "metricRegistry must not be null");
         Assert.notNull(packetHandlerFactory, "packetHandlerFactory must not be null");
 
-        final int packetPoolSize = getPacketPoolSize(workerThreadSize, workerThreadQueueSize);
+        final int packetPoolSize;
+        if (dispatchStage != null) {
+            logger.info("{} dispatches to {}", receiverName, dispatchStage.getStageName());
+            packetPoolSize = dispatchStage.getCapacity() + ioThreadSize;
+        } else {
+            packetPoolSize = getPacketPoolSize(workerThreadSize, workerThreadQueueSize);
+        }
         this.datagramPacketPool = new DefaultObjectPool<DatagramPacket>(new DatagramPacketFactory(), packetPoolSize);
         this.worker = ExecutorFactory.newFixedThreadPool(workerThreadSize, workerThreadQueueSize, receiverName + "-Worker", true);
 
@@ -149,6 +158,10 @@ public class UDPReceiver implements DataReceiver {
             if (debugEnabled) {
                 logger.debug("pool getActiveCount:{}", worker.getActiveCount());
             }
+            if (dispatchStage != null) {
+                dispatchToStage(pooledPacket);
+                continue;
+            }
             try {
                 Runnable dispatchTask = wrapDispatchTask(pooledPacket);
                 worker.execute(dispatchTask);
@@ -161,6 +174,16 @@ public class UDPReceiver implements DataReceiver {
         }
     }
 
+    private void dispatchToStage(PooledObject<DatagramPacket> pooledPacket) {
+        // packets of one agent host stay on one lane. a full lane drops the packet right away, the io thread never waits
+        final SocketAddress partitionKey = pooledPacket.getObject().getSocketAddress();
+        final Runnable dispatchTask = wrapDispatchTask(pooledPacket);
+        if (!dispatchStage.execute(partitionKey, dispatchTask)) {
+            rejectedCounter.inc();
+            pooledPacket.returnObject();
+        }
+    }
+
     private void handleRejectedExecutionException(RejectedExecutionException ree) {
         rejectedCounter.inc();
         final int error = rejectedExecutionCount.incrementAndGet();
@@ -187,6 +210,10 @@ public class UDPReceiver implements DataReceiver {
     }
 
 
+    public void setDispatchStage(StageExecutor dispatchStage) {
+        this.dispatchStage = dispatchStage;
+    }
+
     private PooledObject<DatagramPacket> read0(final DatagramSocket socket) {
         boolean success = false;
         PooledObject<DatagramPacket> pooledObject = datagramPacketPool.getObject();
@@ -291,6 +318,7 @@ public class UDPReceiver implements DataReceiver {
         }
         shutdownExecutor(io, "IoExecutor");
         shutdownExecutor(worker, "WorkerExecutor");
+        packetHandlerFactory.close();
     }
 
     private void shutdownExecutor(ExecutorService executor, String executorName) {
@@ -18,16 +18,44 @@ package com.navercorp.pinpoint.collector.util;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * @author emeroad
  */
 public class AtomicLongUpdateMap<T> {
     // FIXME consider to save a mapping information at each 30 ~ 50 seconds not to do at each time.
-    // consider to change to LRU due to OOM risk
 
-    private final ConcurrentMap<T, AtomicLong> cache = new ConcurrentHashMap<T, AtomicLong>(1024, 0.75f, 32);
+    private final ConcurrentMap<T, AtomicLong> cache;
+
+    /**
+     * unbounded. the map never shrinks.
+     */
+    public AtomicLongUpdateMap() {
+        this.cache = new ConcurrentHashMap<T, AtomicLong>(1024, 0.75f, 32);
+    }
+
+    /**
+     * bounded by maxSize(LRU). a key not accessed for expireAfterAccessMillis is removed and is treated as a new key afterwards.
+     */
+    public AtomicLongUpdateMap(int maxSize, long expireAfterAccessMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        if (expireAfterAccessMillis <= 0) {
+            throw new IllegalArgumentException("expireAfterAccessMillis must be greater than 0");
+        }
+        final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        cacheBuilder.concurrencyLevel(32);
+        cacheBuilder.maximumSize(maxSize);
+        cacheBuilder.expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS);
+        final Cache<T, AtomicLong> cache = cacheBuilder.build();
+        this.cache = cache.asMap();
+    }
 
 
     public boolean update(final T cacheKey, final long time) {
@@ -51,6 +79,24 @@ public class AtomicLongUpdateMap<T> {
         }
     }
 
+    /**
+     * forgets cacheKey if it is still marked with time, so that the next update of that time returns true again.
+     */
+    public boolean remove(final T cacheKey, final long time) {
+        if (cacheKey == null) {
+            throw new NullPointerException("cacheKey must not be null");
+        }
+        final AtomicLong hitSlot = cache.get(cacheKey);
+        if (hitSlot == null || hitSlot.get() != time) {
+            return false;
+        }
+        return cache.remove(cacheKey, hitSlot);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
     private boolean updateTime(final long newTime, final AtomicLong oldTime) {
         final long oldLong = oldTime.get();
         if (newTime > oldLong) {
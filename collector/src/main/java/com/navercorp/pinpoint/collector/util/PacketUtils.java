@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.collector.util;
 import org.apache.hadoop.hbase.util.Bytes;
 
 import java.net.DatagramPacket;
+import java.nio.ByteBuffer;
 
 /**
  * @author emeroad
@@ -40,4 +41,11 @@ public final class PacketUtils {
         }
         return Bytes.toStringBinary(bytes, 0, bytes.length);
     }
+
+    public static String dumpByteBuffer(ByteBuffer buffer) {
+        if (buffer == null) {
+            return "null";
+        }
+        return Bytes.toStringBinary(buffer.duplicate());
+    }
 }
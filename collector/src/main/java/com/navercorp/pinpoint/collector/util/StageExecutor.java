@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.util;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.navercorp.pinpoint.common.util.ExecutorFactory;
+
+/**
+ * One stage of a handler pipeline.
+ * The stage is split into single thread lanes with their own bounded queue.
+ * Tasks with the same partition key always run on the same lane, so the tasks of one agent keep their order
+ * while a slow stage only backs up its own queues.
+ * {@link #execute(Object, Runnable)} never blocks. When the lane queue is full the task is dropped and counted,
+ * so receiver threads shed load instead of waiting for a slow stage.
+ * {@link #put(Object, Runnable)} waits for room. It is used by a stage thread handing a task to the next stage,
+ * so that the second half of a unit of work is not dropped after the first half is done.
+ * A task is never run on the caller thread, which would overtake the queued tasks of the same partition.
+ *
+ * @author agent
+ */
+public class StageExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final String stageName;
+    private final ThreadPoolExecutor[] lanes;
+    private final int laneQueueSize;
+
+    private final Timer timer;
+    private final Counter droppedCounter;
+
+    // offers hold the read lock, so no task is queued to a lane after shutdown
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private boolean shutdown = false;
+
+    public StageExecutor(String stageName, int threadSize, int queueSize, MetricRegistry metricRegistry) {
+        if (stageName == null) {
+            throw new NullPointerException("stageName must not be null");
+        }
+        if (metricRegistry == null) {
+            throw new NullPointerException("metricRegistry must not be null");
+        }
+        if (threadSize <= 0) {
+            throw new IllegalArgumentException("threadSize must be positive. threadSize:" + threadSize);
+        }
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be positive. queueSize:" + queueSize);
+        }
+        this.stageName = stageName;
+
+        this.laneQueueSize = Math.max(1, queueSize / threadSize);
+        this.lanes = new ThreadPoolExecutor[threadSize];
+        for (int i = 0; i < threadSize; i++) {
+            this.lanes[i] = ExecutorFactory.newFixedThreadPool(1, laneQueueSize, stageName + "-" + i, true);
+            // tasks are put into the lane queue directly
+            this.lanes[i].prestartAllCoreThreads();
+        }
+
+        this.timer = metricRegistry.timer(stageName + "-timer");
+        this.droppedCounter = metricRegistry.counter(stageName + "-dropped");
+        metricRegistry.register(stageName + "-queue", new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+                return getQueueSize();
+            }
+        });
+    }
+
+    /**
+     * queues the task without blocking.
+     * @return true if the task is queued. false if the lane is full(or is shut down) and the task is dropped
+     */
+    public boolean execute(Object partitionKey, Runnable task) {
+        return enqueue(partitionKey, task, false);
+    }
+
+    /**
+     * queues the task, waiting for room in the lane. must not be called from a receiver thread.
+     * @return true if the task is queued. false if the stage is shut down(or the caller is interrupted) and the task is dropped
+     */
+    public boolean put(Object partitionKey, Runnable task) {
+        return enqueue(partitionKey, task, true);
+    }
+
+    private boolean enqueue(Object partitionKey, final Runnable task, boolean waitForRoom) {
+        if (task == null) {
+            throw new NullPointerException("task must not be null");
+        }
+        final ThreadPoolExecutor lane = selectLane(partitionKey);
+        final Runnable timedTask = new Runnable() {
+            @Override
+            public void run() {
+                final Timer.Context time = timer.time();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.warn("{} task error. Caused:{}", stageName, e.getMessage(), e);
+                } finally {
+                    time.stop();
+                }
+            }
+        };
+        final Lock lock = shutdownLock.readLock();
+        lock.lock();
+        try {
+            if (!shutdown && offer(lane.getQueue(), timedTask, waitForRoom)) {
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        final long dropped = incrementDropped();
+        if ((dropped % 100) == 1) {
+            logger.warn("{} queue full or shut down. task dropped. DroppedCount={}", stageName, dropped);
+        }
+        return false;
+    }
+
+    private boolean offer(BlockingQueue<Runnable> queue, Runnable task, boolean waitForRoom) {
+        if (!waitForRoom) {
+            return queue.offer(task);
+        }
+        try {
+            queue.put(task);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long incrementDropped() {
+        droppedCounter.inc();
+        return droppedCounter.getCount();
+    }
+
+    private ThreadPoolExecutor selectLane(Object partitionKey) {
+        if (partitionKey == null) {
+            return lanes[0];
+        }
+        final int hash = partitionKey.hashCode();
+        // spread the hash before masking so that similar agentIds do not share a lane
+        final int index = ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % lanes.length;
+        return lanes[index];
+    }
+
+    public String getStageName() {
+        return stageName;
+    }
+
+    public int getThreadSize() {
+        return lanes.length;
+    }
+
+    /**
+     * @return the number of tasks the stage can hold, queued or running
+     */
+    public int getCapacity() {
+        return lanes.length * (laneQueueSize + 1);
+    }
+
+    public int getQueueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            size += lane.getQueue().size();
+        }
+        return size;
+    }
+
+    public long getDroppedCount() {
+        return droppedCounter.getCount();
+    }
+
+    public void shutdown(long timeoutMillis) {
+        final Lock lock = shutdownLock.writeLock();
+        lock.lock();
+        try {
+            shutdown = true;
+            // queued tasks still run
+            for (ThreadPoolExecutor lane : lanes) {
+                lane.shutdown();
+            }
+        } finally {
+            lock.unlock();
+        }
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (ThreadPoolExecutor lane : lanes) {
+            final long remain = deadline - System.currentTimeMillis();
+            try {
+                if (remain <= 0 || !lane.awaitTermination(remain, TimeUnit.MILLISECONDS)) {
+                    logger.warn("{} shutdown timeout. pending:{}", stageName, lane.getQueue().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StageExecutor{");
+        sb.append("stageName='").append(stageName).append('\'');
+        sb.append(", threadSize=").append(lanes.length);
+        sb.append(", queueSize=").append(getQueueSize());
+        sb.append(", dropped=").append(getDroppedCount());
+        sb.append('}');
+        return sb.toString();
+    }
+}
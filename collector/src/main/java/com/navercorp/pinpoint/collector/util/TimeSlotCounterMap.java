@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ConcurrentCounterMap} per time slot.
+ * counters of a slot are drained once the slot is closed, so that a slot is written as one batch instead of every flush period.
+ * a closed slot is kept for one more slot as the grace slot. counters arriving for a closed slot are drained separately and marked as late.
+ * <p>
+ * a bucket removed from the map is marked retired before its last drain.
+ * a writer still holding the bucket checks the mark after its increment and queues the bucket to be drained again,
+ * so an increment racing with the removal is reported late instead of lost.
+ *
+ * @author agent
+ */
+public class TimeSlotCounterMap<T> {
+
+    private static final Comparator<SlotCounter<?>> TIME_SLOT_COMPARATOR = new Comparator<SlotCounter<?>>() {
+        @Override
+        public int compare(SlotCounter<?> o1, SlotCounter<?> o2) {
+            final long x = o1.getTimeSlot();
+            final long y = o2.getTimeSlot();
+            return (x < y) ? -1 : ((x == y) ? 0 : 1);
+        }
+    };
+
+    private final ConcurrentMap<Long, Bucket<T>> bucketMap = new ConcurrentHashMap<Long, Bucket<T>>();
+
+    // most recent bucket. most of the increments go to the open slot so the map lookup is skipped
+    private volatile Bucket<T> openBucket;
+
+    // slots before closedSlot are closed. slots before expiredSlot are removed from bucketMap after the last drain
+    private volatile long closedSlot = Long.MIN_VALUE;
+    private long expiredSlot = Long.MIN_VALUE;
+
+    // retired buckets incremented after their last drain
+    private final Queue<Bucket<T>> redrainQueue = new ConcurrentLinkedQueue<Bucket<T>>();
+
+    private final AtomicLong lateCount = new AtomicLong();
+
+    public void increment(long timeSlot, T key, long increment) {
+        Bucket<T> bucket = this.openBucket;
+        if (bucket == null || bucket.timeSlot != timeSlot || bucket.retired) {
+            bucket = getBucket(timeSlot);
+        }
+        bucket.counter.increment(key, increment);
+        // retired is set before the last drain. if it is not visible here, the increment was made before that drain
+        if (bucket.retired && bucket.redrainQueued.compareAndSet(false, true)) {
+            redrainQueue.offer(bucket);
+        }
+    }
+
+    private Bucket<T> getBucket(long timeSlot) {
+        Bucket<T> bucket = bucketMap.get(timeSlot);
+        if (bucket == null) {
+            final Bucket<T> newBucket = new Bucket<T>(timeSlot, timeSlot < closedSlot);
+            bucket = bucketMap.putIfAbsent(timeSlot, newBucket);
+            if (bucket == null) {
+                bucket = newBucket;
+            }
+        }
+        final Bucket<T> open = this.openBucket;
+        if (open == null || open.timeSlot < timeSlot || open.retired) {
+            this.openBucket = bucket;
+        }
+        return bucket;
+    }
+
+    /**
+     * drains the counters of the slots before closedSlot. should be called by a single thread.
+     * @param closedSlot the first slot still open
+     * @return counters per slot ordered by time slot. the counters of a slot drained again(late) are returned separately
+     */
+    public List<SlotCounter<T>> removeClosed(long closedSlot) {
+        if (closedSlot > this.closedSlot) {
+            this.expiredSlot = this.closedSlot;
+            this.closedSlot = closedSlot;
+        }
+        final List<SlotCounter<T>> result = new ArrayList<SlotCounter<T>>();
+        for (Bucket<T> bucket : bucketMap.values()) {
+            if (bucket.timeSlot >= this.closedSlot) {
+                continue;
+            }
+            if (bucket.timeSlot < this.expiredSlot) {
+                // remove first so that the increments after the removal go to a new bucket which is drained as late
+                retire(bucket);
+            }
+            drain(bucket, result);
+        }
+        drainRetired(result);
+        Collections.sort(result, TIME_SLOT_COMPARATOR);
+        return result;
+    }
+
+    /**
+     * drains the counters of every slot including the open slot.
+     */
+    public List<SlotCounter<T>> removeAll() {
+        this.openBucket = null;
+        final List<SlotCounter<T>> result = new ArrayList<SlotCounter<T>>();
+        for (Bucket<T> bucket : bucketMap.values()) {
+            retire(bucket);
+            drain(bucket, result);
+        }
+        drainRetired(result);
+        Collections.sort(result, TIME_SLOT_COMPARATOR);
+        return result;
+    }
+
+    private void retire(Bucket<T> bucket) {
+        bucketMap.remove(bucket.timeSlot, bucket);
+        bucket.retired = true;
+        if (this.openBucket == bucket) {
+            this.openBucket = null;
+        }
+    }
+
+    private void drainRetired(List<SlotCounter<T>> result) {
+        Bucket<T> bucket;
+        while ((bucket = redrainQueue.poll()) != null) {
+            // cleared before the drain so that an increment after the drain queues the bucket again
+            bucket.redrainQueued.set(false);
+            drain(bucket, result);
+        }
+    }
+
+    private void drain(Bucket<T> bucket, List<SlotCounter<T>> result) {
+        final boolean late = bucket.closed;
+        bucket.closed = true;
+        final Map<T, ConcurrentCounterMap.LongAdder> counter = bucket.counter.remove();
+        if (counter.isEmpty()) {
+            return;
+        }
+        if (late) {
+            lateCount.addAndGet(counter.size());
+        }
+        result.add(new SlotCounter<T>(bucket.timeSlot, counter, late));
+    }
+
+    /**
+     * @return number of counters drained as late so far
+     */
+    public long getLateCount() {
+        return lateCount.get();
+    }
+
+    private static class Bucket<T> {
+        private final long timeSlot;
+        private final ConcurrentCounterMap<T> counter = new ConcurrentCounterMap<T>();
+        // set by the flush thread after the first drain
+        private volatile boolean closed;
+        // set by the flush thread when the bucket is removed from bucketMap
+        private volatile boolean retired;
+        private final AtomicBoolean redrainQueued = new AtomicBoolean();
+
+        private Bucket(long timeSlot, boolean closed) {
+            this.timeSlot = timeSlot;
+            this.closed = closed;
+        }
+    }
+
+    public static class SlotCounter<T> {
+        private final long timeSlot;
+        private final Map<T, ConcurrentCounterMap.LongAdder> counter;
+        private final boolean late;
+
+        public SlotCounter(long timeSlot, Map<T, ConcurrentCounterMap.LongAdder> counter, boolean late) {
+            if (counter == null) {
+                throw new NullPointerException("counter must not be null");
+            }
+            this.timeSlot = timeSlot;
+            this.counter = counter;
+            this.late = late;
+        }
+
+        public long getTimeSlot() {
+            return timeSlot;
+        }
+
+        public Map<T, ConcurrentCounterMap.LongAdder> getCounter() {
+            return counter;
+        }
+
+        public boolean isLate() {
+            return late;
+        }
+    }
+}
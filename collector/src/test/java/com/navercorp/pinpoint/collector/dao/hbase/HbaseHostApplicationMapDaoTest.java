@@ -16,26 +16,101 @@
 
 package com.navercorp.pinpoint.collector.dao.hbase;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.collector.util.AcceptedTimeService;
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.buffer.FixedBuffer;
 import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.DefaultTimeSlot;
 import com.navercorp.pinpoint.common.util.TimeSlot;
 import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
 
 
+@RunWith(MockitoJUnitRunner.class)
 public class HbaseHostApplicationMapDaoTest {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final TimeSlot timeSlot = new DefaultTimeSlot();
 
+    @Mock
+    private HbaseOperations2 hbaseTemplate;
+
+    @Mock
+    private AcceptedTimeService acceptedTimeService;
+
+    @Mock
+    private TimeSlot mockTimeSlot;
+
+    @Mock
+    private AbstractRowKeyDistributor rowKeyDistributor;
+
+    @Mock
+    private CollectorConfiguration configuration;
+
+    @InjectMocks
+    private HbaseHostApplicationMapDao hostApplicationMapDao = new HbaseHostApplicationMapDao();
+
+    private void setUpHostApplicationMapDao() {
+        when(configuration.getHostApplicationMapCacheSize()).thenReturn(16);
+        when(configuration.getHostApplicationMapCacheExpire()).thenReturn(60000L);
+        when(configuration.getHostApplicationMapQueueSize()).thenReturn(16);
+        when(mockTimeSlot.getTimeSlot(anyLong())).thenReturn(60000L);
+        when(rowKeyDistributor.getDistributedKey(any(byte[].class))).thenReturn(new byte[] {1});
+        hostApplicationMapDao.setup();
+    }
+
+    @Test
+    public void flushOnce() {
+        setUpHostApplicationMapDao();
+
+        insert();
+        hostApplicationMapDao.flushAll();
+        insert();
+        hostApplicationMapDao.flushAll();
+
+        verify(hbaseTemplate, times(1)).put(eq(HBaseTables.HOST_APPLICATION_MAP_VER2), anyList());
+    }
+
+    @Test
+    public void flushAgainAfterRetryFailure() {
+        setUpHostApplicationMapDao();
+        doThrow(new IllegalStateException("put fail")).doThrow(new IllegalStateException("retry fail")).doNothing()
+                .when(hbaseTemplate).put(eq(HBaseTables.HOST_APPLICATION_MAP_VER2), anyList());
+
+        insert();
+        // the failure is logged, not thrown to the flusher
+        hostApplicationMapDao.flushAll();
+        verify(hbaseTemplate, times(2)).put(eq(HBaseTables.HOST_APPLICATION_MAP_VER2), anyList());
+
+        // the dropped mapping is queued again by the next insert
+        insert();
+        hostApplicationMapDao.flushAll();
+        verify(hbaseTemplate, times(3)).put(eq(HBaseTables.HOST_APPLICATION_MAP_VER2), anyList());
+    }
+
+    private void insert() {
+        hostApplicationMapDao.insert("host", "app", ServiceType.STAND_ALONE.getCode(), "parentApp", ServiceType.STAND_ALONE.getCode());
+    }
+
     @Test
     public void testCreateRowKey() throws Exception {
         HbaseHostApplicationMapDao dao = new HbaseHostApplicationMapDao();
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.MetaDataHashUtils;
+
+/**
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HbaseMetaDataHashDaoTest {
+
+    private static final String SQL = "select * from test where id = ?";
+
+    @Mock
+    private HbaseOperations2 hbaseTemplate;
+
+    @Mock
+    private CollectorConfiguration configuration;
+
+    @InjectMocks
+    private HbaseMetaDataHashDao metaDataHashDao = new HbaseMetaDataHashDao();
+
+    @Before
+    public void setUp() {
+        when(configuration.isMetaDataHashEnable()).thenReturn(true);
+        when(configuration.getMetaDataHashCacheSize()).thenReturn(16);
+        metaDataHashDao.setup();
+    }
+
+    @Test
+    public void writeOnce() {
+        final int sqlId = MetaDataHashUtils.hashId(SQL);
+
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, SQL));
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, SQL));
+
+        verify(hbaseTemplate, times(1)).put(eq(HBaseTables.METADATA_HASH), any(Put.class));
+    }
+
+    @Test
+    public void writeAgainAfterPutFailure() {
+        final int sqlId = MetaDataHashUtils.hashId(SQL);
+        doThrow(new IllegalStateException("put fail")).doNothing().when(hbaseTemplate).put(eq(HBaseTables.METADATA_HASH), any(Put.class));
+
+        try {
+            metaDataHashDao.insertSql(sqlId, SQL);
+            Assert.fail("put failure must be thrown");
+        } catch (IllegalStateException expected) {
+        }
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, SQL));
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, SQL));
+
+        verify(hbaseTemplate, times(2)).put(eq(HBaseTables.METADATA_HASH), any(Put.class));
+    }
+
+    @Test
+    public void collisionWrittenAsSeparateCells() {
+        // same hash id, see MetaDataHashUtilsTest
+        final String sql1 = "select * from t6472";
+        final String sql2 = "select * from t70667";
+        final int sqlId = MetaDataHashUtils.hashId(sql1);
+
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, sql1));
+        Assert.assertTrue(metaDataHashDao.insertSql(sqlId, sql2));
+
+        final List<Put> putList = capturePut(2);
+        Assert.assertArrayEquals(putList.get(0).getRow(), putList.get(1).getRow());
+        Assert.assertEquals(sql1, Bytes.toString(CellUtil.cloneQualifier(getCell(putList.get(0), HBaseTables.METADATA_HASH_CF_SQL))));
+        Assert.assertEquals(sql2, Bytes.toString(CellUtil.cloneQualifier(getCell(putList.get(1), HBaseTables.METADATA_HASH_CF_SQL))));
+    }
+
+    @Test
+    public void apiQualifierIsDescriptor() {
+        final String api = "com.navercorp.Foo.bar(String name, int id)";
+        final int apiId = MetaDataHashUtils.hashId(api);
+        final byte[] line10 = new byte[] {10};
+        final byte[] line20 = new byte[] {20};
+
+        Assert.assertTrue(metaDataHashDao.insertApi(apiId, api, 10, 0, line10));
+        Assert.assertTrue(metaDataHashDao.insertApi(apiId, api, 10, 0, line10));
+        // the line moved. written again, into the same cell
+        Assert.assertTrue(metaDataHashDao.insertApi(apiId, api, 20, 0, line20));
+
+        final List<Put> putList = capturePut(2);
+        final Cell cell1 = getCell(putList.get(0), HBaseTables.METADATA_HASH_CF_API);
+        final Cell cell2 = getCell(putList.get(1), HBaseTables.METADATA_HASH_CF_API);
+        Assert.assertEquals(api, Bytes.toString(CellUtil.cloneQualifier(cell1)));
+        Assert.assertEquals(api, Bytes.toString(CellUtil.cloneQualifier(cell2)));
+        Assert.assertArrayEquals(line10, CellUtil.cloneValue(cell1));
+        Assert.assertArrayEquals(line20, CellUtil.cloneValue(cell2));
+    }
+
+    private List<Put> capturePut(int count) {
+        final ArgumentCaptor<Put> captor = ArgumentCaptor.forClass(Put.class);
+        verify(hbaseTemplate, times(count)).put(eq(HBaseTables.METADATA_HASH), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private Cell getCell(Put put, byte[] family) {
+        final List<Cell> cellList = put.getFamilyCellMap().get(family);
+        Assert.assertEquals(1, cellList.size());
+        return cellList.get(0);
+    }
+}
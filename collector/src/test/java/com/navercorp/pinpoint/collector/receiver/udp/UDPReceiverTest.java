@@ -47,6 +47,10 @@ public class UDPReceiverTest {
                 public PacketHandler createPacketHandler() {
                     return null;
                 }
+
+                @Override
+                public void close() {
+                }
             }, "127.0.0.1", 10999, 1024, 1, 10, true);
         } catch (Exception e) {
             e.printStackTrace();
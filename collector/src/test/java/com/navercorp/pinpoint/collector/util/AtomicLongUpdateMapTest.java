@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class AtomicLongUpdateMapTest {
+
+    @Test
+    public void testUpdate() throws Exception {
+        AtomicLongUpdateMap<String> updateMap = new AtomicLongUpdateMap<String>();
+        Assert.assertTrue(updateMap.update("a", 1000));
+        Assert.assertFalse(updateMap.update("a", 1000));
+        Assert.assertFalse(updateMap.update("a", 500));
+        Assert.assertTrue(updateMap.update("a", 2000));
+
+        Assert.assertTrue(updateMap.update("b", 1000));
+        Assert.assertEquals(2, updateMap.size());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        AtomicLongUpdateMap<String> updateMap = new AtomicLongUpdateMap<String>(100, 60000);
+        Assert.assertTrue(updateMap.update("a", 1000));
+        Assert.assertTrue(updateMap.update("a", 2000));
+
+        // marked with a newer time. keep it
+        Assert.assertFalse(updateMap.remove("a", 1000));
+        Assert.assertFalse(updateMap.update("a", 2000));
+
+        Assert.assertTrue(updateMap.remove("a", 2000));
+        Assert.assertTrue(updateMap.update("a", 2000));
+    }
+
+    @Test
+    public void testMaxSize() throws Exception {
+        AtomicLongUpdateMap<String> updateMap = new AtomicLongUpdateMap<String>(100, 60000);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(updateMap.update("key" + i, 1000));
+        }
+        Assert.assertTrue(updateMap.size() <= 100);
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        AtomicLongUpdateMap<String> updateMap = new AtomicLongUpdateMap<String>(100, 10);
+        Assert.assertTrue(updateMap.update("a", 1000));
+        Assert.assertFalse(updateMap.update("a", 1000));
+
+        Thread.sleep(50);
+        // expired. same time slot is written again
+        Assert.assertTrue(updateMap.update("a", 1000));
+    }
+}
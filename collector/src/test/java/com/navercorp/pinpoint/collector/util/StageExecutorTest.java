@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * @author agent
+ */
+public class StageExecutorTest {
+
+    @Test
+    public void testPartitionOrder() throws Exception {
+        StageExecutor stage = new StageExecutor("test-order", 4, 1024, new MetricRegistry());
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int sequence = i;
+            boolean success = stage.execute("agentId", new Runnable() {
+                @Override
+                public void run() {
+                    result.add(sequence);
+                    latch.countDown();
+                }
+            });
+            Assert.assertTrue(success);
+        }
+        Assert.assertTrue(latch.await(3000, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, result.get(i).intValue());
+        }
+        stage.shutdown(1000);
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        StageExecutor stage = new StageExecutor("test-dropped", 1, 1, new MetricRegistry());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch block = new CountDownLatch(1);
+        final Runnable blockTask = new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        // running + queued
+        Assert.assertTrue(stage.execute(null, blockTask));
+        Assert.assertTrue(started.await(3000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(stage.execute(null, blockTask));
+
+        final List<Thread> executed = Collections.synchronizedList(new ArrayList<Thread>());
+        final Runnable recordTask = new Runnable() {
+            @Override
+            public void run() {
+                executed.add(Thread.currentThread());
+            }
+        };
+        Assert.assertFalse(stage.execute(null, recordTask));
+        Assert.assertEquals(1, stage.getDroppedCount());
+
+        block.countDown();
+        stage.shutdown(1000);
+        // the dropped task never runs, in particular not on the caller thread ahead of the queued tasks
+        Assert.assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    public void testPutWaitsForRoom() throws Exception {
+        final StageExecutor stage = new StageExecutor("test-put", 1, 1, new MetricRegistry());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch block = new CountDownLatch(1);
+        final Runnable blockTask = new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Assert.assertTrue(stage.execute(null, blockTask));
+        Assert.assertTrue(started.await(3000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(stage.execute(null, blockTask));
+
+        final CountDownLatch executed = new CountDownLatch(1);
+        final CountDownLatch queued = new CountDownLatch(1);
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                boolean success = stage.put(null, new Runnable() {
+                    @Override
+                    public void run() {
+                        executed.countDown();
+                    }
+                });
+                if (success) {
+                    queued.countDown();
+                }
+            }
+        });
+        producer.start();
+        // the lane is full. put waits instead of dropping
+        Assert.assertFalse(queued.await(100, TimeUnit.MILLISECONDS));
+
+        block.countDown();
+        Assert.assertTrue(queued.await(3000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(executed.await(3000, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, stage.getDroppedCount());
+        stage.shutdown(1000);
+    }
+
+    @Test
+    public void testDropAfterShutdown() throws Exception {
+        StageExecutor stage = new StageExecutor("test-shutdown", 2, 16, new MetricRegistry());
+        final CountDownLatch latch = new CountDownLatch(1);
+        Assert.assertTrue(stage.execute("agentId", new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }));
+        stage.shutdown(1000);
+        // queued before shutdown. still runs
+        Assert.assertTrue(latch.await(3000, TimeUnit.MILLISECONDS));
+
+        Assert.assertFalse(stage.execute("agentId", new Runnable() {
+            @Override
+            public void run() {
+            }
+        }));
+        Assert.assertEquals(1, stage.getDroppedCount());
+    }
+}
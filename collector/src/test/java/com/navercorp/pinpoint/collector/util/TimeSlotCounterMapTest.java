@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author agent
+ */
+public class TimeSlotCounterMapTest {
+
+    @Test
+    public void testOpenSlotNotDrained() throws Exception {
+        TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        counterMap.increment(60000, "a", 1L);
+        counterMap.increment(60000, "a", 2L);
+
+        Assert.assertTrue(counterMap.removeClosed(60000).isEmpty());
+
+        List<TimeSlotCounterMap.SlotCounter<String>> closed = counterMap.removeClosed(120000);
+        Assert.assertEquals(1, closed.size());
+        TimeSlotCounterMap.SlotCounter<String> slotCounter = closed.get(0);
+        Assert.assertEquals(60000, slotCounter.getTimeSlot());
+        Assert.assertFalse(slotCounter.isLate());
+        Assert.assertEquals(3L, slotCounter.getCounter().get("a").get());
+
+        Assert.assertTrue(counterMap.removeClosed(120000).isEmpty());
+    }
+
+    @Test
+    public void testOrderedBySlot() throws Exception {
+        TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        counterMap.increment(120000, "a", 1L);
+        counterMap.increment(60000, "a", 1L);
+        counterMap.increment(180000, "a", 1L);
+
+        List<TimeSlotCounterMap.SlotCounter<String>> closed = counterMap.removeClosed(180000);
+        Assert.assertEquals(2, closed.size());
+        Assert.assertEquals(60000, closed.get(0).getTimeSlot());
+        Assert.assertEquals(120000, closed.get(1).getTimeSlot());
+    }
+
+    @Test
+    public void testLateInGraceSlot() throws Exception {
+        TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        counterMap.increment(60000, "a", 1L);
+        counterMap.removeClosed(120000);
+
+        counterMap.increment(60000, "a", 5L);
+        counterMap.increment(120000, "b", 1L);
+
+        List<TimeSlotCounterMap.SlotCounter<String>> closed = counterMap.removeClosed(120000);
+        Assert.assertEquals(1, closed.size());
+        Assert.assertTrue(closed.get(0).isLate());
+        Assert.assertEquals(5L, closed.get(0).getCounter().get("a").get());
+        Assert.assertEquals(1L, counterMap.getLateCount());
+    }
+
+    @Test
+    public void testLateAfterGraceSlot() throws Exception {
+        TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        counterMap.increment(60000, "a", 1L);
+        counterMap.removeClosed(120000);
+        counterMap.removeClosed(180000);
+
+        // slot expired and removed. a new bucket is created for it
+        counterMap.increment(60000, "a", 2L);
+
+        List<TimeSlotCounterMap.SlotCounter<String>> closed = counterMap.removeClosed(180000);
+        Assert.assertEquals(1, closed.size());
+        Assert.assertTrue(closed.get(0).isLate());
+        Assert.assertEquals(2L, closed.get(0).getCounter().get("a").get());
+    }
+
+    @Test
+    public void testRemoveAll() throws Exception {
+        TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        counterMap.increment(60000, "a", 1L);
+        counterMap.increment(120000, "a", 2L);
+
+        List<TimeSlotCounterMap.SlotCounter<String>> all = counterMap.removeAll();
+        Assert.assertEquals(2, all.size());
+        Assert.assertEquals(2L, all.get(1).getCounter().get("a").get());
+        Assert.assertFalse(all.get(1).isLate());
+
+        Assert.assertTrue(counterMap.removeAll().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentIncrementNotLost() throws Exception {
+        final TimeSlotCounterMap<String> counterMap = new TimeSlotCounterMap<String>();
+        final int threadCount = 4;
+        final int slotCount = 200;
+        final int incrementPerSlot = 500;
+        final AtomicLong currentSlot = new AtomicLong();
+        final CountDownLatch finished = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            final String key = "key" + i;
+            Thread writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int slot = 0; slot < slotCount; slot++) {
+                            for (int j = 0; j < incrementPerSlot; j++) {
+                                // mostly the current slot, sometimes an expired one
+                                final long timeSlot = (j % 50 == 0) ? Math.max(0, slot - 3) : slot;
+                                counterMap.increment(timeSlot, key, 1L);
+                            }
+                            currentSlot.set(slot);
+                        }
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            });
+            writer.start();
+        }
+
+        long total = 0;
+        while (finished.getCount() != 0) {
+            total += sum(counterMap.removeClosed(currentSlot.get()));
+            Thread.yield();
+        }
+        total += sum(counterMap.removeClosed(Long.MAX_VALUE));
+        total += sum(counterMap.removeAll());
+
+        Assert.assertEquals((long) threadCount * slotCount * incrementPerSlot, total);
+    }
+
+    private long sum(List<TimeSlotCounterMap.SlotCounter<String>> slotCounters) {
+        long sum = 0;
+        for (TimeSlotCounterMap.SlotCounter<String> slotCounter : slotCounters) {
+            for (ConcurrentCounterMap.LongAdder adder : slotCounter.getCounter().values()) {
+                sum += adder.get();
+            }
+        }
+        return sum;
+    }
+}
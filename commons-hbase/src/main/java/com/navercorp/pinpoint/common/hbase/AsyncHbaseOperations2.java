@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+import org.springframework.data.hadoop.hbase.ResultsExtractor;
+import org.springframework.data.hadoop.hbase.RowMapper;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+
+/**
+ * asynchronous read operations of {@link HbaseOperations2}. the calling thread returns as soon as the call is queued.
+ * the call runs with the {@link QueryContext} of the calling thread. it has a deadline derived from that context,
+ * and the returned future is cancelled, interrupting the hbase call, once the deadline has passed.
+ * cancelling the returned future interrupts the hbase call as well.
+ * the future fails with {@link java.util.concurrent.RejectedExecutionException} if too many calls are already queued.
+ *
+ * @author agent
+ */
+public interface AsyncHbaseOperations2 {
+
+    <T> ListenableFuture<T> get(String tableName, Get get, RowMapper<T> mapper);
+
+    <T> ListenableFuture<List<T>> get(String tableName, List<Get> getList, RowMapper<T> mapper);
+
+    <T> ListenableFuture<T> find(String tableName, Scan scan, ResultsExtractor<T> action);
+
+    <T> ListenableFuture<List<T>> find(String tableName, Scan scan, AbstractRowKeyDistributor rowKeyDistributor, RowMapper<T> action);
+
+    <T> ListenableFuture<List<T>> find(String tableName, Scan scan, AbstractRowKeyDistributor rowKeyDistributor, int limit, RowMapper<T> action);
+
+    <T> ListenableFuture<T> find(String tableName, Scan scan, AbstractRowKeyDistributor rowKeyDistributor, ResultsExtractor<T> action);
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Scan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.hadoop.hbase.ResultsExtractor;
+import org.springframework.data.hadoop.hbase.RowMapper;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.ListenableFutureTask;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+
+/**
+ * runs the calls of {@link HbaseOperations2} on a dedicated bounded pool so that request threads are not blocked by hbase.
+ * the HBase 1.0 client has no asynchronous api, so a pool thread still blocks for the duration of the call.
+ * <p>
+ * the deadline of a call is defaultTimeoutMillis, or shorter if the {@link QueryContext} of the caller ends sooner.
+ * scans stop by themselves at the deadline of the QueryContext and return a partial result,
+ * so the call is interrupted only if it is still running {@link #CANCEL_GRACE_MILLIS} later.
+ *
+ * @author agent
+ */
+public class AsyncHbaseTemplate2 implements AsyncHbaseOperations2, DisposableBean {
+
+    static final long CANCEL_GRACE_MILLIS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final HbaseOperations2 hbaseOperations;
+
+    private final long defaultTimeoutMillis;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService deadlineTimer;
+
+    public AsyncHbaseTemplate2(HbaseOperations2 hbaseOperations, int poolSize, int queueSize, long defaultTimeoutMillis) {
+        if (hbaseOperations == null) {
+            throw new NullPointerException("hbaseOperations must not be null");
+        }
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be greater than 0");
+        }
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be greater than 0");
+        }
+        if (defaultTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("defaultTimeoutMillis must be greater than 0");
+        }
+        this.hbaseOperations = hbaseOperations;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new PinpointThreadFactory("Pinpoint-hbase-async", true));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.deadlineTimer = new ScheduledThreadPoolExecutor(1, new PinpointThreadFactory("Pinpoint-hbase-async-deadline", true));
+    }
+
+    @Override
+    public <T> ListenableFuture<T> get(final String tableName, final Get get, final RowMapper<T> mapper) {
+        return submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                return hbaseOperations.get(tableName, get, mapper);
+            }
+        });
+    }
+
+    @Override
+    public <T> ListenableFuture<List<T>> get(final String tableName, final List<Get> getList, final RowMapper<T> mapper) {
+        return submit(new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws Exception {
+                return hbaseOperations.get(tableName, getList, mapper);
+            }
+        });
+    }
+
+    @Override
+    public <T> ListenableFuture<T> find(final String tableName, final Scan scan, final ResultsExtractor<T> action) {
+        return submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                return hbaseOperations.find(tableName, scan, action);
+            }
+        });
+    }
+
+    @Override
+    public <T> ListenableFuture<List<T>> find(final String tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final RowMapper<T> action) {
+        return submit(new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws Exception {
+                return hbaseOperations.find(tableName, scan, rowKeyDistributor, action);
+            }
+        });
+    }
+
+    @Override
+    public <T> ListenableFuture<List<T>> find(final String tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final int limit, final RowMapper<T> action) {
+        return submit(new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws Exception {
+                return hbaseOperations.find(tableName, scan, rowKeyDistributor, limit, action);
+            }
+        });
+    }
+
+    @Override
+    public <T> ListenableFuture<T> find(final String tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final ResultsExtractor<T> action) {
+        return submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                return hbaseOperations.find(tableName, scan, rowKeyDistributor, action);
+            }
+        });
+    }
+
+    <T> ListenableFuture<T> submit(Callable<T> callable) {
+        final QueryContext queryContext = QueryContextHolder.getContext();
+        final long timeoutMillis = getTimeoutMillis(queryContext);
+        final ListenableFutureTask<T> task = new ListenableFutureTask<T>(callable);
+        try {
+            executor.execute(bindQueryContext(task, queryContext));
+        } catch (RejectedExecutionException e) {
+            logger.warn("hbase async call rejected. active:{} queued:{}", executor.getActiveCount(), executor.getQueue().size());
+            final SettableListenableFuture<T> rejected = new SettableListenableFuture<T>();
+            rejected.setException(e);
+            return rejected;
+        }
+
+        final ScheduledFuture<?> deadline = deadlineTimer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (task.cancel(true)) {
+                    logger.info("hbase async call cancelled. deadline {}ms exceeded", timeoutMillis);
+                }
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        task.addCallback(new ListenableFutureCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                deadline.cancel(false);
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                deadline.cancel(false);
+            }
+        });
+        return task;
+    }
+
+    long getTimeoutMillis(QueryContext queryContext) {
+        if (queryContext == null) {
+            return defaultTimeoutMillis;
+        }
+        final long remainingMillis = queryContext.getRemainingMillis();
+        if (remainingMillis >= defaultTimeoutMillis) {
+            return defaultTimeoutMillis;
+        }
+        return Math.min(defaultTimeoutMillis, remainingMillis + CANCEL_GRACE_MILLIS);
+    }
+
+    private Runnable bindQueryContext(final Runnable task, final QueryContext queryContext) {
+        if (queryContext == null) {
+            return task;
+        }
+        // budget of the calling query applies to the pool thread as well.
+        // callbacks run inside task.run(), so a call chained from a callback inherits the context
+        return new Runnable() {
+            @Override
+            public void run() {
+                QueryContextHolder.setContext(queryContext);
+                try {
+                    task.run();
+                } finally {
+                    QueryContextHolder.resetContext();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        logger.info("AsyncHbaseTemplate2.destroy()");
+        deadlineTimer.shutdownNow();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(2000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
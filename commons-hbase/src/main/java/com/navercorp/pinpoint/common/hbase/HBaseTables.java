@@ -40,6 +40,9 @@ public final class HBaseTables {
     public static final byte[] AGENT_STAT_CF_STATISTICS_CPU_LOAD = Bytes.toBytes("Cpu"); // qualifier for CPU load statistics
     public static final int AGENT_STAT_ROW_DISTRIBUTE_SIZE = 1; // agent statistics hash size
 
+    public static final String URI_STAT = "UriStat";
+    public static final byte[] URI_STAT_CF_STATISTICS = Bytes.toBytes("S"); // latency histogram per uri. same row key as AgentStat
+
     public static final String TRACES = "Traces";
     public static final byte[] TRACES_CF_SPAN = Bytes.toBytes("S");  //Span
     public static final byte[] TRACES_CF_ANNOTATION = Bytes.toBytes("A");  //Annotation
@@ -82,6 +85,12 @@ public final class HBaseTables {
     public static final byte[] API_METADATA_CF_API = Bytes.toBytes("Api");
     public static final byte[] API_METADATA_CF_API_QUALI_SIGNATURE = Bytes.toBytes("P_api_signature");
 
+    // content addressed metadata. rowKey : hashId(4byte), qualifier : metadata value
+    public static final String METADATA_HASH = "MetaData_Hash";
+    public static final byte[] METADATA_HASH_CF_SQL = Bytes.toBytes("Sql");
+    public static final byte[] METADATA_HASH_CF_API = Bytes.toBytes("Api");
+    public static final byte[] METADATA_HASH_CF_STR = Bytes.toBytes("Str");
+
     public static final String MAP_STATISTICS_CALLER = "ApplicationMapStatisticsCaller";
     public static final byte[] MAP_STATISTICS_CALLER_CF_COUNTER = Bytes.toBytes("C");
 
@@ -44,6 +44,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class HbaseTemplate2 extends HbaseTemplate implements HbaseOperations2, InitializingBean, DisposableBean {
 
+    // a multi get is split into batches of this size so that the query budget is checked between them
+    static final int GET_BATCH_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final ExecutorService executor = newCachedThreadPool();
@@ -272,11 +275,31 @@ public class HbaseTemplate2 extends HbaseTemplate implements HbaseOperations2, I
         return execute(tableName, new TableCallback<List<T>>() {
             @Override
             public List<T> doInTable(HTableInterface htable) throws Throwable {
-                Result[] result = htable.get(getList);
-                List<T> list = new ArrayList<T>(result.length);
-                for (int i = 0; i < result.length; i++) {
-                    T t = mapper.mapRow(result[i], i);
-                    list.add(t);
+                if (QueryContextHolder.getContext() == null) {
+                    final Result[] result = htable.get(getList);
+                    List<T> list = new ArrayList<T>(result.length);
+                    for (int i = 0; i < result.length; i++) {
+                        T t = mapper.mapRow(result[i], i);
+                        list.add(t);
+                    }
+                    return list;
+                }
+                // callers match results to gets by position, so an exhausted budget fails the query instead of truncating the list
+                final int size = getList.size();
+                List<T> list = new ArrayList<T>(size);
+                for (int from = 0; from < size; from += GET_BATCH_SIZE) {
+                    if (QueryContextHolder.isExhausted()) {
+                        throw new QueryBudgetExceededException(QueryContextHolder.getContext());
+                    }
+                    final int to = Math.min(from + GET_BATCH_SIZE, size);
+                    final Result[] result = htable.get(getList.subList(from, to));
+                    for (int i = 0; i < result.length; i++) {
+                        if (!QueryContextHolder.consume(result[i])) {
+                            throw new QueryBudgetExceededException(QueryContextHolder.getContext());
+                        }
+                        T t = mapper.mapRow(result[i], from + i);
+                        list.add(t);
+                    }
                 }
                 return list;
             }
@@ -75,6 +75,9 @@ public class LimitRowMapperResultsExtractor<T> implements ResultsExtractor<List<
         Result lastResult = null;
 
         for (Result result : results) {
+            if (!QueryContextHolder.consume(result)) {
+                break;
+            }
             final T t = this.rowMapper.mapRow(result, rowNum);
             lastResult = result;
             if (t instanceof Collection) {
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.hbase;
+
+/**
+ * thrown by reads which can not return a partial result once the {@link QueryContext} of the query is exhausted.
+ * e.g. a multi get whose callers rely on the position of each result.
+ *
+ * @author agent
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final QueryContext.TruncatedReason truncatedReason;
+
+    public QueryBudgetExceededException(QueryContext queryContext) {
+        super("query budget exceeded. " + queryContext);
+        this.truncatedReason = queryContext == null ? null : queryContext.getTruncatedReason();
+    }
+
+    public QueryContext.TruncatedReason getTruncatedReason() {
+        return truncatedReason;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * budget of a single web query : deadline, rows and bytes read from hbase, and a cancel flag.
+ * scans stop cooperatively once the budget is exhausted and return what they have read so far,
+ * and the query is then marked as truncated.
+ *
+ * @author agent
+ */
+public class QueryContext {
+
+    public enum TruncatedReason {
+        CANCELLED, DEADLINE, ROW_BUDGET, BYTE_BUDGET
+    }
+
+    private final long deadline;
+    private final long maxRows;
+    private final long maxBytes;
+
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong byteCount = new AtomicLong();
+
+    private volatile boolean cancelled;
+    private volatile TruncatedReason truncatedReason;
+
+    /**
+     * @param timeoutMillis deadline from now. 0 if no deadline
+     * @param maxRows max rows read. -1 if unlimited
+     * @param maxBytes max bytes read. -1 if unlimited
+     */
+    public QueryContext(long timeoutMillis, long maxRows, long maxBytes) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("negative timeoutMillis:" + timeoutMillis);
+        }
+        this.deadline = timeoutMillis == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeoutMillis;
+        this.maxRows = maxRows < 0 ? Long.MAX_VALUE : maxRows;
+        this.maxBytes = maxBytes < 0 ? Long.MAX_VALUE : maxBytes;
+    }
+
+    /**
+     * charges the budget for rows read from hbase.
+     * @return false if the budget is exhausted and the scan should stop
+     */
+    public boolean consume(int rows, long bytes) {
+        final long currentRows = rowCount.addAndGet(rows);
+        final long currentBytes = byteCount.addAndGet(bytes);
+        if (currentRows > maxRows) {
+            truncate(TruncatedReason.ROW_BUDGET);
+            return false;
+        }
+        if (currentBytes > maxBytes) {
+            truncate(TruncatedReason.BYTE_BUDGET);
+            return false;
+        }
+        return !isExhausted();
+    }
+
+    public boolean isExhausted() {
+        if (truncatedReason != null) {
+            return true;
+        }
+        if (cancelled) {
+            truncate(TruncatedReason.CANCELLED);
+            return true;
+        }
+        if (System.currentTimeMillis() >= deadline) {
+            truncate(TruncatedReason.DEADLINE);
+            return true;
+        }
+        return false;
+    }
+
+    private void truncate(TruncatedReason reason) {
+        if (truncatedReason == null) {
+            truncatedReason = reason;
+        }
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * @return milliseconds left until the deadline, 0 if it has passed. Long.MAX_VALUE if there is no deadline
+     */
+    public long getRemainingMillis() {
+        if (deadline == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isTruncated() {
+        return truncatedReason != null;
+    }
+
+    public TruncatedReason getTruncatedReason() {
+        return truncatedReason;
+    }
+
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    public long getByteCount() {
+        return byteCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryContext{" +
+                "deadline=" + deadline +
+                ", maxRows=" + maxRows +
+                ", maxBytes=" + maxBytes +
+                ", rowCount=" + rowCount +
+                ", byteCount=" + byteCount +
+                ", cancelled=" + cancelled +
+                ", truncatedReason=" + truncatedReason +
+                '}';
+    }
+}
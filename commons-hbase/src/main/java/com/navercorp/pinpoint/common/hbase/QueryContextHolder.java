@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import org.apache.hadoop.hbase.client.Result;
+
+/**
+ * binds the {@link QueryContext} of the running query to the current thread,
+ * so that extractors deep in the dao layer can check it without changing every dao signature.
+ * queries without a bound context are not limited.
+ *
+ * @author agent
+ */
+public final class QueryContextHolder {
+
+    private static final ThreadLocal<QueryContext> CONTEXT_HOLDER = new ThreadLocal<QueryContext>();
+
+    private QueryContextHolder() {
+    }
+
+    public static void setContext(QueryContext queryContext) {
+        if (queryContext == null) {
+            throw new NullPointerException("queryContext must not be null");
+        }
+        CONTEXT_HOLDER.set(queryContext);
+    }
+
+    public static QueryContext getContext() {
+        return CONTEXT_HOLDER.get();
+    }
+
+    public static void resetContext() {
+        CONTEXT_HOLDER.remove();
+    }
+
+    /**
+     * @return false if the query bound to the current thread should stop scanning
+     */
+    public static boolean consume(Result result) {
+        final QueryContext queryContext = CONTEXT_HOLDER.get();
+        if (queryContext == null || result == null) {
+            return true;
+        }
+        return queryContext.consume(1, Result.getTotalSizeOfCells(result));
+    }
+
+    public static boolean isExhausted() {
+        final QueryContext queryContext = CONTEXT_HOLDER.get();
+        return queryContext != null && queryContext.isExhausted();
+    }
+
+    public static boolean isTruncated() {
+        final QueryContext queryContext = CONTEXT_HOLDER.get();
+        return queryContext != null && queryContext.isTruncated();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ */
+public class AsyncHbaseTemplate2Test {
+
+    private AsyncHbaseTemplate2 template;
+
+    @After
+    public void tearDown() throws Exception {
+        QueryContextHolder.resetContext();
+        if (template != null) {
+            template.destroy();
+        }
+    }
+
+    private AsyncHbaseTemplate2 createTemplate(int poolSize, int queueSize, long timeoutMillis) {
+        this.template = new AsyncHbaseTemplate2(mock(HbaseOperations2.class), poolSize, queueSize, timeoutMillis);
+        return this.template;
+    }
+
+    @Test
+    public void result() throws Exception {
+        createTemplate(1, 1, 1000);
+        ListenableFuture<String> future = template.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return "result";
+            }
+        });
+        Assert.assertEquals("result", future.get(5000, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void error() throws Exception {
+        createTemplate(1, 1, 1000);
+        final IllegalStateException error = new IllegalStateException("hbase fail");
+        ListenableFuture<String> future = template.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                throw error;
+            }
+        });
+        try {
+            future.get(5000, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertSame(error, e.getCause());
+        }
+    }
+
+    @Test
+    public void deadline() throws Exception {
+        createTemplate(1, 1, 100);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final CountDownLatch finished = new CountDownLatch(1);
+        ListenableFuture<String> future = template.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                try {
+                    // a call stuck in hbase
+                    Thread.sleep(10000);
+                    return "late";
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                } finally {
+                    finished.countDown();
+                }
+            }
+        });
+        try {
+            future.get(5000, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (CancellationException expected) {
+        }
+        Assert.assertTrue(finished.await(5000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public void rejected() throws Exception {
+        createTemplate(1, 1, 5000);
+        final CountDownLatch release = new CountDownLatch(1);
+        Callable<String> blocked = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                release.await();
+                return "result";
+            }
+        };
+        ListenableFuture<String> running = template.submit(blocked);
+        ListenableFuture<String> queued = template.submit(blocked);
+        ListenableFuture<String> rejected = template.submit(blocked);
+        try {
+            rejected.get(5000, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        } finally {
+            release.countDown();
+        }
+        Assert.assertEquals("result", running.get(5000, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("result", queued.get(5000, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void queryContext() throws Exception {
+        createTemplate(1, 1, 1000);
+        final QueryContext queryContext = new QueryContext(1000, -1, -1);
+        final CountDownLatch release = new CountDownLatch(1);
+        QueryContextHolder.setContext(queryContext);
+        final ListenableFuture<QueryContext> future = template.submit(new Callable<QueryContext>() {
+            @Override
+            public QueryContext call() throws Exception {
+                release.await();
+                return QueryContextHolder.getContext();
+            }
+        });
+        QueryContextHolder.resetContext();
+
+        final AtomicReference<QueryContext> callbackContext = new AtomicReference<QueryContext>();
+        final CountDownLatch callback = new CountDownLatch(1);
+        future.addCallback(new ListenableFutureCallback<QueryContext>() {
+            @Override
+            public void onSuccess(QueryContext result) {
+                callbackContext.set(QueryContextHolder.getContext());
+                callback.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                callback.countDown();
+            }
+        });
+        release.countDown();
+        Assert.assertSame(queryContext, future.get(5000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(callback.await(5000, TimeUnit.MILLISECONDS));
+        // a call chained from the callback runs with the same budget
+        Assert.assertSame(queryContext, callbackContext.get());
+    }
+
+    @Test
+    public void timeoutMillis() {
+        createTemplate(1, 1, 10000);
+        Assert.assertEquals(10000, template.getTimeoutMillis(null));
+        Assert.assertEquals(10000, template.getTimeoutMillis(new QueryContext(0, -1, -1)));
+        Assert.assertEquals(10000, template.getTimeoutMillis(new QueryContext(60000, -1, -1)));
+
+        final long timeoutMillis = template.getTimeoutMillis(new QueryContext(3000, -1, -1));
+        Assert.assertTrue("timeoutMillis:" + timeoutMillis, timeoutMillis > AsyncHbaseTemplate2.CANCEL_GRACE_MILLIS);
+        Assert.assertTrue("timeoutMillis:" + timeoutMillis, timeoutMillis <= 3000 + AsyncHbaseTemplate2.CANCEL_GRACE_MILLIS);
+    }
+}
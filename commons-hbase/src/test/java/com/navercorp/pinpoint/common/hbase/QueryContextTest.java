@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class QueryContextTest {
+
+    @Test
+    public void rowBudget() {
+        QueryContext queryContext = new QueryContext(60000, 2, -1);
+        Assert.assertTrue(queryContext.consume(1, 100));
+        Assert.assertTrue(queryContext.consume(1, 100));
+        Assert.assertFalse(queryContext.isTruncated());
+
+        Assert.assertFalse(queryContext.consume(1, 100));
+        Assert.assertTrue(queryContext.isTruncated());
+        Assert.assertEquals(QueryContext.TruncatedReason.ROW_BUDGET, queryContext.getTruncatedReason());
+        Assert.assertTrue(queryContext.isExhausted());
+    }
+
+    @Test
+    public void byteBudget() {
+        QueryContext queryContext = new QueryContext(60000, -1, 1000);
+        Assert.assertTrue(queryContext.consume(1, 1000));
+        Assert.assertFalse(queryContext.consume(1, 1));
+        Assert.assertEquals(QueryContext.TruncatedReason.BYTE_BUDGET, queryContext.getTruncatedReason());
+        Assert.assertEquals(2, queryContext.getRowCount());
+        Assert.assertEquals(1001, queryContext.getByteCount());
+    }
+
+    @Test
+    public void cancel() {
+        QueryContext queryContext = new QueryContext(60000, -1, -1);
+        Assert.assertFalse(queryContext.isExhausted());
+
+        queryContext.cancel();
+        Assert.assertTrue(queryContext.isExhausted());
+        Assert.assertFalse(queryContext.consume(1, 1));
+        Assert.assertEquals(QueryContext.TruncatedReason.CANCELLED, queryContext.getTruncatedReason());
+    }
+
+    @Test
+    public void deadline() throws InterruptedException {
+        QueryContext queryContext = new QueryContext(1, -1, -1);
+        Thread.sleep(10);
+        Assert.assertTrue(queryContext.isExhausted());
+        Assert.assertEquals(QueryContext.TruncatedReason.DEADLINE, queryContext.getTruncatedReason());
+
+        // first reason is kept
+        queryContext.cancel();
+        Assert.assertEquals(QueryContext.TruncatedReason.DEADLINE, queryContext.getTruncatedReason());
+    }
+
+    @Test
+    public void remainingMillis() throws InterruptedException {
+        QueryContext queryContext = new QueryContext(60000, -1, -1);
+        final long remainingMillis = queryContext.getRemainingMillis();
+        Assert.assertTrue(remainingMillis > 0 && remainingMillis <= 60000);
+
+        Assert.assertEquals(Long.MAX_VALUE, new QueryContext(0, -1, -1).getRemainingMillis());
+
+        QueryContext expired = new QueryContext(1, -1, -1);
+        Thread.sleep(10);
+        Assert.assertEquals(0, expired.getRemainingMillis());
+    }
+
+    @Test
+    public void unboundContext() {
+        QueryContextHolder.resetContext();
+        Assert.assertNull(QueryContextHolder.getContext());
+        Assert.assertFalse(QueryContextHolder.isExhausted());
+        Assert.assertFalse(QueryContextHolder.isTruncated());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.bo;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import com.navercorp.pinpoint.common.util.LatencyHistogram;
+
+/**
+ * latency histogram of one uri(or api) and status collected by an agent during an interval.
+ * <pre>
+ * qualifier : status(svarint) apiId(svarint) uri(prefixed string)
+ * value : interval(varint) totalElapsed(varlong) maxElapsed(varint) histogram
+ * </pre>
+ * @author agent
+ */
+public class UriStatBo {
+
+    public static final int API_ID_NOT_EXIST = 0;
+
+    private final String agentId;
+    private final long timestamp;
+    private final int interval;
+
+    private final String uri;
+    private final int apiId;
+    private final int status;
+
+    private final long totalElapsed;
+    private final int maxElapsed;
+    private final LatencyHistogram histogram;
+
+    private UriStatBo(Builder builder) {
+        this.agentId = builder.agentId;
+        this.timestamp = builder.timestamp;
+        this.interval = builder.interval;
+        this.uri = builder.uri;
+        this.apiId = builder.apiId;
+        this.status = builder.status;
+        this.totalElapsed = builder.totalElapsed;
+        this.maxElapsed = builder.maxElapsed;
+        this.histogram = builder.histogram;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getApiId() {
+        return apiId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getTotalElapsed() {
+        return totalElapsed;
+    }
+
+    public int getMaxElapsed() {
+        return maxElapsed;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    public byte[] writeQualifier() {
+        final Buffer buffer = new AutomaticBuffer(16);
+        buffer.putSVar(this.status);
+        buffer.putSVar(this.apiId);
+        buffer.putPrefixedString(this.uri);
+        return buffer.getBuffer();
+    }
+
+    public byte[] writeValue() {
+        final Buffer buffer = new AutomaticBuffer(64);
+        buffer.putVar(this.interval);
+        buffer.putVar(this.totalElapsed);
+        buffer.putVar(this.maxElapsed);
+        this.histogram.writeTo(buffer);
+        return buffer.getBuffer();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("UriStatBo{");
+        sb.append("agentId='").append(this.agentId).append('\'');
+        sb.append(", timestamp=").append(this.timestamp);
+        sb.append(", interval=").append(this.interval);
+        sb.append(", uri='").append(this.uri).append('\'');
+        sb.append(", apiId=").append(this.apiId);
+        sb.append(", status=").append(this.status);
+        sb.append(", totalElapsed=").append(this.totalElapsed);
+        sb.append(", maxElapsed=").append(this.maxElapsed);
+        sb.append(", histogram=").append(this.histogram);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    public static class Builder {
+        private final String agentId;
+        private final long timestamp;
+        private int interval;
+        private String uri;
+        private int apiId = API_ID_NOT_EXIST;
+        private int status;
+        private long totalElapsed;
+        private int maxElapsed;
+        private LatencyHistogram histogram = new LatencyHistogram();
+
+        public Builder(String agentId, long timestamp) {
+            if (agentId == null) {
+                throw new NullPointerException("agentId must not be null");
+            }
+            this.agentId = agentId;
+            this.timestamp = timestamp;
+        }
+
+        public Builder(String agentId, long timestamp, byte[] qualifier, int qualifierOffset, byte[] value, int valueOffset) {
+            this(agentId, timestamp);
+            final Buffer qualifierBuffer = new OffsetFixedBuffer(qualifier, qualifierOffset);
+            this.status = qualifierBuffer.readSVarInt();
+            this.apiId = qualifierBuffer.readSVarInt();
+            this.uri = qualifierBuffer.readPrefixedString();
+
+            final Buffer valueBuffer = new OffsetFixedBuffer(value, valueOffset);
+            this.interval = valueBuffer.readVarInt();
+            this.totalElapsed = valueBuffer.readVarLong();
+            this.maxElapsed = valueBuffer.readVarInt();
+            this.histogram.readFrom(valueBuffer);
+        }
+
+        public void interval(int interval) {
+            this.interval = interval;
+        }
+
+        public void uri(String uri) {
+            this.uri = uri;
+        }
+
+        public void apiId(int apiId) {
+            this.apiId = apiId;
+        }
+
+        public void status(int status) {
+            this.status = status;
+        }
+
+        public void totalElapsed(long totalElapsed) {
+            this.totalElapsed = totalElapsed;
+        }
+
+        public void maxElapsed(int maxElapsed) {
+            this.maxElapsed = maxElapsed;
+        }
+
+        public void histogram(LatencyHistogram histogram) {
+            if (histogram == null) {
+                throw new NullPointerException("histogram must not be null");
+            }
+            this.histogram = histogram;
+        }
+
+        public UriStatBo build() {
+            return new UriStatBo(this);
+        }
+    }
+}
@@ -47,6 +47,9 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.*;
  * <tr><td>-50</td><td>Exception</td></tr>
  * <tr><td>-51</td><td>ExceptionClass</td></tr>
  * <tr><td>-100</td><td>Asynchronous Invocation</td></tr>
+ * <tr><td>-110</td><td>Sampled Stack</td></tr>
+ * <tr><td>-111</td><td>Aggregated Call</td></tr>
+ * <tr><td>-112</td><td>Aggregated Call Count</td></tr>
  * <tr><td>-9999</td><td>UNKNOWN</td></tr>
  * 
  * <tr><td>12</td><td>API</td></tr>
@@ -215,6 +218,14 @@ public class AnnotationKey {
     public static final AnnotationKey UNKNOWN = new AnnotationKey(-9999, "UNKNOWN");
 
     public static final AnnotationKey ASYNC = new AnnotationKey(-100, "Asynchronous Invocation", VIEW_IN_RECORD_SET);
+
+    // folded stacks of a slow transaction. "frame;frame;frame count" per line
+    public static final AnnotationKey SAMPLED_STACK = new AnnotationKey(-110, "Sampled Stack", VIEW_IN_RECORD_SET);
+
+    // consecutive calls collapsed into one span event. "count=N total=Nms min=Nms max=Nms error=N"
+    public static final AnnotationKey AGGREGATED_CALL = new AnnotationKey(-111, "Aggregated Call", VIEW_IN_RECORD_SET);
+    // number of calls collapsed into the span event(int). AGGREGATED_CALL is for display only
+    public static final AnnotationKey AGGREGATED_CALL_COUNT = new AnnotationKey(-112, "Aggregated Call Count");
     
     private final int code;
     private final String name;
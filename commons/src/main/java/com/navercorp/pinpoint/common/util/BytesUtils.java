@@ -376,6 +376,27 @@ public final class BytesUtils {
         return 5;
     }
 
+    /**
+     * number of bytes of the string encoded in UTF-8, without encoding it
+     */
+    public static int computeUtf8Size(final String value) {
+        int size = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                size++;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
 
     public static int writeSVar64(final int value, final byte[] buf, final int offset) {
         return writeVar64(longToZigZag(value), buf, offset);
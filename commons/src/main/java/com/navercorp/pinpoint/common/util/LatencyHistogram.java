@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import java.util.Arrays;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+
+/**
+ * Log-linear latency histogram in milliseconds.
+ * values under 16 have their own bucket. above that every power of two is split into 8 buckets,
+ * so the relative error of a bucket bound is at most 12.5%. values over {@link #MAX_VALUE} are clamped.
+ * <pre>
+ * encoded as : bucketCount(varint) (indexDelta(varint) count(varlong)) * bucketCount
+ * </pre>
+ * not thread safe.
+ *
+ * @author agent
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BITS = 4;
+    private static final int LINEAR_BUCKET_COUNT = 1 << LINEAR_BITS;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 20;
+
+    public static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    public static final int BUCKET_COUNT = LINEAR_BUCKET_COUNT + (MAX_EXPONENT - LINEAR_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+
+    public static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        if (value > MAX_VALUE) {
+            value = MAX_VALUE;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_BUCKET_COUNT + ((exponent - LINEAR_BITS) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    public static long lowerBound(int index) {
+        checkIndex(index);
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        final int offset = index - LINEAR_BUCKET_COUNT;
+        final int exponent = LINEAR_BITS + (offset >>> SUB_BUCKET_BITS);
+        final long subBucket = offset & (SUB_BUCKET_COUNT - 1);
+        return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    public static long upperBound(int index) {
+        checkIndex(index);
+        if (index == BUCKET_COUNT - 1) {
+            return MAX_VALUE;
+        }
+        return lowerBound(index + 1) - 1;
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0 || index >= BUCKET_COUNT) {
+            throw new IndexOutOfBoundsException("index:" + index + " bucketCount:" + BUCKET_COUNT);
+        }
+    }
+
+    public void record(long value) {
+        counts[bucketIndex(value)]++;
+        totalCount++;
+    }
+
+    public void add(int index, long count) {
+        checkIndex(index);
+        if (count < 0) {
+            throw new IllegalArgumentException("negative count:" + count);
+        }
+        counts[index] += count;
+        totalCount += count;
+    }
+
+    public void merge(LatencyHistogram histogram) {
+        if (histogram == null) {
+            throw new NullPointerException("histogram must not be null");
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += histogram.counts[i];
+        }
+        totalCount += histogram.totalCount;
+    }
+
+    public long getCount(int index) {
+        checkIndex(index);
+        return counts[index];
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return upper bound of the bucket holding the given percentile. 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile out of range:" + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(totalCount * percentile / 100));
+        long sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            sum += counts[i];
+            if (sum >= rank) {
+                return upperBound(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    public void writeTo(Buffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        int bucketCount = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                bucketCount++;
+            }
+        }
+        buffer.putVar(bucketCount);
+        int lastIndex = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                buffer.putVar(i - lastIndex);
+                buffer.putVar(counts[i]);
+                lastIndex = i;
+            }
+        }
+    }
+
+    public void readFrom(Buffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        final int bucketCount = buffer.readVarInt();
+        int index = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            index += buffer.readVarInt();
+            add(index, buffer.readVarLong());
+        }
+    }
+
+    public byte[] encode() {
+        final Buffer buffer = new AutomaticBuffer(32);
+        writeTo(buffer);
+        return buffer.getBuffer();
+    }
+
+    public static LatencyHistogram decode(byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.readFrom(new FixedBuffer(bytes));
+        return histogram;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "totalCount=" + totalCount +
+                ", p50=" + getPercentile(50) +
+                ", p99=" + getPercentile(99) +
+                '}';
+    }
+}
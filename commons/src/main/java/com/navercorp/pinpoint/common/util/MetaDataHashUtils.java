@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+/**
+ * Stable content based id of sql/api/string metadata.
+ * The same text always gets the same id regardless of agent or agent restart, so the collector and web can share one entry.
+ * The hash is murmur3_32 over the UTF-16 chars (same as guava Hashing.murmur3_32().hashUnencodedChars()).
+ * <p>
+ * The id is 32 bits wide because sqlId, apiId and stringId are i32 in the thrift messages and span events,
+ * so a wider hash would not reach the collector. Different texts do share an id: the chance of at least one
+ * collision among n texts is about n^2 / 2^33, roughly 1% at 10,000 texts and 50% at 77,000.
+ * Collisions are therefore expected and handled, not prevented. The collector stores the text itself as the
+ * cell qualifier, so colliding texts are kept side by side in the same row and web shows them as a collision.
+ *
+ * @author agent
+ */
+public final class MetaDataHashUtils {
+
+    private static final int SEED = 0;
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    // zero means not exist.
+    private static final int ZERO_REPLACEMENT = 1;
+
+    private MetaDataHashUtils() {
+    }
+
+    public static int hashId(String value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        final int hash = murmur3(value);
+        if (hash == 0) {
+            return ZERO_REPLACEMENT;
+        }
+        return hash;
+    }
+
+    public static boolean isHashId(int id, String value) {
+        if (value == null) {
+            return false;
+        }
+        return id == hashId(value);
+    }
+
+    static int murmur3(String value) {
+        int h1 = SEED;
+        final int length = value.length();
+
+        // step through the string 2 chars at a time
+        for (int i = 1; i < length; i += 2) {
+            int k1 = value.charAt(i - 1) | (value.charAt(i) << 16);
+            k1 = mixK1(k1);
+            h1 = mixH1(h1, k1);
+        }
+
+        // deal with any remaining characters
+        if ((length & 1) == 1) {
+            int k1 = value.charAt(length - 1);
+            k1 = mixK1(k1);
+            h1 ^= k1;
+        }
+
+        return fmix(h1, 2 * length);
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static int mixH1(int h1, int k1) {
+        h1 ^= k1;
+        h1 = Integer.rotateLeft(h1, 13);
+        h1 = h1 * 5 + 0xe6546b64;
+        return h1;
+    }
+
+    private static int fmix(int h1, int length) {
+        h1 ^= length;
+        h1 ^= h1 >>> 16;
+        h1 *= 0x85ebca6b;
+        h1 ^= h1 >>> 13;
+        h1 *= 0xc2b2ae35;
+        h1 ^= h1 >>> 16;
+        return h1;
+    }
+}
@@ -97,6 +97,20 @@ public final class ThreadMXBeanUtils {
         }
     }
 
+    /**
+     * takes the stacks of several threads at once. the element of a dead thread is null.
+     */
+    public static ThreadInfo[] findThread(long[] ids, int stackTraceMaxDepth) {
+        if (ids == null) {
+            throw new NullPointerException("ids must not be null");
+        }
+        if (stackTraceMaxDepth <= 0) {
+            return THREAD_MX_BEAN.getThreadInfo(ids);
+        } else {
+            return THREAD_MX_BEAN.getThreadInfo(ids, stackTraceMaxDepth);
+        }
+    }
+
     public static List<ThreadInfo> findThread(String threadName) {
         Asserts.notNull(threadName, "threadName may not be null.");
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketBound() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            final long lowerBound = LatencyHistogram.lowerBound(index);
+            final long upperBound = LatencyHistogram.upperBound(index);
+            Assert.assertEquals(index, LatencyHistogram.bucketIndex(lowerBound));
+            Assert.assertEquals(index, LatencyHistogram.bucketIndex(upperBound));
+            // relative error of a bucket is at most 12.5%
+            Assert.assertTrue(upperBound - lowerBound <= lowerBound / 8);
+        }
+        Assert.assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void bucketIndex() {
+        Assert.assertEquals(0, LatencyHistogram.bucketIndex(-1));
+        Assert.assertEquals(15, LatencyHistogram.bucketIndex(15));
+        Assert.assertEquals(16, LatencyHistogram.bucketIndex(16));
+        Assert.assertEquals(16, LatencyHistogram.bucketIndex(17));
+        Assert.assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(99));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(100, histogram.getTotalCount());
+        Assert.assertEquals(LatencyHistogram.upperBound(LatencyHistogram.bucketIndex(50)), histogram.getPercentile(50));
+        Assert.assertEquals(LatencyHistogram.upperBound(LatencyHistogram.bucketIndex(99)), histogram.getPercentile(99));
+        Assert.assertEquals(1, histogram.getPercentile(0));
+    }
+
+    @Test
+    public void encode() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(250);
+        histogram.record(60000);
+
+        LatencyHistogram decoded = LatencyHistogram.decode(histogram.encode());
+        Assert.assertEquals(histogram.getTotalCount(), decoded.getTotalCount());
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            Assert.assertEquals(histogram.getCount(i), decoded.getCount(i));
+        }
+    }
+
+    @Test
+    public void merge() {
+        LatencyHistogram histogram1 = new LatencyHistogram();
+        histogram1.record(10);
+        LatencyHistogram histogram2 = new LatencyHistogram();
+        histogram2.record(10);
+        histogram2.record(1000);
+
+        histogram1.merge(histogram2);
+        Assert.assertEquals(3, histogram1.getTotalCount());
+        Assert.assertEquals(2, histogram1.getCount(LatencyHistogram.bucketIndex(10)));
+        Assert.assertEquals(1, histogram1.getCount(LatencyHistogram.bucketIndex(1000)));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import com.google.common.hash.Hashing;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class MetaDataHashUtilsTest {
+
+    @Test
+    public void testMurmur3() {
+        String[] values = {"", "a", "ab", "abc", "select * from table where id = ?", "com.navercorp.Foo.bar(String name, int id)", "\uAC00\uB098\uB2E4"};
+        for (String value : values) {
+            int expected = Hashing.murmur3_32().hashUnencodedChars(value).asInt();
+            Assert.assertEquals(value, expected, MetaDataHashUtils.murmur3(value));
+        }
+    }
+
+    @Test
+    public void testHashId() {
+        final String sql = "select * from table where id = ?";
+        final int id = MetaDataHashUtils.hashId(sql);
+        Assert.assertEquals(id, MetaDataHashUtils.hashId(new String(sql)));
+        Assert.assertTrue(MetaDataHashUtils.isHashId(id, sql));
+        Assert.assertFalse(MetaDataHashUtils.isHashId(id + 1, sql));
+        Assert.assertFalse(MetaDataHashUtils.isHashId(id, null));
+        // empty string hashes to zero. zero is reserved for "not exist"
+        Assert.assertTrue(MetaDataHashUtils.hashId("") != 0);
+    }
+
+    @Test
+    public void testCollision() {
+        // 32 bit ids collide. a known pair, found by hashing "select * from t" + n
+        final String sql1 = "select * from t6472";
+        final String sql2 = "select * from t70667";
+        final int id = MetaDataHashUtils.hashId(sql1);
+        Assert.assertEquals(id, MetaDataHashUtils.hashId(sql2));
+        Assert.assertTrue(MetaDataHashUtils.isHashId(id, sql1));
+        Assert.assertTrue(MetaDataHashUtils.isHashId(id, sql2));
+    }
+}
@@ -158,6 +158,8 @@ public class ServerHandleInterceptor implements AroundInterceptor {
         }
         // TODO STATDISABLE this logic was added to disable statistics tracing
         if (!trace.canSampled()) {
+            final HttpChannel<?> channel = (HttpChannel<?>) args[0];
+            traceContext.recordUriStat(channel.getRequest().getRequestURI(), channel.getResponse().getStatus(), throwable != null, trace.getStartTime());
             traceContext.removeTraceObject();
             return;
         }
@@ -173,6 +175,11 @@ public class ServerHandleInterceptor implements AroundInterceptor {
 
             recorder.recordApi(methodDescriptor);
             recorder.recordException(throwable);
+
+            final int statusCode = channel.getResponse().getStatus();
+            if (statusCode != 0) {
+                trace.getSpanRecorder().recordAttribute(AnnotationKey.HTTP_STATUS_CODE, statusCode);
+            }
         } catch (Throwable th) {
             if (logger.isWarnEnabled()) {
                 logger.warn("after. Caused:{}", th.getMessage(), th);
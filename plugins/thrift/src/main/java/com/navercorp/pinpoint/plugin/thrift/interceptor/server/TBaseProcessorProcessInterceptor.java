@@ -118,6 +118,8 @@ public class TBaseProcessorProcessInterceptor implements AroundInterceptor {
             } finally {
                 trace.close();
             }
+        } else {
+            this.traceContext.recordUriStat(getMethodUri(target), 0, throwable != null, trace.getStartTime());
         }
     }
 
@@ -133,6 +133,8 @@ public class TBaseAsyncProcessorProcessInterceptor implements AroundInterceptor
             } finally {
                 trace.close();
             }
+        } else {
+            this.traceContext.recordUriStat(getMethodUri(target), 0, throwable != null, trace.getStartTime());
         }
     }
 
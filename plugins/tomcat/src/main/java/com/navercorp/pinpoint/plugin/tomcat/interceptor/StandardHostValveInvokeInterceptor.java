@@ -23,6 +23,7 @@ import javax.servlet.http.HttpServletRequest;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.bootstrap.context.*;
 import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
 
 import com.navercorp.pinpoint.bootstrap.config.Filter;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
@@ -304,6 +305,8 @@ public class StandardHostValveInvokeInterceptor implements AroundInterceptor {
 
         // TODO STATDISABLE this logic was added to disable statistics tracing
         if (!trace.canSampled()) {
+            final HttpServletRequest request = (HttpServletRequest) args[0];
+            traceContext.recordUriStat(request.getRequestURI(), getStatusCode(args), throwable != null, trace.getStartTime());
             traceContext.removeTraceObject();
             return;
         }
@@ -321,6 +324,12 @@ public class StandardHostValveInvokeInterceptor implements AroundInterceptor {
 
             recorder.recordApi(methodDescriptor);
             recorder.recordException(throwable);
+
+            // the response of an asynchronous request is not committed yet
+            final int statusCode = getStatusCode(args);
+            if (statusCode != 0 && !isAsynchronousProcess((Request) args[0])) {
+                trace.getSpanRecorder().recordAttribute(AnnotationKey.HTTP_STATUS_CODE, statusCode);
+            }
         } catch (Throwable th) {
             if (logger.isWarnEnabled()) {
                 logger.warn("AFTER. Caused:{}", th.getMessage(), th);
@@ -389,6 +398,13 @@ public class StandardHostValveInvokeInterceptor implements AroundInterceptor {
         return params.toString();
     }
 
+    private int getStatusCode(Object[] args) {
+        if (args.length > 1 && args[1] instanceof Response) {
+            return ((Response) args[1]).getStatus();
+        }
+        return 0;
+    }
+
     private void deleteTrace(Trace trace, Object target, Object[] args, Object result, Throwable throwable) {
         trace.traceBlockEnd();
 
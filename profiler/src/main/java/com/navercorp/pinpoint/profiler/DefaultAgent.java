@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.instrument.Instrumentation;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +45,8 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.profiler.context.DefaultServerMetaDataHolder;
 import com.navercorp.pinpoint.profiler.context.DefaultTraceContext;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceLocator;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceStackSampler;
 import com.navercorp.pinpoint.profiler.context.storage.BufferedStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.SpanStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
@@ -51,6 +55,8 @@ import com.navercorp.pinpoint.profiler.interceptor.registry.DefaultInterceptorRe
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.logging.Slf4jLoggerBinder;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
+import com.navercorp.pinpoint.profiler.monitor.uri.UriStatMonitor;
+import com.navercorp.pinpoint.profiler.monitor.uri.UriStatRecorder;
 import com.navercorp.pinpoint.profiler.plugin.DefaultProfilerPluginContext;
 import com.navercorp.pinpoint.profiler.plugin.ProfilerPluginLoader;
 import com.navercorp.pinpoint.profiler.receiver.CommandDispatcher;
@@ -58,14 +64,20 @@ import com.navercorp.pinpoint.profiler.receiver.service.ActiveThreadService;
 import com.navercorp.pinpoint.profiler.receiver.service.EchoService;
 import com.navercorp.pinpoint.profiler.receiver.service.ThreadDumpService;
 import com.navercorp.pinpoint.profiler.sampler.SamplerFactory;
+import com.navercorp.pinpoint.profiler.sender.CollectorReachability;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
 import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
 import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
 import com.navercorp.pinpoint.profiler.sender.UdpDataSender;
+import com.navercorp.pinpoint.profiler.sender.collector.CollectorGroup;
+import com.navercorp.pinpoint.profiler.sender.collector.CollectorHealthChecker;
+import com.navercorp.pinpoint.profiler.sender.collector.CollectorSocketAddressProvider;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournal;
 import com.navercorp.pinpoint.profiler.util.ApplicationServerTypeResolver;
 import com.navercorp.pinpoint.profiler.util.RuntimeMXBeanUtils;
 import com.navercorp.pinpoint.rpc.ClassPreLoader;
 import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
 
 /**
  * @author emeroad
@@ -84,9 +96,16 @@ public class DefaultAgent implements Agent {
 
     private final AgentInfoSender agentInfoSender;
     private final AgentStatMonitor agentStatMonitor;
+    private final ActiveTraceStackSampler activeTraceStackSampler;
+    // null if profiler.uristat.enable=false
+    private final UriStatMonitor uriStatMonitor;
 
     private final TraceContext traceContext;
 
+    // null if profiler.collector.ip.list is not set
+    private CollectorGroup collectorGroup;
+    private CollectorHealthChecker collectorHealthChecker;
+
     private PinpointClientFactory clientFactory;
     private PinpointClient client;
     private final EnhancedDataSender tcpDataSender;
@@ -172,6 +191,8 @@ public class DefaultAgent implements Agent {
         
         CommandDispatcher commandDispatcher = new CommandDispatcher();
 
+        this.collectorGroup = createCollectorGroup();
+
         this.tcpDataSender = createTcpDataSender(commandDispatcher);
 
         this.serverMetaDataHolder = createServerMetaDataHolder();
@@ -191,6 +212,8 @@ public class DefaultAgent implements Agent {
         this.serverMetaDataHolder.addListener(this.agentInfoSender);
 
         this.agentStatMonitor = new AgentStatMonitor(this.statDataSender, this.agentInformation.getAgentId(), this.agentInformation.getStartTime());
+        this.activeTraceStackSampler = createActiveTraceStackSampler(traceContext);
+        this.uriStatMonitor = createUriStatMonitor(traceContext);
         
         InterceptorInvokerHelper.setPropagateException(profilerConfig.isPropagateInterceptorException());
     }
@@ -211,6 +234,34 @@ public class DefaultAgent implements Agent {
         }
     }
     
+    private UriStatMonitor createUriStatMonitor(TraceContext traceContext) {
+        if (!profilerConfig.isUriStatEnable()) {
+            return null;
+        }
+        if (traceContext instanceof DefaultTraceContext) {
+            final UriStatRecorder uriStatRecorder = new UriStatRecorder(profilerConfig.getUriStatMaxUriCount());
+            ((DefaultTraceContext) traceContext).setUriStatRecorder(uriStatRecorder);
+            return new UriStatMonitor(this.statDataSender, this.agentInformation.getAgentId(), this.agentInformation.getStartTime(),
+                    uriStatRecorder, profilerConfig.getUriStatInterval());
+        }
+        return null;
+    }
+
+    private ActiveTraceStackSampler createActiveTraceStackSampler(TraceContext traceContext) {
+        if (!profilerConfig.isStackSamplingEnable()) {
+            return null;
+        }
+        if (traceContext instanceof DefaultTraceContext) {
+            ActiveTraceLocator activeTraceLocator = ((DefaultTraceContext) traceContext).getActiveTraceLocator();
+            if (activeTraceLocator instanceof ActiveTraceRepository) {
+                return new ActiveTraceStackSampler((ActiveTraceRepository) activeTraceLocator, profilerConfig.getStackSamplingThreshold(),
+                        profilerConfig.getStackSamplingInterval(), profilerConfig.getStackSamplingMaxDepth(), profilerConfig.getStackSamplingMaxStackCount());
+            }
+        }
+        logger.warn("stack sampling requires profiler.pinpoint.activethread=true");
+        return null;
+    }
+
     public DynamicTransformService getDynamicTransformService() {
         return dynamicTransformService;
     }
@@ -273,7 +324,8 @@ public class DefaultAgent implements Agent {
         
         final int jdbcSqlCacheSize = profilerConfig.getJdbcSqlCacheSize();
         final boolean traceActiveThread = profilerConfig.isTraceAgentActiveThread();
-        final DefaultTraceContext traceContext = new DefaultTraceContext(jdbcSqlCacheSize, this.agentInformation, storageFactory, sampler, this.serverMetaDataHolder, traceActiveThread);
+        final boolean metaDataHashId = profilerConfig.isMetaDataHashId();
+        final DefaultTraceContext traceContext = new DefaultTraceContext(jdbcSqlCacheSize, this.agentInformation, storageFactory, sampler, this.serverMetaDataHolder, traceActiveThread, metaDataHashId);
         traceContext.setPriorityDataSender(this.tcpDataSender);
         traceContext.setProfilerConfig(profilerConfig);
 
@@ -324,18 +376,80 @@ public class DefaultAgent implements Agent {
         return pinpointClientFactory;
     }
 
+    private CollectorGroup createCollectorGroup() {
+        final List<String> collectorIpList = this.profilerConfig.getCollectorIpList();
+        if (collectorIpList.isEmpty() || (collectorIpList.size() == 1 && collectorIpList.get(0).trim().isEmpty())) {
+            return null;
+        }
+        final CollectorGroup collectorGroup = CollectorGroup.create(collectorIpList, this.profilerConfig.getCollectorWeightList());
+        logger.info("collector load balancing enabled. {}", collectorGroup);
+
+        this.collectorHealthChecker = new CollectorHealthChecker(collectorGroup, this.profilerConfig.getCollectorSpanServerPort(), this.profilerConfig.getCollectorHealthCheckInterval());
+        this.collectorHealthChecker.start();
+        return collectorGroup;
+    }
+
     protected EnhancedDataSender createTcpDataSender(CommandDispatcher commandDispatcher) {
         this.clientFactory = createPinpointClientFactory(commandDispatcher);
-        this.client = ClientFactoryUtils.createPinpointClient(this.profilerConfig.getCollectorTcpServerIp(), this.profilerConfig.getCollectorTcpServerPort(), clientFactory);
-        return new TcpDataSender(client);
+        if (this.collectorGroup == null) {
+            this.client = ClientFactoryUtils.createPinpointClient(this.profilerConfig.getCollectorTcpServerIp(), this.profilerConfig.getCollectorTcpServerPort(), clientFactory);
+        } else {
+            final CollectorSocketAddressProvider socketAddressProvider = new CollectorSocketAddressProvider(this.collectorGroup, this.profilerConfig.getCollectorTcpServerPort(), this.agentInformation.getAgentId());
+            this.client = ClientFactoryUtils.createPinpointClient(socketAddressProvider, clientFactory);
+        }
+        final SpillJournal spillJournal = createSpillJournal("tcp");
+        return new TcpDataSender(client, spillJournal, this.profilerConfig.getSpillDrainRate(), getCompressionThreshold());
     }
 
     protected DataSender createUdpStatDataSender(int port, String threadName, int writeQueueSize, int timeout, int sendBufferSize) {
-        return new UdpDataSender(this.profilerConfig.getCollectorStatServerIp(), port, threadName, writeQueueSize, timeout, sendBufferSize);
+        final SpillJournal spillJournal = createSpillJournal("stat");
+        if (this.collectorGroup != null) {
+            return new UdpDataSender(this.collectorGroup, port, threadName, writeQueueSize, timeout, sendBufferSize, spillJournal, this.profilerConfig.getSpillDrainRate(), getCompressionThreshold());
+        }
+        return new UdpDataSender(this.profilerConfig.getCollectorStatServerIp(), port, threadName, writeQueueSize, timeout, sendBufferSize, spillJournal, createCollectorReachability(), this.profilerConfig.getSpillDrainRate(), getCompressionThreshold());
     }
     
     protected DataSender createUdpSpanDataSender(int port, String threadName, int writeQueueSize, int timeout, int sendBufferSize) {
-        return new UdpDataSender(this.profilerConfig.getCollectorSpanServerIp(), port, threadName, writeQueueSize, timeout, sendBufferSize);
+        final SpillJournal spillJournal = createSpillJournal("span");
+        if (this.collectorGroup != null) {
+            return new UdpDataSender(this.collectorGroup, port, threadName, writeQueueSize, timeout, sendBufferSize, spillJournal, this.profilerConfig.getSpillDrainRate(), getCompressionThreshold());
+        }
+        return new UdpDataSender(this.profilerConfig.getCollectorSpanServerIp(), port, threadName, writeQueueSize, timeout, sendBufferSize, spillJournal, createCollectorReachability(), this.profilerConfig.getSpillDrainRate(), getCompressionThreshold());
+    }
+
+    // the collector is considered reachable while the tcp client is connected to it
+    private CollectorReachability createCollectorReachability() {
+        final EnhancedDataSender tcpDataSender = this.tcpDataSender;
+        return new CollectorReachability() {
+            @Override
+            public boolean isReachable() {
+                return tcpDataSender.isNetworkAvailable();
+            }
+        };
+    }
+
+    private int getCompressionThreshold() {
+        if (!this.profilerConfig.isDataSenderCompressionEnable()) {
+            return HeaderTBaseSerializerFactory.COMPRESSION_DISABLED;
+        }
+        return this.profilerConfig.getDataSenderCompressionThreshold();
+    }
+
+    private SpillJournal createSpillJournal(String senderName) {
+        if (!this.profilerConfig.isSpillEnable()) {
+            return null;
+        }
+        String spillDirectory = this.profilerConfig.getSpillDirectory();
+        if (spillDirectory == null || spillDirectory.isEmpty()) {
+            spillDirectory = System.getProperty("java.io.tmpdir") + File.separator + "pinpoint-spill";
+        }
+        final File agentDirectory = new File(spillDirectory, this.agentInformation.getAgentId());
+        try {
+            return new SpillJournal(new File(agentDirectory, senderName), this.profilerConfig.getSpillSegmentSize(), this.profilerConfig.getSpillSegmentCount());
+        } catch (IOException e) {
+            logger.warn("{} spill journal create fail. spill disabled. Caused:{}", senderName, e.getMessage(), e);
+            return null;
+        }
     }
 
     protected EnhancedDataSender getTcpDataSender() {
@@ -375,6 +489,12 @@ public class DefaultAgent implements Agent {
         logger.info("Starting {} Agent.", ProductInfo.NAME);
         this.agentInfoSender.start();
         this.agentStatMonitor.start();
+        if (this.activeTraceStackSampler != null) {
+            this.activeTraceStackSampler.start();
+        }
+        if (this.uriStatMonitor != null) {
+            this.uriStatMonitor.start();
+        }
     }
 
     @Override
@@ -391,12 +511,21 @@ public class DefaultAgent implements Agent {
 
         this.agentInfoSender.stop();
         this.agentStatMonitor.stop();
+        if (this.activeTraceStackSampler != null) {
+            this.activeTraceStackSampler.stop();
+        }
+        if (this.uriStatMonitor != null) {
+            this.uriStatMonitor.stop();
+        }
 
         // Need to process stop
         this.spanDataSender.stop();
         this.statDataSender.stop();
 
         closeTcpDataSender();
+        if (this.collectorHealthChecker != null) {
+            this.collectorHealthChecker.stop();
+        }
 
         PLoggerFactory.unregister(this.binder);
         this.interceptorRegistryBinder.unbind();
@@ -127,6 +127,16 @@ public class CallStack {
         return maxDepth;
     }
 
+    /**
+     * @return true if no event has been pushed after the spanEvent. (the spanEvent has no child)
+     */
+    boolean isLeaf(SpanEvent spanEvent) {
+        if (!spanEvent.isSetSequence()) {
+            return false;
+        }
+        return (short) (spanEvent.getSequence() + 1) == sequence;
+    }
+
     boolean isOverflow() {
         return maxDepth != -1 && maxDepth < index;
     }
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.context;
 
 import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
 import com.navercorp.pinpoint.common.util.*;
+import com.navercorp.pinpoint.profiler.metadata.HashIdCache;
 import com.navercorp.pinpoint.profiler.metadata.Result;
 import com.navercorp.pinpoint.profiler.metadata.SimpleCache;
 import org.slf4j.Logger;
@@ -36,7 +37,11 @@ public class DefaultCachingSqlNormalizer implements CachingSqlNormalizer {
     private final SqlParser sqlParser;
 
     public DefaultCachingSqlNormalizer(int cacheSize) {
-        this.sqlCache = new SimpleCache<String>(cacheSize);
+        this(cacheSize, false);
+    }
+
+    public DefaultCachingSqlNormalizer(int cacheSize, boolean hashId) {
+        this.sqlCache = hashId ? new HashIdCache(cacheSize) : new SimpleCache<String>(cacheSize);
         this.sqlParser = new DefaultSqlParser();
     }
 
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import java.util.List;
+
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,8 +29,12 @@ import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.bootstrap.context.TraceType;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.exception.PinpointException;
+import com.navercorp.pinpoint.profiler.context.active.FoldedStackCounter;
 import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import com.navercorp.pinpoint.profiler.monitor.uri.UriStatRecorder;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
 
 /**
  * @author netspider
@@ -56,6 +62,12 @@ public final class DefaultTrace implements Trace {
 
     private Thread bindThread;
 
+    // created by ActiveTraceStackSampler only when this trace runs longer than the sampling threshold
+    private volatile FoldedStackCounter stackSampleCounter;
+
+    // null if profiler.spanevent.aggregation.enable=false
+    private final SpanEventAggregator spanEventAggregator;
+
     public DefaultTrace(final TraceContext traceContext, long transactionId, boolean sampling) {
         if (traceContext == null) {
             throw new NullPointerException("traceContext must not be null");
@@ -69,6 +81,7 @@ public final class DefaultTrace implements Trace {
         this.spanRecorder.recordTraceId(traceId);
         this.spanEventRecorder = new WrappedSpanEventRecorder(traceContext);
         this.callStack = createCallStack(traceContext.getProfilerConfig(), span);
+        this.spanEventAggregator = createSpanEventAggregator(traceContext.getProfilerConfig());
         setCurrentThread();
     }
 
@@ -88,6 +101,7 @@ public final class DefaultTrace implements Trace {
         this.spanRecorder.recordTraceId(traceId);
         this.spanEventRecorder = new WrappedSpanEventRecorder(traceContext);
         this.callStack = createCallStack(traceContext.getProfilerConfig(), span);
+        this.spanEventAggregator = createSpanEventAggregator(traceContext.getProfilerConfig());
         setCurrentThread();
     }
 
@@ -100,6 +114,13 @@ public final class DefaultTrace implements Trace {
         }
     }
 
+    private SpanEventAggregator createSpanEventAggregator(ProfilerConfig profilerConfig) {
+        if (profilerConfig != null && profilerConfig.isSpanEventAggregationEnable()) {
+            return new SpanEventAggregator();
+        }
+        return null;
+    }
+
     private Span createSpan() {
         Span span = new Span();
         span.setAgentId(traceContext.getAgentId());
@@ -180,7 +201,31 @@ public final class DefaultTrace implements Trace {
         if (spanEvent.isTimeRecording()) {
             spanEvent.markAfterTime();
         }
-        logSpan(spanEvent);
+        if (spanEventAggregator != null) {
+            logAggregatedSpan(spanEvent, callStack.isLeaf(spanEvent));
+        } else {
+            logSpan(spanEvent);
+        }
+    }
+
+    private void logAggregatedSpan(SpanEvent spanEvent, boolean leaf) {
+        if (spanEventAggregator.merge(spanEvent, leaf)) {
+            return;
+        }
+        flushAggregatedSpan();
+        if (!spanEventAggregator.hold(spanEvent, leaf)) {
+            logSpan(spanEvent);
+        }
+    }
+
+    private void flushAggregatedSpan() {
+        if (spanEventAggregator == null) {
+            return;
+        }
+        final SpanEvent aggregated = spanEventAggregator.flush();
+        if (aggregated != null) {
+            logSpan(aggregated);
+        }
     }
 
     @Override
@@ -191,6 +236,7 @@ public final class DefaultTrace implements Trace {
         }
         closed = true;
 
+        flushAggregatedSpan();
         if (!callStack.empty()) {
             if (isWarn) {
                 PinpointException exception = new PinpointException("not empty call stack.");
@@ -202,6 +248,8 @@ public final class DefaultTrace implements Trace {
             if (span.isTimeRecording()) {
                 span.markAfterTime();
             }
+            recordStackSample();
+            recordUriStat(span);
             logSpan(span);
         }
 
@@ -254,6 +302,46 @@ public final class DefaultTrace implements Trace {
         return this.sampling;
     }
 
+    public FoldedStackCounter getStackSampleCounter() {
+        return stackSampleCounter;
+    }
+
+    public void setStackSampleCounter(FoldedStackCounter stackSampleCounter) {
+        this.stackSampleCounter = stackSampleCounter;
+    }
+
+    private void recordUriStat(Span span) {
+        if (!(traceContext instanceof DefaultTraceContext)) {
+            return;
+        }
+        final UriStatRecorder uriStatRecorder = ((DefaultTraceContext) traceContext).getUriStatRecorder();
+        if (uriStatRecorder != null) {
+            final int status = UriStatRecorder.toStatus(getHttpStatusCode(span), span.getErr() != 0);
+            uriStatRecorder.record(span.getRpc(), span.getApiId(), status, span.getElapsed());
+        }
+    }
+
+    private int getHttpStatusCode(Span span) {
+        final List<TAnnotation> annotations = span.getAnnotations();
+        if (annotations == null) {
+            return 0;
+        }
+        for (TAnnotation annotation : annotations) {
+            if (annotation.getKey() == AnnotationKey.HTTP_STATUS_CODE.getCode() && annotation.isSetValue() && annotation.getValue().isSetIntValue()) {
+                return annotation.getValue().getIntValue();
+            }
+        }
+        return 0;
+    }
+
+    private void recordStackSample() {
+        final FoldedStackCounter copy = this.stackSampleCounter;
+        if (copy == null || copy.getSampleCount() == 0) {
+            return;
+        }
+        spanRecorder.recordAttribute(AnnotationKey.SAMPLED_STACK, copy.toFoldedString());
+    }
+
     public boolean isRoot() {
         return getTraceId().isRoot();
     }
@@ -37,9 +37,11 @@ import com.navercorp.pinpoint.profiler.context.active.ActiveTraceFactory;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceLocator;
 import com.navercorp.pinpoint.profiler.context.storage.LogStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
+import com.navercorp.pinpoint.profiler.metadata.HashIdCache;
 import com.navercorp.pinpoint.profiler.metadata.LRUCache;
 import com.navercorp.pinpoint.profiler.metadata.Result;
 import com.navercorp.pinpoint.profiler.metadata.SimpleCache;
+import com.navercorp.pinpoint.profiler.monitor.uri.UriStatRecorder;
 import com.navercorp.pinpoint.profiler.sampler.TrueSampler;
 import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
 import com.navercorp.pinpoint.profiler.util.RuntimeMXBeanUtils;
@@ -67,14 +69,19 @@ public class DefaultTraceContext implements TraceContext {
 
     private final CachingSqlNormalizer cachingSqlNormalizer;
 
-    private final SimpleCache<String> apiCache = new SimpleCache<String>();
-    private final SimpleCache<String> stringCache = new SimpleCache<String>();
+    // content hash ids for sql/api/string metadata
+    private final boolean metaDataHashId;
+    private final SimpleCache<String> apiCache;
+    private final SimpleCache<String> stringCache;
 
     private ProfilerConfig profilerConfig;
     
     private final ServerMetaDataHolder serverMetaDataHolder;
     
     private final AtomicInteger asyncId = new AtomicInteger();
+
+    // null if profiler.uristat.enable=false
+    private volatile UriStatRecorder uriStatRecorder;
     
     // for test
     public DefaultTraceContext(final AgentInformation agentInformation) {
@@ -82,6 +89,10 @@ public class DefaultTraceContext implements TraceContext {
     }
 
     public DefaultTraceContext(final int sqlCacheSize, final AgentInformation agentInformation, StorageFactory storageFactory, Sampler sampler, ServerMetaDataHolder serverMetaDataHolder, final boolean traceActiveThread) {
+        this(sqlCacheSize, agentInformation, storageFactory, sampler, serverMetaDataHolder, traceActiveThread, false);
+    }
+
+    public DefaultTraceContext(final int sqlCacheSize, final AgentInformation agentInformation, StorageFactory storageFactory, Sampler sampler, ServerMetaDataHolder serverMetaDataHolder, final boolean traceActiveThread, final boolean metaDataHashId) {
         if (agentInformation == null) {
             throw new NullPointerException("agentInformation must not be null");
         }
@@ -93,7 +104,15 @@ public class DefaultTraceContext implements TraceContext {
         }
         this.agentInformation = agentInformation;
 
-        this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer(sqlCacheSize);
+        this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer(sqlCacheSize, metaDataHashId);
+        this.metaDataHashId = metaDataHashId;
+        if (metaDataHashId) {
+            this.apiCache = new HashIdCache();
+            this.stringCache = new HashIdCache();
+        } else {
+            this.apiCache = new SimpleCache<String>();
+            this.stringCache = new SimpleCache<String>();
+        }
 
         this.traceFactory = createTraceFactory(storageFactory, sampler, traceActiveThread);
 
@@ -138,6 +157,23 @@ public class DefaultTraceContext implements TraceContext {
         return traceFactory.disableSampling();
     }
 
+    @Override
+    public void recordUriStat(String uri, int httpStatusCode, boolean error, long startTime) {
+        final UriStatRecorder copy = this.uriStatRecorder;
+        if (copy != null) {
+            // no span, so no apiId. unsampled transactions without a uri are not recorded
+            copy.record(uri, 0, UriStatRecorder.toStatus(httpStatusCode, error), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    public void setUriStatRecorder(UriStatRecorder uriStatRecorder) {
+        this.uriStatRecorder = uriStatRecorder;
+    }
+
+    public UriStatRecorder getUriStatRecorder() {
+        return uriStatRecorder;
+    }
+
     public void setProfilerConfig(final ProfilerConfig profilerConfig) {
         if (profilerConfig == null) {
             throw new NullPointerException("profilerConfig must not be null");
@@ -210,8 +246,9 @@ public class DefaultTraceContext implements TraceContext {
 
     @Override
     public int cacheApi(final MethodDescriptor methodDescriptor) {
-        final String fullName = methodDescriptor.getFullName();
-        final Result result = this.apiCache.put(fullName);
+        // the collector verifies a hash id against the sent apiInfo, so hash the api descriptor itself
+        final String cacheKey = metaDataHashId ? methodDescriptor.getApiDescriptor() : methodDescriptor.getFullName();
+        final Result result = this.apiCache.put(cacheKey);
         
         methodDescriptor.setApiId(result.getId());
 
@@ -19,20 +19,79 @@ package com.navercorp.pinpoint.profiler.context;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Each thread reserves a block of ids from the shared counters and hands them out without touching the shared cache line again.
+ * ids stay unique within the agent, and the ids skipped by idle or dead threads are at most blockSize - 1 per thread,
+ * so transaction sequences stay small enough for the varint encoding of TransactionId.
+ * ids are not ordered across threads.
+ *
  * @author emeroad
  */
 public class IdGenerator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 16;
+
     // Unique id for tracing a internal stacktrace and calculating a slow time of activethreadcount
     // moved here in order to make codes simpler for now
     private final AtomicLong transactionId = new AtomicLong(0);
     // -1 is DEFAULT_DISABLE_ID
     private final AtomicLong disableId = new AtomicLong(-1000);
 
+    private final int blockSize;
+
+    private final ThreadLocal<IdBlock> transactionIdBlock = new ThreadLocal<IdBlock>() {
+        @Override
+        protected IdBlock initialValue() {
+            return new IdBlock(transactionId, 1);
+        }
+    };
+
+    private final ThreadLocal<IdBlock> disableIdBlock = new ThreadLocal<IdBlock>() {
+        @Override
+        protected IdBlock initialValue() {
+            return new IdBlock(disableId, -1);
+        }
+    };
+
+    public IdGenerator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public IdGenerator(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive:" + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
     public long nextTransactionId() {
-        return this.transactionId.getAndIncrement();
+        return this.transactionIdBlock.get().next(blockSize);
     }
 
     public long nextDisableId() {
-        return this.disableId.getAndDecrement();
+        return this.disableIdBlock.get().next(blockSize);
+    }
+
+    private static class IdBlock {
+        private final AtomicLong counter;
+        private final int step;
+
+        private long nextId;
+        private int remaining;
+
+        private IdBlock(AtomicLong counter, int step) {
+            this.counter = counter;
+            this.step = step;
+        }
+
+        private long next(int blockSize) {
+            if (remaining == 0) {
+                nextId = counter.getAndAdd((long) step * blockSize);
+                remaining = blockSize;
+            }
+            remaining--;
+            final long id = nextId;
+            nextId += step;
+            return id;
+        }
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context;
+
+import java.util.List;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
+
+/**
+ * Collapses consecutive sibling span events of the same call into the first one.
+ * Only events without children, remote span or async link are collapsed.
+ * The first event keeps its annotations and is extended to the end of the last event.
+ * count, total/min/max elapsed and error count are recorded as {@link AnnotationKey#AGGREGATED_CALL} for display,
+ * and the count alone as {@link AnnotationKey#AGGREGATED_CALL_COUNT} for the call tree.
+ * <p>
+ * not thread safe. used by the thread bound to the trace.
+ *
+ * @author agent
+ */
+public class SpanEventAggregator {
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private SpanEvent pending;
+    private short lastSequence;
+    private int count;
+    private long totalElapsed;
+    private int minElapsed;
+    private int maxElapsed;
+    private int errorCount;
+
+    /**
+     * @return true if the spanEvent is collapsed into the pending event and must not be stored.
+     */
+    public boolean merge(SpanEvent spanEvent, boolean leaf) {
+        if (spanEvent == null) {
+            throw new NullPointerException("spanEvent must not be null");
+        }
+        if (pending == null || !leaf) {
+            return false;
+        }
+        if ((short) (lastSequence + 1) != spanEvent.getSequence()) {
+            return false;
+        }
+        if (!isAggregatable(spanEvent) || !isSameCall(pending, spanEvent)) {
+            return false;
+        }
+
+        final int elapsed = spanEvent.getEndElapsed();
+        this.lastSequence = spanEvent.getSequence();
+        this.count++;
+        this.totalElapsed += elapsed;
+        this.minElapsed = Math.min(minElapsed, elapsed);
+        this.maxElapsed = Math.max(maxElapsed, elapsed);
+        if (spanEvent.isSetExceptionInfo()) {
+            this.errorCount++;
+            if (!pending.isSetExceptionInfo()) {
+                pending.setExceptionInfo(spanEvent.getExceptionInfo());
+            }
+        }
+        if (pending.isTimeRecording()) {
+            final long endElapsed = spanEvent.getAfterTime() - pending.getStartTime();
+            pending.setEndElapsed((int) endElapsed);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the spanEvent is kept as the pending event. the spanEvent is stored by {@link #flush()}.
+     */
+    public boolean hold(SpanEvent spanEvent, boolean leaf) {
+        if (spanEvent == null) {
+            throw new NullPointerException("spanEvent must not be null");
+        }
+        if (pending != null) {
+            throw new IllegalStateException("pending event exists");
+        }
+        if (!leaf || !isAggregatable(spanEvent)) {
+            return false;
+        }
+        final int elapsed = spanEvent.getEndElapsed();
+        this.pending = spanEvent;
+        this.lastSequence = spanEvent.getSequence();
+        this.count = 1;
+        this.totalElapsed = elapsed;
+        this.minElapsed = elapsed;
+        this.maxElapsed = elapsed;
+        this.errorCount = spanEvent.isSetExceptionInfo() ? 1 : 0;
+        return true;
+    }
+
+    /**
+     * @return the pending event to store, or null
+     */
+    public SpanEvent flush() {
+        final SpanEvent spanEvent = this.pending;
+        if (spanEvent == null) {
+            return null;
+        }
+        if (count > 1) {
+            spanEvent.addAnnotation(new Annotation(AnnotationKey.AGGREGATED_CALL.getCode(), toAggregatedString()));
+            spanEvent.addAnnotation(new Annotation(AnnotationKey.AGGREGATED_CALL_COUNT.getCode(), count));
+        }
+        this.pending = null;
+        return spanEvent;
+    }
+
+    public int getCount() {
+        if (pending == null) {
+            return 0;
+        }
+        return count;
+    }
+
+    private String toAggregatedString() {
+        final StringBuilder sb = new StringBuilder(64);
+        sb.append("count=").append(count);
+        sb.append(" total=").append(totalElapsed).append("ms");
+        sb.append(" min=").append(minElapsed).append("ms");
+        sb.append(" max=").append(maxElapsed).append("ms");
+        sb.append(" error=").append(errorCount);
+        return sb.toString();
+    }
+
+    private boolean isAggregatable(SpanEvent spanEvent) {
+        if (!spanEvent.isSetSequence() || !spanEvent.isSetApiId()) {
+            return false;
+        }
+        // linked to a remote span or an async call
+        if (spanEvent.isSetNextSpanId() || spanEvent.isSetNextAsyncId()) {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isSameCall(SpanEvent pending, SpanEvent spanEvent) {
+        if (pending.getApiId() != spanEvent.getApiId()) {
+            return false;
+        }
+        if (pending.getServiceType() != spanEvent.getServiceType()) {
+            return false;
+        }
+        if (pending.isTimeRecording() != spanEvent.isTimeRecording()) {
+            return false;
+        }
+        if (!equals(pending.getDestinationId(), spanEvent.getDestinationId())) {
+            return false;
+        }
+        if (!equals(pending.getRpc(), spanEvent.getRpc())) {
+            return false;
+        }
+        // the same jdbc api executes different sql
+        return getSqlId(pending) == getSqlId(spanEvent);
+    }
+
+    private static boolean equals(String value1, String value2) {
+        if (value1 == null) {
+            return value2 == null;
+        }
+        return value1.equals(value2);
+    }
+
+    private static int getSqlId(SpanEvent spanEvent) {
+        final List<TAnnotation> annotations = spanEvent.getAnnotations();
+        if (annotations == null) {
+            return NONE;
+        }
+        for (TAnnotation annotation : annotations) {
+            if (annotation.getKey() != AnnotationKey.SQL_ID.getCode()) {
+                continue;
+            }
+            final TAnnotationValue value = annotation.getValue();
+            if (value != null && value.isSetIntStringStringValue()) {
+                return value.getIntStringStringValue().getIntValue();
+            }
+        }
+        return NONE;
+    }
+}
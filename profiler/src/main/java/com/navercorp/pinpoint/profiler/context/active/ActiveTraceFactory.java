@@ -32,6 +32,14 @@ public class ActiveTraceFactory implements TraceFactory, TraceFactoryWrapper {
     private final TraceFactory delegate;
     private final ActiveTraceRepository activeTraceRepository = new ActiveTraceRepository();
 
+    // a thread binds at most one trace at a time. remember its slot so that detach does not need a lookup
+    private final ThreadLocal<ActiveSlot> activeSlot = new ThreadLocal<ActiveSlot>() {
+        @Override
+        protected ActiveSlot initialValue() {
+            return new ActiveSlot();
+        }
+    };
+
     private ActiveTraceFactory(TraceFactory delegate) {
         if (delegate == null) {
             throw new NullPointerException("delegate must not be null");
@@ -124,21 +132,37 @@ public class ActiveTraceFactory implements TraceFactory, TraceFactoryWrapper {
             return;
         }
 
-        final long traceObjectId = trace.getId();
-        this.activeTraceRepository.put(traceObjectId, trace);
-
+        final ActiveSlot activeSlot = this.activeSlot.get();
+        if (activeSlot.trace != null) {
+            // previous trace of this thread was never removed
+            this.activeTraceRepository.release(activeSlot.slot, activeSlot.trace);
+        }
+        final int slot = this.activeTraceRepository.register(trace);
+        activeSlot.slot = slot;
+        activeSlot.trace = (slot == ActiveTraceRepository.INVALID_SLOT) ? null : trace;
     }
 
     private void detachTrace(Trace trace) {
         if (trace == null) {
             return;
         }
-        final long traceObjectId = trace.getId();
-        this.activeTraceRepository.remove(traceObjectId);
+        final ActiveSlot activeSlot = this.activeSlot.get();
+        if (activeSlot.trace == null) {
+            return;
+        }
+        this.activeTraceRepository.release(activeSlot.slot, activeSlot.trace);
+        activeSlot.slot = ActiveTraceRepository.INVALID_SLOT;
+        activeSlot.trace = null;
     }
 
     public ActiveTraceLocator getActiveTraceLocator() {
         return activeTraceRepository;
     }
 
+    private static class ActiveSlot {
+        private int slot = ActiveTraceRepository.INVALID_SLOT;
+        // the trace is checked on release, as the slot may have been reclaimed and reused
+        private Trace trace;
+    }
+
 }
@@ -19,6 +19,8 @@
 
 package com.navercorp.pinpoint.profiler.context.active;
 
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+
 import java.util.List;
 
 /**
@@ -28,4 +30,12 @@ public interface ActiveTraceLocator {
 
     List<ActiveTraceInfo> collect();
 
+    int getActiveTraceCount();
+
+    /**
+     * counts started active traces per {@link com.navercorp.pinpoint.common.trace.SlotType} without creating {@link ActiveTraceInfo}.
+     * @return count indexed by SlotType.ordinal()
+     */
+    int[] countBySlotType(HistogramSchema histogramSchema, long currentTime);
+
 }
@@ -16,60 +16,349 @@
 
 package com.navercorp.pinpoint.profiler.context.active;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSlot;
+import com.navercorp.pinpoint.common.trace.SlotType;
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.ThreadInfo;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * Preallocated slot table of active traces.
+ * The table is split into stripes of slots. A thread registers in the stripe picked by its thread id,
+ * and each stripe has its own free list and active count on a separate cache line, so threads rarely touch the same line.
+ * A stripe that is full borrows a slot from the next stripes.
+ * There is no lock, no map entry and no weak reference per transaction.
+ * Traces which are never released(bound thread is dead, or running longer than maxTraceAge) are reclaimed when the table is full.
+ * Started traces are also counted by start time in a ring of 10ms buckets, so countBySlotType() reads the buckets instead of the slot table.
+ *
  * @author Taejin Koo
+ * @author emeroad
  */
 public class ActiveTraceRepository implements ActiveTraceLocator {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    public static final int INVALID_SLOT = -1;
+
     // memory leak defense threshold
     private static final int DEFAULT_MAX_ACTIVE_TRACE_SIZE = 1024 * 10;
-    // oom safe cache
-    private final ConcurrentMap<Long, Trace> activeTraceInfoMap;
+    // a trace running this long is considered leaked once the table is full
+    private static final long DEFAULT_MAX_TRACE_AGE = 60 * 60 * 1000;
+    private static final long RECLAIM_INTERVAL_MILLIS = 1000;
+
+    private static final int MAX_STRIPE_COUNT = 16;
+
+    // the state of a stripe takes a 64 byte line of its own
+    private static final int STRIPE_STATE_STRIDE = 8;
+    // high 32bit : stamp for ABA, low 32bit : top slot + 1. treiber stack of released slots
+    private static final int FREE_HEAD = 0;
+    // slots of the stripe never used yet are handed out by bumping this. also the upper bound of a scan
+    private static final int ALLOCATED = 1;
+    private static final int ACTIVE_COUNT = 2;
+    // traces registered with a start time. the ones not in a start time bucket any more are very slow
+    private static final int STARTED_COUNT = 3;
+
+    // the ring covers 5120ms, longer than the slow slot of every HistogramSchema
+    private static final int START_TIME_BUCKET_MILLIS = 10;
+    private static final int START_TIME_BUCKET_SIZE = 512;
+
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private final int stripeCount;
+    private final int stripeSize;
+    private final long maxTraceAge;
+
+    private final AtomicReferenceArray<Trace> slots;
+    // nextFree[slot] is the slot below it in the free list of its stripe (+1, 0 means bottom)
+    private final AtomicIntegerArray nextFree;
+    private final AtomicLongArray stripeState;
+    // high 32bit : start time / START_TIME_BUCKET_MILLIS, low 32bit : number of active traces started in it
+    private final AtomicLongArray startTimeBuckets = new AtomicLongArray(START_TIME_BUCKET_SIZE);
+    // start time bucket of the trace in the slot. 0 if the trace was not started
+    private final AtomicLongArray slotStartTimeBucket;
+
+    private final AtomicInteger overflowCount = new AtomicInteger(0);
+    private final AtomicLong lastReclaimTime = new AtomicLong(0);
+    private final AtomicLong reclaimCount = new AtomicLong(0);
+    // collectSlowTrace starts at a different stripe each round so that a full buffer does not always favour the first stripes
+    private final AtomicInteger slowTraceStartStripe = new AtomicInteger(0);
 
     public ActiveTraceRepository() {
         this(DEFAULT_MAX_ACTIVE_TRACE_SIZE);
     }
+
     public ActiveTraceRepository(int maxActiveTraceSize) {
-        this.activeTraceInfoMap = createCache(maxActiveTraceSize);
+        this(maxActiveTraceSize, DEFAULT_MAX_TRACE_AGE);
+    }
+
+    public ActiveTraceRepository(int maxActiveTraceSize, long maxTraceAge) {
+        if (maxActiveTraceSize <= 0) {
+            throw new IllegalArgumentException("maxActiveTraceSize must be positive. maxActiveTraceSize:" + maxActiveTraceSize);
+        }
+        if (maxTraceAge <= 0) {
+            throw new IllegalArgumentException("maxTraceAge must be positive. maxTraceAge:" + maxTraceAge);
+        }
+        // power of two, at most one stripe per slot
+        this.stripeCount = Math.min(MAX_STRIPE_COUNT, Integer.highestOneBit(maxActiveTraceSize));
+        this.stripeSize = (maxActiveTraceSize + stripeCount - 1) / stripeCount;
+        this.maxTraceAge = maxTraceAge;
+
+        final int slotSize = stripeCount * stripeSize;
+        this.slots = new AtomicReferenceArray<Trace>(slotSize);
+        this.nextFree = new AtomicIntegerArray(slotSize);
+        this.slotStartTimeBucket = new AtomicLongArray(slotSize);
+        // one more line in front so that the first stripe does not share the line of the array header
+        this.stripeState = new AtomicLongArray((stripeCount + 1) * STRIPE_STATE_STRIDE);
+    }
+
+    private int stateIndex(int stripe, int field) {
+        return (stripe + 1) * STRIPE_STATE_STRIDE + field;
+    }
+
+    /**
+     * @return slot of the trace. {@link #INVALID_SLOT} if the repository is full
+     */
+    public int register(Trace trace) {
+        if (trace == null) {
+            throw new NullPointerException("trace must not be null");
+        }
+        final int homeStripe = (int) (Thread.currentThread().getId() & (stripeCount - 1));
+        int slot = allocateSlot(homeStripe);
+        if (slot == INVALID_SLOT && tryReclaim()) {
+            slot = allocateSlot(homeStripe);
+        }
+        if (slot == INVALID_SLOT) {
+            final int overflow = overflowCount.incrementAndGet();
+            if ((overflow % 1000) == 1) {
+                logger.info("active trace repository is full. maxActiveTraceSize:{}, overflow:{}", slots.length(), overflow);
+            }
+            return INVALID_SLOT;
+        }
+        final int stripe = slot / stripeSize;
+        final long startTime = trace.getStartTime();
+        // not started
+        if (startTime > 0) {
+            final long startTimeBucket = startTime / START_TIME_BUCKET_MILLIS;
+            this.slotStartTimeBucket.set(slot, startTimeBucket);
+            incrementStartTimeBucket(startTimeBucket);
+            this.stripeState.incrementAndGet(stateIndex(stripe, STARTED_COUNT));
+        } else {
+            this.slotStartTimeBucket.set(slot, 0);
+        }
+        this.slots.set(slot, trace);
+        this.stripeState.incrementAndGet(stateIndex(stripe, ACTIVE_COUNT));
+        return slot;
+    }
+
+    private void incrementStartTimeBucket(long startTimeBucket) {
+        final int index = (int) (startTimeBucket & (START_TIME_BUCKET_SIZE - 1));
+        final int epoch = (int) startTimeBucket;
+        while (true) {
+            final long bucket = startTimeBuckets.get(index);
+            final int bucketEpoch = (int) (bucket >>> 32);
+            final long newBucket;
+            if (bucketEpoch == epoch) {
+                newBucket = bucket + 1;
+            } else if (epoch - bucketEpoch > 0) {
+                // the traces left in the bucket are older than the ring. they stay counted by STARTED_COUNT only
+                newBucket = ((long) epoch << 32) | 1;
+            } else {
+                // the trace is older than the ring already
+                return;
+            }
+            if (startTimeBuckets.compareAndSet(index, bucket, newBucket)) {
+                return;
+            }
+        }
+    }
+
+    private void decrementStartTimeBucket(long startTimeBucket) {
+        final int index = (int) (startTimeBucket & (START_TIME_BUCKET_SIZE - 1));
+        final int epoch = (int) startTimeBucket;
+        while (true) {
+            final long bucket = startTimeBuckets.get(index);
+            if ((int) (bucket >>> 32) != epoch || (bucket & INDEX_MASK) == 0) {
+                // the bucket was taken over by a newer start time
+                return;
+            }
+            if (startTimeBuckets.compareAndSet(index, bucket, bucket - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * releases the slot only if it still holds the trace. the slot may have been reclaimed and reused by another trace.
+     */
+    public void release(int slot, Trace trace) {
+        if (slot < 0 || slot >= slots.length()) {
+            return;
+        }
+        if (trace == null) {
+            return;
+        }
+        if (!this.slots.compareAndSet(slot, trace, null)) {
+            // already released or reclaimed
+            return;
+        }
+        freeSlot(slot);
+    }
+
+    private int allocateSlot(int homeStripe) {
+        for (int i = 0; i < stripeCount; i++) {
+            final int stripe = (homeStripe + i) & (stripeCount - 1);
+            final int slot = allocateSlotInStripe(stripe);
+            if (slot != INVALID_SLOT) {
+                return slot;
+            }
+        }
+        return INVALID_SLOT;
+    }
+
+    private int allocateSlotInStripe(int stripe) {
+        final int freeHeadIndex = stateIndex(stripe, FREE_HEAD);
+        while (true) {
+            final long head = stripeState.get(freeHeadIndex);
+            final int top = (int) (head & INDEX_MASK);
+            if (top == 0) {
+                break;
+            }
+            final int slot = top - 1;
+            final long newHead = nextStamp(head) | (nextFree.get(slot) & INDEX_MASK);
+            if (stripeState.compareAndSet(freeHeadIndex, head, newHead)) {
+                return slot;
+            }
+        }
+        // free list is empty
+        final int allocatedIndex = stateIndex(stripe, ALLOCATED);
+        while (true) {
+            final long allocated = stripeState.get(allocatedIndex);
+            if (allocated >= stripeSize) {
+                return INVALID_SLOT;
+            }
+            if (stripeState.compareAndSet(allocatedIndex, allocated, allocated + 1)) {
+                return stripe * stripeSize + (int) allocated;
+            }
+        }
     }
 
-    private ConcurrentMap<Long, Trace> createCache(int maxActiveTraceSize) {
-        final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
-        cacheBuilder.concurrencyLevel(64);
-        cacheBuilder.initialCapacity(maxActiveTraceSize);
-        cacheBuilder.maximumSize(maxActiveTraceSize);
-        // OOM defense
-        cacheBuilder.weakValues();
+    // the slot was cleared by the caller
+    private void freeSlot(int slot) {
+        final int stripe = slot / stripeSize;
+        final long startTimeBucket = slotStartTimeBucket.get(slot);
+        if (startTimeBucket != 0) {
+            decrementStartTimeBucket(startTimeBucket);
+            this.stripeState.decrementAndGet(stateIndex(stripe, STARTED_COUNT));
+        }
+        this.stripeState.decrementAndGet(stateIndex(stripe, ACTIVE_COUNT));
 
-        final Cache<Long, Trace> localCache = cacheBuilder.build();
-        return localCache.asMap();
+        final int freeHeadIndex = stateIndex(stripe, FREE_HEAD);
+        while (true) {
+            final long head = stripeState.get(freeHeadIndex);
+            nextFree.set(slot, (int) (head & INDEX_MASK));
+            final long newHead = nextStamp(head) | (slot + 1);
+            if (stripeState.compareAndSet(freeHeadIndex, head, newHead)) {
+                return;
+            }
+        }
+    }
+
+    private long nextStamp(long head) {
+        return ((head >>> 32) + 1) << 32;
+    }
+
+    private boolean tryReclaim() {
+        final long currentTime = System.currentTimeMillis();
+        final long lastTime = lastReclaimTime.get();
+        if (currentTime - lastTime < RECLAIM_INTERVAL_MILLIS) {
+            return false;
+        }
+        // one thread scans at a time
+        if (!lastReclaimTime.compareAndSet(lastTime, currentTime)) {
+            return false;
+        }
+        return reclaim(currentTime) > 0;
     }
 
-    public void put(Long key, Trace trace) {
-        this.activeTraceInfoMap.put(key, trace);
+    /**
+     * releases the traces which are never going to be released by their thread.
+     * @return number of reclaimed slots
+     */
+    int reclaim(long currentTime) {
+        int reclaimed = 0;
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            final int start = stripe * stripeSize;
+            final int end = start + (int) stripeState.get(stateIndex(stripe, ALLOCATED));
+            for (int i = start; i < end; i++) {
+                final Trace trace = slots.get(i);
+                if (trace == null || !isStale(trace, currentTime)) {
+                    continue;
+                }
+                if (slots.compareAndSet(i, trace, null)) {
+                    freeSlot(i);
+                    reclaimed++;
+                }
+            }
+        }
+        if (reclaimed > 0) {
+            final long total = reclaimCount.addAndGet(reclaimed);
+            logger.info("reclaimed leaked active traces. reclaimed:{}, total:{}", reclaimed, total);
+        }
+        return reclaimed;
+    }
+
+    private boolean isStale(Trace trace, long currentTime) {
+        final Thread bindThread = trace.getBindThread();
+        if (bindThread != null && !bindThread.isAlive()) {
+            return true;
+        }
+        final long startTime = trace.getStartTime();
+        return startTime > 0 && currentTime - startTime >= maxTraceAge;
+    }
+
+    private int findSlot(Long key) {
+        if (key == null) {
+            return INVALID_SLOT;
+        }
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            final int start = stripe * stripeSize;
+            final int end = scanEnd(stripe);
+            for (int i = start; i < end; i++) {
+                final Trace trace = slots.get(i);
+                if (trace != null && trace.getId() == key) {
+                    return i;
+                }
+            }
+        }
+        return INVALID_SLOT;
+    }
+
+    private int scanEnd(int stripe) {
+        return stripe * stripeSize + (int) stripeState.get(stateIndex(stripe, ALLOCATED));
     }
 
     private Trace get(Long key) {
-        return this.activeTraceInfoMap.get(key);
+        final int slot = findSlot(key);
+        if (slot == INVALID_SLOT) {
+            return null;
+        }
+        return slots.get(slot);
     }
 
 
     // @ThreadSafe
-    public Object getStackTrace(Long key) {
+    public StackTraceElement[] getStackTrace(Long key) {
         final Trace trace = get(key);
         if (trace == null) {
             return null;
@@ -79,31 +368,114 @@ public class ActiveTraceRepository implements ActiveTraceLocator {
         if (bindThread == null) {
             return null;
         }
-        // TODO sudo code
-        StackTraceElement[] stackTrace = bindThread.getStackTrace();
-        logger.info("stackTrace:{}", Arrays.toString(stackTrace));
+        final ThreadInfo threadInfo = ThreadMXBeanUtils.findThread(bindThread);
+        if (threadInfo == null) {
+            // thread is dead
+            return null;
+        }
+        return threadInfo.getStackTrace();
+    }
+
+    /**
+     * @return number of traces running for threshold or longer, filled from the start of buffer
+     */
+    // @ThreadSafe
+    int collectSlowTrace(long currentTime, long threshold, Trace[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        int count = 0;
+        final int startStripe = slowTraceStartStripe.getAndIncrement() & (stripeCount - 1);
+        for (int n = 0; n < stripeCount && count < buffer.length; n++) {
+            final int stripe = (startStripe + n) & (stripeCount - 1);
+            final int start = stripe * stripeSize;
+            final int end = scanEnd(stripe);
+            for (int i = start; i < end && count < buffer.length; i++) {
+                final Trace trace = slots.get(i);
+                if (trace == null) {
+                    continue;
+                }
+                final long startTime = trace.getStartTime();
+                // not started
+                if (startTime > 0 && currentTime - startTime >= threshold) {
+                    buffer[count++] = trace;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int getActiveTraceCount() {
+        long count = 0;
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            count += stripeState.get(stateIndex(stripe, ACTIVE_COUNT));
+        }
+        // the sum of stripes read at different times can be negative for a moment
+        return (int) Math.max(0, count);
+    }
 
-//      copy TraceCallStack data
-//        CallStack callStack = trace.copyCallStack();
-        return null;
+    public long getReclaimCount() {
+        return reclaimCount.get();
     }
 
-    public Trace remove(Long key) {
-        return this.activeTraceInfoMap.remove(key);
+    /**
+     * reads the start time buckets. the elapsed time of a trace is measured from the start of its bucket, so it is at most 10ms longer.
+     */
+    // @ThreadSafe
+    @Override
+    public int[] countBySlotType(HistogramSchema histogramSchema, long currentTime) {
+        if (histogramSchema == null) {
+            throw new NullPointerException("histogramSchema must not be null");
+        }
+        final int[] slotTypeCount = new int[SlotType.values().length];
+        final long currentBucket = currentTime / START_TIME_BUCKET_MILLIS;
+        long bucketCount = 0;
+        for (int i = 0; i < START_TIME_BUCKET_SIZE; i++) {
+            final long bucket = startTimeBuckets.get(i);
+            final int count = (int) (bucket & INDEX_MASK);
+            if (count == 0) {
+                continue;
+            }
+            final int age = (int) currentBucket - (int) (bucket >>> 32);
+            if (age >= START_TIME_BUCKET_SIZE) {
+                // counted as very slow below
+                continue;
+            }
+            final long elapsedTime = age <= 0 ? 0 : currentTime - (currentBucket - age) * START_TIME_BUCKET_MILLIS;
+            final HistogramSlot histogramSlot = histogramSchema.findHistogramSlot((int) elapsedTime);
+            slotTypeCount[histogramSlot.getSlotType().ordinal()] += count;
+            bucketCount += count;
+        }
+        long startedCount = 0;
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            startedCount += stripeState.get(stateIndex(stripe, STARTED_COUNT));
+        }
+        // the counters are read at different times and can disagree for a moment
+        final long olderThanBuckets = Math.max(0, startedCount - bucketCount);
+        slotTypeCount[SlotType.VERY_SLOW.ordinal()] += (int) olderThanBuckets;
+        return slotTypeCount;
     }
 
     // @ThreadSafe
     @Override
     public List<ActiveTraceInfo> collect() {
-        List<ActiveTraceInfo> collectData = new ArrayList<ActiveTraceInfo>();
-        final Collection<Trace> copied = this.activeTraceInfoMap.values();
-        for (Trace trace : copied) {
-            final long startTime = trace.getStartTime();
-            // not started
-            if (startTime > 0) {
-                // clear Trace reference
-                ActiveTraceInfo activeTraceInfo = new ActiveTraceInfo(trace.getId(), startTime, trace.getBindThread());
-                collectData.add(activeTraceInfo);
+        final List<ActiveTraceInfo> collectData = new ArrayList<ActiveTraceInfo>(getActiveTraceCount() + 16);
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            final int start = stripe * stripeSize;
+            final int end = scanEnd(stripe);
+            for (int i = start; i < end; i++) {
+                final Trace trace = slots.get(i);
+                if (trace == null) {
+                    continue;
+                }
+                final long startTime = trace.getStartTime();
+                // not started
+                if (startTime > 0) {
+                    // clear Trace reference
+                    ActiveTraceInfo activeTraceInfo = new ActiveTraceInfo(trace.getId(), startTime, trace.getBindThread());
+                    collectData.add(activeTraceInfo);
+                }
             }
         }
         return collectData;
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+
+/**
+ * Periodically samples the stacks of threads bound to transactions running longer than a threshold.
+ * The stacks of one round are taken with a single ThreadMXBean call and counted per transaction
+ * in a {@link FoldedStackCounter}, which {@link DefaultTrace} sends with its span on close.
+ *
+ * @author agent
+ */
+public class ActiveTraceStackSampler {
+
+    private static final int MAX_SAMPLE_TRACE_PER_ROUND = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ActiveTraceRepository activeTraceRepository;
+    private final long threshold;
+    private final long interval;
+    private final int maxDepth;
+    private final int maxStackCount;
+
+    private final Trace[] traceBuffer = new Trace[MAX_SAMPLE_TRACE_PER_ROUND];
+    private final long[] threadIdBuffer = new long[MAX_SAMPLE_TRACE_PER_ROUND];
+
+    private ScheduledExecutorService executor;
+
+    public ActiveTraceStackSampler(ActiveTraceRepository activeTraceRepository, long threshold, long interval, int maxDepth, int maxStackCount) {
+        if (activeTraceRepository == null) {
+            throw new NullPointerException("activeTraceRepository must not be null");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("negative threshold:" + threshold);
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive. interval:" + interval);
+        }
+        if (maxStackCount <= 0) {
+            throw new IllegalArgumentException("maxStackCount must be positive. maxStackCount:" + maxStackCount);
+        }
+        this.activeTraceRepository = activeTraceRepository;
+        this.threshold = threshold;
+        this.interval = interval;
+        this.maxDepth = maxDepth;
+        this.maxStackCount = maxStackCount;
+    }
+
+    public void start() {
+        if (executor != null) {
+            return;
+        }
+        logger.info("ActiveTraceStackSampler start. threshold:{}ms, interval:{}ms, maxDepth:{}, maxStackCount:{}", threshold, interval, maxDepth, maxStackCount);
+        this.executor = new ScheduledThreadPoolExecutor(1, new PinpointThreadFactory("Pinpoint-stack-sampler", true));
+        this.executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    sample(System.currentTimeMillis());
+                } catch (Throwable th) {
+                    logger.warn("stack sampling failed. Caused:{}", th.getMessage(), th);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * @return number of sampled stacks
+     */
+    // only called from the sampler thread
+    int sample(long currentTime) {
+        final Trace[] traces = this.traceBuffer;
+        final int traceCount = activeTraceRepository.collectSlowTrace(currentTime, threshold, traces);
+        if (traceCount == 0) {
+            return 0;
+        }
+        try {
+            int threadCount = 0;
+            for (int i = 0; i < traceCount; i++) {
+                final Trace trace = traces[i];
+                final Thread bindThread = trace.getBindThread();
+                if (bindThread == null || !(trace instanceof DefaultTrace) || !trace.canSampled()) {
+                    continue;
+                }
+                traces[threadCount] = trace;
+                threadIdBuffer[threadCount] = bindThread.getId();
+                threadCount++;
+            }
+            if (threadCount == 0) {
+                return 0;
+            }
+
+            final long[] threadIds = Arrays.copyOf(threadIdBuffer, threadCount);
+            // one more frame than maxDepth tells a stack that was cut from one that fits
+            final int requestDepth = maxDepth > 0 ? maxDepth + 1 : maxDepth;
+            final ThreadInfo[] threadInfos = ThreadMXBeanUtils.findThread(threadIds, requestDepth);
+            int sampleCount = 0;
+            for (int i = 0; i < threadCount; i++) {
+                final ThreadInfo threadInfo = threadInfos[i];
+                if (threadInfo == null) {
+                    continue;
+                }
+                final DefaultTrace trace = (DefaultTrace) traces[i];
+                getStackSampleCounter(trace).add(threadInfo.getStackTrace(), maxDepth);
+                sampleCount++;
+            }
+            return sampleCount;
+        } finally {
+            // clear Trace reference
+            Arrays.fill(traces, 0, traceCount, null);
+        }
+    }
+
+    private FoldedStackCounter getStackSampleCounter(DefaultTrace trace) {
+        final FoldedStackCounter counter = trace.getStackSampleCounter();
+        if (counter != null) {
+            return counter;
+        }
+        // the sampler thread is the only writer
+        final FoldedStackCounter newCounter = new FoldedStackCounter(maxStackCount);
+        trace.setStackSampleCounter(newCounter);
+        return newCounter;
+    }
+}
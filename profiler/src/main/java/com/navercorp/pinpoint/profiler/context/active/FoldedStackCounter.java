@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+
+/**
+ * Counts sampled stacks of one transaction in the folded format. "root;...;leaf count" per line.
+ * Line numbers are dropped so that samples of the same call path are merged.
+ * The folded string is bounded in bytes because it is sent inside the span, which has to fit in one udp packet.
+ *
+ * @author agent
+ */
+public class FoldedStackCounter {
+
+    private static final String DROPPED = "[dropped]";
+    // root frame of a stack cut at maxDepth. the real root is unknown
+    static final String TRUNCATED = "[truncated]";
+
+    // well under the udp packet limit(65507), leaving room for the rest of the span
+    public static final int DEFAULT_MAX_BYTES = 16 * 1024;
+
+    // "[dropped] " + int + '\n'
+    private static final int DROPPED_LINE_BYTES = DROPPED.length() + 1 + 10 + 1;
+
+    private static final Comparator<Map.Entry<String, int[]>> COUNT_DESC = new Comparator<Map.Entry<String, int[]>>() {
+        @Override
+        public int compare(Map.Entry<String, int[]> o1, Map.Entry<String, int[]> o2) {
+            final int x = o1.getValue()[0];
+            final int y = o2.getValue()[0];
+            return (x < y) ? 1 : ((x == y) ? 0 : -1);
+        }
+    };
+
+    private final int maxStackCount;
+    private final Map<String, int[]> stackCount = new LinkedHashMap<String, int[]>();
+    private int sampleCount = 0;
+    private int droppedCount = 0;
+
+    public FoldedStackCounter(int maxStackCount) {
+        if (maxStackCount <= 0) {
+            throw new IllegalArgumentException("maxStackCount must be positive. maxStackCount:" + maxStackCount);
+        }
+        this.maxStackCount = maxStackCount;
+    }
+
+    public void add(StackTraceElement[] stackTrace) {
+        add(stackTrace, 0);
+    }
+
+    /**
+     * @param maxDepth frames beyond maxDepth from the top are cut and replaced with a {@link #TRUNCATED} root. unlimited if maxDepth is less than 1
+     */
+    public synchronized void add(StackTraceElement[] stackTrace, int maxDepth) {
+        if (stackTrace == null || stackTrace.length == 0) {
+            return;
+        }
+        final String foldedStack = fold(stackTrace, maxDepth);
+        sampleCount++;
+        final int[] count = stackCount.get(foldedStack);
+        if (count != null) {
+            count[0]++;
+            return;
+        }
+        if (stackCount.size() >= maxStackCount) {
+            droppedCount++;
+            return;
+        }
+        stackCount.put(foldedStack, new int[] {1});
+    }
+
+    static String fold(StackTraceElement[] stackTrace) {
+        return fold(stackTrace, 0);
+    }
+
+    static String fold(StackTraceElement[] stackTrace, int maxDepth) {
+        final boolean truncated = maxDepth > 0 && stackTrace.length > maxDepth;
+        final int depth = truncated ? maxDepth : stackTrace.length;
+        final StringBuilder builder = new StringBuilder(depth * 48);
+        if (truncated) {
+            builder.append(TRUNCATED);
+            builder.append(';');
+        }
+        // StackTraceElement[0] is the top of the stack. folded stacks start from the root
+        for (int i = depth - 1; i >= 0; i--) {
+            final StackTraceElement element = stackTrace[i];
+            builder.append(element.getClassName());
+            builder.append('.');
+            builder.append(element.getMethodName());
+            if (i != 0) {
+                builder.append(';');
+            }
+        }
+        return builder.toString();
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    public String toFoldedString() {
+        return toFoldedString(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * the most frequent stacks first. stacks over maxBytes(utf-8) are left out and counted as dropped samples.
+     */
+    public synchronized String toFoldedString(int maxBytes) {
+        if (maxBytes <= DROPPED_LINE_BYTES) {
+            throw new IllegalArgumentException("maxBytes too small. maxBytes:" + maxBytes);
+        }
+        final List<Map.Entry<String, int[]>> entryList = new ArrayList<Map.Entry<String, int[]>>(stackCount.entrySet());
+        // stable. stacks of the same count keep their sampled order
+        Collections.sort(entryList, COUNT_DESC);
+
+        final int budget = maxBytes - DROPPED_LINE_BYTES;
+        final StringBuilder builder = new StringBuilder(Math.min(stackCount.size() * 256, maxBytes));
+        int bytes = 0;
+        int dropped = droppedCount;
+        for (Map.Entry<String, int[]> entry : entryList) {
+            final String count = String.valueOf(entry.getValue()[0]);
+            final int lineBytes = BytesUtils.computeUtf8Size(entry.getKey()) + 1 + count.length() + 1;
+            if (bytes + lineBytes > budget) {
+                dropped += entry.getValue()[0];
+                continue;
+            }
+            bytes += lineBytes;
+            builder.append(entry.getKey());
+            builder.append(' ');
+            builder.append(count);
+            builder.append('\n');
+        }
+        if (dropped > 0) {
+            builder.append(DROPPED);
+            builder.append(' ');
+            builder.append(dropped);
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "FoldedStackCounter{" +
+                "stackCount=" + stackCount.size() +
+                ", sampleCount=" + sampleCount +
+                ", droppedCount=" + droppedCount +
+                '}';
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.metadata;
+
+import com.navercorp.pinpoint.common.util.MetaDataHashUtils;
+
+/**
+ * assigns the content hash of the value as its id instead of a sequence.
+ * ids stay the same across agents and restarts, so the collector can store each text once.
+ * two texts with the same hash share an id, web shows such ids as a collision.
+ *
+ * @author agent
+ */
+public class HashIdCache extends SimpleCache<String> {
+
+    public HashIdCache() {
+        super();
+    }
+
+    public HashIdCache(int cacheSize) {
+        super(cacheSize);
+    }
+
+    @Override
+    protected int newId(String value) {
+        return MetaDataHashUtils.hashId(value);
+    }
+}
@@ -61,8 +61,7 @@ public class SimpleCache<T> {
             return find;
         }
         
-        // Use negative values too to reduce data size
-        final int newId = BytesUtils.zigzagToInt(idGen.getAndIncrement());
+        final int newId = newId(value);
         final Result result = new Result(false, newId);
         final Result before = this.cache.putIfAbsent(value, result);
         if (before != null) {
@@ -71,4 +70,9 @@ public class SimpleCache<T> {
         return new Result(true, newId);
     }
 
+    protected int newId(T value) {
+        // Use negative values too to reduce data size
+        return BytesUtils.zigzagToInt(idGen.getAndIncrement());
+    }
+
 }
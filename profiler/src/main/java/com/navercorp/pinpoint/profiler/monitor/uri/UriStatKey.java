@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.uri;
+
+/**
+ * @author agent
+ */
+public final class UriStatKey {
+
+    // null if the transaction is keyed by apiId
+    private final String uri;
+    private final int apiId;
+    private final int status;
+
+    public UriStatKey(String uri, int apiId, int status) {
+        this.uri = uri;
+        this.apiId = apiId;
+        this.status = status;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getApiId() {
+        return apiId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        UriStatKey that = (UriStatKey) o;
+
+        if (apiId != that.apiId) return false;
+        if (status != that.status) return false;
+        return uri != null ? uri.equals(that.uri) : that.uri == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = uri != null ? uri.hashCode() : 0;
+        result = 31 * result + apiId;
+        result = 31 * result + status;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "UriStatKey{" +
+                "uri='" + uri + '\'' +
+                ", apiId=" + apiId +
+                ", status=" + status +
+                '}';
+    }
+}
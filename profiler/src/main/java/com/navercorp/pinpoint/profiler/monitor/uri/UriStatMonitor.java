@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.uri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+import com.navercorp.pinpoint.thrift.dto.TUriStat;
+import com.navercorp.pinpoint.thrift.dto.TUriStatBatch;
+
+/**
+ * sends the histograms of {@link UriStatRecorder} through the agent stat channel every interval.
+ * the histograms of one interval are split into batches that fit in a udp packet. the collector merges them by timestamp.
+ *
+ * @author agent
+ */
+public class UriStatMonitor {
+
+    // udp packet limit(65507) minus the header and the fields of the batch itself
+    static final int DEFAULT_MAX_BATCH_BYTES = 60 * 1024;
+    // thrift field headers and the fixed size fields of a TUriStat
+    private static final int URI_STAT_OVERHEAD_BYTES = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final boolean isTrace = logger.isTraceEnabled();
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1, new PinpointThreadFactory("Pinpoint-uristat-monitor", true));
+
+    private final DataSender dataSender;
+    private final String agentId;
+    private final long agentStartTime;
+    private final UriStatRecorder uriStatRecorder;
+    private final int intervalMs;
+    private final int maxBatchBytes;
+
+    public UriStatMonitor(DataSender dataSender, String agentId, long agentStartTime, UriStatRecorder uriStatRecorder, int intervalMs) {
+        this(dataSender, agentId, agentStartTime, uriStatRecorder, intervalMs, DEFAULT_MAX_BATCH_BYTES);
+    }
+
+    UriStatMonitor(DataSender dataSender, String agentId, long agentStartTime, UriStatRecorder uriStatRecorder, int intervalMs, int maxBatchBytes) {
+        if (dataSender == null) {
+            throw new NullPointerException("dataSender must not be null");
+        }
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (uriStatRecorder == null) {
+            throw new NullPointerException("uriStatRecorder must not be null");
+        }
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("intervalMs must be positive:" + intervalMs);
+        }
+        if (maxBatchBytes <= 0) {
+            throw new IllegalArgumentException("maxBatchBytes must be positive:" + maxBatchBytes);
+        }
+        this.dataSender = dataSender;
+        this.agentId = agentId;
+        this.agentStartTime = agentStartTime;
+        this.uriStatRecorder = uriStatRecorder;
+        this.intervalMs = intervalMs;
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public void start() {
+        executor.scheduleAtFixedRate(new SendJob(), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("UriStat monitor started");
+    }
+
+    public void stop() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("UriStat monitor stopped");
+    }
+
+    List<TUriStatBatch> createUriStatBatchList(Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot, long timestamp) {
+        final List<TUriStatBatch> batchList = new ArrayList<TUriStatBatch>();
+        List<TUriStat> uriStats = new ArrayList<TUriStat>();
+        int batchBytes = 0;
+        for (Map.Entry<UriStatKey, UriStatRecorder.UriStatCounter> entry : snapshot.entrySet()) {
+            final UriStatKey key = entry.getKey();
+            final UriStatRecorder.UriStatCounter counter = entry.getValue();
+
+            final TUriStat uriStat = new TUriStat();
+            if (key.getUri() != null) {
+                uriStat.setUri(key.getUri());
+            } else {
+                uriStat.setApiId(key.getApiId());
+            }
+            uriStat.setStatus(key.getStatus());
+            uriStat.setTotalElapsed(counter.getTotalElapsed());
+            uriStat.setMaxElapsed(counter.getMaxElapsed());
+            uriStat.setHistogram(counter.getHistogram().encode());
+
+            final int uriStatBytes = estimateSize(uriStat);
+            if (!uriStats.isEmpty() && batchBytes + uriStatBytes > maxBatchBytes) {
+                batchList.add(createUriStatBatch(uriStats, timestamp));
+                uriStats = new ArrayList<TUriStat>();
+                batchBytes = 0;
+            }
+            uriStats.add(uriStat);
+            batchBytes += uriStatBytes;
+        }
+        if (!uriStats.isEmpty()) {
+            batchList.add(createUriStatBatch(uriStats, timestamp));
+        }
+        return batchList;
+    }
+
+    private int estimateSize(TUriStat uriStat) {
+        int size = URI_STAT_OVERHEAD_BYTES + uriStat.getHistogram().length;
+        if (uriStat.isSetUri()) {
+            size += BytesUtils.computeUtf8Size(uriStat.getUri());
+        }
+        return size;
+    }
+
+    private TUriStatBatch createUriStatBatch(List<TUriStat> uriStats, long timestamp) {
+        final TUriStatBatch uriStatBatch = new TUriStatBatch();
+        uriStatBatch.setAgentId(agentId);
+        uriStatBatch.setStartTimestamp(agentStartTime);
+        uriStatBatch.setTimestamp(timestamp);
+        uriStatBatch.setInterval(intervalMs);
+        uriStatBatch.setUriStats(uriStats);
+        return uriStatBatch;
+    }
+
+    private class SendJob implements Runnable {
+        @Override
+        public void run() {
+            try {
+                final Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = uriStatRecorder.snapshot();
+                if (snapshot.isEmpty()) {
+                    return;
+                }
+                final List<TUriStatBatch> uriStatBatchList = createUriStatBatchList(snapshot, System.currentTimeMillis());
+                for (TUriStatBatch uriStatBatch : uriStatBatchList) {
+                    if (isTrace) {
+                        logger.trace("send uriStat:{}", uriStatBatch);
+                    }
+                    dataSender.send(uriStatBatch);
+                }
+            } catch (Exception ex) {
+                logger.warn("UriStat send failed. Caused:{}", ex.getMessage(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.uri;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.navercorp.pinpoint.common.util.LatencyHistogram;
+
+/**
+ * Aggregates the response time of every finished transaction into a {@link LatencyHistogram} per uri and status.
+ * Transactions without a uri (e.g. thrift or other rpc servers) are keyed by the apiId of their entry point instead.
+ * The status is the HTTP status class (200, 300, 400, 500) when the server plugin reports the status code,
+ * otherwise {@link #STATUS_SUCCESS} or {@link #STATUS_ERROR}.
+ * Memory is bounded by maxUriCount keys (plus {@link #OTHERS_URI}) per interval.
+ * At most maxUriCount distinct keys are admitted per interval. the rest is recorded as {@link #OTHERS_URI}.
+ * <p>
+ * record() takes no lock and allocates nothing once the uri is known in the interval:
+ * the uri is looked up in an open addressing table by the hash of its normalized form, without building the normalized string,
+ * and the histogram buckets are atomic counters.
+ *
+ * @author agent
+ */
+public class UriStatRecorder {
+
+    public static final int STATUS_SUCCESS = 0;
+    public static final int STATUS_ERROR = 1;
+
+    // STATUS_SUCCESS, STATUS_ERROR and the status classes 100 to 500
+    private static final int STATUS_SLOT_COUNT = 7;
+
+    public static final String OTHERS_URI = "/_others";
+    static final char NUMERIC_SEGMENT = '*';
+
+    private final int maxUriCount;
+    // counters of the current interval. replaced by snapshot()
+    private volatile Interval interval;
+
+    public UriStatRecorder(int maxUriCount) {
+        if (maxUriCount <= 0) {
+            throw new IllegalArgumentException("maxUriCount must be positive:" + maxUriCount);
+        }
+        this.maxUriCount = maxUriCount;
+        this.interval = new Interval(maxUriCount);
+    }
+
+    /**
+     * @param uri request uri of a server transaction. if null, the transaction is keyed by apiId
+     * @param apiId api of the server transaction entry point. the transaction is ignored if neither uri nor apiId is known
+     * @param status {@link #toStatus(int, boolean)}
+     */
+    public void record(String uri, int apiId, int status, long elapsed) {
+        final UriStatEntry entry;
+        if (uri != null) {
+            entry = this.interval.getEntry(uri);
+        } else if (apiId != 0) {
+            entry = this.interval.getApiEntry(apiId);
+        } else {
+            return;
+        }
+        entry.getCounter(toStatusSlot(status)).record(elapsed);
+    }
+
+    /**
+     * @param httpStatusCode response status code of the transaction, 0 if unknown
+     * @return the status class of httpStatusCode (e.g. 404 -> 400), or {@link #STATUS_SUCCESS}/{@link #STATUS_ERROR} if it is unknown
+     */
+    public static int toStatus(int httpStatusCode, boolean error) {
+        if (httpStatusCode >= 100 && httpStatusCode < 600) {
+            return httpStatusCode / 100 * 100;
+        }
+        return error ? STATUS_ERROR : STATUS_SUCCESS;
+    }
+
+    private static int toStatusSlot(int status) {
+        if (status == STATUS_SUCCESS || status == STATUS_ERROR) {
+            return status;
+        }
+        if (status >= 100 && status < 600) {
+            return 1 + status / 100;
+        }
+        return STATUS_ERROR;
+    }
+
+    private static int toStatus(int statusSlot) {
+        if (statusSlot <= STATUS_ERROR) {
+            return statusSlot;
+        }
+        return (statusSlot - 1) * 100;
+    }
+
+    /**
+     * returns the counters recorded since the previous snapshot and starts a new interval.
+     */
+    public Map<UriStatKey, UriStatCounter> snapshot() {
+        // a record() still running on the previous interval after its counter is read below is lost. it is rare and costs one sample
+        final Interval previous = this.interval;
+        this.interval = new Interval(maxUriCount);
+        final Map<UriStatKey, UriStatCounter> result = new HashMap<UriStatKey, UriStatCounter>();
+        for (int i = 0; i < previous.table.length(); i++) {
+            final UriStatEntry entry = previous.table.get(i);
+            if (entry != null) {
+                entry.snapshot(result);
+            }
+        }
+        previous.others.snapshot(result);
+        return result;
+    }
+
+    /**
+     * folds numeric path segments so that /user/1234/profile and /user/5678/profile are aggregated as /user/&#42;/profile
+     */
+    static String normalize(String uri) {
+        final int length = uri.length();
+        StringBuilder builder = null;
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || uri.charAt(i) == '/') {
+                if (isNumericSegment(uri, segmentStart, i)) {
+                    if (builder == null) {
+                        builder = new StringBuilder(length);
+                        builder.append(uri, 0, segmentStart);
+                    }
+                    builder.append(NUMERIC_SEGMENT);
+                } else if (builder != null) {
+                    builder.append(uri, segmentStart, i);
+                }
+                if (builder != null && i != length) {
+                    builder.append('/');
+                }
+                segmentStart = i + 1;
+            }
+        }
+        if (builder == null) {
+            return uri;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return normalize(uri).hashCode() without creating the normalized string
+     */
+    static int normalizedHashCode(String uri) {
+        final int length = uri.length();
+        int hash = 0;
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || uri.charAt(i) == '/') {
+                if (isNumericSegment(uri, segmentStart, i)) {
+                    hash = 31 * hash + NUMERIC_SEGMENT;
+                } else {
+                    for (int j = segmentStart; j < i; j++) {
+                        hash = 31 * hash + uri.charAt(j);
+                    }
+                }
+                if (i != length) {
+                    hash = 31 * hash + '/';
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return normalized.equals(normalize(uri)) without creating the normalized string
+     */
+    static boolean normalizedEquals(String normalized, String uri) {
+        final int length = uri.length();
+        int position = 0;
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || uri.charAt(i) == '/') {
+                if (isNumericSegment(uri, segmentStart, i)) {
+                    if (position >= normalized.length() || normalized.charAt(position) != NUMERIC_SEGMENT) {
+                        return false;
+                    }
+                    position++;
+                } else {
+                    final int segmentLength = i - segmentStart;
+                    if (!normalized.regionMatches(position, uri, segmentStart, segmentLength)) {
+                        return false;
+                    }
+                    position += segmentLength;
+                }
+                if (i != length) {
+                    if (position >= normalized.length() || normalized.charAt(position) != '/') {
+                        return false;
+                    }
+                    position++;
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return position == normalized.length();
+    }
+
+    private static boolean isNumericSegment(String uri, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            final char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Interval {
+        private final int maxKeyCount;
+        // insert only. at least twice maxKeyCount, so it never fills up
+        private final AtomicReferenceArray<UriStatEntry> table;
+        private final int mask;
+        private final AtomicInteger keyCount = new AtomicInteger();
+        private final UriStatEntry others = new UriStatEntry(OTHERS_URI, 0, OTHERS_URI.hashCode());
+
+        private Interval(int maxKeyCount) {
+            this.maxKeyCount = maxKeyCount;
+            final int tableSize = Integer.highestOneBit(maxKeyCount) << 2;
+            this.table = new AtomicReferenceArray<UriStatEntry>(tableSize);
+            this.mask = tableSize - 1;
+        }
+
+        private UriStatEntry getEntry(String uri) {
+            final int hash = normalizedHashCode(uri);
+            int index = spread(hash) & mask;
+            while (true) {
+                final UriStatEntry entry = table.get(index);
+                if (entry == null) {
+                    return insert(uri, 0, hash, index);
+                }
+                if (entry.matches(hash, uri)) {
+                    return entry;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private UriStatEntry getApiEntry(int apiId) {
+            int index = spread(apiId) & mask;
+            while (true) {
+                final UriStatEntry entry = table.get(index);
+                if (entry == null) {
+                    return insert(null, apiId, apiId, index);
+                }
+                if (entry.matchesApi(apiId)) {
+                    return entry;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        // rawUri is null for an api entry
+        private UriStatEntry insert(String rawUri, int apiId, int hash, int index) {
+            if (keyCount.incrementAndGet() > maxKeyCount) {
+                keyCount.decrementAndGet();
+                return others;
+            }
+            final String uri = rawUri == null ? null : normalize(rawUri);
+            final UriStatEntry newEntry = new UriStatEntry(uri, apiId, hash);
+            while (true) {
+                if (table.compareAndSet(index, null, newEntry)) {
+                    return newEntry;
+                }
+                final UriStatEntry entry = table.get(index);
+                if (rawUri == null ? entry.matchesApi(apiId) : entry.matches(hash, rawUri)) {
+                    // inserted by another thread
+                    keyCount.decrementAndGet();
+                    return entry;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private static class UriStatEntry {
+        // null for an entry keyed by apiId
+        private final String uri;
+        private final int apiId;
+        private final int hash;
+        // indexed by status slot. created on the first record of the status
+        private final AtomicReferenceArray<ConcurrentCounter> counters = new AtomicReferenceArray<ConcurrentCounter>(STATUS_SLOT_COUNT);
+
+        private UriStatEntry(String uri, int apiId, int hash) {
+            this.uri = uri;
+            this.apiId = apiId;
+            this.hash = hash;
+        }
+
+        private boolean matches(int hash, String rawUri) {
+            return this.uri != null && this.hash == hash && normalizedEquals(this.uri, rawUri);
+        }
+
+        private boolean matchesApi(int apiId) {
+            return this.uri == null && this.apiId == apiId;
+        }
+
+        private ConcurrentCounter getCounter(int statusSlot) {
+            final ConcurrentCounter counter = counters.get(statusSlot);
+            if (counter != null) {
+                return counter;
+            }
+            final ConcurrentCounter newCounter = new ConcurrentCounter();
+            if (counters.compareAndSet(statusSlot, null, newCounter)) {
+                return newCounter;
+            }
+            return counters.get(statusSlot);
+        }
+
+        private void snapshot(Map<UriStatKey, UriStatCounter> result) {
+            for (int statusSlot = 0; statusSlot < counters.length(); statusSlot++) {
+                final ConcurrentCounter counter = counters.get(statusSlot);
+                if (counter == null) {
+                    continue;
+                }
+                final UriStatCounter snapshot = counter.snapshot();
+                if (snapshot.getCount() != 0) {
+                    result.put(new UriStatKey(uri, apiId, toStatus(statusSlot)), snapshot);
+                }
+            }
+        }
+    }
+
+    private static class ConcurrentCounter {
+        private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKET_COUNT);
+        private final AtomicLong totalElapsed = new AtomicLong();
+        private final AtomicLong maxElapsed = new AtomicLong();
+
+        private void record(long elapsed) {
+            if (elapsed < 0) {
+                elapsed = 0;
+            }
+            buckets.incrementAndGet(LatencyHistogram.bucketIndex(elapsed));
+            totalElapsed.addAndGet(elapsed);
+            while (true) {
+                final long max = maxElapsed.get();
+                if (elapsed <= max || maxElapsed.compareAndSet(max, elapsed)) {
+                    return;
+                }
+            }
+        }
+
+        private UriStatCounter snapshot() {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+                final long count = buckets.get(i);
+                if (count != 0) {
+                    histogram.add(i, count);
+                }
+            }
+            return new UriStatCounter(histogram, totalElapsed.get(), maxElapsed.get());
+        }
+    }
+
+    public static class UriStatCounter {
+        private final LatencyHistogram histogram;
+        private final long totalElapsed;
+        private final long maxElapsed;
+
+        UriStatCounter(LatencyHistogram histogram, long totalElapsed, long maxElapsed) {
+            this.histogram = histogram;
+            this.totalElapsed = totalElapsed;
+            this.maxElapsed = maxElapsed;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getTotalElapsed() {
+            return totalElapsed;
+        }
+
+        public int getMaxElapsed() {
+            return (int) Math.min(maxElapsed, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -20,9 +20,7 @@
 package com.navercorp.pinpoint.profiler.receiver.service;
 
 import com.navercorp.pinpoint.common.trace.HistogramSchema;
-import com.navercorp.pinpoint.common.trace.HistogramSlot;
 import com.navercorp.pinpoint.common.trace.SlotType;
-import com.navercorp.pinpoint.profiler.context.active.ActiveTraceInfo;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceLocator;
 import com.navercorp.pinpoint.profiler.receiver.ProfilerRequestCommandService;
 import com.navercorp.pinpoint.thrift.dto.command.TCmdActiveThreadCount;
@@ -59,22 +57,13 @@ public class ActiveThreadCountService implements ProfilerRequestCommandService {
 
     @Override
     public TBase<?, ?> requestCommandService(TBase tBase) {
-        Map<SlotType, IntAdder> mappedSlot = new LinkedHashMap<SlotType, IntAdder>(activeThreadSlotsCount);
-        for (SlotType slotType : ACTIVE_THREAD_SLOTS_ORDER) {
-            mappedSlot.put(slotType, new IntAdder(0));
-        }
-
         long currentTime = System.currentTimeMillis();
 
-        List<ActiveTraceInfo> collectedActiveTraceInfo = activeTraceLocator.collect();
-        for (ActiveTraceInfo activeTraceInfo : collectedActiveTraceInfo) {
-            HistogramSlot slot = histogramSchema.findHistogramSlot((int) (currentTime - activeTraceInfo.getStartTime()));
-            mappedSlot.get(slot.getSlotType()).incrementAndGet();
-        }
+        final int[] slotTypeCount = activeTraceLocator.countBySlotType(histogramSchema, currentTime);
 
         List<Integer> activeThreadCount = new ArrayList<Integer>(activeThreadSlotsCount);
-        for (IntAdder statusCount : mappedSlot.values()) {
-            activeThreadCount.add(statusCount.get());
+        for (SlotType slotType : ACTIVE_THREAD_SLOTS_ORDER) {
+            activeThreadCount.add(slotTypeCount[slotType.ordinal()]);
         }
 
         TCmdActiveThreadCountRes response = new TCmdActiveThreadCountRes();
@@ -90,20 +79,4 @@ public class ActiveThreadCountService implements ProfilerRequestCommandService {
         return TCmdActiveThreadCount.class;
     }
 
-    private static class IntAdder {
-        private int value = 0;
-
-        public IntAdder(int defaultValue) {
-            this.value = defaultValue;
-        }
-
-        public int incrementAndGet() {
-            return ++value;
-        }
-
-        public int get() {
-            return this.value;
-        }
-    }
-
 }
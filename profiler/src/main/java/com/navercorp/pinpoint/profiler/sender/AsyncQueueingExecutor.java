@@ -157,6 +157,19 @@ public class AsyncQueueingExecutor<T> implements Runnable {
         return offer;
     }
 
+    /**
+     * same as {@link #execute(Object)} without the warn log when the queue is full. for callers that have their own fallback.
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            return false;
+        }
+        if (!isRun.get()) {
+            return false;
+        }
+        return queue.offer(data);
+    }
+
     public void setListener(AsyncQueueingExecutorListener<T> listener) {
         if (listener == null) {
             throw new NullPointerException("listener must not be null");
@@ -197,6 +210,13 @@ public class AsyncQueueingExecutor<T> implements Runnable {
         logger.info("{} stopped.", executorName);
     }
 
+    /**
+     * @return true if the execute thread has exited. false if {@link #stop()} gave up waiting for it
+     */
+    public boolean isTerminated() {
+        return !executeThread.isAlive();
+    }
+
     Collection<T> getDrainQueue() {
         this.drain.clear();
         return drain;
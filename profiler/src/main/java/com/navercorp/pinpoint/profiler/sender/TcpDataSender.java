@@ -35,6 +35,9 @@ import com.navercorp.pinpoint.rpc.FutureListener;
 import com.navercorp.pinpoint.rpc.ResponseMessage;
 import com.navercorp.pinpoint.rpc.client.PinpointClient;
 import com.navercorp.pinpoint.rpc.client.PinpointClientReconnectEventListener;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournal;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournalDrainer;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournalReplayHandler;
 import com.navercorp.pinpoint.rpc.util.TimerFactory;
 import com.navercorp.pinpoint.thrift.dto.TResult;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializer;
@@ -49,6 +52,10 @@ import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
  */
 public class TcpDataSender extends AbstractDataSender implements EnhancedDataSender {
 
+    private static final String SPILLED_REQUEST = "SpilledRequest";
+    // request(TBase) and requests replayed from the spill journal
+    private static final int DEFAULT_RETRY_COUNT = 3;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     static {
         // preClassLoad
@@ -63,17 +70,55 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
     private final WriteFailFutureListener writeFailFutureListener;
 
 
-    private final HeaderTBaseSerializer serializer = HeaderTBaseSerializerFactory.DEFAULT_FACTORY.createSerializer();
+    private final HeaderTBaseSerializer serializer;
 
     private final RetryQueue retryQueue = new RetryQueue();
 
     private AsyncQueueingExecutor<Object> executor;
 
+    // null if spill is disabled
+    private final SpillJournal spillJournal;
+    private final SpillJournalDrainer spillJournalDrainer;
+
     public TcpDataSender(PinpointClient client) {
+        this(client, null, 0);
+    }
+
+    public TcpDataSender(PinpointClient client, SpillJournal spillJournal, int spillDrainRate) {
+        this(client, spillJournal, spillDrainRate, HeaderTBaseSerializerFactory.COMPRESSION_DISABLED);
+    }
+
+    /**
+     * @param compressionThreshold requests of at least this size are sent as compressed frames. {@link HeaderTBaseSerializerFactory#COMPRESSION_DISABLED} to disable
+     */
+    public TcpDataSender(PinpointClient client, SpillJournal spillJournal, int spillDrainRate, int compressionThreshold) {
         this.client = client;
+        if (compressionThreshold == HeaderTBaseSerializerFactory.COMPRESSION_DISABLED) {
+            this.serializer = HeaderTBaseSerializerFactory.DEFAULT_FACTORY.createSerializer();
+        } else {
+            logger.info("TcpDataSender compression enabled. threshold:{}", compressionThreshold);
+            this.serializer = new HeaderTBaseSerializerFactory(true, HeaderTBaseSerializerFactory.DEFAULT_STREAM_SIZE, true, compressionThreshold).createSerializer();
+        }
         this.timer = createTimer();
         writeFailFutureListener = new WriteFailFutureListener(logger, "io write fail.", "host", -1);
         this.executor = createAsyncQueueingExecutor(1024 * 5, "Pinpoint-TcpDataExecutor");
+
+        this.spillJournal = spillJournal;
+        if (spillJournal != null) {
+            logger.info("TcpDataSender spill enabled. {}", spillJournal);
+            this.spillJournalDrainer = new SpillJournalDrainer("Pinpoint-TcpDataExecutor-SpillDrainer", spillJournal, new SpillJournalReplayHandler() {
+                @Override
+                public boolean replay(byte[] frame) {
+                    if (!isNetworkAvailable()) {
+                        return false;
+                    }
+                    return executor.offer(frame);
+                }
+            }, spillDrainRate);
+            this.spillJournalDrainer.start();
+        } else {
+            this.spillJournalDrainer = null;
+        }
     }
     
     private Timer createTimer() {
@@ -89,7 +134,7 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
 
     @Override
     public boolean request(TBase<?, ?> data) {
-        return this.request(data, 3);
+        return this.request(data, DEFAULT_RETRY_COUNT);
     }
 
     @Override
@@ -116,7 +161,17 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
 
     @Override
     public void stop() {
+        if (spillJournalDrainer != null) {
+            spillJournalDrainer.stop();
+        }
         executor.stop();
+        if (executor.isTerminated()) {
+            // only the io thread uses the serializer
+            serializer.close();
+        }
+        if (spillJournal != null) {
+            spillJournal.close();
+        }
 
         Set<Timeout> stop = timer.stop();
         if (!stop.isEmpty()) {
@@ -146,9 +201,17 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
                 
                 if (futureListener != null) {
                     doRequest(copy, futureListener);
+                } else if (spillJournal != null && !isNetworkAvailable()) {
+                    // replayed as a request with the default retry count once reconnected
+                    if (!spillJournal.append(copy, 0, copy.length)) {
+                        logger.warn("Drop request. spill fail. {}", tBase);
+                    }
                 } else {
                     doRequest(copy, retryCount, tBase);
                 }
+            } else if (message instanceof byte[]) {
+                // replayed from the spill journal
+                doRequest((byte[]) message, DEFAULT_RETRY_COUNT, SPILLED_REQUEST);
             } else {
                 logger.error("sendPacket fail. invalid dto type:{}", message.getClass());
                 return;
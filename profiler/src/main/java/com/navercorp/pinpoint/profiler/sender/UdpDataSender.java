@@ -22,7 +22,16 @@ import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.navercorp.pinpoint.profiler.sender.collector.CollectorGroup;
+import com.navercorp.pinpoint.profiler.sender.collector.CollectorRoutingKey;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournal;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournalDrainer;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournalOverflowHandler;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournalReplayHandler;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
 import com.navercorp.pinpoint.thrift.io.NetworkAvailabilityCheckPacket;
@@ -51,17 +60,64 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
 
     protected final DatagramSocket udpSocket;
 
+    // null if a single collector is used. the socket is connected in that case
+    private final CollectorGroup collectorGroup;
+    // indexed by collector
+    private final InetSocketAddress[] collectorAddresses;
+
+    // a frame larger than a udp packet may still fit once compressed
+    static final int COMPRESSION_STREAM_SIZE = UDP_MAX_PACKET_LENGTH * 4;
+
     // Caution. not thread safe
-    private final HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false, UDP_MAX_PACKET_LENGTH, false).createSerializer();
+    private final HeaderTBaseSerializer serializer;
 
     private AsyncQueueingExecutor<Object> executor;
 
+    // null if spill is disabled
+    private final SpillJournal spillJournal;
+    private final SpillJournalDrainer spillJournalDrainer;
+    // data offered while the queue is full. spilled by the drain thread, so application threads never serialize or touch the journal
+    private final BlockingQueue<TBase<?, ?>> overflowQueue;
+    private final AtomicLong overflowDropCount = new AtomicLong(0);
+    // Caution. not thread safe. only the drain thread uses it
+    private final HeaderTBaseSerializer spillSerializer;
+    private final CollectorReachability collectorReachability;
+
     public UdpDataSender(String host, int port, String threadName, int queueSize) {
         this(host, port, threadName, queueSize, SOCKET_TIMEOUT, SEND_BUFFER_SIZE);
     }
 
     public UdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize) {
-        if (host == null ) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, null, CollectorReachability.ALWAYS, 0);
+    }
+
+    public UdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, SpillJournal spillJournal, CollectorReachability collectorReachability, int spillDrainRate) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, spillJournal, collectorReachability, spillDrainRate, HeaderTBaseSerializerFactory.COMPRESSION_DISABLED);
+    }
+
+    /**
+     * @param collectorReachability data is spilled instead of sent while the collector is not reachable
+     * @param compressionThreshold data of at least this size is sent as a compressed frame. {@link HeaderTBaseSerializerFactory#COMPRESSION_DISABLED} to disable
+     */
+    public UdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, SpillJournal spillJournal, CollectorReachability collectorReachability, int spillDrainRate, int compressionThreshold) {
+        this(host, null, port, threadName, queueSize, timeout, sendBufferSize, spillJournal, collectorReachability, spillDrainRate, compressionThreshold);
+    }
+
+    /**
+     * sends every message to the collector selected by {@link CollectorGroup#select(int)} with {@link CollectorRoutingKey}.
+     * data is spilled while no collector of the group is healthy.
+     */
+    public UdpDataSender(final CollectorGroup collectorGroup, int port, String threadName, int queueSize, int timeout, int sendBufferSize, SpillJournal spillJournal, int spillDrainRate, int compressionThreshold) {
+        this(null, collectorGroup, port, threadName, queueSize, timeout, sendBufferSize, spillJournal, new CollectorReachability() {
+            @Override
+            public boolean isReachable() {
+                return collectorGroup.hasHealthyCollector();
+            }
+        }, spillDrainRate, compressionThreshold);
+    }
+
+    private UdpDataSender(String host, CollectorGroup collectorGroup, int port, String threadName, int queueSize, int timeout, int sendBufferSize, SpillJournal spillJournal, CollectorReachability collectorReachability, int spillDrainRate, int compressionThreshold) {
+        if (host == null && collectorGroup == null) {
             throw new NullPointerException("host must not be null");
         }
         if (threadName == null) {
@@ -76,22 +132,141 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
         if (sendBufferSize <= 0) {
             throw new IllegalArgumentException("sendBufferSize");
         }
+        if (collectorReachability == null) {
+            throw new NullPointerException("collectorReachability must not be null");
+        }
 
         // TODO If fail to create socket, stop agent start
-        logger.info("UdpDataSender initialized. host={}, port={}", host, port);
-        this.udpSocket = createSocket(host, port, timeout, sendBufferSize);
+        this.collectorGroup = collectorGroup;
+        if (collectorGroup == null) {
+            logger.info("UdpDataSender initialized. host={}, port={}", host, port);
+            this.udpSocket = createSocket(new InetSocketAddress(host, port), timeout, sendBufferSize);
+            this.collectorAddresses = null;
+        } else {
+            logger.info("UdpDataSender initialized. collectorGroup={}, port={}", collectorGroup, port);
+            // not connected. the destination is set per packet
+            this.udpSocket = createSocket(null, timeout, sendBufferSize);
+            this.collectorAddresses = new InetSocketAddress[collectorGroup.size()];
+            for (int i = 0; i < collectorAddresses.length; i++) {
+                this.collectorAddresses[i] = new InetSocketAddress(collectorGroup.getCollector(i).getHost(), port);
+            }
+        }
+
+        final HeaderTBaseSerializerFactory serializerFactory = createSerializerFactory(compressionThreshold);
+        this.serializer = serializerFactory.createSerializer();
 
         this.executor = createAsyncQueueingExecutor(queueSize, threadName);
+
+        this.collectorReachability = collectorReachability;
+        this.spillJournal = spillJournal;
+        if (spillJournal != null) {
+            logger.info("UdpDataSender spill enabled. {}", spillJournal);
+            this.overflowQueue = new ArrayBlockingQueue<TBase<?, ?>>(queueSize);
+            this.spillSerializer = serializerFactory.createSerializer();
+            this.spillJournalDrainer = new SpillJournalDrainer(threadName + "-SpillDrainer", spillJournal, new SpillJournalReplayHandler() {
+                @Override
+                public boolean replay(byte[] frame) {
+                    if (!UdpDataSender.this.collectorReachability.isReachable()) {
+                        return false;
+                    }
+                    return executor.offer(frame);
+                }
+            }, new SpillJournalOverflowHandler() {
+                @Override
+                public int spillOverflow() {
+                    return UdpDataSender.this.spillOverflow();
+                }
+            }, spillDrainRate);
+            this.spillJournalDrainer.start();
+        } else {
+            this.overflowQueue = null;
+            this.spillSerializer = null;
+            this.spillJournalDrainer = null;
+        }
+    }
+
+    private HeaderTBaseSerializerFactory createSerializerFactory(int compressionThreshold) {
+        if (compressionThreshold == HeaderTBaseSerializerFactory.COMPRESSION_DISABLED) {
+            return new HeaderTBaseSerializerFactory(false, UDP_MAX_PACKET_LENGTH, false);
+        }
+        logger.info("UdpDataSender compression enabled. threshold:{}", compressionThreshold);
+        // isLimit() is checked against the compressed size
+        return new HeaderTBaseSerializerFactory(false, COMPRESSION_STREAM_SIZE, false, compressionThreshold);
     }
 
     @Override
     public boolean send(TBase<?, ?> data) {
-        return executor.execute(data);
+        if (spillJournal == null) {
+            return executor.execute(data);
+        }
+        if (executor.offer(data)) {
+            return true;
+        }
+        if (overflowQueue.offer(data)) {
+            return true;
+        }
+        final long dropCount = overflowDropCount.incrementAndGet();
+        if ((dropCount % 1000) == 1) {
+            logger.warn("Drop data. spill overflow queue is full. dropCount:{}", dropCount);
+        }
+        return false;
+    }
+
+    // called by the drain thread
+    private int spillOverflow() {
+        int spilled = 0;
+        TBase<?, ?> data;
+        while ((data = overflowQueue.poll()) != null) {
+            final byte[] internalBufferData = serialize(spillSerializer, data);
+            if (internalBufferData == null) {
+                continue;
+            }
+            final int internalBufferSize = spillSerializer.getInterBufferSize();
+            if (isLimit(internalBufferSize)) {
+                logger.warn("discard packet. Caused:too large message. size:{}, {}", internalBufferSize, data);
+                continue;
+            }
+            if (spillJournal.append(internalBufferData, 0, internalBufferSize)) {
+                spilled++;
+            } else {
+                logger.warn("Drop data. spill fail. {}", data);
+            }
+        }
+        return spilled;
+    }
+
+    public long getOverflowDropCount() {
+        return overflowDropCount.get();
+    }
+
+    // called by the io thread
+    private boolean spillIfUnreachable(byte[] frame, int length) {
+        if (spillJournal == null || collectorReachability.isReachable()) {
+            return false;
+        }
+        if (!spillJournal.append(frame, 0, length)) {
+            logger.warn("Drop data. spill fail. size:{}", length);
+        }
+        return true;
     }
 
     @Override
     public void stop() {
+        if (spillJournalDrainer != null) {
+            spillJournalDrainer.stop();
+        }
         executor.stop();
+        if (executor.isTerminated()) {
+            // only the io thread uses the serializer
+            serializer.close();
+        }
+        if (spillJournalDrainer != null && spillJournalDrainer.isTerminated()) {
+            // only the drain thread uses the spill serializer
+            spillSerializer.close();
+        }
+        if (spillJournal != null) {
+            spillJournal.close();
+        }
     }
 
     public boolean isNetworkAvailable() {
@@ -100,6 +275,7 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
             byte[] interBufferData = serialize(serializer, dto);
             int interBufferSize = serializer.getInterBufferSize();
             reusePacket.setData(interBufferData, 0, interBufferSize);
+            route(dto);
             udpSocket.send(reusePacket);
             
             if (isTrace) {
@@ -121,7 +297,7 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
         }
     }
 
-    private DatagramSocket createSocket(String host, int port, int timeout, int sendBufferSize) {
+    private DatagramSocket createSocket(InetSocketAddress serverAddress, int timeout, int sendBufferSize) {
         try {
             DatagramSocket datagramSocket = new DatagramSocket();
 
@@ -134,8 +310,9 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
                 }
             }
 
-            InetSocketAddress serverAddress = new InetSocketAddress(host, port);
-            datagramSocket.connect(serverAddress);
+            if (serverAddress != null) {
+                datagramSocket.connect(serverAddress);
+            }
             return datagramSocket;
         } catch (SocketException e) {
             throw new IllegalStateException("DatagramSocket create fail. Cause" + e.getMessage(), e);
@@ -158,8 +335,12 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
                 logger.warn("discard packet. Caused:too large message. size:{}, {}", internalBufferSize, dto);
                 return;
             }
+            if (spillIfUnreachable(internalBufferData, internalBufferSize)) {
+                return;
+            }
             // it's safe to reuse because it's single threaded
             reusePacket.setData(internalBufferData, 0, internalBufferSize);
+            route(dto);
 
             try {
                 udpSocket.send(reusePacket);
@@ -169,12 +350,36 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
             } catch (IOException e) {
                 logger.warn("packet send error. size:{}, {}", internalBufferSize, dto, e);
             }
+        } else if (message instanceof byte[]) {
+            // replayed from the spill journal. already serialized
+            final byte[] frame = (byte[]) message;
+            if (spillIfUnreachable(frame, frame.length)) {
+                return;
+            }
+            reusePacket.setData(frame, 0, frame.length);
+            route(frame);
+            try {
+                udpSocket.send(reusePacket);
+                if (isDebug) {
+                    logger.debug("Spilled data sent. size:{}", frame.length);
+                }
+            } catch (IOException e) {
+                logger.warn("packet send error. size:{}", frame.length, e);
+            }
         } else {
             logger.warn("sendPacket fail. invalid type:{}", message != null ? message.getClass() : null);
             return;
         }
     }
 
+    private void route(Object message) {
+        if (collectorGroup == null) {
+            return;
+        }
+        final int index = collectorGroup.select(CollectorRoutingKey.getKey(message));
+        reusePacket.setSocketAddress(collectorAddresses[index]);
+    }
+
     // for test
     protected boolean isLimit(int interBufferSize) {
         if (interBufferSize > UDP_MAX_PACKET_LENGTH) {
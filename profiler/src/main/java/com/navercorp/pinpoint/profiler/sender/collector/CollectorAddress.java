@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+/**
+ * @author agent
+ */
+public class CollectorAddress {
+
+    private final String host;
+    private final int weight;
+
+    private volatile boolean healthy = true;
+
+    public CollectorAddress(String host, int weight) {
+        if (host == null) {
+            throw new NullPointerException("host must not be null");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive. weight:" + weight);
+        }
+        this.host = host;
+        this.weight = weight;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    @Override
+    public String toString() {
+        return "CollectorAddress{" +
+                "host='" + host + '\'' +
+                ", weight=" + weight +
+                ", healthy=" + healthy +
+                '}';
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * consistent hash ring over the collectors. a collector owns weight * {@link #VIRTUAL_NODE_PER_WEIGHT} points of the ring,
+ * so removing an unhealthy collector only moves the keys it owned, to the next collector clockwise.
+ *
+ * @author agent
+ */
+public class CollectorGroup {
+
+    static final int VIRTUAL_NODE_PER_WEIGHT = 64;
+
+    private final List<CollectorAddress> collectorList;
+
+    // sorted by ringHash
+    private final int[] ringHash;
+    private final int[] ringOwner;
+
+    public CollectorGroup(List<CollectorAddress> collectorList) {
+        if (collectorList == null) {
+            throw new NullPointerException("collectorList must not be null");
+        }
+        if (collectorList.isEmpty()) {
+            throw new IllegalArgumentException("collectorList is empty");
+        }
+        this.collectorList = Collections.unmodifiableList(new ArrayList<CollectorAddress>(collectorList));
+
+        int nodeCount = 0;
+        for (CollectorAddress collector : collectorList) {
+            nodeCount += collector.getWeight() * VIRTUAL_NODE_PER_WEIGHT;
+        }
+        // hash in the upper 32 bits, owner in the lower 32 bits. sorting the packed value sorts the ring
+        final long[] nodes = new long[nodeCount];
+        int nodeIndex = 0;
+        for (int owner = 0; owner < collectorList.size(); owner++) {
+            final CollectorAddress collector = collectorList.get(owner);
+            final int virtualNodeCount = collector.getWeight() * VIRTUAL_NODE_PER_WEIGHT;
+            for (int i = 0; i < virtualNodeCount; i++) {
+                final int hash = mix((collector.getHost() + '#' + i).hashCode());
+                nodes[nodeIndex++] = ((long) hash << 32) | owner;
+            }
+        }
+        Arrays.sort(nodes);
+
+        this.ringHash = new int[nodeCount];
+        this.ringOwner = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            this.ringHash[i] = (int) (nodes[i] >> 32);
+            this.ringOwner[i] = (int) nodes[i];
+        }
+    }
+
+    /**
+     * @param ipList comma separated hosts
+     * @param weightList weight of each host in the same order. missing weights are 1
+     */
+    public static CollectorGroup create(List<String> ipList, List<String> weightList) {
+        if (ipList == null) {
+            throw new NullPointerException("ipList must not be null");
+        }
+        if (weightList == null) {
+            throw new NullPointerException("weightList must not be null");
+        }
+        final List<CollectorAddress> collectorList = new ArrayList<CollectorAddress>(ipList.size());
+        for (int i = 0; i < ipList.size(); i++) {
+            final String host = ipList.get(i).trim();
+            if (host.isEmpty()) {
+                continue;
+            }
+            int weight = 1;
+            if (i < weightList.size()) {
+                final String weightString = weightList.get(i).trim();
+                if (!weightString.isEmpty()) {
+                    weight = Integer.parseInt(weightString);
+                }
+            }
+            collectorList.add(new CollectorAddress(host, weight));
+        }
+        return new CollectorGroup(collectorList);
+    }
+
+    /**
+     * @return index of the collector owning the key. the first healthy collector clockwise,
+     * or the owner itself if no collector is healthy
+     */
+    public int select(int key) {
+        final int start = findRingIndex(mix(key));
+        for (int i = 0; i < ringOwner.length; i++) {
+            final int owner = ringOwner[(start + i) % ringOwner.length];
+            if (collectorList.get(owner).isHealthy()) {
+                return owner;
+            }
+        }
+        return ringOwner[start];
+    }
+
+    private int findRingIndex(int hash) {
+        int index = Arrays.binarySearch(ringHash, hash);
+        if (index < 0) {
+            index = -(index + 1);
+        }
+        if (index == ringHash.length) {
+            // wrap around
+            return 0;
+        }
+        return index;
+    }
+
+    public boolean hasHealthyCollector() {
+        for (CollectorAddress collector : collectorList) {
+            if (collector.isHealthy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CollectorAddress getCollector(int index) {
+        return collectorList.get(index);
+    }
+
+    public List<CollectorAddress> getCollectorList() {
+        return collectorList;
+    }
+
+    public int size() {
+        return collectorList.size();
+    }
+
+    // murmur3 finalizer. String.hashCode() of "host#0", "host#1".. are too close to each other
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "CollectorGroup{" +
+                "collectorList=" + collectorList +
+                ", ringSize=" + ringHash.length +
+                '}';
+    }
+}
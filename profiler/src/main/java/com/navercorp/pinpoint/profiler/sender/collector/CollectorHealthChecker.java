@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
+import com.navercorp.pinpoint.thrift.io.NetworkAvailabilityCheckPacket;
+
+/**
+ * probes every collector of a {@link CollectorGroup} with the udp network availability check the collector already answers.
+ * a datagram and its answer cost the collector no connection, unlike a tcp connect to the pinpoint port.
+ * a collector is also marked unhealthy by {@link CollectorSocketAddressProvider} as soon as the tcp client fails to connect to it.
+ *
+ * @author agent
+ */
+public class CollectorHealthChecker implements Runnable {
+
+    static final int CHECK_TIMEOUT = 1000 * 3;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final CollectorGroup collectorGroup;
+    private final int port;
+    private final long checkInterval;
+
+    private final byte[] checkData;
+    private final DatagramSocket socket;
+    private final byte[] receiveBuffer = new byte[NetworkAvailabilityCheckPacket.DATA_OK.length];
+
+    private final Thread checkThread;
+    private volatile boolean running = false;
+
+    /**
+     * @param port udp port of the collectors answering the network availability check
+     */
+    public CollectorHealthChecker(CollectorGroup collectorGroup, int port, long checkInterval) {
+        if (collectorGroup == null) {
+            throw new NullPointerException("collectorGroup must not be null");
+        }
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("checkInterval must be positive. checkInterval:" + checkInterval);
+        }
+        this.collectorGroup = collectorGroup;
+        this.port = port;
+        this.checkInterval = checkInterval;
+        this.checkData = createCheckData();
+        this.socket = createSocket();
+
+        final ThreadFactory threadFactory = new PinpointThreadFactory("Pinpoint-CollectorHealthChecker", true);
+        this.checkThread = threadFactory.newThread(this);
+    }
+
+    private byte[] createCheckData() {
+        final HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false).createSerializer();
+        try {
+            final byte[] buffer = serializer.serialize(new NetworkAvailabilityCheckPacket());
+            return Arrays.copyOf(buffer, serializer.getInterBufferSize());
+        } catch (TException e) {
+            throw new IllegalStateException("network availability check packet serialize fail. Caused:" + e.getMessage(), e);
+        } finally {
+            serializer.close();
+        }
+    }
+
+    private DatagramSocket createSocket() {
+        try {
+            return new DatagramSocket();
+        } catch (SocketException e) {
+            throw new IllegalStateException("DatagramSocket create fail. Caused:" + e.getMessage(), e);
+        }
+    }
+
+    public void start() {
+        this.running = true;
+        this.checkThread.start();
+    }
+
+    public void stop() {
+        this.running = false;
+        this.checkThread.interrupt();
+        // wakes up a pending receive
+        this.socket.close();
+        try {
+            this.checkThread.join(3000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(checkInterval);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            try {
+                check();
+            } catch (Throwable th) {
+                if (running) {
+                    logger.warn("collector health check fail. Caused:{}", th.getMessage(), th);
+                }
+            }
+        }
+    }
+
+    void check() {
+        for (CollectorAddress collector : collectorGroup.getCollectorList()) {
+            if (!running) {
+                return;
+            }
+            final boolean healthy = isReachable(new InetSocketAddress(collector.getHost(), port));
+            if (healthy != collector.isHealthy()) {
+                logger.info("collector health changed. {} healthy:{}", collector.getHost(), healthy);
+                collector.setHealthy(healthy);
+            }
+        }
+    }
+
+    private boolean isReachable(InetSocketAddress address) {
+        if (address.isUnresolved()) {
+            return false;
+        }
+        final DatagramPacket receivePacket = new DatagramPacket(receiveBuffer, receiveBuffer.length);
+        try {
+            socket.send(new DatagramPacket(checkData, checkData.length, address));
+            final long deadline = System.currentTimeMillis() + CHECK_TIMEOUT;
+            while (true) {
+                final long remain = deadline - System.currentTimeMillis();
+                if (remain <= 0) {
+                    return false;
+                }
+                socket.setSoTimeout((int) remain);
+                receivePacket.setLength(receiveBuffer.length);
+                socket.receive(receivePacket);
+                // the collector answers from another port of the same host.
+                // a late answer to the previous check of another collector is skipped
+                if (address.getAddress().equals(receivePacket.getAddress()) && isOk(receivePacket)) {
+                    return true;
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("collector health check error. {} Caused:{}", address, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private boolean isOk(DatagramPacket packet) {
+        if (packet.getLength() != NetworkAvailabilityCheckPacket.DATA_OK.length) {
+            return false;
+        }
+        return Arrays.equals(NetworkAvailabilityCheckPacket.DATA_OK, receiveBuffer);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.util.Arrays;
+
+import com.navercorp.pinpoint.common.util.TransactionId;
+import com.navercorp.pinpoint.common.util.TransactionIdUtils;
+import com.navercorp.pinpoint.thrift.dto.TAgentStat;
+import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
+
+/**
+ * key of a message on the {@link CollectorGroup} ring.
+ * span and span chunk use the transaction id so every piece of a trace is sent to the same collector.
+ * the encoded transaction id omits the agentId on the agent which started the transaction,
+ * so the key is computed from the decoded id with the agentId of the message filled in.
+ *
+ * @author agent
+ */
+public final class CollectorRoutingKey {
+
+    private CollectorRoutingKey() {
+    }
+
+    public static int getKey(Object message) {
+        if (message instanceof TSpan) {
+            final TSpan span = (TSpan) message;
+            return hash(span.getTransactionId(), span.getAgentId());
+        }
+        if (message instanceof TSpanChunk) {
+            final TSpanChunk spanChunk = (TSpanChunk) message;
+            return hash(spanChunk.getTransactionId(), spanChunk.getAgentId());
+        }
+        if (message instanceof TAgentStatBatch) {
+            return hash(((TAgentStatBatch) message).getAgentId());
+        }
+        if (message instanceof TAgentStat) {
+            return hash(((TAgentStat) message).getAgentId());
+        }
+        if (message instanceof byte[]) {
+            // replayed frame of the spill journal. the transaction id is not known without deserializing
+            return Arrays.hashCode((byte[]) message);
+        }
+        return 0;
+    }
+
+    private static int hash(byte[] transactionIdBytes, String messageAgentId) {
+        if (transactionIdBytes == null) {
+            return 0;
+        }
+        final TransactionId transactionId;
+        try {
+            transactionId = TransactionIdUtils.parseTransactionId(transactionIdBytes);
+        } catch (RuntimeException e) {
+            return Arrays.hashCode(transactionIdBytes);
+        }
+        String agentId = transactionId.getAgentId();
+        if (agentId == null) {
+            agentId = messageAgentId;
+        }
+        final long agentStartTime = transactionId.getAgentStartTime();
+        final long transactionSequence = transactionId.getTransactionSequence();
+        int result = hash(agentId);
+        result = 31 * result + (int) (agentStartTime ^ (agentStartTime >>> 32));
+        result = 31 * result + (int) (transactionSequence ^ (transactionSequence >>> 32));
+        return result;
+    }
+
+    private static int hash(String string) {
+        if (string == null) {
+            return 0;
+        }
+        return string.hashCode();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.net.InetSocketAddress;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.rpc.client.SocketAddressProvider;
+
+/**
+ * tcp failover over a {@link CollectorGroup}. returns the collector owning the agentId, or the next healthy collector of the ring.
+ * a collector is marked unhealthy only when connecting to it fails. a lost connection is retried against the same collector first.
+ *
+ * @author agent
+ */
+public class CollectorSocketAddressProvider implements SocketAddressProvider {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final CollectorGroup collectorGroup;
+    private final int port;
+    private final int key;
+
+    // collector chosen by the last resolve(). connectFailed() gets the address returned by it.
+    // comparing host names would need a reverse lookup for ip collectors, which blocks the reconnect timer
+    private volatile Resolved lastResolved;
+
+    public CollectorSocketAddressProvider(CollectorGroup collectorGroup, int port, String agentId) {
+        if (collectorGroup == null) {
+            throw new NullPointerException("collectorGroup must not be null");
+        }
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        this.collectorGroup = collectorGroup;
+        this.port = port;
+        this.key = agentId.hashCode();
+    }
+
+    @Override
+    public InetSocketAddress resolve() {
+        final int index = collectorGroup.select(key);
+        final CollectorAddress collector = collectorGroup.getCollector(index);
+        final InetSocketAddress address = new InetSocketAddress(collector.getHost(), port);
+        this.lastResolved = new Resolved(address, collector);
+        return address;
+    }
+
+    @Override
+    public void connectFailed(InetSocketAddress address) {
+        if (address == null) {
+            return;
+        }
+        final Resolved resolved = this.lastResolved;
+        // InetSocketAddress.equals() compares the resolved InetAddress and port. no lookup
+        if (resolved == null || !resolved.address.equals(address)) {
+            logger.debug("connect failed to an address not resolved by this provider. {}", address);
+            return;
+        }
+        final CollectorAddress collector = resolved.collector;
+        if (collector.isHealthy()) {
+            logger.info("collector failover. unhealthy:{}", collector.getHost());
+            collector.setHealthy(false);
+        }
+    }
+
+    private static class Resolved {
+        private final InetSocketAddress address;
+        private final CollectorAddress collector;
+
+        private Resolved(InetSocketAddress address, CollectorAddress collector) {
+            this.address = address;
+            this.collector = collector;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CollectorSocketAddressProvider{" +
+                "collectorGroup=" + collectorGroup +
+                ", port=" + port +
+                '}';
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.spill;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded on-disk journal of already serialized frames.
+ * <p>
+ * The journal is a ring of memory-mapped segment files. frames are appended to the newest segment and consumed from the oldest one.
+ * When every segment is full, the oldest segment is overwritten. so the disk usage never exceeds segmentSize * segmentCount.
+ * <pre>
+ * segment : magic(int) sequence(long) record*
+ * record  : length(int) frame(byte[length])
+ * </pre>
+ * length 0 is the end of the written records and a negative length marks a consumed record.
+ * unconsumed records left by a previous process are recovered when the journal is opened.
+ * <p>
+ * thread safe. frames are read by a single consumer with {@link #peek()} followed by {@link #remove()}.
+ *
+ * @author agent
+ */
+public class SpillJournal {
+
+    static final int MAGIC = 0x50534A31;
+    static final int SEGMENT_HEADER_SIZE = 4 + 8;
+    static final int RECORD_HEADER_SIZE = 4;
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".spill";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final File directory;
+    private final int segmentSize;
+    private final int segmentCount;
+
+    // oldest first. the last segment is the write segment.
+    private final LinkedList<Segment> segments = new LinkedList<Segment>();
+    private final LinkedList<Segment> freeSegments = new LinkedList<Segment>();
+
+    private long nextSequence = 0;
+
+    private int frameCount = 0;
+    private long droppedFrameCount = 0;
+
+    // frame returned by the last peek()
+    private Segment peekSegment;
+    private long peekSequence;
+    private int peekPosition;
+    private int peekLength;
+
+    private boolean closed = false;
+
+    public SpillJournal(File directory, int segmentSize, int segmentCount) throws IOException {
+        if (directory == null) {
+            throw new NullPointerException("directory must not be null");
+        }
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("segmentSize too small:" + segmentSize);
+        }
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("negative segmentCount:" + segmentCount);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("spill directory create fail. directory:" + directory);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segmentCount = segmentCount;
+
+        recover();
+    }
+
+    private void recover() throws IOException {
+        final List<Segment> recovered = new ArrayList<Segment>();
+        for (int index = 0; index < segmentCount; index++) {
+            final File file = segmentFile(index);
+            if (!file.exists()) {
+                continue;
+            }
+            if (file.length() != segmentSize) {
+                // segment.size changed. can not trust the layout
+                logger.info("delete spill segment of different size. file:{}", file);
+                if (!file.delete()) {
+                    logger.warn("spill segment delete fail. file:{}", file);
+                }
+                continue;
+            }
+            final Segment segment = map(index);
+            if (segment.recover()) {
+                recovered.add(segment);
+                nextSequence = Math.max(nextSequence, segment.sequence + 1);
+                frameCount += segment.frameCount;
+            } else {
+                freeSegments.add(segment);
+            }
+        }
+        Collections.sort(recovered, new Comparator<Segment>() {
+            @Override
+            public int compare(Segment o1, Segment o2) {
+                return o1.sequence < o2.sequence ? -1 : (o1.sequence == o2.sequence ? 0 : 1);
+            }
+        });
+        segments.addAll(recovered);
+        if (frameCount > 0) {
+            logger.info("spill journal recovered. directory:{} frames:{}", directory, frameCount);
+        }
+    }
+
+    /**
+     * @return false if the frame could not be written. the frame is too large or the journal is closed
+     */
+    public synchronized boolean append(byte[] frame, int offset, int length) {
+        if (frame == null) {
+            throw new NullPointerException("frame must not be null");
+        }
+        if (closed || length <= 0) {
+            return false;
+        }
+        if (RECORD_HEADER_SIZE + length > segmentSize - SEGMENT_HEADER_SIZE) {
+            logger.warn("discard spill frame. Caused:too large frame. size:{}", length);
+            return false;
+        }
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.remaining() < RECORD_HEADER_SIZE + length) {
+            segment = nextWriteSegment();
+            if (segment == null) {
+                return false;
+            }
+        }
+        segment.write(frame, offset, length);
+        frameCount++;
+        return true;
+    }
+
+    private Segment nextWriteSegment() {
+        Segment segment = freeSegments.pollFirst();
+        if (segment == null) {
+            if (segments.size() < segmentCount) {
+                try {
+                    segment = map(unusedIndex());
+                } catch (IOException e) {
+                    logger.warn("spill segment create fail. Caused:{}", e.getMessage(), e);
+                    return null;
+                }
+            } else {
+                // ring is full. overwrite the oldest segment.
+                segment = segments.pollFirst();
+                if (segment.frameCount > 0) {
+                    frameCount -= segment.frameCount;
+                    droppedFrameCount += segment.frameCount;
+                    logger.warn("spill journal is full. drop oldest segment. frames:{} totalDropped:{}", segment.frameCount, droppedFrameCount);
+                }
+            }
+        }
+        segment.reset(nextSequence++);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private int unusedIndex() {
+        final boolean[] used = new boolean[segmentCount];
+        for (Segment segment : segments) {
+            used[segment.index] = true;
+        }
+        for (int index = 0; index < used.length; index++) {
+            if (!used[index]) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("no unused segment index");
+    }
+
+    /**
+     * @return copy of the oldest unconsumed frame, or null if the journal is empty. the frame stays in the journal until {@link #remove()}
+     */
+    public synchronized byte[] peek() {
+        if (closed) {
+            return null;
+        }
+        while (true) {
+            final Segment segment = segments.peekFirst();
+            if (segment == null) {
+                return null;
+            }
+            final int length = segment.nextFrameLength();
+            if (length > 0) {
+                this.peekSegment = segment;
+                this.peekSequence = segment.sequence;
+                this.peekPosition = segment.readPosition;
+                this.peekLength = length;
+                return segment.read(length);
+            }
+            if (segment == segments.peekLast()) {
+                // write segment. wait for the next append
+                return null;
+            }
+            // fully consumed
+            segments.pollFirst();
+            freeSegments.addLast(segment);
+        }
+    }
+
+    /**
+     * marks the frame returned by the last {@link #peek()} as consumed.
+     * ignored if the segment of that frame has been overwritten in the meantime.
+     */
+    public synchronized void remove() {
+        final Segment segment = this.peekSegment;
+        if (segment == null) {
+            return;
+        }
+        this.peekSegment = null;
+        if (closed || segment.sequence != peekSequence || segment.readPosition != peekPosition) {
+            return;
+        }
+        segment.consume(peekLength);
+        frameCount--;
+    }
+
+    public synchronized int getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized boolean isEmpty() {
+        return frameCount == 0;
+    }
+
+    public synchronized long getDroppedFrameCount() {
+        return droppedFrameCount;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Segment segment : segments) {
+            segment.force();
+            segment.unmap();
+        }
+        for (Segment segment : freeSegments) {
+            segment.unmap();
+        }
+        segments.clear();
+        freeSegments.clear();
+        peekSegment = null;
+    }
+
+    private File segmentFile(int index) {
+        return new File(directory, SEGMENT_FILE_PREFIX + index + SEGMENT_FILE_SUFFIX);
+    }
+
+    private Segment map(int index) throws IOException {
+        final File file = segmentFile(index);
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.setLength(segmentSize);
+            final MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(index, buffer);
+        } finally {
+            // the mapping stays valid after the channel is closed
+            randomAccessFile.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillJournal{" +
+                "directory=" + directory +
+                ", segmentSize=" + segmentSize +
+                ", segmentCount=" + segmentCount +
+                '}';
+    }
+
+    private static class Segment {
+        private final int index;
+        private final MappedByteBuffer buffer;
+
+        private long sequence;
+        private int writePosition;
+        private int readPosition;
+        private int frameCount;
+
+        private Segment(int index, MappedByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+
+        private boolean recover() {
+            if (buffer.getInt(0) != MAGIC) {
+                return false;
+            }
+            this.sequence = buffer.getLong(4);
+            this.readPosition = -1;
+            this.frameCount = 0;
+
+            int position = SEGMENT_HEADER_SIZE;
+            while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                final int length = buffer.getInt(position);
+                if (length == 0) {
+                    break;
+                }
+                final int frameLength = Math.abs(length);
+                if (length == Integer.MIN_VALUE || frameLength > buffer.capacity() - position - RECORD_HEADER_SIZE) {
+                    // partially written record
+                    break;
+                }
+                if (length > 0) {
+                    if (readPosition == -1) {
+                        readPosition = position;
+                    }
+                    frameCount++;
+                }
+                position += RECORD_HEADER_SIZE + frameLength;
+            }
+            this.writePosition = position;
+            if (readPosition == -1) {
+                readPosition = position;
+            }
+            return frameCount > 0;
+        }
+
+        /**
+         * releases the mapping without waiting for gc. the segment must not be accessed afterwards.
+         * falls back to gc if the jvm does not expose the cleaner of direct buffers.
+         */
+        private void unmap() {
+            try {
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner == null) {
+                    return;
+                }
+                final Method cleanMethod = cleaner.getClass().getMethod("clean");
+                cleanMethod.setAccessible(true);
+                cleanMethod.invoke(cleaner);
+            } catch (Exception ignore) {
+                // unmapped when the buffer is collected
+            }
+        }
+
+        private void reset(long sequence) {
+            this.sequence = sequence;
+            this.writePosition = SEGMENT_HEADER_SIZE;
+            this.readPosition = SEGMENT_HEADER_SIZE;
+            this.frameCount = 0;
+            buffer.putInt(SEGMENT_HEADER_SIZE, 0);
+            buffer.putLong(4, sequence);
+            buffer.putInt(0, MAGIC);
+        }
+
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        private void write(byte[] frame, int offset, int length) {
+            final int position = writePosition;
+            final ByteBuffer duplicate = buffer.duplicate();
+            duplicate.position(position + RECORD_HEADER_SIZE);
+            duplicate.put(frame, offset, length);
+
+            final int end = position + RECORD_HEADER_SIZE + length;
+            if (end + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                buffer.putInt(end, 0);
+            }
+            // length last. the record becomes visible to recover() only when the frame is completely written
+            buffer.putInt(position, length);
+
+            this.writePosition = end;
+            this.frameCount++;
+        }
+
+        private int nextFrameLength() {
+            while (readPosition + RECORD_HEADER_SIZE <= writePosition) {
+                final int length = buffer.getInt(readPosition);
+                if (length > 0) {
+                    return length;
+                }
+                readPosition += RECORD_HEADER_SIZE - length;
+            }
+            return 0;
+        }
+
+        private byte[] read(int length) {
+            final byte[] frame = new byte[length];
+            final ByteBuffer duplicate = buffer.duplicate();
+            duplicate.position(readPosition + RECORD_HEADER_SIZE);
+            duplicate.get(frame);
+            return frame;
+        }
+
+        private void consume(int length) {
+            buffer.putInt(readPosition, -length);
+            readPosition += RECORD_HEADER_SIZE + length;
+            frameCount--;
+        }
+
+        private void force() {
+            buffer.force();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.spill;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+
+/**
+ * replays frames of a {@link SpillJournal} at most drainRate frames per second,
+ * so the backlog of an outage does not compete with live data once the collector is back.
+ * the drain thread is also the only writer of overflow data, so application threads never touch the journal.
+ *
+ * @author agent
+ */
+public class SpillJournalDrainer implements Runnable {
+
+    static final long DRAIN_INTERVAL = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final SpillJournal spillJournal;
+    private final SpillJournalReplayHandler replayHandler;
+    // null if the owner appends to the journal by itself
+    private final SpillJournalOverflowHandler overflowHandler;
+    private final int framesPerDrain;
+
+    private final Thread drainThread;
+    private volatile boolean running = false;
+
+    public SpillJournalDrainer(String name, SpillJournal spillJournal, SpillJournalReplayHandler replayHandler, int drainRate) {
+        this(name, spillJournal, replayHandler, null, drainRate);
+    }
+
+    public SpillJournalDrainer(String name, SpillJournal spillJournal, SpillJournalReplayHandler replayHandler, SpillJournalOverflowHandler overflowHandler, int drainRate) {
+        if (name == null) {
+            throw new NullPointerException("name must not be null");
+        }
+        if (spillJournal == null) {
+            throw new NullPointerException("spillJournal must not be null");
+        }
+        if (replayHandler == null) {
+            throw new NullPointerException("replayHandler must not be null");
+        }
+        if (drainRate <= 0) {
+            throw new IllegalArgumentException("negative drainRate:" + drainRate);
+        }
+        this.spillJournal = spillJournal;
+        this.replayHandler = replayHandler;
+        this.overflowHandler = overflowHandler;
+        this.framesPerDrain = (int) Math.max(1, drainRate * DRAIN_INTERVAL / 1000);
+
+        final ThreadFactory threadFactory = new PinpointThreadFactory(name, true);
+        this.drainThread = threadFactory.newThread(this);
+    }
+
+    public void start() {
+        this.running = true;
+        this.drainThread.start();
+    }
+
+    public void stop() {
+        this.running = false;
+        this.drainThread.interrupt();
+        try {
+            this.drainThread.join(3000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isTerminated() {
+        return !this.drainThread.isAlive();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(DRAIN_INTERVAL);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            try {
+                spillOverflow();
+                drain();
+            } catch (Throwable th) {
+                logger.warn("spill journal drain fail. Caused:{}", th.getMessage(), th);
+            }
+        }
+        // clear the interrupt of stop() so that the last spill can map a new segment
+        Thread.interrupted();
+        try {
+            spillOverflow();
+        } catch (Throwable th) {
+            logger.warn("spill overflow fail. Caused:{}", th.getMessage(), th);
+        }
+    }
+
+    int spillOverflow() {
+        if (overflowHandler == null) {
+            return 0;
+        }
+        final int spilled = overflowHandler.spillOverflow();
+        if (spilled > 0 && logger.isDebugEnabled()) {
+            logger.debug("spill journal spilled overflow:{}", spilled);
+        }
+        return spilled;
+    }
+
+    /**
+     * @return number of replayed frames
+     */
+    int drain() {
+        int replayed = 0;
+        while (replayed < framesPerDrain) {
+            final byte[] frame = spillJournal.peek();
+            if (frame == null) {
+                break;
+            }
+            if (!replayHandler.replay(frame)) {
+                break;
+            }
+            spillJournal.remove();
+            replayed++;
+        }
+        if (replayed > 0 && logger.isDebugEnabled()) {
+            logger.debug("spill journal replayed:{} remaining:{}", replayed, spillJournal.getFrameCount());
+        }
+        return replayed;
+    }
+}
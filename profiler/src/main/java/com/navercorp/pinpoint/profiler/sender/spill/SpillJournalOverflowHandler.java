@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender.spill;
+
+/**
+ * @author agent
+ */
+public interface SpillJournalOverflowHandler {
+
+    /**
+     * writes the data queued while the send queue was full to the journal.
+     * called by the drain thread before each drain, and once more when the drainer stops.
+     *
+     * @return number of spilled frames
+     */
+    int spillOverflow();
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class IdGeneratorTest {
+
+    @Test
+    public void singleThread() {
+        IdGenerator idGenerator = new IdGenerator(4);
+        for (long i = 0; i < 10; i++) {
+            Assert.assertEquals(i, idGenerator.nextTransactionId());
+        }
+        for (long i = 0; i < 10; i++) {
+            Assert.assertEquals(-1000 - i, idGenerator.nextDisableId());
+        }
+    }
+
+    @Test
+    public void uniqueAcrossThreads() throws InterruptedException {
+        final int threadCount = 8;
+        final int idCount = 1000;
+        final int blockSize = 16;
+        final IdGenerator idGenerator = new IdGenerator(blockSize);
+        final Set<Long> transactionIds = Collections.synchronizedSet(new HashSet<Long>());
+        final Set<Long> disableIds = Collections.synchronizedSet(new HashSet<Long>());
+        final CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < idCount; j++) {
+                        transactionIds.add(idGenerator.nextTransactionId());
+                        disableIds.add(idGenerator.nextDisableId());
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(threadCount * idCount, transactionIds.size());
+        Assert.assertEquals(threadCount * idCount, disableIds.size());
+        // compact : at most one partially used block per thread
+        long maxTransactionId = Collections.max(transactionIds);
+        Assert.assertTrue(maxTransactionId < threadCount * idCount + threadCount * blockSize);
+        Assert.assertTrue(Collections.min(transactionIds) >= 0);
+        Assert.assertTrue(Collections.max(disableIds) <= -1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBlockSize() {
+        new IdGenerator(0);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TIntStringStringValue;
+
+/**
+ * @author agent
+ */
+public class SpanEventAggregatorTest {
+
+    private final Span span = new Span();
+
+    @Test
+    public void merge() {
+        SpanEventAggregator aggregator = new SpanEventAggregator();
+
+        SpanEvent first = createSpanEvent(1, 100, 10, 5);
+        Assert.assertFalse(aggregator.merge(first, true));
+        Assert.assertTrue(aggregator.hold(first, true));
+
+        Assert.assertTrue(aggregator.merge(createSpanEvent(2, 100, 20, 3), true));
+        SpanEvent error = createSpanEvent(3, 100, 30, 9);
+        error.setExceptionInfo(1, "error");
+        Assert.assertTrue(aggregator.merge(error, true));
+        Assert.assertEquals(3, aggregator.getCount());
+
+        SpanEvent flushed = aggregator.flush();
+        Assert.assertSame(first, flushed);
+        Assert.assertEquals(39 - 10, flushed.getEndElapsed());
+        Assert.assertTrue(flushed.isSetExceptionInfo());
+        Assert.assertEquals("count=3 total=17ms min=3ms max=9ms error=1", getAggregatedCall(flushed));
+        Assert.assertEquals(Integer.valueOf(3), getAggregatedCallCount(flushed));
+
+        Assert.assertNull(aggregator.flush());
+    }
+
+    @Test
+    public void notMerged() {
+        SpanEventAggregator aggregator = new SpanEventAggregator();
+        Assert.assertTrue(aggregator.hold(createSpanEvent(1, 100, 10, 5), true));
+
+        // another api
+        Assert.assertFalse(aggregator.merge(createSpanEvent(2, 200, 20, 5), true));
+        // not consecutive
+        Assert.assertFalse(aggregator.merge(createSpanEvent(3, 100, 20, 5), true));
+        // has child
+        Assert.assertFalse(aggregator.merge(createSpanEvent(2, 100, 20, 5), false));
+
+        SpanEvent remote = createSpanEvent(2, 100, 20, 5);
+        remote.setNextSpanId(10);
+        Assert.assertFalse(aggregator.merge(remote, true));
+
+        SpanEvent flushed = aggregator.flush();
+        Assert.assertNull(getAggregatedCall(flushed));
+        Assert.assertNull(getAggregatedCallCount(flushed));
+        Assert.assertFalse(aggregator.hold(remote, true));
+    }
+
+    @Test
+    public void notMerged_differentSql() {
+        SpanEventAggregator aggregator = new SpanEventAggregator();
+        SpanEvent sql1 = createSpanEvent(1, 100, 10, 5);
+        sql1.addAnnotation(new Annotation(AnnotationKey.SQL_ID.getCode(), new TIntStringStringValue(1)));
+        Assert.assertTrue(aggregator.hold(sql1, true));
+
+        SpanEvent sql2 = createSpanEvent(2, 100, 20, 5);
+        sql2.addAnnotation(new Annotation(AnnotationKey.SQL_ID.getCode(), new TIntStringStringValue(2)));
+        Assert.assertFalse(aggregator.merge(sql2, true));
+
+        SpanEvent sql1Again = createSpanEvent(2, 100, 20, 5);
+        sql1Again.addAnnotation(new Annotation(AnnotationKey.SQL_ID.getCode(), new TIntStringStringValue(1)));
+        Assert.assertTrue(aggregator.merge(sql1Again, true));
+    }
+
+    private SpanEvent createSpanEvent(int sequence, int apiId, int startElapsed, int endElapsed) {
+        SpanEvent spanEvent = new SpanEvent(span);
+        spanEvent.setSequence((short) sequence);
+        spanEvent.setApiId(apiId);
+        spanEvent.setServiceType((short) 2101);
+        spanEvent.setStartElapsed(startElapsed);
+        spanEvent.setEndElapsed(endElapsed);
+        return spanEvent;
+    }
+
+    private String getAggregatedCall(SpanEvent spanEvent) {
+        if (spanEvent.getAnnotations() == null) {
+            return null;
+        }
+        for (TAnnotation annotation : spanEvent.getAnnotations()) {
+            if (annotation.getKey() == AnnotationKey.AGGREGATED_CALL.getCode()) {
+                return annotation.getValue().getStringValue();
+            }
+        }
+        return null;
+    }
+
+    private Integer getAggregatedCallCount(SpanEvent spanEvent) {
+        if (spanEvent.getAnnotations() == null) {
+            return null;
+        }
+        for (TAnnotation annotation : spanEvent.getAnnotations()) {
+            if (annotation.getKey() == AnnotationKey.AGGREGATED_CALL_COUNT.getCode()) {
+                return annotation.getValue().getIntValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.SlotType;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.DefaultTraceContext;
+import com.navercorp.pinpoint.test.TestAgentInformation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @author agent
+ */
+public class ActiveTraceRepositoryTest {
+
+    private final DefaultTraceContext traceContext = new DefaultTraceContext(new TestAgentInformation());
+
+    @Test
+    public void testRegisterRelease() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(4);
+
+        DefaultTrace trace1 = createTrace(1);
+        DefaultTrace trace2 = createTrace(2);
+        int slot1 = repository.register(trace1);
+        int slot2 = repository.register(trace2);
+        Assert.assertEquals(2, repository.getActiveTraceCount());
+        Assert.assertEquals(2, repository.collect().size());
+
+        repository.release(slot1, trace1);
+        Assert.assertEquals(1, repository.getActiveTraceCount());
+        // double release is ignored
+        repository.release(slot1, trace1);
+        Assert.assertEquals(1, repository.getActiveTraceCount());
+
+        // released slot is reused
+        DefaultTrace trace3 = createTrace(3);
+        int slot3 = repository.register(trace3);
+        Assert.assertEquals(slot1, slot3);
+        // the previous owner of the slot can not release the new trace
+        repository.release(slot1, trace1);
+        Assert.assertEquals(2, repository.getActiveTraceCount());
+
+        repository.release(slot2, trace2);
+        repository.release(slot3, trace3);
+        Assert.assertEquals(0, repository.getActiveTraceCount());
+        Assert.assertTrue(repository.collect().isEmpty());
+    }
+
+    @Test
+    public void testOverflow() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(2);
+        Assert.assertTrue(repository.register(createTrace(1)) != ActiveTraceRepository.INVALID_SLOT);
+        Assert.assertTrue(repository.register(createTrace(2)) != ActiveTraceRepository.INVALID_SLOT);
+        Assert.assertEquals(ActiveTraceRepository.INVALID_SLOT, repository.register(createTrace(3)));
+        Assert.assertEquals(2, repository.getActiveTraceCount());
+    }
+
+    @Test
+    public void testReclaim() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(2, 1000);
+        DefaultTrace trace1 = createTrace(1);
+        int slot1 = repository.register(trace1);
+        repository.register(createTrace(2));
+
+        long currentTime = System.currentTimeMillis();
+        Assert.assertEquals(0, repository.reclaim(currentTime));
+        // running longer than maxTraceAge
+        Assert.assertEquals(2, repository.reclaim(currentTime + 2000));
+        Assert.assertEquals(0, repository.getActiveTraceCount());
+        Assert.assertEquals(2, repository.getReclaimCount());
+
+        Assert.assertTrue(repository.register(createTrace(3)) != ActiveTraceRepository.INVALID_SLOT);
+        // release of the reclaimed trace is ignored
+        repository.release(slot1, trace1);
+        Assert.assertEquals(1, repository.getActiveTraceCount());
+    }
+
+    @Test
+    public void testStripe() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(64);
+        // a full stripe borrows slots from the other stripes
+        for (int i = 0; i < 64; i++) {
+            Assert.assertTrue(repository.register(createTrace(i)) != ActiveTraceRepository.INVALID_SLOT);
+        }
+        Assert.assertEquals(64, repository.getActiveTraceCount());
+        Assert.assertEquals(64, repository.collect().size());
+        Assert.assertEquals(ActiveTraceRepository.INVALID_SLOT, repository.register(createTrace(64)));
+    }
+
+    @Test
+    public void testCollectSlowTraceRotation() {
+        // 16 stripes of 2 slots
+        ActiveTraceRepository repository = new ActiveTraceRepository(32);
+        for (int i = 0; i < 32; i++) {
+            Assert.assertTrue(repository.register(createTrace(i)) != ActiveTraceRepository.INVALID_SLOT);
+        }
+
+        long currentTime = System.currentTimeMillis();
+        Set<Trace> collected = new HashSet<Trace>();
+        Trace[] buffer = new Trace[2];
+        for (int round = 0; round < 16; round++) {
+            Assert.assertEquals(2, repository.collectSlowTrace(currentTime, 0, buffer));
+            collected.add(buffer[0]);
+            collected.add(buffer[1]);
+        }
+        // each round starts at the next stripe
+        Assert.assertEquals(32, collected.size());
+    }
+
+    @Test
+    public void testCountBySlotType() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(8);
+        repository.register(createTrace(1));
+        repository.register(createTrace(2));
+
+        long currentTime = System.currentTimeMillis();
+        int[] count = repository.countBySlotType(HistogramSchema.NORMAL_SCHEMA, currentTime);
+        Assert.assertEquals(2, count[SlotType.FAST.ordinal()]);
+
+        count = repository.countBySlotType(HistogramSchema.NORMAL_SCHEMA, currentTime + 10000);
+        Assert.assertEquals(2, count[SlotType.VERY_SLOW.ordinal()]);
+    }
+
+    @Test
+    public void testCountBySlotTypeRelease() {
+        ActiveTraceRepository repository = new ActiveTraceRepository(8);
+        DefaultTrace trace1 = createTrace(1);
+        int slot1 = repository.register(trace1);
+        repository.register(createTrace(2));
+
+        long currentTime = System.currentTimeMillis();
+        repository.release(slot1, trace1);
+        int[] count = repository.countBySlotType(HistogramSchema.NORMAL_SCHEMA, currentTime);
+        Assert.assertEquals(1, count[SlotType.FAST.ordinal()]);
+
+        // 2 seconds later
+        count = repository.countBySlotType(HistogramSchema.NORMAL_SCHEMA, currentTime + 2000);
+        Assert.assertEquals(0, count[SlotType.FAST.ordinal()]);
+        Assert.assertEquals(1, count[SlotType.NORMAL.ordinal()]);
+    }
+
+    private DefaultTrace createTrace(long id) {
+        return new DefaultTrace(traceContext, id, true);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class FoldedStackCounterTest {
+
+    @Test
+    public void fold() {
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 30),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20),
+                new StackTraceElement("com.test.Controller", "get", "Controller.java", 10)
+        };
+        Assert.assertEquals("com.test.Controller.get;com.test.Service.find;com.test.Dao.select", FoldedStackCounter.fold(stackTrace));
+    }
+
+    @Test
+    public void foldTruncated() {
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 30),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20),
+                new StackTraceElement("com.test.Controller", "get", "Controller.java", 10)
+        };
+        Assert.assertEquals("[truncated];com.test.Service.find;com.test.Dao.select", FoldedStackCounter.fold(stackTrace, 2));
+        // fits in maxDepth
+        Assert.assertEquals("com.test.Controller.get;com.test.Service.find;com.test.Dao.select", FoldedStackCounter.fold(stackTrace, 3));
+    }
+
+    @Test
+    public void count() {
+        FoldedStackCounter counter = new FoldedStackCounter(10);
+        StackTraceElement[] stackTrace = new StackTraceElement[] {
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 30),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20)
+        };
+        // a different line of the same method is merged
+        StackTraceElement[] sameMethod = new StackTraceElement[] {
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 31),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20)
+        };
+        counter.add(stackTrace);
+        counter.add(sameMethod);
+        counter.add(new StackTraceElement[0]);
+
+        Assert.assertEquals(2, counter.getSampleCount());
+        Assert.assertEquals("com.test.Service.find;com.test.Dao.select 2\n", counter.toFoldedString());
+    }
+
+    @Test
+    public void maxStackCount() {
+        FoldedStackCounter counter = new FoldedStackCounter(1);
+        counter.add(new StackTraceElement[] {new StackTraceElement("com.test.A", "a", "A.java", 1)});
+        counter.add(new StackTraceElement[] {new StackTraceElement("com.test.B", "b", "B.java", 1)});
+        counter.add(new StackTraceElement[] {new StackTraceElement("com.test.A", "a", "A.java", 1)});
+
+        Assert.assertEquals(3, counter.getSampleCount());
+        Assert.assertEquals("com.test.A.a 2\n[dropped] 1\n", counter.toFoldedString());
+    }
+
+    @Test
+    public void maxBytes() {
+        FoldedStackCounter counter = new FoldedStackCounter(10);
+        counter.add(new StackTraceElement[] {new StackTraceElement("com.test.Rare", "rare", "Rare.java", 1)});
+        for (int i = 0; i < 3; i++) {
+            counter.add(new StackTraceElement[] {new StackTraceElement("com.test.A", "a", "A.java", 1)});
+        }
+
+        // "com.test.A.a 3\n" is 15 bytes. the less frequent stack does not fit and is counted as dropped
+        String folded = counter.toFoldedString(15 + 22);
+        Assert.assertEquals("com.test.A.a 3\n[dropped] 1\n", folded);
+
+        Assert.assertEquals("com.test.A.a 3\ncom.test.Rare.rare 1\n", counter.toFoldedString());
+    }
+}
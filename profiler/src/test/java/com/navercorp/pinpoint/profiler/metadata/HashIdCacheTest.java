@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.metadata;
+
+import com.navercorp.pinpoint.common.util.MetaDataHashUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class HashIdCacheTest {
+
+    @Test
+    public void put() {
+        HashIdCache cache = new HashIdCache();
+        Result test = cache.put("test");
+        Assert.assertEquals(MetaDataHashUtils.hashId("test"), test.getId());
+        Assert.assertTrue(test.isNewValue());
+
+        Result recheck = cache.put("test");
+        Assert.assertEquals(test.getId(), recheck.getId());
+        Assert.assertFalse(recheck.isNewValue());
+    }
+
+    @Test
+    public void sameIdAcrossCache() {
+        // another agent or a restarted agent gets the same id
+        Result first = new HashIdCache().put("select * from table");
+        Result second = new HashIdCache().put("select * from table");
+        Assert.assertEquals(first.getId(), second.getId());
+    }
+}
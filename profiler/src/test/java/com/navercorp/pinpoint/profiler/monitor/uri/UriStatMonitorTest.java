@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.uri;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.test.ListenableDataSender;
+import com.navercorp.pinpoint.thrift.dto.TUriStat;
+import com.navercorp.pinpoint.thrift.dto.TUriStatBatch;
+
+/**
+ * @author agent
+ */
+public class UriStatMonitorTest {
+
+    @Test
+    public void splitBatch() {
+        UriStatRecorder recorder = new UriStatRecorder(1000);
+        for (int i = 0; i < 100; i++) {
+            recorder.record("/uri" + i, 0, UriStatRecorder.STATUS_SUCCESS, i);
+        }
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+
+        final int maxBatchBytes = 1024;
+        UriStatMonitor monitor = new UriStatMonitor(new ListenableDataSender(), "agentId", 0, recorder, 1000, maxBatchBytes);
+        List<TUriStatBatch> batchList = monitor.createUriStatBatchList(snapshot, 1234);
+
+        Assert.assertTrue(batchList.size() > 1);
+        int uriStatCount = 0;
+        for (TUriStatBatch batch : batchList) {
+            Assert.assertEquals(1234, batch.getTimestamp());
+            Assert.assertTrue(batch.getUriStatsSize() * 64 <= maxBatchBytes);
+            uriStatCount += batch.getUriStatsSize();
+        }
+        Assert.assertEquals(100, uriStatCount);
+    }
+
+    @Test
+    public void singleBatch() {
+        UriStatRecorder recorder = new UriStatRecorder(1000);
+        recorder.record("/hello", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+        recorder.record("/world", 0, UriStatRecorder.STATUS_ERROR, 1);
+        recorder.record(null, 10, UriStatRecorder.STATUS_SUCCESS, 1);
+
+        UriStatMonitor monitor = new UriStatMonitor(new ListenableDataSender(), "agentId", 0, recorder, 1000);
+        List<TUriStatBatch> batchList = monitor.createUriStatBatchList(recorder.snapshot(), 1234);
+
+        Assert.assertEquals(1, batchList.size());
+        Assert.assertEquals(3, batchList.get(0).getUriStatsSize());
+        for (TUriStat uriStat : batchList.get(0).getUriStats()) {
+            Assert.assertTrue(uriStat.isSetUri() != uriStat.isSetApiId());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.uri;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class UriStatRecorderTest {
+
+    @Test
+    public void record() {
+        UriStatRecorder recorder = new UriStatRecorder(100);
+        recorder.record("/hello", 0, UriStatRecorder.STATUS_SUCCESS, 5);
+        recorder.record("/hello", 0, UriStatRecorder.STATUS_SUCCESS, 15);
+        recorder.record("/hello", 0, UriStatRecorder.STATUS_ERROR, 100);
+        recorder.record(null, 0, UriStatRecorder.STATUS_SUCCESS, 7);
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        Assert.assertEquals(2, snapshot.size());
+
+        UriStatRecorder.UriStatCounter success = snapshot.get(new UriStatKey("/hello", 0, UriStatRecorder.STATUS_SUCCESS));
+        Assert.assertEquals(2, success.getCount());
+        Assert.assertEquals(20, success.getTotalElapsed());
+        Assert.assertEquals(15, success.getMaxElapsed());
+
+        UriStatRecorder.UriStatCounter error = snapshot.get(new UriStatKey("/hello", 0, UriStatRecorder.STATUS_ERROR));
+        Assert.assertEquals(1, error.getCount());
+
+        Assert.assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test
+    public void recordApiId() {
+        UriStatRecorder recorder = new UriStatRecorder(100);
+        recorder.record(null, 10, UriStatRecorder.STATUS_SUCCESS, 5);
+        recorder.record(null, 10, UriStatRecorder.STATUS_SUCCESS, 15);
+        recorder.record(null, 20, UriStatRecorder.STATUS_ERROR, 1);
+        recorder.record("/hello", 10, UriStatRecorder.STATUS_SUCCESS, 1);
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        Assert.assertEquals(3, snapshot.size());
+        Assert.assertEquals(2, snapshot.get(new UriStatKey(null, 10, UriStatRecorder.STATUS_SUCCESS)).getCount());
+        Assert.assertEquals(1, snapshot.get(new UriStatKey(null, 20, UriStatRecorder.STATUS_ERROR)).getCount());
+        // the uri wins over the apiId
+        Assert.assertEquals(1, snapshot.get(new UriStatKey("/hello", 0, UriStatRecorder.STATUS_SUCCESS)).getCount());
+    }
+
+    @Test
+    public void recordStatusClass() {
+        UriStatRecorder recorder = new UriStatRecorder(100);
+        recorder.record("/hello", 0, UriStatRecorder.toStatus(200, false), 1);
+        recorder.record("/hello", 0, UriStatRecorder.toStatus(204, false), 1);
+        recorder.record("/hello", 0, UriStatRecorder.toStatus(404, false), 1);
+        recorder.record("/hello", 0, UriStatRecorder.toStatus(503, true), 1);
+        recorder.record("/hello", 0, UriStatRecorder.toStatus(0, true), 1);
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        Assert.assertEquals(4, snapshot.size());
+        Assert.assertEquals(2, snapshot.get(new UriStatKey("/hello", 0, 200)).getCount());
+        Assert.assertEquals(1, snapshot.get(new UriStatKey("/hello", 0, 400)).getCount());
+        Assert.assertEquals(1, snapshot.get(new UriStatKey("/hello", 0, 500)).getCount());
+        Assert.assertEquals(1, snapshot.get(new UriStatKey("/hello", 0, UriStatRecorder.STATUS_ERROR)).getCount());
+    }
+
+    @Test
+    public void toStatus() {
+        Assert.assertEquals(100, UriStatRecorder.toStatus(101, false));
+        Assert.assertEquals(300, UriStatRecorder.toStatus(302, false));
+        Assert.assertEquals(500, UriStatRecorder.toStatus(599, false));
+        Assert.assertEquals(UriStatRecorder.STATUS_SUCCESS, UriStatRecorder.toStatus(0, false));
+        Assert.assertEquals(UriStatRecorder.STATUS_ERROR, UriStatRecorder.toStatus(0, true));
+        Assert.assertEquals(UriStatRecorder.STATUS_ERROR, UriStatRecorder.toStatus(999, true));
+    }
+
+    @Test
+    public void maxUri() {
+        UriStatRecorder recorder = new UriStatRecorder(1);
+        recorder.record("/a", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+        recorder.record("/b", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+        recorder.record("/c", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        Assert.assertEquals(2, snapshot.size());
+        UriStatRecorder.UriStatCounter others = snapshot.get(new UriStatKey(UriStatRecorder.OTHERS_URI, 0, UriStatRecorder.STATUS_SUCCESS));
+        Assert.assertEquals(2, others.getCount());
+    }
+
+    @Test
+    public void maxUriAcrossThreads() throws InterruptedException {
+        final int maxUriCount = 10;
+        final UriStatRecorder recorder = new UriStatRecorder(maxUriCount);
+        final int threadCount = 8;
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final int threadIndex = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < maxUriCount; j++) {
+                        recorder.record("/thread" + threadIndex + "/uri" + j, 0, UriStatRecorder.STATUS_SUCCESS, 1);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        // admitted uris + others
+        Assert.assertEquals(maxUriCount + 1, snapshot.size());
+        UriStatRecorder.UriStatCounter others = snapshot.get(new UriStatKey(UriStatRecorder.OTHERS_URI, 0, UriStatRecorder.STATUS_SUCCESS));
+        Assert.assertEquals(threadCount * maxUriCount - maxUriCount, others.getCount());
+
+        // the limit starts over every interval
+        recorder.record("/next", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+        Assert.assertNotNull(recorder.snapshot().get(new UriStatKey("/next", 0, UriStatRecorder.STATUS_SUCCESS)));
+    }
+
+    @Test
+    public void normalize() {
+        Assert.assertEquals("/user/*/profile", UriStatRecorder.normalize("/user/1234/profile"));
+        Assert.assertEquals("/user/*", UriStatRecorder.normalize("/user/1234"));
+        Assert.assertEquals("/user/*/", UriStatRecorder.normalize("/user/1234/"));
+        Assert.assertEquals("/user/v2/profile", UriStatRecorder.normalize("/user/v2/profile"));
+        Assert.assertEquals("/", UriStatRecorder.normalize("/"));
+        Assert.assertEquals("", UriStatRecorder.normalize(""));
+    }
+
+    @Test
+    public void recordNormalizedUri() {
+        UriStatRecorder recorder = new UriStatRecorder(100);
+        recorder.record("/user/1234/profile", 0, UriStatRecorder.STATUS_SUCCESS, 1);
+        recorder.record("/user/5678/profile", 0, UriStatRecorder.STATUS_SUCCESS, 2);
+        recorder.record("/user/*/profile", 0, UriStatRecorder.STATUS_SUCCESS, 3);
+        recorder.record("/user/v2/profile", 0, UriStatRecorder.STATUS_SUCCESS, 4);
+
+        Map<UriStatKey, UriStatRecorder.UriStatCounter> snapshot = recorder.snapshot();
+        Assert.assertEquals(2, snapshot.size());
+        Assert.assertEquals(3, snapshot.get(new UriStatKey("/user/*/profile", 0, UriStatRecorder.STATUS_SUCCESS)).getCount());
+        Assert.assertEquals(1, snapshot.get(new UriStatKey("/user/v2/profile", 0, UriStatRecorder.STATUS_SUCCESS)).getCount());
+    }
+
+    @Test
+    public void normalizedHashCodeAndEquals() {
+        String[] uris = {"/user/1234/profile", "/user/1234", "/user/1234/", "/user/v2/profile", "/", "", "1", "//12//"};
+        for (String uri : uris) {
+            final String normalized = UriStatRecorder.normalize(uri);
+            Assert.assertEquals(uri, normalized.hashCode(), UriStatRecorder.normalizedHashCode(uri));
+            Assert.assertTrue(uri, UriStatRecorder.normalizedEquals(normalized, uri));
+        }
+        Assert.assertFalse(UriStatRecorder.normalizedEquals("/user/*", "/user/1234/"));
+        Assert.assertFalse(UriStatRecorder.normalizedEquals("/user/*/", "/user/1234"));
+        Assert.assertFalse(UriStatRecorder.normalizedEquals("/user/v2", "/user/12"));
+    }
+
+    @Test
+    public void multiThread() throws InterruptedException {
+        final UriStatRecorder recorder = new UriStatRecorder(100);
+        final int threadCount = 8;
+        final int recordCount = 10000;
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < recordCount; j++) {
+                        recorder.record("/hello", 0, UriStatRecorder.STATUS_SUCCESS, j % 100);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        UriStatRecorder.UriStatCounter counter = recorder.snapshot().get(new UriStatKey("/hello", 0, UriStatRecorder.STATUS_SUCCESS));
+        Assert.assertEquals(threadCount * recordCount, counter.getCount());
+    }
+}
@@ -64,7 +64,7 @@ public class ActiveThreadServiceTest {
 
     private void addActiveTrace(ActiveTraceRepository activeTraceRepository, int addCount) {
         for (int i = 0; i < addCount; i++) {
-            activeTraceRepository.put((long) idGenerator.incrementAndGet(), createDefaultTrace());
+            activeTraceRepository.register(createDefaultTrace());
         }
     }
 
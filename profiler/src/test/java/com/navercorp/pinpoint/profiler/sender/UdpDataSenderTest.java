@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.sender;
 
 import com.navercorp.pinpoint.profiler.logging.Slf4jLoggerBinderInitializer;
 import com.navercorp.pinpoint.profiler.sender.UdpDataSender;
+import com.navercorp.pinpoint.profiler.sender.spill.SpillJournal;
 import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
 
 import org.junit.Assert;
@@ -26,7 +27,9 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.thrift.TBase;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +39,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @author emeroad
  */
 public class UdpDataSenderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @BeforeClass
     public static void before() {
         Slf4jLoggerBinderInitializer.beforeClass();
@@ -92,7 +99,52 @@ public class UdpDataSenderTest {
         Assert.assertFalse(limit);
     }
 
-    
+    @Test
+    public void spillWhenQueueIsFull() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final SpillJournal spillJournal = new SpillJournal(temporaryFolder.newFolder(), 1024 * 64, 2);
+
+        UdpDataSender sender = new UdpDataSender("localhost", 9009, "test", 1, 1000, 1024 * 64 * 100, spillJournal, CollectorReachability.ALWAYS, 1) {
+            @Override
+            protected void sendPacket(Object message) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendPacket(message);
+            }
+        };
+        try {
+            // blocks the io thread
+            Assert.assertTrue(sender.send(new TAgentInfo()));
+            Assert.assertTrue(sending.await(3000, TimeUnit.MILLISECONDS));
+            // fills the queue
+            Assert.assertTrue(sender.send(new TAgentInfo()));
+
+            for (int i = 0; i < 5; i++) {
+                Assert.assertTrue(sender.send(new TAgentInfo()));
+                // spilled by the drain thread
+                awaitFrameCount(spillJournal, i + 1, 3000);
+            }
+            Assert.assertEquals(5, spillJournal.getFrameCount());
+            Assert.assertEquals(0, sender.getOverflowDropCount());
+        } finally {
+            release.countDown();
+            sender.stop();
+        }
+    }
+
+    private void awaitFrameCount(SpillJournal spillJournal, int frameCount, long waitTimeMillis) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + waitTimeMillis;
+        while (spillJournal.getFrameCount() < frameCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(frameCount, spillJournal.getFrameCount());
+    }
+
     private boolean sendMessage_getLimit(TBase tbase, long waitTimeMillis) throws InterruptedException {
         final AtomicBoolean limitCounter = new AtomicBoolean(false);
         final CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CollectorGroupTest {
+
+    private static final int KEY_COUNT = 100000;
+
+    @Test
+    public void create() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("10.0.0.1", " 10.0.0.2", ""), Arrays.asList("1", "3"));
+        Assert.assertEquals(2, group.size());
+        Assert.assertEquals("10.0.0.2", group.getCollector(1).getHost());
+        Assert.assertEquals(3, group.getCollector(1).getWeight());
+
+        CollectorGroup defaultWeight = CollectorGroup.create(Arrays.asList("10.0.0.1", "10.0.0.2"), Collections.<String>emptyList());
+        Assert.assertEquals(1, defaultWeight.getCollector(0).getWeight());
+        Assert.assertEquals(1, defaultWeight.getCollector(1).getWeight());
+    }
+
+    @Test
+    public void weightedDistribution() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("10.0.0.1", "10.0.0.2", "10.0.0.3"), Arrays.asList("1", "1", "2"));
+        int[] count = new int[group.size()];
+        for (int key = 0; key < KEY_COUNT; key++) {
+            count[group.select(key)]++;
+        }
+        assertShare(KEY_COUNT / 4, count[0]);
+        assertShare(KEY_COUNT / 4, count[1]);
+        assertShare(KEY_COUNT / 2, count[2]);
+    }
+
+    private void assertShare(int expected, int actual) {
+        Assert.assertTrue("expected:" + expected + " actual:" + actual, Math.abs(expected - actual) < expected * 0.2);
+    }
+
+    @Test
+    public void sameKeySameCollector() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("10.0.0.1", "10.0.0.2"), Collections.<String>emptyList());
+        for (int key = 0; key < 1000; key++) {
+            Assert.assertEquals(group.select(key), group.select(key));
+        }
+    }
+
+    @Test
+    public void failover() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("10.0.0.1", "10.0.0.2", "10.0.0.3"), Collections.<String>emptyList());
+        int[] before = new int[KEY_COUNT];
+        for (int key = 0; key < KEY_COUNT; key++) {
+            before[key] = group.select(key);
+        }
+
+        group.getCollector(1).setHealthy(false);
+        for (int key = 0; key < KEY_COUNT; key++) {
+            final int after = group.select(key);
+            Assert.assertTrue(after != 1);
+            if (before[key] != 1) {
+                // keys of healthy collectors do not move
+                Assert.assertEquals(before[key], after);
+            }
+        }
+
+        group.getCollector(1).setHealthy(true);
+        for (int key = 0; key < KEY_COUNT; key++) {
+            Assert.assertEquals(before[key], group.select(key));
+        }
+    }
+
+    @Test
+    public void noHealthyCollector() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("10.0.0.1", "10.0.0.2"), Collections.<String>emptyList());
+        final int owner = group.select(10);
+        group.getCollector(0).setHealthy(false);
+        group.getCollector(1).setHealthy(false);
+        Assert.assertEquals(owner, group.select(10));
+    }
+}
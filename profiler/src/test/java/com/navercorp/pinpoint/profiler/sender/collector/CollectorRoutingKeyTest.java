@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.common.util.TransactionIdUtils;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
+
+/**
+ * @author agent
+ */
+public class CollectorRoutingKeyTest {
+
+    @Test
+    public void sameTransactionAcrossAgents() {
+        // the agent which started the transaction omits its agentId
+        TSpan rootSpan = new TSpan();
+        rootSpan.setAgentId("agentA");
+        rootSpan.setTransactionId(TransactionIdUtils.formatBytes(null, 100, 1));
+
+        TSpan childSpan = new TSpan();
+        childSpan.setAgentId("agentB");
+        childSpan.setTransactionId(TransactionIdUtils.formatBytes("agentA", 100, 1));
+
+        TSpanChunk rootSpanChunk = new TSpanChunk();
+        rootSpanChunk.setAgentId("agentA");
+        rootSpanChunk.setTransactionId(TransactionIdUtils.formatBytes(null, 100, 1));
+
+        final int key = CollectorRoutingKey.getKey(rootSpan);
+        Assert.assertEquals(key, CollectorRoutingKey.getKey(childSpan));
+        Assert.assertEquals(key, CollectorRoutingKey.getKey(rootSpanChunk));
+    }
+
+    @Test
+    public void differentTransaction() {
+        TSpan span1 = new TSpan();
+        span1.setAgentId("agentA");
+        span1.setTransactionId(TransactionIdUtils.formatBytes(null, 100, 1));
+
+        TSpan span2 = new TSpan();
+        span2.setAgentId("agentB");
+        span2.setTransactionId(TransactionIdUtils.formatBytes(null, 100, 1));
+
+        Assert.assertFalse(CollectorRoutingKey.getKey(span1) == CollectorRoutingKey.getKey(span2));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.collector;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CollectorSocketAddressProviderTest {
+
+    @Test
+    public void connectFailedMarksIpCollector() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("127.0.0.1", "127.0.0.2"), Collections.<String>emptyList());
+        CollectorSocketAddressProvider provider = new CollectorSocketAddressProvider(group, 9994, "agentId");
+
+        InetSocketAddress first = provider.resolve();
+        CollectorAddress owner = group.getCollector(group.select("agentId".hashCode()));
+        Assert.assertEquals(owner.getHost(), first.getAddress().getHostAddress());
+
+        provider.connectFailed(first);
+        Assert.assertFalse(owner.isHealthy());
+
+        InetSocketAddress second = provider.resolve();
+        Assert.assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void connectFailedIgnoresUnknownAddress() {
+        CollectorGroup group = CollectorGroup.create(Arrays.asList("127.0.0.1", "127.0.0.2"), Collections.<String>emptyList());
+        CollectorSocketAddressProvider provider = new CollectorSocketAddressProvider(group, 9994, "agentId");
+        provider.resolve();
+
+        provider.connectFailed(new InetSocketAddress("127.0.0.3", 9994));
+        Assert.assertTrue(group.hasHealthyCollector());
+        for (CollectorAddress collector : group.getCollectorList()) {
+            Assert.assertTrue(collector.isHealthy());
+        }
+    }
+}
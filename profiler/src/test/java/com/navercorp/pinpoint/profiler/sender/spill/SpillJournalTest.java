@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.sender.spill;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author agent
+ */
+public class SpillJournalTest {
+
+    private static final int SEGMENT_SIZE = 128;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void appendAndPeek() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 2);
+        Assert.assertNull(journal.peek());
+
+        Assert.assertTrue(journal.append(frame(1, 10), 0, 10));
+        Assert.assertTrue(journal.append(frame(2, 20), 0, 20));
+        Assert.assertEquals(2, journal.getFrameCount());
+
+        // peek without remove returns the same frame
+        Assert.assertArrayEquals(frame(1, 10), journal.peek());
+        Assert.assertArrayEquals(frame(1, 10), journal.peek());
+        journal.remove();
+
+        Assert.assertArrayEquals(frame(2, 20), journal.peek());
+        journal.remove();
+
+        Assert.assertNull(journal.peek());
+        Assert.assertTrue(journal.isEmpty());
+        journal.close();
+    }
+
+    @Test
+    public void rotate() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 3);
+        // 3 records of 38 bytes per segment
+        for (int i = 0; i < 6; i++) {
+            Assert.assertTrue(journal.append(frame(i, 34), 0, 34));
+        }
+        for (int i = 0; i < 6; i++) {
+            Assert.assertArrayEquals(frame(i, 34), journal.peek());
+            journal.remove();
+        }
+        Assert.assertNull(journal.peek());
+
+        // consumed segments are reused
+        for (int i = 0; i < 9; i++) {
+            Assert.assertTrue(journal.append(frame(i, 34), 0, 34));
+        }
+        Assert.assertEquals(9, journal.getFrameCount());
+        Assert.assertEquals(0, journal.getDroppedFrameCount());
+        journal.close();
+    }
+
+    @Test
+    public void overwriteOldestSegment() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 2);
+        for (int i = 0; i < 7; i++) {
+            Assert.assertTrue(journal.append(frame(i, 34), 0, 34));
+        }
+        // frames 0~2 are dropped with the first segment
+        Assert.assertEquals(3, journal.getDroppedFrameCount());
+        Assert.assertEquals(4, journal.getFrameCount());
+        Assert.assertArrayEquals(frame(3, 34), journal.peek());
+        journal.close();
+    }
+
+    @Test
+    public void removeAfterOverwrite() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 1);
+        Assert.assertTrue(journal.append(frame(0, 34), 0, 34));
+        Assert.assertArrayEquals(frame(0, 34), journal.peek());
+
+        for (int i = 1; i < 4; i++) {
+            Assert.assertTrue(journal.append(frame(i, 34), 0, 34));
+        }
+        // the peeked frame has been overwritten. remove() must not consume frame 3
+        journal.remove();
+        Assert.assertEquals(1, journal.getFrameCount());
+        Assert.assertArrayEquals(frame(3, 34), journal.peek());
+        journal.close();
+    }
+
+    @Test
+    public void tooLargeFrame() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 2);
+        Assert.assertFalse(journal.append(new byte[SEGMENT_SIZE], 0, SEGMENT_SIZE));
+        Assert.assertTrue(journal.isEmpty());
+        journal.close();
+    }
+
+    @Test
+    public void recover() throws IOException {
+        File directory = temporaryFolder.newFolder();
+        SpillJournal journal = new SpillJournal(directory, SEGMENT_SIZE, 3);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(journal.append(frame(i, 34), 0, 34));
+        }
+        journal.peek();
+        journal.remove();
+        journal.close();
+
+        SpillJournal recovered = new SpillJournal(directory, SEGMENT_SIZE, 3);
+        Assert.assertEquals(4, recovered.getFrameCount());
+        for (int i = 1; i < 5; i++) {
+            Assert.assertArrayEquals(frame(i, 34), recovered.peek());
+            recovered.remove();
+        }
+        Assert.assertNull(recovered.peek());
+
+        Assert.assertTrue(recovered.append(frame(5, 34), 0, 34));
+        Assert.assertArrayEquals(frame(5, 34), recovered.peek());
+        recovered.close();
+    }
+
+    @Test
+    public void drain() throws IOException {
+        SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 3);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(journal.append(frame(i, 10), 0, 10));
+        }
+        final int[] accept = {2};
+        SpillJournalDrainer drainer = new SpillJournalDrainer("test", journal, new SpillJournalReplayHandler() {
+            @Override
+            public boolean replay(byte[] frame) {
+                return accept[0]-- > 0;
+            }
+        }, 30);
+        // 3 frames per drain. the handler rejects the third frame
+        Assert.assertEquals(2, drainer.drain());
+        Assert.assertEquals(3, journal.getFrameCount());
+
+        accept[0] = 10;
+        Assert.assertEquals(3, drainer.drain());
+        Assert.assertTrue(journal.isEmpty());
+        journal.close();
+    }
+
+    @Test
+    public void spillOverflowOnStop() throws IOException {
+        final SpillJournal journal = new SpillJournal(temporaryFolder.newFolder(), SEGMENT_SIZE, 3);
+        SpillJournalDrainer drainer = new SpillJournalDrainer("test", journal, new SpillJournalReplayHandler() {
+            @Override
+            public boolean replay(byte[] frame) {
+                return false;
+            }
+        }, new SpillJournalOverflowHandler() {
+            @Override
+            public int spillOverflow() {
+                return journal.append(frame(1, 10), 0, 10) ? 1 : 0;
+            }
+        }, 30);
+        drainer.start();
+        drainer.stop();
+        Assert.assertTrue(drainer.isTerminated());
+        // at least the last spill of the stopping drain thread
+        Assert.assertTrue(journal.getFrameCount() >= 1);
+        journal.close();
+    }
+
+    private byte[] frame(int value, int length) {
+        byte[] frame = new byte[length];
+        for (int i = 0; i < length; i++) {
+            frame[i] = (byte) (value + i);
+        }
+        return frame;
+    }
+}
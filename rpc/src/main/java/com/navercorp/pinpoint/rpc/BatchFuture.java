@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.util.Timeout;
+import org.jboss.netty.util.TimerTask;
+
+/**
+ * aggregates the futures of requests sent together.
+ * the whole batch shares a single timer entry, and callers wait once for every response instead of awaiting each future in turn.
+ *
+ * @author agent
+ */
+public class BatchFuture<T> implements TimerTask, ChannelFutureListener {
+
+    private final List<DefaultFuture<T>> futureList;
+
+    private final Object lock = new Object();
+    private int remaining;
+
+    private volatile Timeout timeout;
+
+    public BatchFuture(List<? extends DefaultFuture<T>> futureList) {
+        if (futureList == null) {
+            throw new NullPointerException("futureList must not be null");
+        }
+        this.futureList = Collections.unmodifiableList(new ArrayList<DefaultFuture<T>>(futureList));
+        this.remaining = this.futureList.size();
+
+        final FutureListener<T> completeListener = new FutureListener<T>() {
+            @Override
+            public void onComplete(Future<T> future) {
+                countDown();
+            }
+        };
+        for (DefaultFuture<T> future : this.futureList) {
+            future.setListener(completeListener);
+        }
+    }
+
+    private void countDown() {
+        synchronized (lock) {
+            remaining--;
+            if (remaining > 0) {
+                return;
+            }
+            lock.notifyAll();
+        }
+        cancelTimeout();
+    }
+
+    private void cancelTimeout() {
+        final Timeout timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public List<DefaultFuture<T>> getFutureList() {
+        return futureList;
+    }
+
+    public int size() {
+        return futureList.size();
+    }
+
+    public boolean isReady() {
+        synchronized (lock) {
+            return remaining <= 0;
+        }
+    }
+
+    /**
+     * @return true if every future of the batch completed within the given time.
+     */
+    public boolean await(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("timeoutMillis must not be negative :" + timeoutMillis);
+        }
+
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        boolean interrupted = false;
+        try {
+            synchronized (lock) {
+                while (remaining > 0) {
+                    final long waitTime = deadline - System.currentTimeMillis();
+                    if (waitTime <= 0) {
+                        return false;
+                    }
+                    try {
+                        lock.wait(waitTime);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        return remaining <= 0;
+                    }
+                }
+                return true;
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void setFailure(Throwable cause) {
+        for (DefaultFuture<T> future : futureList) {
+            future.setFailure(cause);
+        }
+    }
+
+    @Override
+    public void run(Timeout timeout) throws Exception {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        setFailure(new PinpointSocketException("timeout"));
+    }
+
+    @Override
+    public void operationComplete(ChannelFuture future) throws Exception {
+        if (!future.isSuccess()) {
+            // io write fail
+            setFailure(future.getCause());
+        }
+    }
+
+    public void setTimeout(Timeout timeout) {
+        if (timeout == null) {
+            throw new NullPointerException("timeout");
+        }
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("BatchFuture");
+        sb.append("{size=").append(futureList.size());
+        synchronized (lock) {
+            sb.append(", remaining=").append(remaining);
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -42,6 +42,9 @@ public class PinpointClient implements PinpointSocket {
     private volatile PinpointClientHandler pinpointClientHandler;
 
     private volatile boolean closed;
+
+    // null if the client always reconnects to the same address
+    private volatile SocketAddressProvider socketAddressProvider;
     
     private List<PinpointClientReconnectEventListener> reconnectEventListeners = new CopyOnWriteArrayList<PinpointClientReconnectEventListener>();
     
@@ -72,6 +75,14 @@ public class PinpointClient implements PinpointSocket {
     }
     
 
+    void setSocketAddressProvider(SocketAddressProvider socketAddressProvider) {
+        this.socketAddressProvider = socketAddressProvider;
+    }
+
+    SocketAddressProvider getSocketAddressProvider() {
+        return socketAddressProvider;
+    }
+
     /*
         because reconnectEventListener's constructor contains Dummy and can't be access through setter,
         guarantee it is not null.
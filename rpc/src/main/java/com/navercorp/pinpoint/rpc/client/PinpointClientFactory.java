@@ -220,6 +220,25 @@ public class PinpointClientFactory {
         return pinpointClient;
     }
 
+    /**
+     * connects to the address of the provider. the provider is asked again whenever the connection is lost.
+     */
+    public PinpointClient connect(SocketAddressProvider socketAddressProvider) throws PinpointSocketException {
+        if (socketAddressProvider == null) {
+            throw new NullPointerException("socketAddressProvider must not be null");
+        }
+        final InetSocketAddress address = socketAddressProvider.resolve();
+        final PinpointClient pinpointClient;
+        try {
+            pinpointClient = connect(address);
+        } catch (PinpointSocketException e) {
+            socketAddressProvider.connectFailed(address);
+            throw e;
+        }
+        pinpointClient.setSocketAddressProvider(socketAddressProvider);
+        return pinpointClient;
+    }
+
     public PinpointClient reconnect(String host, int port) throws PinpointSocketException {
         SocketAddress address = new InetSocketAddress(host, port);
         ChannelFuture connectFuture = bootstrap.connect(address);
@@ -249,6 +268,16 @@ public class PinpointClientFactory {
         return pinpointClient;
     }
 
+    public PinpointClient scheduledConnect(SocketAddressProvider socketAddressProvider) {
+        if (socketAddressProvider == null) {
+            throw new NullPointerException("socketAddressProvider must not be null");
+        }
+        PinpointClient pinpointClient = new PinpointClient(new ReconnectStateClientHandler());
+        pinpointClient.setSocketAddressProvider(socketAddressProvider);
+        reconnect(pinpointClient, socketAddressProvider);
+        return pinpointClient;
+    }
+
     PinpointClientHandler getSocketHandler(ChannelFuture channelConnectFuture, SocketAddress address) {
         if (address == null) {
             throw new NullPointerException("address");
@@ -309,7 +338,18 @@ public class PinpointClientFactory {
     }
 
     void reconnect(final PinpointClient pinpointClient, final SocketAddress socketAddress) {
-        ConnectEvent connectEvent = new ConnectEvent(pinpointClient, socketAddress);
+        final SocketAddressProvider socketAddressProvider = pinpointClient.getSocketAddressProvider();
+        if (socketAddressProvider != null) {
+            // failover. the provider decides where to go next
+            reconnect(pinpointClient, socketAddressProvider);
+            return;
+        }
+        ConnectEvent connectEvent = new ConnectEvent(pinpointClient, socketAddress, null);
+        timer.newTimeout(connectEvent, reconnectDelay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect(final PinpointClient pinpointClient, final SocketAddressProvider socketAddressProvider) {
+        ConnectEvent connectEvent = new ConnectEvent(pinpointClient, null, socketAddressProvider);
         timer.newTimeout(connectEvent, reconnectDelay, TimeUnit.MILLISECONDS);
     }
 
@@ -317,18 +357,28 @@ public class PinpointClientFactory {
 
         private final Logger logger = LoggerFactory.getLogger(getClass());
         private final PinpointClient pinpointClient;
-        private final SocketAddress socketAddress;
+        // one of fixedSocketAddress and socketAddressProvider is set
+        private final SocketAddress fixedSocketAddress;
+        private final SocketAddressProvider socketAddressProvider;
 
-        private ConnectEvent(PinpointClient pinpointClient, SocketAddress socketAddress) {
+        private ConnectEvent(PinpointClient pinpointClient, SocketAddress fixedSocketAddress, SocketAddressProvider socketAddressProvider) {
             if (pinpointClient == null) {
                 throw new NullPointerException("pinpointClient must not be null");
             }
-            if (socketAddress == null) {
+            if (fixedSocketAddress == null && socketAddressProvider == null) {
                 throw new NullPointerException("socketAddress must not be null");
             }
 
             this.pinpointClient = pinpointClient;
-            this.socketAddress = socketAddress;
+            this.fixedSocketAddress = fixedSocketAddress;
+            this.socketAddressProvider = socketAddressProvider;
+        }
+
+        private SocketAddress resolveSocketAddress() {
+            if (socketAddressProvider != null) {
+                return socketAddressProvider.resolve();
+            }
+            return fixedSocketAddress;
         }
 
         @Override
@@ -343,6 +393,7 @@ public class PinpointClientFactory {
                 return;
             }
 
+            final SocketAddress socketAddress = resolveSocketAddress();
             logger.warn("try reconnect. connectAddress:{}", socketAddress);
             final ChannelFuture channelFuture = reconnect(socketAddress);
             Channel channel = channelFuture.getChannel();
@@ -367,7 +418,12 @@ public class PinpointClientFactory {
                                 logger.warn("reconnect fail. {} Caused:{}", socketAddress, cause.getMessage());
                             }
                           */
-                            reconnect(pinpointClient, socketAddress);
+                            if (socketAddressProvider != null) {
+                                socketAddressProvider.connectFailed((InetSocketAddress) socketAddress);
+                                reconnect(pinpointClient, socketAddressProvider);
+                            } else {
+                                reconnect(pinpointClient, socketAddress);
+                            }
                         } else {
                             logger.info("pinpointClient is closed. stop reconnect.");
                         }
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.rpc.client;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -28,6 +30,7 @@ import org.jboss.netty.util.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.navercorp.pinpoint.rpc.BatchFuture;
 import com.navercorp.pinpoint.rpc.ChannelWriteFailListenableFuture;
 import com.navercorp.pinpoint.rpc.DefaultFuture;
 import com.navercorp.pinpoint.rpc.FailureEventHandler;
@@ -159,6 +162,44 @@ public class RequestManager {
         return future;
     }
 
+    public BatchFuture<ResponseMessage> register(List<RequestPacket> requestPacketList) {
+        return register(requestPacketList, defaultTimeoutMillis);
+    }
+
+    /**
+     * registers requests sent together.
+     * each request is still matched to its response by requestId, but the batch is scheduled on the timer only once.
+     */
+    public BatchFuture<ResponseMessage> register(List<RequestPacket> requestPacketList, long timeoutMillis) {
+        if (requestPacketList == null) {
+            throw new NullPointerException("requestPacketList must not be null");
+        }
+        final List<ChannelWriteFailListenableFuture<ResponseMessage>> futureList = new ArrayList<ChannelWriteFailListenableFuture<ResponseMessage>>(requestPacketList.size());
+        for (RequestPacket requestPacket : requestPacketList) {
+            final int requestId = getNextRequestId();
+            requestPacket.setRequestId(requestId);
+
+            final ChannelWriteFailListenableFuture<ResponseMessage> future = new ChannelWriteFailListenableFuture<ResponseMessage>(timeoutMillis);
+
+            final DefaultFuture old = this.requestMap.put(requestId, future);
+            if (old != null) {
+                throw new PinpointSocketException("unexpected error. old future exist:" + old + " id:" + requestId);
+            }
+            future.setFailureEventHandler(createFailureEventHandler(requestId));
+            futureList.add(future);
+        }
+
+        final BatchFuture<ResponseMessage> batchFuture = new BatchFuture<ResponseMessage>(futureList);
+        try {
+            Timeout timeout = timer.newTimeout(batchFuture, timeoutMillis, TimeUnit.MILLISECONDS);
+            batchFuture.setTimeout(timeout);
+        } catch (IllegalStateException e) {
+            // this case is that timer has been shutdown. That maybe just means that socket has been closed.
+            batchFuture.setFailure(new PinpointSocketException("socket closed"));
+        }
+        return batchFuture;
+    }
+
 
     public void close() {
         logger.debug("close()");
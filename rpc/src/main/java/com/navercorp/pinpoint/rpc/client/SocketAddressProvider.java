@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.client;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Supplies the address to connect to. resolve() is called again on every reconnect attempt,
+ * so an implementation may return a different server after the previous one failed.
+ *
+ * @author agent
+ */
+public interface SocketAddressProvider {
+
+    InetSocketAddress resolve();
+
+    /**
+     * called when a connect to an address returned by {@link #resolve()} failed.
+     * a reconnect after the connection was lost does not mean the server is down, so only actual connect failures are reported.
+     */
+    void connectFailed(InetSocketAddress address);
+
+}
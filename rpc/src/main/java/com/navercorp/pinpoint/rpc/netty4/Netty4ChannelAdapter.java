@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.netty4;
+
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.util.AttributeKey;
+
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelConfig;
+import org.jboss.netty.channel.ChannelFactory;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.DefaultChannelConfig;
+import org.jboss.netty.channel.DefaultChannelFuture;
+
+import com.navercorp.pinpoint.rpc.util.AssertUtils;
+
+/**
+ * exposes a Netty 4 channel as a Netty 3 {@link Channel}.
+ * {@link com.navercorp.pinpoint.rpc.server.DefaultPinpointServer}, {@link com.navercorp.pinpoint.rpc.client.RequestManager}
+ * and {@link com.navercorp.pinpoint.rpc.stream.StreamChannelManager} only write packets, close the channel and read its addresses,
+ * so they run unchanged on top of this adapter.
+ * pipeline, factory and bind/connect operations belong to the Netty 4 bootstrap and are not supported.
+ *
+ * @author agent
+ */
+public class Netty4ChannelAdapter implements Channel {
+
+    public static final AttributeKey<Netty4ChannelAdapter> ADAPTER_KEY = AttributeKey.valueOf(Netty4ChannelAdapter.class.getName());
+
+    private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+
+    private final Integer id = ID_GENERATOR.incrementAndGet();
+
+    private final io.netty.channel.Channel channel;
+    private final ChannelConfig config = new DefaultChannelConfig();
+    private final DefaultChannelFuture closeFuture;
+
+    private volatile Object attachment;
+
+    public Netty4ChannelAdapter(io.netty.channel.Channel channel) {
+        AssertUtils.assertNotNull(channel, "channel must not be null");
+
+        this.channel = channel;
+        this.closeFuture = new DefaultChannelFuture(this, false);
+        channel.closeFuture().addListener(new io.netty.channel.ChannelFutureListener() {
+            @Override
+            public void operationComplete(io.netty.channel.ChannelFuture future) throws Exception {
+                closeFuture.setSuccess();
+            }
+        });
+    }
+
+    public static Netty4ChannelAdapter get(io.netty.channel.Channel channel) {
+        return channel.attr(ADAPTER_KEY).get();
+    }
+
+    public io.netty.channel.Channel getNetty4Channel() {
+        return channel;
+    }
+
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    @Override
+    public ChannelFactory getFactory() {
+        throw new UnsupportedOperationException("getFactory");
+    }
+
+    @Override
+    public Channel getParent() {
+        return null;
+    }
+
+    @Override
+    public ChannelConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public ChannelPipeline getPipeline() {
+        throw new UnsupportedOperationException("getPipeline");
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public boolean isBound() {
+        return channel.isActive();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel.isActive();
+    }
+
+    @Override
+    public SocketAddress getLocalAddress() {
+        return channel.localAddress();
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+        return channel.remoteAddress();
+    }
+
+    @Override
+    public ChannelFuture write(Object message) {
+        return adapt(channel.writeAndFlush(message));
+    }
+
+    @Override
+    public ChannelFuture write(Object message, SocketAddress remoteAddress) {
+        // connected tcp channel. the remote address is always the peer
+        return write(message);
+    }
+
+    @Override
+    public ChannelFuture bind(SocketAddress localAddress) {
+        throw new UnsupportedOperationException("bind");
+    }
+
+    @Override
+    public ChannelFuture connect(SocketAddress remoteAddress) {
+        throw new UnsupportedOperationException("connect");
+    }
+
+    @Override
+    public ChannelFuture disconnect() {
+        return close();
+    }
+
+    @Override
+    public ChannelFuture unbind() {
+        throw new UnsupportedOperationException("unbind");
+    }
+
+    @Override
+    public ChannelFuture close() {
+        return adapt(channel.close());
+    }
+
+    @Override
+    public ChannelFuture getCloseFuture() {
+        return closeFuture;
+    }
+
+    @Override
+    public int getInterestOps() {
+        int interestOps = OP_NONE;
+        if (isReadable()) {
+            interestOps |= OP_READ;
+        }
+        if (!isWritable()) {
+            interestOps |= OP_WRITE;
+        }
+        return interestOps;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return channel.config().isAutoRead();
+    }
+
+    @Override
+    public boolean isWritable() {
+        return channel.isWritable();
+    }
+
+    @Override
+    public ChannelFuture setInterestOps(int interestOps) {
+        return setReadable((interestOps & OP_READ) != 0);
+    }
+
+    @Override
+    public ChannelFuture setReadable(boolean readable) {
+        channel.config().setAutoRead(readable);
+        final DefaultChannelFuture future = new DefaultChannelFuture(this, false);
+        future.setSuccess();
+        return future;
+    }
+
+    @Override
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    @Override
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    private ChannelFuture adapt(io.netty.channel.ChannelFuture netty4Future) {
+        final DefaultChannelFuture future = new DefaultChannelFuture(this, false);
+        netty4Future.addListener(new io.netty.channel.ChannelFutureListener() {
+            @Override
+            public void operationComplete(io.netty.channel.ChannelFuture netty4Future) throws Exception {
+                if (netty4Future.isSuccess()) {
+                    future.setSuccess();
+                    return;
+                }
+                Throwable cause = netty4Future.cause();
+                if (cause == null) {
+                    cause = netty4Future.isCancelled() ? new CancellationException() : new ClosedChannelException();
+                }
+                future.setFailure(cause);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public int compareTo(Channel o) {
+        return getId().compareTo(o.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public String toString() {
+        return channel.toString();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.netty4;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+
+import com.navercorp.pinpoint.rpc.codec.PacketDecoder;
+import com.navercorp.pinpoint.rpc.packet.BasicPacket;
+
+/**
+ * decodes packets from a Netty 4 byte stream with the same frame rules as {@link PacketDecoder}.
+ * the cumulation buffer is read through a Netty 3 view without copying. only the payload of a decoded packet is copied,
+ * because the pooled cumulation buffer is released or compacted once decode() returns.
+ *
+ * @author agent
+ */
+public class Netty4PacketDecoder extends ByteToMessageDecoder {
+
+    private final FrameReader frameReader = new FrameReader();
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (in.readableBytes() < 2) {
+            return;
+        }
+        final ChannelBuffer view = ChannelBuffers.wrappedBuffer(in.nioBuffer());
+        final Channel channel = Netty4ChannelAdapter.get(ctx.channel());
+
+        final Object packet = frameReader.read(channel, view);
+        // ping/pong are consumed without a result. an incomplete packet resets the view to its start
+        in.skipBytes(view.readerIndex());
+        if (packet == null) {
+            return;
+        }
+        if (packet instanceof BasicPacket) {
+            final BasicPacket basicPacket = (BasicPacket) packet;
+            basicPacket.setPayload(basicPacket.getPayload());
+        }
+        out.add(packet);
+    }
+
+    private static class FrameReader extends PacketDecoder {
+        Object read(Channel channel, ChannelBuffer buffer) throws Exception {
+            return decode(null, channel, buffer);
+        }
+    }
+}
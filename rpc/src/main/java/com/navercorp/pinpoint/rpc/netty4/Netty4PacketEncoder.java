@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.netty4;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+
+import com.navercorp.pinpoint.rpc.packet.Packet;
+
+/**
+ * writes {@link Packet#toBuffer()} into a buffer of the channel's allocator, a pooled direct buffer for {@link Netty4ServerAcceptor}.
+ * composite packet buffers(header + payload) are copied part by part without being merged first.
+ *
+ * @author agent
+ */
+@ChannelHandler.Sharable
+public class Netty4PacketEncoder extends MessageToByteEncoder<Packet> {
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Packet packet, ByteBuf out) throws Exception {
+        final ChannelBuffer buffer = packet.toBuffer();
+        out.ensureWritable(buffer.readableBytes());
+        for (ByteBuffer byteBuffer : buffer.toByteBuffers()) {
+            out.writeBytes(byteBuffer);
+        }
+    }
+}
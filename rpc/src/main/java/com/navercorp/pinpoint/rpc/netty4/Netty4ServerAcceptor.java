@@ -0,0 +1,444 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.netty4;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+import org.jboss.netty.util.Timeout;
+import org.jboss.netty.util.Timer;
+import org.jboss.netty.util.TimerTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.rpc.PinpointSocketException;
+import com.navercorp.pinpoint.rpc.client.WriteFailFutureListener;
+import com.navercorp.pinpoint.rpc.packet.PingPacket;
+import com.navercorp.pinpoint.rpc.packet.ServerClosePacket;
+import com.navercorp.pinpoint.rpc.server.DefaultPinpointServer;
+import com.navercorp.pinpoint.rpc.server.PinpointServer;
+import com.navercorp.pinpoint.rpc.server.PinpointServerConfig;
+import com.navercorp.pinpoint.rpc.server.ServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerMessageListener;
+import com.navercorp.pinpoint.rpc.server.SimpleLoggingServerMessageListener;
+import com.navercorp.pinpoint.rpc.server.handler.ServerStateChangeEventHandler;
+import com.navercorp.pinpoint.rpc.stream.DisabledServerStreamChannelMessageListener;
+import com.navercorp.pinpoint.rpc.stream.ServerStreamChannelMessageListener;
+import com.navercorp.pinpoint.rpc.util.AssertUtils;
+import com.navercorp.pinpoint.rpc.util.CpuUtils;
+import com.navercorp.pinpoint.rpc.util.LoggerFactorySetup;
+import com.navercorp.pinpoint.rpc.util.TimerFactory;
+
+/**
+ * Netty 4 version of {@link com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor}.
+ * the wire protocol and the {@link PinpointServer} behind every connection({@link DefaultPinpointServer}) are the same,
+ * so Netty 3 {@link com.navercorp.pinpoint.rpc.client.PinpointClient}s connect to it unchanged.
+ * the native epoll transport is used when it can be loaded, otherwise nio. socket buffers come from {@link PooledByteBufAllocator}.
+ *
+ * @author agent
+ */
+public class Netty4ServerAcceptor implements ServerAcceptor, PinpointServerConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(Netty4ServerAcceptor.class);
+
+    private static final long DEFAULT_TIMEOUTMILLIS = 3 * 1000;
+    private static final int WORKER_COUNT = CpuUtils.workerCount();
+
+    private static final boolean EPOLL_AVAILABLE = loadEpoll();
+
+    private volatile boolean released;
+
+    private final boolean epoll;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+    private final ServerBootstrap bootstrap;
+
+    private InetAddress[] ignoreAddressList;
+
+    private Channel serverChannel;
+    private final ChannelGroup channelGroup = new DefaultChannelGroup("Netty4ServerAcceptor", GlobalEventExecutor.INSTANCE);
+
+    private final PinpointServerChannelHandler nettyChannelHandler = new PinpointServerChannelHandler();
+    private final Netty4PacketEncoder packetEncoder = new Netty4PacketEncoder();
+
+    private ServerMessageListener messageListener = SimpleLoggingServerMessageListener.LISTENER;
+    private ServerStreamChannelMessageListener serverStreamChannelMessageListener = DisabledServerStreamChannelMessageListener.INSTANCE;
+    private List<ServerStateChangeEventHandler> stateChangeEventHandler = new ArrayList<ServerStateChangeEventHandler>();
+
+    private final Timer healthCheckTimer;
+    private final Timer requestManagerTimer;
+
+    private long defaultRequestTimeout = DEFAULT_TIMEOUTMILLIS;
+
+    static {
+        LoggerFactorySetup.setupSlf4jLoggerFactory();
+    }
+
+    public Netty4ServerAcceptor() {
+        this(true);
+    }
+
+    /**
+     * @param preferEpoll use the native epoll transport when it is available. false always uses nio.
+     */
+    public Netty4ServerAcceptor(boolean preferEpoll) {
+        this.epoll = preferEpoll && EPOLL_AVAILABLE;
+        if (epoll) {
+            this.bossGroup = new EpollEventLoopGroup(1, new PinpointThreadFactory("Pinpoint-Server-Boss"));
+            this.workerGroup = new EpollEventLoopGroup(WORKER_COUNT, new PinpointThreadFactory("Pinpoint-Server-Worker"));
+        } else {
+            this.bossGroup = new NioEventLoopGroup(1, new PinpointThreadFactory("Pinpoint-Server-Boss"));
+            this.workerGroup = new NioEventLoopGroup(WORKER_COUNT, new PinpointThreadFactory("Pinpoint-Server-Worker"));
+        }
+
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        bootstrap.group(bossGroup, workerGroup);
+        bootstrap.channel(getServerChannelClass());
+        setOptions(bootstrap);
+        addPipeline(bootstrap);
+        this.bootstrap = bootstrap;
+
+        this.healthCheckTimer = TimerFactory.createHashedWheelTimer("PinpointServerSocket-HealthCheckTimer", 50, TimeUnit.MILLISECONDS, 512);
+        this.requestManagerTimer = TimerFactory.createHashedWheelTimer("PinpointServerSocket-RequestManager", 50, TimeUnit.MILLISECONDS, 512);
+    }
+
+    private static boolean loadEpoll() {
+        final String osName = System.getProperty("os.name", "");
+        if (!osName.toLowerCase().startsWith("linux")) {
+            return false;
+        }
+        try {
+            // the static initializer loads the native library
+            Class.forName("io.netty.channel.epoll.Native", true, Netty4ServerAcceptor.class.getClassLoader());
+            return true;
+        } catch (Throwable e) {
+            logger.info("epoll transport not available, using nio. Caused:{}", e.toString());
+            return false;
+        }
+    }
+
+    private Class<? extends ServerChannel> getServerChannelClass() {
+        if (epoll) {
+            return EpollServerSocketChannel.class;
+        }
+        return NioServerSocketChannel.class;
+    }
+
+    public boolean isEpoll() {
+        return epoll;
+    }
+
+    private void setOptions(ServerBootstrap bootstrap) {
+        bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+
+        // tcp setting
+        bootstrap.childOption(ChannelOption.TCP_NODELAY, true);
+        bootstrap.childOption(ChannelOption.SO_KEEPALIVE, true);
+        // buffer setting
+        bootstrap.childOption(ChannelOption.SO_SNDBUF, 1024 * 64);
+        bootstrap.childOption(ChannelOption.SO_RCVBUF, 1024 * 64);
+        bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    }
+
+    private void addPipeline(ServerBootstrap bootstrap) {
+        bootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel channel) throws Exception {
+                channel.attr(Netty4ChannelAdapter.ADAPTER_KEY).set(new Netty4ChannelAdapter(channel));
+
+                ChannelPipeline pipeline = channel.pipeline();
+                pipeline.addLast("decoder", new Netty4PacketDecoder());
+                pipeline.addLast("encoder", packetEncoder);
+                pipeline.addLast("handler", nettyChannelHandler);
+            }
+        });
+    }
+
+    @Override
+    public void bind(String host, int port) throws PinpointSocketException {
+        if (released) {
+            return;
+        }
+
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        ChannelFuture bindFuture = bootstrap.bind(address).awaitUninterruptibly();
+        if (!bindFuture.isSuccess()) {
+            throw new PinpointSocketException("bind failed. address:" + address, bindFuture.cause());
+        }
+        this.serverChannel = bindFuture.channel();
+        logger.info("bind() completed. address:{}, epoll:{}", address, epoll);
+        sendPing();
+    }
+
+    private DefaultPinpointServer createPinpointServer(Netty4ChannelAdapter channel) {
+        DefaultPinpointServer pinpointServer = new DefaultPinpointServer(channel, this);
+        return pinpointServer;
+    }
+
+    @Override
+    public long getDefaultRequestTimeout() {
+        return defaultRequestTimeout;
+    }
+
+    @Override
+    public void setDefaultRequestTimeout(long defaultRequestTimeout) {
+        this.defaultRequestTimeout = defaultRequestTimeout;
+    }
+
+    private boolean isIgnoreAddress(Channel channel) {
+        if (ignoreAddressList == null) {
+            return false;
+        }
+        final InetSocketAddress remoteAddress = (InetSocketAddress) channel.remoteAddress();
+        if (remoteAddress == null) {
+            return false;
+        }
+        InetAddress address = remoteAddress.getAddress();
+        for (InetAddress ignore : ignoreAddressList) {
+            if (ignore.equals(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void setIgnoreAddressList(InetAddress[] ignoreAddressList) {
+        AssertUtils.assertNotNull(ignoreAddressList, "ignoreAddressList must not be null");
+
+        this.ignoreAddressList = ignoreAddressList;
+    }
+
+    @Override
+    public ServerMessageListener getMessageListener() {
+        return messageListener;
+    }
+
+    @Override
+    public void setMessageListener(ServerMessageListener messageListener) {
+        AssertUtils.assertNotNull(messageListener, "messageListener must not be null");
+
+        this.messageListener = messageListener;
+    }
+
+    @Override
+    public List<ServerStateChangeEventHandler> getStateChangeEventHandlers() {
+        return stateChangeEventHandler;
+    }
+
+    @Override
+    public void addStateChangeEventHandler(ServerStateChangeEventHandler stateChangeEventHandler) {
+        AssertUtils.assertNotNull(stateChangeEventHandler, "stateChangeEventHandler must not be null");
+
+        this.stateChangeEventHandler.add(stateChangeEventHandler);
+    }
+
+    @Override
+    public ServerStreamChannelMessageListener getStreamMessageListener() {
+        return serverStreamChannelMessageListener;
+    }
+
+    @Override
+    public void setServerStreamChannelMessageListener(ServerStreamChannelMessageListener serverStreamChannelMessageListener) {
+        AssertUtils.assertNotNull(serverStreamChannelMessageListener, "serverStreamChannelMessageListener must not be null");
+
+        this.serverStreamChannelMessageListener = serverStreamChannelMessageListener;
+    }
+
+    @Override
+    public Timer getHealthCheckTimer() {
+        return healthCheckTimer;
+    }
+
+    @Override
+    public Timer getRequestManagerTimer() {
+        return requestManagerTimer;
+    }
+
+    private void sendPing() {
+        logger.debug("sendPing");
+        final TimerTask pintTask = new TimerTask() {
+            private final WriteFailFutureListener listener = new WriteFailFutureListener(logger, "ping write fail", "ping write success");
+
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                if (timeout.isCancelled()) {
+                    newPingTimeout(this);
+                    return;
+                }
+
+                for (Channel channel : channelGroup) {
+                    final Netty4ChannelAdapter adapter = Netty4ChannelAdapter.get(channel);
+                    if (adapter != null) {
+                        adapter.write(PingPacket.PING_PACKET).addListener(listener);
+                    }
+                }
+                newPingTimeout(this);
+            }
+        };
+        newPingTimeout(pintTask);
+    }
+
+    private void newPingTimeout(TimerTask pintTask) {
+        try {
+            logger.debug("newPingTimeout");
+            healthCheckTimer.newTimeout(pintTask, 1000 * 60 * 5, TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            // stop in case of timer stopped
+            logger.debug("timer stopped. Caused:{}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        healthCheckTimer.stop();
+
+        closePinpointServer();
+
+        if (serverChannel != null) {
+            serverChannel.close().awaitUninterruptibly(3000, TimeUnit.MILLISECONDS);
+            serverChannel = null;
+        }
+        // the quiet period lets the close packets written above go out before the channels are closed
+        bossGroup.shutdownGracefully(0, 3000, TimeUnit.MILLISECONDS).awaitUninterruptibly(3000, TimeUnit.MILLISECONDS);
+        workerGroup.shutdownGracefully(100, 3000, TimeUnit.MILLISECONDS).awaitUninterruptibly(3000, TimeUnit.MILLISECONDS);
+
+        // clear the request first and remove timer
+        requestManagerTimer.stop();
+    }
+
+    private void closePinpointServer() {
+        for (Channel channel : channelGroup) {
+            DefaultPinpointServer pinpointServer = getPinpointServer(channel);
+
+            if (pinpointServer != null) {
+                pinpointServer.sendClosePacket();
+            }
+        }
+    }
+
+    @Override
+    public List<PinpointServer> getWritableServerList() {
+        List<PinpointServer> pinpointServerList = new ArrayList<PinpointServer>();
+
+        for (Channel channel : channelGroup) {
+            DefaultPinpointServer pinpointServer = getPinpointServer(channel);
+            if (pinpointServer != null) {
+                if (pinpointServer.isEnableDuplexCommunication()) {
+                    pinpointServerList.add(pinpointServer);
+                }
+            }
+        }
+
+        return pinpointServerList;
+    }
+
+    private static DefaultPinpointServer getPinpointServer(Channel channel) {
+        final Netty4ChannelAdapter adapter = Netty4ChannelAdapter.get(channel);
+        if (adapter == null) {
+            return null;
+        }
+        return (DefaultPinpointServer) adapter.getAttachment();
+    }
+
+    @ChannelHandler.Sharable
+    class PinpointServerChannelHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            final Channel channel = ctx.channel();
+            logger.info("channelActive channel:{}", channel);
+
+            if (released) {
+                logger.warn("already released. channel:{}", channel);
+                channel.writeAndFlush(new ServerClosePacket()).addListener(ChannelFutureListener.CLOSE);
+                return;
+            }
+
+            boolean isIgnore = isIgnoreAddress(channel);
+            if (isIgnore) {
+                logger.debug("channelActive ignore address. channel:" + channel);
+                return;
+            }
+
+            final Netty4ChannelAdapter adapter = Netty4ChannelAdapter.get(channel);
+            DefaultPinpointServer pinpointServer = createPinpointServer(adapter);
+
+            adapter.setAttachment(pinpointServer);
+            channelGroup.add(channel);
+
+            pinpointServer.start();
+
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            DefaultPinpointServer pinpointServer = getPinpointServer(ctx.channel());
+            if (pinpointServer != null) {
+                pinpointServer.stop(released);
+            }
+
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            DefaultPinpointServer pinpointServer = getPinpointServer(ctx.channel());
+            if (pinpointServer != null) {
+                pinpointServer.messageReceived(msg);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            logger.warn("exceptionCaught channel:{} Caused:{}", ctx.channel(), cause.getMessage(), cause);
+        }
+    }
+
+}
@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.rpc.packet;
 
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+
 /**
  * @author emeroad
  */
@@ -23,6 +26,9 @@ public abstract class BasicPacket implements Packet {
 
     protected byte[] payload;
 
+    // slice of the received frame. payload is only materialized from it when a byte[] is asked for.
+    private ChannelBuffer payloadBuffer;
+
     protected BasicPacket() {
     }
 
@@ -33,12 +39,49 @@ public abstract class BasicPacket implements Packet {
         this.payload = payload;
     }
 
+    protected BasicPacket(ChannelBuffer payloadBuffer) {
+        if (payloadBuffer == null) {
+            throw new NullPointerException("payloadBuffer");
+        }
+        this.payloadBuffer = payloadBuffer;
+    }
+
     public byte[] getPayload() {
+        if (payload == null && payloadBuffer != null) {
+            final byte[] copy = new byte[payloadBuffer.readableBytes()];
+            payloadBuffer.getBytes(payloadBuffer.readerIndex(), copy);
+            this.payload = copy;
+        }
         return payload;
     }
 
+    /**
+     * returns the payload without copying it.
+     * for a decoded packet this is the slice of the received frame.
+     */
+    public ChannelBuffer getPayloadBuffer() {
+        if (payloadBuffer != null) {
+            return payloadBuffer;
+        }
+        if (payload == null) {
+            return null;
+        }
+        return ChannelBuffers.wrappedBuffer(payload);
+    }
+
+    public int getPayloadLength() {
+        if (payloadBuffer != null) {
+            return payloadBuffer.readableBytes();
+        }
+        if (payload == null) {
+            return -1;
+        }
+        return payload.length;
+    }
+
     public void setPayload(byte[] payload) {
         this.payload = payload;
+        this.payloadBuffer = null;
     }
 
 }
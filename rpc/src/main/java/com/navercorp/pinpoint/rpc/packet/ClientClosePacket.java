@@ -46,8 +46,7 @@ public class ClientClosePacket extends BasicPacket {
             return null;
         }
 
-        final ChannelBuffer payload = PayloadPacket.readPayload(buffer);
-        if (payload == null) {
+        if (!PayloadPacket.skipPayload(buffer)) {
             return null;
         }
         final ClientClosePacket requestPacket = new ClientClosePacket();
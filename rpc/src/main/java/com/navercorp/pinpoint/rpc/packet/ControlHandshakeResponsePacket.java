@@ -60,11 +60,11 @@ public class ControlHandshakeResponsePacket extends ControlPacket {
         }
 
         final int messageId = buffer.readInt();
-        final ChannelBuffer payload = PayloadPacket.readPayload(buffer);
+        final byte[] payload = PayloadPacket.readPayloadBytes(buffer);
         if (payload == null) {
             return null;
         }
-        final ControlHandshakeResponsePacket helloPacket = new ControlHandshakeResponsePacket(payload.array());
+        final ControlHandshakeResponsePacket helloPacket = new ControlHandshakeResponsePacket(payload);
         helloPacket.setRequestId(messageId);
         return helloPacket;
     }
@@ -30,23 +30,92 @@ public class PayloadPacket {
 
     private static final ChannelBuffer EMPTY_BUFFER = ChannelBuffers.buffer(0);
 
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private static final int NOT_ENOUGH_DATA = Integer.MIN_VALUE;
+
 
     public static ChannelBuffer readPayload(ChannelBuffer buffer) {
+        final int payloadLength = readPayloadLength(buffer);
+        if (payloadLength == NOT_ENOUGH_DATA) {
+            return null;
+        }
+        if (payloadLength <= 0) {
+            return EMPTY_BUFFER;
+        }
+        return buffer.readBytes(payloadLength);
+    }
+
+    /**
+     * copies the payload straight into a byte array.
+     * unlike readPayload(), no intermediate ChannelBuffer is created and the result does not depend on ChannelBuffer.array().
+     *
+     * @return null if the buffer does not contain the whole payload yet.
+     */
+    public static byte[] readPayloadBytes(ChannelBuffer buffer) {
+        final int payloadLength = readPayloadLength(buffer);
+        if (payloadLength == NOT_ENOUGH_DATA) {
+            return null;
+        }
+        if (payloadLength <= 0) {
+            return EMPTY_BYTES;
+        }
+        final byte[] payload = new byte[payloadLength];
+        buffer.readBytes(payload);
+        return payload;
+    }
+
+    /**
+     * reads the payload as a slice of the buffer. no bytes are copied.
+     * FrameDecoder never writes over bytes that have already been read from its cumulation buffer
+     * (a new cumulation is allocated instead of compacting the old one), so the slice stays valid after decode() returns.
+     * the slice pins the socket read buffer until the packet is released.
+     *
+     * @return null if the buffer does not contain the whole payload yet.
+     */
+    public static ChannelBuffer readPayloadSlice(ChannelBuffer buffer) {
+        final int payloadLength = readPayloadLength(buffer);
+        if (payloadLength == NOT_ENOUGH_DATA) {
+            return null;
+        }
+        if (payloadLength <= 0) {
+            return EMPTY_BUFFER;
+        }
+        return buffer.readSlice(payloadLength);
+    }
+
+    /**
+     * skips the payload without copying.
+     *
+     * @return false if the buffer does not contain the whole payload yet.
+     */
+    public static boolean skipPayload(ChannelBuffer buffer) {
+        final int payloadLength = readPayloadLength(buffer);
+        if (payloadLength == NOT_ENOUGH_DATA) {
+            return false;
+        }
+        if (payloadLength > 0) {
+            buffer.skipBytes(payloadLength);
+        }
+        return true;
+    }
+
+    private static int readPayloadLength(ChannelBuffer buffer) {
         if (buffer.readableBytes() < 4) {
             buffer.resetReaderIndex();
-            return null;
+            return NOT_ENOUGH_DATA;
         }
 
         final int payloadLength = buffer.readInt();
         if (payloadLength <= 0) {
-            return EMPTY_BUFFER;
+            return payloadLength;
         }
 
         if (buffer.readableBytes() < payloadLength) {
             buffer.resetReaderIndex();
-            return null;
+            return NOT_ENOUGH_DATA;
         }
-        return buffer.readBytes(payloadLength);
+        return payloadLength;
     }
 
 
@@ -62,4 +131,15 @@ public class PayloadPacket {
         }
     }
 
+    public static ChannelBuffer appendPayload(final ChannelBuffer header, final ChannelBuffer payload) {
+        if (payload == null) {
+            // this is also payload header
+            header.writeInt(-1);
+            return header;
+        } else {
+            header.writeInt(payload.readableBytes());
+            return ChannelBuffers.wrappedBuffer(true, header, payload.duplicate());
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.packet;
+
+import java.util.List;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+
+/**
+ * writes several RequestPackets with a single channel write.
+ * on the wire it is just a sequence of APPLICATION_REQUEST packets, so the receiver decodes them one by one as usual
+ * and there is no readBuffer() for this packet.
+ *
+ * @author agent
+ */
+public class RequestBatchPacket implements Packet {
+
+    private final List<RequestPacket> requestPacketList;
+
+    public RequestBatchPacket(List<RequestPacket> requestPacketList) {
+        if (requestPacketList == null) {
+            throw new NullPointerException("requestPacketList must not be null");
+        }
+        this.requestPacketList = requestPacketList;
+    }
+
+    public List<RequestPacket> getRequestPacketList() {
+        return requestPacketList;
+    }
+
+    @Override
+    public short getPacketType() {
+        return PacketType.APPLICATION_REQUEST;
+    }
+
+    /**
+     * a batch has no payload of its own.
+     */
+    @Override
+    public byte[] getPayload() {
+        return null;
+    }
+
+    @Override
+    public ChannelBuffer toBuffer() {
+        final ChannelBuffer[] buffers = new ChannelBuffer[requestPacketList.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = requestPacketList.get(i).toBuffer();
+        }
+        return ChannelBuffers.wrappedBuffer(true, buffers);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("RequestBatchPacket");
+        sb.append("{size=").append(requestPacketList.size());
+        sb.append('}');
+        return sb.toString();
+    }
+}
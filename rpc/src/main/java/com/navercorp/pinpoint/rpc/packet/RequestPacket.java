@@ -33,6 +33,10 @@ public class RequestPacket extends BasicPacket {
         super(payload);
     }
 
+    public RequestPacket(ChannelBuffer payloadBuffer) {
+        super(payloadBuffer);
+    }
+
     public RequestPacket(int requestId, byte[] payload) {
         super(payload);
         this.requestId = requestId;
@@ -59,7 +63,7 @@ public class RequestPacket extends BasicPacket {
         header.writeInt(requestId);
 
 
-        return PayloadPacket.appendPayload(header, payload);
+        return PayloadPacket.appendPayload(header, getPayloadBuffer());
 
     }
 
@@ -73,11 +77,11 @@ public class RequestPacket extends BasicPacket {
         }
 
         final int messageId = buffer.readInt();
-        final ChannelBuffer payload = PayloadPacket.readPayload(buffer);
+        final ChannelBuffer payload = PayloadPacket.readPayloadSlice(buffer);
         if (payload == null) {
             return null;
         }
-        final RequestPacket requestPacket = new RequestPacket(payload.array());
+        final RequestPacket requestPacket = new RequestPacket(payload);
         requestPacket.setRequestId(messageId);
         return requestPacket;
     }
@@ -88,10 +92,11 @@ public class RequestPacket extends BasicPacket {
         sb.append("RequestPacket");
         sb.append("{requestId=").append(requestId);
         sb.append(", ");
-        if (payload == null) {
+        final int payloadLength = getPayloadLength();
+        if (payloadLength == -1) {
             sb.append("payload=null");
         } else {
-            sb.append("payloadLength=").append(payload.length);
+            sb.append("payloadLength=").append(payloadLength);
         }
         sb.append('}');
         return sb.toString();
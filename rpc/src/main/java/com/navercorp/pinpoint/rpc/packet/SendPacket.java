@@ -32,6 +32,10 @@ public class SendPacket extends BasicPacket {
         super(payload);
     }
 
+    public SendPacket(ChannelBuffer payloadBuffer) {
+        super(payloadBuffer);
+    }
+
     @Override
     public short getPacketType() {
         return PacketType.APPLICATION_SEND;
@@ -43,7 +47,7 @@ public class SendPacket extends BasicPacket {
         header.writeShort(PacketType.APPLICATION_SEND);
 
 
-        return PayloadPacket.appendPayload(header, payload);
+        return PayloadPacket.appendPayload(header, getPayloadBuffer());
     }
 
     public static Packet readBuffer(short packetType, ChannelBuffer buffer) {
@@ -54,21 +58,22 @@ public class SendPacket extends BasicPacket {
             return null;
         }
 
-        ChannelBuffer payload = PayloadPacket.readPayload(buffer);
+        final ChannelBuffer payload = PayloadPacket.readPayloadSlice(buffer);
         if (payload == null) {
             return null;
         }
-        return new SendPacket(payload.array());
+        return new SendPacket(payload);
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder(64);
         sb.append("SendPacket");
-        if (payload == null) {
+        final int payloadLength = getPayloadLength();
+        if (payloadLength == -1) {
             sb.append("{payload=null}");
         } else {
-            sb.append("{payloadLength=").append(payload.length);
+            sb.append("{payloadLength=").append(payloadLength);
             sb.append('}');
         }
 
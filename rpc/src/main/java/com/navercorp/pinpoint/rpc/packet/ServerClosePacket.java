@@ -58,8 +58,7 @@ public class ServerClosePacket extends BasicPacket {
             return null;
         }
 
-        final ChannelBuffer payload = PayloadPacket.readPayload(buffer);
-        if (payload == null) {
+        if (!PayloadPacket.skipPayload(buffer)) {
             return null;
         }
         final ServerClosePacket requestPacket = new ServerClosePacket();
@@ -67,12 +67,12 @@ public class StreamCreatePacket extends BasicStreamPacket {
         }
 
         final int streamChannelId = buffer.readInt();
-        final ChannelBuffer payload = PayloadPacket.readPayload(buffer);
+        final byte[] payload = PayloadPacket.readPayloadBytes(buffer);
         if (payload == null) {
             return null;
         }
 
-        final StreamCreatePacket packet = new StreamCreatePacket(streamChannelId, payload.array());
+        final StreamCreatePacket packet = new StreamCreatePacket(streamChannelId, payload);
         return packet;
     }
 
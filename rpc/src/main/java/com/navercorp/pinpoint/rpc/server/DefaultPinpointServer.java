@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.rpc.server;
 
+import com.navercorp.pinpoint.rpc.BatchFuture;
 import com.navercorp.pinpoint.rpc.ChannelWriteFailListenableFuture;
 import com.navercorp.pinpoint.rpc.Future;
 import com.navercorp.pinpoint.rpc.ResponseMessage;
@@ -175,6 +176,36 @@ public class DefaultPinpointServer implements PinpointServer {
         return messageFuture;
     }
 
+    @Override
+    public BatchFuture<ResponseMessage> request(List<byte[]> payloadList) {
+        List<RequestPacket> requestPacketList = createRequestPacketList(payloadList);
+        BatchFuture<ResponseMessage> batchFuture = this.requestManager.register(requestPacketList);
+        write0(new RequestBatchPacket(requestPacketList), batchFuture);
+        return batchFuture;
+    }
+
+    @Override
+    public BatchFuture<ResponseMessage> request(List<byte[]> payloadList, long timeoutMillis) {
+        List<RequestPacket> requestPacketList = createRequestPacketList(payloadList);
+        BatchFuture<ResponseMessage> batchFuture = this.requestManager.register(requestPacketList, timeoutMillis);
+        write0(new RequestBatchPacket(requestPacketList), batchFuture);
+        return batchFuture;
+    }
+
+    private List<RequestPacket> createRequestPacketList(List<byte[]> payloadList) {
+        AssertUtils.assertNotNull(payloadList, "payloadList may not be null.");
+        if (!isEnableDuplexCommunication()) {
+            throw new IllegalStateException("Request fail. Error: Illegal State. pinpointServer:" + toString());
+        }
+
+        List<RequestPacket> requestPacketList = new ArrayList<RequestPacket>(payloadList.size());
+        for (byte[] payload : payloadList) {
+            AssertUtils.assertNotNull(payload, "payload may not be null.");
+            requestPacketList.add(new RequestPacket(payload));
+        }
+        return requestPacketList;
+    }
+
     @Override
     public void response(RequestPacket requestPacket, byte[] payload) {
         response(requestPacket.getRequestId(), payload);
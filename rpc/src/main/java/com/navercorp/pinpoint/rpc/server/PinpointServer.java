@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.rpc.server;
 
+import com.navercorp.pinpoint.rpc.BatchFuture;
 import com.navercorp.pinpoint.rpc.Future;
 import com.navercorp.pinpoint.rpc.PinpointSocket;
 import com.navercorp.pinpoint.rpc.ResponseMessage;
@@ -25,6 +26,7 @@ import com.navercorp.pinpoint.rpc.stream.ClientStreamChannelContext;
 import com.navercorp.pinpoint.rpc.stream.ClientStreamChannelMessageListener;
 
 import java.net.SocketAddress;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,6 +37,16 @@ public interface PinpointServer extends PinpointSocket {
     void send(byte[] payload);
 
     Future<ResponseMessage> request(byte[] payload);
+
+    /**
+     * sends every payload as a separate request in a single write and waits for them as one batch.
+     */
+    BatchFuture<ResponseMessage> request(List<byte[]> payloadList);
+
+    /**
+     * same as {@link #request(List)}, but the batch times out after timeoutMillis.
+     */
+    BatchFuture<ResponseMessage> request(List<byte[]> payloadList, long timeoutMillis);
     
     void response(RequestPacket requestPacket, byte[] payload);
     void response(int requestId, byte[] payload);
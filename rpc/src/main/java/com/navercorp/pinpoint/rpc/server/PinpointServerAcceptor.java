@@ -63,7 +63,7 @@ import com.navercorp.pinpoint.rpc.util.TimerFactory;
 /**
  * @author Taejin Koo
  */
-public class PinpointServerAcceptor implements PinpointServerConfig {
+public class PinpointServerAcceptor implements ServerAcceptor, PinpointServerConfig {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -143,6 +143,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         bootstrap.setPipelineFactory(channelPipelineFactory);
     }
 
+    @Override
     public void bind(String host, int port) throws PinpointSocketException {
         if (released) {
             return;
@@ -163,6 +164,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         return defaultRequestTimeout;
     }
 
+    @Override
     public void setDefaultRequestTimeout(long defaultRequestTimeout) {
         this.defaultRequestTimeout = defaultRequestTimeout;
     }
@@ -184,6 +186,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         return false;
     }
 
+    @Override
     public void setIgnoreAddressList(InetAddress[] ignoreAddressList) {
         AssertUtils.assertNotNull(ignoreAddressList, "ignoreAddressList must not be null");
 
@@ -195,6 +198,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         return messageListener;
     }
 
+    @Override
     public void setMessageListener(ServerMessageListener messageListener) {
         AssertUtils.assertNotNull(messageListener, "messageListener must not be null");
 
@@ -206,6 +210,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         return stateChangeEventHandler;
     }
 
+    @Override
     public void addStateChangeEventHandler(ServerStateChangeEventHandler stateChangeEventHandler) {
         AssertUtils.assertNotNull(stateChangeEventHandler, "stateChangeEventHandler must not be null");
 
@@ -217,6 +222,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         return serverStreamChannelMessageListener;
     }
 
+    @Override
     public void setServerStreamChannelMessageListener(ServerStreamChannelMessageListener serverStreamChannelMessageListener) {
         AssertUtils.assertNotNull(serverStreamChannelMessageListener, "serverStreamChannelMessageListener must not be null");
 
@@ -275,6 +281,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         }
     }
     
+    @Override
     public void close() {
         synchronized (this) {
             if (released) {
@@ -310,6 +317,7 @@ public class PinpointServerAcceptor implements PinpointServerConfig {
         }
     }
     
+    @Override
     public List<PinpointServer> getWritableServerList() {
         List<PinpointServer> pinpointServerList = new ArrayList<PinpointServer>();
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.server;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import com.navercorp.pinpoint.rpc.PinpointSocketException;
+import com.navercorp.pinpoint.rpc.server.handler.ServerStateChangeEventHandler;
+import com.navercorp.pinpoint.rpc.stream.ServerStreamChannelMessageListener;
+
+/**
+ * accepts pinpoint client connections and hands every connection to a {@link PinpointServer}.
+ * {@link PinpointServerAcceptor} is the Netty 3 transport, {@link com.navercorp.pinpoint.rpc.netty4.Netty4ServerAcceptor} the Netty 4 one.
+ *
+ * @author agent
+ */
+public interface ServerAcceptor {
+
+    void bind(String host, int port) throws PinpointSocketException;
+
+    void close();
+
+    void setDefaultRequestTimeout(long defaultRequestTimeout);
+
+    void setIgnoreAddressList(InetAddress[] ignoreAddressList);
+
+    void setMessageListener(ServerMessageListener messageListener);
+
+    void addStateChangeEventHandler(ServerStateChangeEventHandler stateChangeEventHandler);
+
+    void setServerStreamChannelMessageListener(ServerStreamChannelMessageListener serverStreamChannelMessageListener);
+
+    List<PinpointServer> getWritableServerList();
+
+}
@@ -22,6 +22,7 @@ package com.navercorp.pinpoint.rpc.util;
 import com.navercorp.pinpoint.rpc.PinpointSocketException;
 import com.navercorp.pinpoint.rpc.client.PinpointClient;
 import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.rpc.client.SocketAddressProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,4 +57,22 @@ public final class ClientFactoryUtils {
         return pinpointClient;
     }
 
+    public static PinpointClient createPinpointClient(SocketAddressProvider socketAddressProvider, PinpointClientFactory clientFactory) {
+        PinpointClient pinpointClient = null;
+        for (int i = 0; i < 3; i++) {
+            try {
+                // every attempt asks the provider again, so a failed server is skipped
+                pinpointClient = clientFactory.connect(socketAddressProvider);
+                LOGGER.info("tcp connect success. provider:{}", socketAddressProvider);
+                return pinpointClient;
+            } catch (PinpointSocketException e) {
+                LOGGER.warn("tcp connect fail. provider:{} try reconnect, retryCount:{}", socketAddressProvider, i);
+            }
+        }
+        LOGGER.warn("change background tcp connect mode provider:{} ", socketAddressProvider);
+        pinpointClient = clientFactory.scheduledConnect(socketAddressProvider);
+
+        return pinpointClient;
+    }
+
 }
@@ -16,10 +16,13 @@
 
 package com.navercorp.pinpoint.rpc.client;
 
+import com.navercorp.pinpoint.rpc.BatchFuture;
 import com.navercorp.pinpoint.rpc.DefaultFuture;
 import com.navercorp.pinpoint.rpc.Future;
 import com.navercorp.pinpoint.rpc.client.RequestManager;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
 import com.navercorp.pinpoint.rpc.packet.RequestPacket;
+import com.navercorp.pinpoint.rpc.packet.ResponsePacket;
 
 import org.jboss.netty.util.HashedWheelTimer;
 import org.junit.Assert;
@@ -27,6 +30,8 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -77,6 +82,57 @@ public class RequestManagerTest {
 
     }
 
+    @Test
+    public void testRegisterBatch() throws Exception {
+        HashedWheelTimer timer = getTimer();
+        RequestManager requestManager = new RequestManager(timer, 3000);
+        try {
+            List<RequestPacket> packetList = new ArrayList<RequestPacket>();
+            packetList.add(new RequestPacket(new byte[0]));
+            packetList.add(new RequestPacket(new byte[0]));
+            BatchFuture<ResponseMessage> batchFuture = requestManager.register(packetList, 2000);
+            Assert.assertFalse(batchFuture.isReady());
+
+            requestManager.messageReceived(new ResponsePacket(packetList.get(1).getRequestId(), new byte[] {2}), "test");
+            Assert.assertFalse(batchFuture.await(10));
+
+            requestManager.messageReceived(new ResponsePacket(packetList.get(0).getRequestId(), new byte[] {1}), "test");
+            Assert.assertTrue(batchFuture.await(10));
+
+            List<DefaultFuture<ResponseMessage>> futureList = batchFuture.getFutureList();
+            Assert.assertArrayEquals(new byte[] {1}, futureList.get(0).getResult().getMessage());
+            Assert.assertArrayEquals(new byte[] {2}, futureList.get(1).getResult().getMessage());
+        } finally {
+            requestManager.close();
+            timer.stop();
+        }
+    }
+
+    @Test
+    public void testRegisterBatchTimeout() throws Exception {
+        HashedWheelTimer timer = getTimer();
+        RequestManager requestManager = new RequestManager(timer, 3000);
+        try {
+            List<RequestPacket> packetList = new ArrayList<RequestPacket>();
+            packetList.add(new RequestPacket(new byte[0]));
+            packetList.add(new RequestPacket(new byte[0]));
+            BatchFuture<ResponseMessage> batchFuture = requestManager.register(packetList, 50);
+
+            requestManager.messageReceived(new ResponsePacket(packetList.get(0).getRequestId(), new byte[0]), "test");
+
+            Assert.assertTrue(batchFuture.await(1000));
+            List<DefaultFuture<ResponseMessage>> futureList = batchFuture.getFutureList();
+            Assert.assertTrue(futureList.get(0).isSuccess());
+            Assert.assertFalse(futureList.get(1).isSuccess());
+            Assert.assertTrue(futureList.get(1).getCause().getMessage().contains("timeout"));
+
+            Assert.assertNull(requestManager.removeMessageFuture(packetList.get(1).getRequestId()));
+        } finally {
+            requestManager.close();
+            timer.stop();
+        }
+    }
+
     private HashedWheelTimer getTimer() {
         return new HashedWheelTimer(10, TimeUnit.MICROSECONDS);
     }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.codec;
+
+import com.navercorp.pinpoint.rpc.packet.RequestPacket;
+import com.navercorp.pinpoint.rpc.packet.SendPacket;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author agent
+ */
+public class PacketDecoderTest {
+
+    @Test
+    public void testSendPayloadIsNotCopied() throws Exception {
+        byte[] payload = new byte[] {1, 2, 3, 4, 5};
+        ChannelBuffer frame = toHeapFrame(new SendPacket(payload).toBuffer());
+
+        SendPacket decoded = (SendPacket) new PacketDecoder().decode(null, null, frame);
+
+        ChannelBuffer payloadBuffer = decoded.getPayloadBuffer();
+        Assert.assertSame("payload must be a slice of the received frame", frame.array(), payloadBuffer.array());
+        Assert.assertEquals(payload.length, payloadBuffer.readableBytes());
+
+        ByteBuffer byteBuffer = payloadBuffer.toByteBuffer();
+        Assert.assertSame("ByteBuffer view must share the frame array", frame.array(), byteBuffer.array());
+        Assert.assertEquals(2 + 4, byteBuffer.arrayOffset() + byteBuffer.position());
+
+        Assert.assertArrayEquals(payload, decoded.getPayload());
+        Assert.assertEquals(0, frame.readableBytes());
+    }
+
+    @Test
+    public void testRequestPayloadIsNotCopied() throws Exception {
+        byte[] payload = new byte[] {9, 8, 7};
+        ChannelBuffer frame = toHeapFrame(new RequestPacket(10, payload).toBuffer());
+
+        RequestPacket decoded = (RequestPacket) new PacketDecoder().decode(null, null, frame);
+
+        Assert.assertEquals(10, decoded.getRequestId());
+        Assert.assertSame(frame.array(), decoded.getPayloadBuffer().array());
+        Assert.assertArrayEquals(payload, decoded.getPayload());
+    }
+
+    @Test
+    public void testNotEnoughData() throws Exception {
+        ChannelBuffer encoded = new SendPacket(new byte[] {1, 2, 3}).toBuffer();
+        ChannelBuffer partial = ChannelBuffers.buffer(encoded.readableBytes() - 1);
+        partial.writeBytes(encoded, encoded.readableBytes() - 1);
+
+        Assert.assertNull(new PacketDecoder().decode(null, null, partial));
+        Assert.assertEquals("reader index must be restored", 0, partial.readerIndex());
+    }
+
+    @Test
+    public void testEncodeDecodedPacket() throws Exception {
+        byte[] payload = new byte[] {1, 2, 3};
+        ChannelBuffer frame = toHeapFrame(new SendPacket(payload).toBuffer());
+        SendPacket decoded = (SendPacket) new PacketDecoder().decode(null, null, frame);
+
+        ChannelBuffer reEncoded = toHeapFrame(decoded.toBuffer());
+        SendPacket twice = (SendPacket) new PacketDecoder().decode(null, null, reEncoded);
+        Assert.assertArrayEquals(payload, twice.getPayload());
+    }
+
+    private ChannelBuffer toHeapFrame(ChannelBuffer encoded) {
+        // a socket read hands the decoder one contiguous heap buffer
+        ChannelBuffer frame = ChannelBuffers.buffer(encoded.readableBytes());
+        frame.writeBytes(encoded);
+        return frame;
+    }
+}
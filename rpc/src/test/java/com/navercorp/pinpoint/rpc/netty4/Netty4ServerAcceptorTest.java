@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.netty4;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.rpc.TestByteUtils;
+import com.navercorp.pinpoint.rpc.client.PinpointClient;
+import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.rpc.common.SocketStateCode;
+import com.navercorp.pinpoint.rpc.server.PinpointServer;
+import com.navercorp.pinpoint.rpc.util.PinpointRPCTestUtils;
+
+/**
+ * runs the netty 3 client against the netty 4 server transport
+ *
+ * @author agent
+ */
+public class Netty4ServerAcceptorTest {
+
+    private static int bindPort;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        bindPort = PinpointRPCTestUtils.findAvailablePort();
+    }
+
+    @Test
+    public void requestResponse() throws Exception {
+        Netty4ServerAcceptor serverAcceptor = createServerAcceptor();
+        PinpointClientFactory clientFactory = PinpointRPCTestUtils.createClientFactory(PinpointRPCTestUtils.getParams());
+        try {
+            PinpointClient client = clientFactory.connect("127.0.0.1", bindPort);
+
+            byte[] randomByte = TestByteUtils.createRandomByte(10);
+            Assert.assertArrayEquals(randomByte, PinpointRPCTestUtils.request(client, randomByte));
+
+            // spans several reads, so the frame is cut inside the pooled cumulation buffer
+            byte[] largeByte = TestByteUtils.createRandomByte(64 * 1024);
+            Assert.assertArrayEquals(largeByte, PinpointRPCTestUtils.request(client, largeByte));
+
+            client.send(randomByte);
+            PinpointRPCTestUtils.close(client);
+        } finally {
+            clientFactory.release();
+            serverAcceptor.close();
+        }
+    }
+
+    @Test
+    public void handshakeAndServerRequest() throws Exception {
+        Netty4ServerAcceptor serverAcceptor = createServerAcceptor();
+        PinpointClientFactory clientFactory = PinpointRPCTestUtils.createClientFactory(PinpointRPCTestUtils.getParams(), PinpointRPCTestUtils.createEchoClientListener());
+        PinpointClient client = null;
+        try {
+            client = clientFactory.connect("127.0.0.1", bindPort);
+            Thread.sleep(1000);
+
+            List<PinpointServer> writableServerList = serverAcceptor.getWritableServerList();
+            Assert.assertEquals(1, writableServerList.size());
+
+            PinpointServer pinpointServer = writableServerList.get(0);
+            Assert.assertEquals(SocketStateCode.RUN_DUPLEX, pinpointServer.getCurrentStateCode());
+
+            byte[] randomByte = TestByteUtils.createRandomByte(10);
+            Assert.assertArrayEquals(randomByte, PinpointRPCTestUtils.request(pinpointServer, randomByte));
+
+            client.close();
+            Thread.sleep(1000);
+
+            Assert.assertEquals(SocketStateCode.CLOSED_BY_CLIENT, pinpointServer.getCurrentStateCode());
+        } finally {
+            PinpointRPCTestUtils.close(client);
+            clientFactory.release();
+            serverAcceptor.close();
+        }
+    }
+
+    @Test
+    public void closeByServer() throws Exception {
+        Netty4ServerAcceptor serverAcceptor = createServerAcceptor();
+        PinpointClientFactory clientFactory = PinpointRPCTestUtils.createClientFactory(PinpointRPCTestUtils.getParams(), PinpointRPCTestUtils.createEchoClientListener());
+        PinpointClient client = null;
+        try {
+            client = clientFactory.connect("127.0.0.1", bindPort);
+            Thread.sleep(1000);
+
+            PinpointServer pinpointServer = serverAcceptor.getWritableServerList().get(0);
+
+            serverAcceptor.close();
+            Thread.sleep(1000);
+
+            Assert.assertEquals(SocketStateCode.CLOSED_BY_SERVER, pinpointServer.getCurrentStateCode());
+        } finally {
+            PinpointRPCTestUtils.close(client);
+            clientFactory.release();
+            serverAcceptor.close();
+        }
+    }
+
+    private Netty4ServerAcceptor createServerAcceptor() {
+        Netty4ServerAcceptor serverAcceptor = new Netty4ServerAcceptor();
+        serverAcceptor.setMessageListener(PinpointRPCTestUtils.createEchoServerListener());
+        serverAcceptor.bind("127.0.0.1", bindPort);
+        return serverAcceptor;
+    }
+}
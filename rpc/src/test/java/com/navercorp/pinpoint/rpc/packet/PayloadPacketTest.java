@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.packet;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class PayloadPacketTest {
+
+    @Test
+    public void testReadPayloadBytes() {
+        byte[] payload = new byte[] {1, 2, 3, 4};
+        ChannelBuffer buffer = new SendPacket(payload).toBuffer();
+        buffer.markReaderIndex();
+        Assert.assertEquals(PacketType.APPLICATION_SEND, buffer.readShort());
+
+        byte[] read = PayloadPacket.readPayloadBytes(buffer);
+        Assert.assertArrayEquals(payload, read);
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testReadPayloadBytes_notEnoughData() {
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        buffer.writeInt(10);
+        buffer.writeBytes(new byte[5]);
+        buffer.markReaderIndex();
+
+        Assert.assertNull(PayloadPacket.readPayloadBytes(buffer));
+        Assert.assertEquals("reader index must be restored", 9, buffer.readableBytes());
+    }
+
+    @Test
+    public void testReadPayloadBytes_nullPayload() {
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        buffer.writeInt(-1);
+        buffer.markReaderIndex();
+
+        byte[] read = PayloadPacket.readPayloadBytes(buffer);
+        Assert.assertEquals(0, read.length);
+    }
+
+    @Test
+    public void testReadPayloadSlice() {
+        ChannelBuffer buffer = ChannelBuffers.buffer(4 + 3);
+        buffer.writeInt(3);
+        buffer.writeBytes(new byte[] {7, 8, 9});
+        buffer.markReaderIndex();
+
+        ChannelBuffer slice = PayloadPacket.readPayloadSlice(buffer);
+        Assert.assertSame(buffer.array(), slice.array());
+        Assert.assertEquals(3, slice.readableBytes());
+        Assert.assertEquals(7, slice.getByte(0));
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testSkipPayload() {
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        buffer.writeInt(3);
+        buffer.writeBytes(new byte[] {7, 8, 9});
+        buffer.writeByte(10);
+        buffer.markReaderIndex();
+
+        Assert.assertTrue(PayloadPacket.skipPayload(buffer));
+        Assert.assertEquals(10, buffer.readByte());
+    }
+}
@@ -0,0 +1,908 @@
+/**
+ * Autogenerated by Thrift Compiler (0.9.2)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package com.navercorp.pinpoint.thrift.dto;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.EncodingUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.server.AbstractNonblockingServer.*;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.Generated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-19")
+public class TUriStat implements org.apache.thrift.TBase<TUriStat, TUriStat._Fields>, java.io.Serializable, Cloneable, Comparable<TUriStat> {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TUriStat");
+
+  private static final org.apache.thrift.protocol.TField URI_FIELD_DESC = new org.apache.thrift.protocol.TField("uri", org.apache.thrift.protocol.TType.STRING, (short)1);
+  private static final org.apache.thrift.protocol.TField API_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("apiId", org.apache.thrift.protocol.TType.I32, (short)2);
+  private static final org.apache.thrift.protocol.TField STATUS_FIELD_DESC = new org.apache.thrift.protocol.TField("status", org.apache.thrift.protocol.TType.I32, (short)3);
+  private static final org.apache.thrift.protocol.TField TOTAL_ELAPSED_FIELD_DESC = new org.apache.thrift.protocol.TField("totalElapsed", org.apache.thrift.protocol.TType.I64, (short)4);
+  private static final org.apache.thrift.protocol.TField MAX_ELAPSED_FIELD_DESC = new org.apache.thrift.protocol.TField("maxElapsed", org.apache.thrift.protocol.TType.I32, (short)5);
+  private static final org.apache.thrift.protocol.TField HISTOGRAM_FIELD_DESC = new org.apache.thrift.protocol.TField("histogram", org.apache.thrift.protocol.TType.STRING, (short)10);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TUriStatStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TUriStatTupleSchemeFactory());
+  }
+
+  private String uri; // optional
+  private int apiId; // optional
+  private int status; // required
+  private long totalElapsed; // required
+  private int maxElapsed; // required
+  private ByteBuffer histogram; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    URI((short)1, "uri"),
+    API_ID((short)2, "apiId"),
+    STATUS((short)3, "status"),
+    TOTAL_ELAPSED((short)4, "totalElapsed"),
+    MAX_ELAPSED((short)5, "maxElapsed"),
+    HISTOGRAM((short)10, "histogram");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // URI
+          return URI;
+        case 2: // API_ID
+          return API_ID;
+        case 3: // STATUS
+          return STATUS;
+        case 4: // TOTAL_ELAPSED
+          return TOTAL_ELAPSED;
+        case 5: // MAX_ELAPSED
+          return MAX_ELAPSED;
+        case 10: // HISTOGRAM
+          return HISTOGRAM;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __APIID_ISSET_ID = 0;
+  private static final int __STATUS_ISSET_ID = 1;
+  private static final int __TOTALELAPSED_ISSET_ID = 2;
+  private static final int __MAXELAPSED_ISSET_ID = 3;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.URI,_Fields.API_ID};
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.URI, new org.apache.thrift.meta_data.FieldMetaData("uri", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.API_ID, new org.apache.thrift.meta_data.FieldMetaData("apiId", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.STATUS, new org.apache.thrift.meta_data.FieldMetaData("status", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.TOTAL_ELAPSED, new org.apache.thrift.meta_data.FieldMetaData("totalElapsed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.MAX_ELAPSED, new org.apache.thrift.meta_data.FieldMetaData("maxElapsed", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.HISTOGRAM, new org.apache.thrift.meta_data.FieldMetaData("histogram", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TUriStat.class, metaDataMap);
+  }
+
+  public TUriStat() {
+  }
+
+  public TUriStat(
+    int status,
+    long totalElapsed,
+    int maxElapsed,
+    ByteBuffer histogram)
+  {
+    this();
+    this.status = status;
+    setStatusIsSet(true);
+    this.totalElapsed = totalElapsed;
+    setTotalElapsedIsSet(true);
+    this.maxElapsed = maxElapsed;
+    setMaxElapsedIsSet(true);
+    this.histogram = org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TUriStat(TUriStat other) {
+    __isset_bitfield = other.__isset_bitfield;
+    if (other.isSetUri()) {
+      this.uri = other.uri;
+    }
+    this.apiId = other.apiId;
+    this.status = other.status;
+    this.totalElapsed = other.totalElapsed;
+    this.maxElapsed = other.maxElapsed;
+    if (other.isSetHistogram()) {
+      this.histogram = org.apache.thrift.TBaseHelper.copyBinary(other.histogram);
+    }
+  }
+
+  public TUriStat deepCopy() {
+    return new TUriStat(this);
+  }
+
+  @Override
+  public void clear() {
+    this.uri = null;
+    setApiIdIsSet(false);
+    this.apiId = 0;
+    setStatusIsSet(false);
+    this.status = 0;
+    setTotalElapsedIsSet(false);
+    this.totalElapsed = 0;
+    setMaxElapsedIsSet(false);
+    this.maxElapsed = 0;
+    this.histogram = null;
+  }
+
+  public String getUri() {
+    return this.uri;
+  }
+
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public void unsetUri() {
+    this.uri = null;
+  }
+
+  /** Returns true if field uri is set (has been assigned a value) and false otherwise */
+  public boolean isSetUri() {
+    return this.uri != null;
+  }
+
+  public void setUriIsSet(boolean value) {
+    if (!value) {
+      this.uri = null;
+    }
+  }
+
+  public int getApiId() {
+    return this.apiId;
+  }
+
+  public void setApiId(int apiId) {
+    this.apiId = apiId;
+    setApiIdIsSet(true);
+  }
+
+  public void unsetApiId() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __APIID_ISSET_ID);
+  }
+
+  /** Returns true if field apiId is set (has been assigned a value) and false otherwise */
+  public boolean isSetApiId() {
+    return EncodingUtils.testBit(__isset_bitfield, __APIID_ISSET_ID);
+  }
+
+  public void setApiIdIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __APIID_ISSET_ID, value);
+  }
+
+  public int getStatus() {
+    return this.status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+    setStatusIsSet(true);
+  }
+
+  public void unsetStatus() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __STATUS_ISSET_ID);
+  }
+
+  /** Returns true if field status is set (has been assigned a value) and false otherwise */
+  public boolean isSetStatus() {
+    return EncodingUtils.testBit(__isset_bitfield, __STATUS_ISSET_ID);
+  }
+
+  public void setStatusIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __STATUS_ISSET_ID, value);
+  }
+
+  public long getTotalElapsed() {
+    return this.totalElapsed;
+  }
+
+  public void setTotalElapsed(long totalElapsed) {
+    this.totalElapsed = totalElapsed;
+    setTotalElapsedIsSet(true);
+  }
+
+  public void unsetTotalElapsed() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TOTALELAPSED_ISSET_ID);
+  }
+
+  /** Returns true if field totalElapsed is set (has been assigned a value) and false otherwise */
+  public boolean isSetTotalElapsed() {
+    return EncodingUtils.testBit(__isset_bitfield, __TOTALELAPSED_ISSET_ID);
+  }
+
+  public void setTotalElapsedIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOTALELAPSED_ISSET_ID, value);
+  }
+
+  public int getMaxElapsed() {
+    return this.maxElapsed;
+  }
+
+  public void setMaxElapsed(int maxElapsed) {
+    this.maxElapsed = maxElapsed;
+    setMaxElapsedIsSet(true);
+  }
+
+  public void unsetMaxElapsed() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXELAPSED_ISSET_ID);
+  }
+
+  /** Returns true if field maxElapsed is set (has been assigned a value) and false otherwise */
+  public boolean isSetMaxElapsed() {
+    return EncodingUtils.testBit(__isset_bitfield, __MAXELAPSED_ISSET_ID);
+  }
+
+  public void setMaxElapsedIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXELAPSED_ISSET_ID, value);
+  }
+
+  public byte[] getHistogram() {
+    setHistogram(org.apache.thrift.TBaseHelper.rightSize(histogram));
+    return histogram == null ? null : histogram.array();
+  }
+
+  public ByteBuffer bufferForHistogram() {
+    return org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void setHistogram(byte[] histogram) {
+    this.histogram = histogram == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(histogram, histogram.length));
+  }
+
+  public void setHistogram(ByteBuffer histogram) {
+    this.histogram = org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void unsetHistogram() {
+    this.histogram = null;
+  }
+
+  /** Returns true if field histogram is set (has been assigned a value) and false otherwise */
+  public boolean isSetHistogram() {
+    return this.histogram != null;
+  }
+
+  public void setHistogramIsSet(boolean value) {
+    if (!value) {
+      this.histogram = null;
+    }
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case URI:
+      if (value == null) {
+        unsetUri();
+      } else {
+        setUri((String)value);
+      }
+      break;
+
+    case API_ID:
+      if (value == null) {
+        unsetApiId();
+      } else {
+        setApiId((Integer)value);
+      }
+      break;
+
+    case STATUS:
+      if (value == null) {
+        unsetStatus();
+      } else {
+        setStatus((Integer)value);
+      }
+      break;
+
+    case TOTAL_ELAPSED:
+      if (value == null) {
+        unsetTotalElapsed();
+      } else {
+        setTotalElapsed((Long)value);
+      }
+      break;
+
+    case MAX_ELAPSED:
+      if (value == null) {
+        unsetMaxElapsed();
+      } else {
+        setMaxElapsed((Integer)value);
+      }
+      break;
+
+    case HISTOGRAM:
+      if (value == null) {
+        unsetHistogram();
+      } else {
+        setHistogram((ByteBuffer)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case URI:
+      return getUri();
+
+    case API_ID:
+      return Integer.valueOf(getApiId());
+
+    case STATUS:
+      return Integer.valueOf(getStatus());
+
+    case TOTAL_ELAPSED:
+      return Long.valueOf(getTotalElapsed());
+
+    case MAX_ELAPSED:
+      return Integer.valueOf(getMaxElapsed());
+
+    case HISTOGRAM:
+      return getHistogram();
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case URI:
+      return isSetUri();
+    case API_ID:
+      return isSetApiId();
+    case STATUS:
+      return isSetStatus();
+    case TOTAL_ELAPSED:
+      return isSetTotalElapsed();
+    case MAX_ELAPSED:
+      return isSetMaxElapsed();
+    case HISTOGRAM:
+      return isSetHistogram();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TUriStat)
+      return this.equals((TUriStat)that);
+    return false;
+  }
+
+  public boolean equals(TUriStat that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_uri = true && this.isSetUri();
+    boolean that_present_uri = true && that.isSetUri();
+    if (this_present_uri || that_present_uri) {
+      if (!(this_present_uri && that_present_uri))
+        return false;
+      if (!this.uri.equals(that.uri))
+        return false;
+    }
+
+    boolean this_present_apiId = true && this.isSetApiId();
+    boolean that_present_apiId = true && that.isSetApiId();
+    if (this_present_apiId || that_present_apiId) {
+      if (!(this_present_apiId && that_present_apiId))
+        return false;
+      if (this.apiId != that.apiId)
+        return false;
+    }
+
+    boolean this_present_status = true;
+    boolean that_present_status = true;
+    if (this_present_status || that_present_status) {
+      if (!(this_present_status && that_present_status))
+        return false;
+      if (this.status != that.status)
+        return false;
+    }
+
+    boolean this_present_totalElapsed = true;
+    boolean that_present_totalElapsed = true;
+    if (this_present_totalElapsed || that_present_totalElapsed) {
+      if (!(this_present_totalElapsed && that_present_totalElapsed))
+        return false;
+      if (this.totalElapsed != that.totalElapsed)
+        return false;
+    }
+
+    boolean this_present_maxElapsed = true;
+    boolean that_present_maxElapsed = true;
+    if (this_present_maxElapsed || that_present_maxElapsed) {
+      if (!(this_present_maxElapsed && that_present_maxElapsed))
+        return false;
+      if (this.maxElapsed != that.maxElapsed)
+        return false;
+    }
+
+    boolean this_present_histogram = true && this.isSetHistogram();
+    boolean that_present_histogram = true && that.isSetHistogram();
+    if (this_present_histogram || that_present_histogram) {
+      if (!(this_present_histogram && that_present_histogram))
+        return false;
+      if (!this.histogram.equals(that.histogram))
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    List<Object> list = new ArrayList<Object>();
+
+    boolean present_uri = true && (isSetUri());
+    list.add(present_uri);
+    if (present_uri)
+      list.add(uri);
+
+    boolean present_apiId = true && (isSetApiId());
+    list.add(present_apiId);
+    if (present_apiId)
+      list.add(apiId);
+
+    boolean present_status = true;
+    list.add(present_status);
+    if (present_status)
+      list.add(status);
+
+    boolean present_totalElapsed = true;
+    list.add(present_totalElapsed);
+    if (present_totalElapsed)
+      list.add(totalElapsed);
+
+    boolean present_maxElapsed = true;
+    list.add(present_maxElapsed);
+    if (present_maxElapsed)
+      list.add(maxElapsed);
+
+    boolean present_histogram = true && (isSetHistogram());
+    list.add(present_histogram);
+    if (present_histogram)
+      list.add(histogram);
+
+    return list.hashCode();
+  }
+
+  @Override
+  public int compareTo(TUriStat other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+
+    lastComparison = Boolean.valueOf(isSetUri()).compareTo(other.isSetUri());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetUri()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.uri, other.uri);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetApiId()).compareTo(other.isSetApiId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetApiId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.apiId, other.apiId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetStatus()).compareTo(other.isSetStatus());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetStatus()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.status, other.status);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetTotalElapsed()).compareTo(other.isSetTotalElapsed());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTotalElapsed()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.totalElapsed, other.totalElapsed);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetMaxElapsed()).compareTo(other.isSetMaxElapsed());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMaxElapsed()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxElapsed, other.maxElapsed);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetHistogram()).compareTo(other.isSetHistogram());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetHistogram()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.histogram, other.histogram);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TUriStat(");
+    boolean first = true;
+
+    if (isSetUri()) {
+      sb.append("uri:");
+      if (this.uri == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.uri);
+      }
+      first = false;
+    }
+    if (isSetApiId()) {
+      if (!first) sb.append(", ");
+      sb.append("apiId:");
+      sb.append(this.apiId);
+      first = false;
+    }
+    if (!first) sb.append(", ");
+    sb.append("status:");
+    sb.append(this.status);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("totalElapsed:");
+    sb.append(this.totalElapsed);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("maxElapsed:");
+    sb.append(this.maxElapsed);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("histogram:");
+    if (this.histogram == null) {
+      sb.append("null");
+    } else {
+      org.apache.thrift.TBaseHelper.toString(this.histogram, sb);
+    }
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+    // check for sub-struct validity
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private static class TUriStatStandardSchemeFactory implements SchemeFactory {
+    public TUriStatStandardScheme getScheme() {
+      return new TUriStatStandardScheme();
+    }
+  }
+
+  private static class TUriStatStandardScheme extends StandardScheme<TUriStat> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TUriStat struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // URI
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.uri = iprot.readString();
+              struct.setUriIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // API_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.apiId = iprot.readI32();
+              struct.setApiIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // STATUS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.status = iprot.readI32();
+              struct.setStatusIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // TOTAL_ELAPSED
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.totalElapsed = iprot.readI64();
+              struct.setTotalElapsedIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // MAX_ELAPSED
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.maxElapsed = iprot.readI32();
+              struct.setMaxElapsedIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // HISTOGRAM
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.histogram = iprot.readBinary();
+              struct.setHistogramIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TUriStat struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.uri != null) {
+        if (struct.isSetUri()) {
+          oprot.writeFieldBegin(URI_FIELD_DESC);
+          oprot.writeString(struct.uri);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetApiId()) {
+        oprot.writeFieldBegin(API_ID_FIELD_DESC);
+        oprot.writeI32(struct.apiId);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldBegin(STATUS_FIELD_DESC);
+      oprot.writeI32(struct.status);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(TOTAL_ELAPSED_FIELD_DESC);
+      oprot.writeI64(struct.totalElapsed);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(MAX_ELAPSED_FIELD_DESC);
+      oprot.writeI32(struct.maxElapsed);
+      oprot.writeFieldEnd();
+      if (struct.histogram != null) {
+        oprot.writeFieldBegin(HISTOGRAM_FIELD_DESC);
+        oprot.writeBinary(struct.histogram);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TUriStatTupleSchemeFactory implements SchemeFactory {
+    public TUriStatTupleScheme getScheme() {
+      return new TUriStatTupleScheme();
+    }
+  }
+
+  private static class TUriStatTupleScheme extends TupleScheme<TUriStat> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TUriStat struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetUri()) {
+        optionals.set(0);
+      }
+      if (struct.isSetApiId()) {
+        optionals.set(1);
+      }
+      if (struct.isSetStatus()) {
+        optionals.set(2);
+      }
+      if (struct.isSetTotalElapsed()) {
+        optionals.set(3);
+      }
+      if (struct.isSetMaxElapsed()) {
+        optionals.set(4);
+      }
+      if (struct.isSetHistogram()) {
+        optionals.set(5);
+      }
+      oprot.writeBitSet(optionals, 6);
+      if (struct.isSetUri()) {
+        oprot.writeString(struct.uri);
+      }
+      if (struct.isSetApiId()) {
+        oprot.writeI32(struct.apiId);
+      }
+      if (struct.isSetStatus()) {
+        oprot.writeI32(struct.status);
+      }
+      if (struct.isSetTotalElapsed()) {
+        oprot.writeI64(struct.totalElapsed);
+      }
+      if (struct.isSetMaxElapsed()) {
+        oprot.writeI32(struct.maxElapsed);
+      }
+      if (struct.isSetHistogram()) {
+        oprot.writeBinary(struct.histogram);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TUriStat struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(6);
+      if (incoming.get(0)) {
+        struct.uri = iprot.readString();
+        struct.setUriIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.apiId = iprot.readI32();
+        struct.setApiIdIsSet(true);
+      }
+      if (incoming.get(2)) {
+        struct.status = iprot.readI32();
+        struct.setStatusIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.totalElapsed = iprot.readI64();
+        struct.setTotalElapsedIsSet(true);
+      }
+      if (incoming.get(4)) {
+        struct.maxElapsed = iprot.readI32();
+        struct.setMaxElapsedIsSet(true);
+      }
+      if (incoming.get(5)) {
+        struct.histogram = iprot.readBinary();
+        struct.setHistogramIsSet(true);
+      }
+    }
+  }
+
+}
+
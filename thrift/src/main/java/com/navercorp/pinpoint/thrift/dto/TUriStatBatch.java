@@ -0,0 +1,851 @@
+/**
+ * Autogenerated by Thrift Compiler (0.9.2)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package com.navercorp.pinpoint.thrift.dto;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.EncodingUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.server.AbstractNonblockingServer.*;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.Generated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-19")
+public class TUriStatBatch implements org.apache.thrift.TBase<TUriStatBatch, TUriStatBatch._Fields>, java.io.Serializable, Cloneable, Comparable<TUriStatBatch> {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TUriStatBatch");
+
+  private static final org.apache.thrift.protocol.TField AGENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("agentId", org.apache.thrift.protocol.TType.STRING, (short)1);
+  private static final org.apache.thrift.protocol.TField START_TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("startTimestamp", org.apache.thrift.protocol.TType.I64, (short)2);
+  private static final org.apache.thrift.protocol.TField TIMESTAMP_FIELD_DESC = new org.apache.thrift.protocol.TField("timestamp", org.apache.thrift.protocol.TType.I64, (short)3);
+  private static final org.apache.thrift.protocol.TField INTERVAL_FIELD_DESC = new org.apache.thrift.protocol.TField("interval", org.apache.thrift.protocol.TType.I32, (short)4);
+  private static final org.apache.thrift.protocol.TField URI_STATS_FIELD_DESC = new org.apache.thrift.protocol.TField("uriStats", org.apache.thrift.protocol.TType.LIST, (short)10);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TUriStatBatchStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TUriStatBatchTupleSchemeFactory());
+  }
+
+  private String agentId; // required
+  private long startTimestamp; // required
+  private long timestamp; // required
+  private int interval; // required
+  private List<TUriStat> uriStats; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    AGENT_ID((short)1, "agentId"),
+    START_TIMESTAMP((short)2, "startTimestamp"),
+    TIMESTAMP((short)3, "timestamp"),
+    INTERVAL((short)4, "interval"),
+    URI_STATS((short)10, "uriStats");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // AGENT_ID
+          return AGENT_ID;
+        case 2: // START_TIMESTAMP
+          return START_TIMESTAMP;
+        case 3: // TIMESTAMP
+          return TIMESTAMP;
+        case 4: // INTERVAL
+          return INTERVAL;
+        case 10: // URI_STATS
+          return URI_STATS;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __STARTTIMESTAMP_ISSET_ID = 0;
+  private static final int __TIMESTAMP_ISSET_ID = 1;
+  private static final int __INTERVAL_ISSET_ID = 2;
+  private byte __isset_bitfield = 0;
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.AGENT_ID, new org.apache.thrift.meta_data.FieldMetaData("agentId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.START_TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("startTimestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.TIMESTAMP, new org.apache.thrift.meta_data.FieldMetaData("timestamp", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.INTERVAL, new org.apache.thrift.meta_data.FieldMetaData("interval", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.URI_STATS, new org.apache.thrift.meta_data.FieldMetaData("uriStats", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TUriStat.class))));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TUriStatBatch.class, metaDataMap);
+  }
+
+  public TUriStatBatch() {
+  }
+
+  public TUriStatBatch(
+    String agentId,
+    long startTimestamp,
+    long timestamp,
+    int interval,
+    List<TUriStat> uriStats)
+  {
+    this();
+    this.agentId = agentId;
+    this.startTimestamp = startTimestamp;
+    setStartTimestampIsSet(true);
+    this.timestamp = timestamp;
+    setTimestampIsSet(true);
+    this.interval = interval;
+    setIntervalIsSet(true);
+    this.uriStats = uriStats;
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TUriStatBatch(TUriStatBatch other) {
+    __isset_bitfield = other.__isset_bitfield;
+    if (other.isSetAgentId()) {
+      this.agentId = other.agentId;
+    }
+    this.startTimestamp = other.startTimestamp;
+    this.timestamp = other.timestamp;
+    this.interval = other.interval;
+    if (other.isSetUriStats()) {
+      List<TUriStat> __this__uriStats = new ArrayList<TUriStat>(other.uriStats.size());
+      for (TUriStat other_element : other.uriStats) {
+        __this__uriStats.add(new TUriStat(other_element));
+      }
+      this.uriStats = __this__uriStats;
+    }
+  }
+
+  public TUriStatBatch deepCopy() {
+    return new TUriStatBatch(this);
+  }
+
+  @Override
+  public void clear() {
+    this.agentId = null;
+    setStartTimestampIsSet(false);
+    this.startTimestamp = 0;
+    setTimestampIsSet(false);
+    this.timestamp = 0;
+    setIntervalIsSet(false);
+    this.interval = 0;
+    this.uriStats = null;
+  }
+
+  public String getAgentId() {
+    return this.agentId;
+  }
+
+  public void setAgentId(String agentId) {
+    this.agentId = agentId;
+  }
+
+  public void unsetAgentId() {
+    this.agentId = null;
+  }
+
+  /** Returns true if field agentId is set (has been assigned a value) and false otherwise */
+  public boolean isSetAgentId() {
+    return this.agentId != null;
+  }
+
+  public void setAgentIdIsSet(boolean value) {
+    if (!value) {
+      this.agentId = null;
+    }
+  }
+
+  public long getStartTimestamp() {
+    return this.startTimestamp;
+  }
+
+  public void setStartTimestamp(long startTimestamp) {
+    this.startTimestamp = startTimestamp;
+    setStartTimestampIsSet(true);
+  }
+
+  public void unsetStartTimestamp() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __STARTTIMESTAMP_ISSET_ID);
+  }
+
+  /** Returns true if field startTimestamp is set (has been assigned a value) and false otherwise */
+  public boolean isSetStartTimestamp() {
+    return EncodingUtils.testBit(__isset_bitfield, __STARTTIMESTAMP_ISSET_ID);
+  }
+
+  public void setStartTimestampIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __STARTTIMESTAMP_ISSET_ID, value);
+  }
+
+  public long getTimestamp() {
+    return this.timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+    setTimestampIsSet(true);
+  }
+
+  public void unsetTimestamp() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+  }
+
+  /** Returns true if field timestamp is set (has been assigned a value) and false otherwise */
+  public boolean isSetTimestamp() {
+    return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
+  }
+
+  public void setTimestampIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
+  }
+
+  public int getInterval() {
+    return this.interval;
+  }
+
+  public void setInterval(int interval) {
+    this.interval = interval;
+    setIntervalIsSet(true);
+  }
+
+  public void unsetInterval() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INTERVAL_ISSET_ID);
+  }
+
+  /** Returns true if field interval is set (has been assigned a value) and false otherwise */
+  public boolean isSetInterval() {
+    return EncodingUtils.testBit(__isset_bitfield, __INTERVAL_ISSET_ID);
+  }
+
+  public void setIntervalIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INTERVAL_ISSET_ID, value);
+  }
+
+  public int getUriStatsSize() {
+    return (this.uriStats == null) ? 0 : this.uriStats.size();
+  }
+
+  public java.util.Iterator<TUriStat> getUriStatsIterator() {
+    return (this.uriStats == null) ? null : this.uriStats.iterator();
+  }
+
+  public void addToUriStats(TUriStat elem) {
+    if (this.uriStats == null) {
+      this.uriStats = new ArrayList<TUriStat>();
+    }
+    this.uriStats.add(elem);
+  }
+
+  public List<TUriStat> getUriStats() {
+    return this.uriStats;
+  }
+
+  public void setUriStats(List<TUriStat> uriStats) {
+    this.uriStats = uriStats;
+  }
+
+  public void unsetUriStats() {
+    this.uriStats = null;
+  }
+
+  /** Returns true if field uriStats is set (has been assigned a value) and false otherwise */
+  public boolean isSetUriStats() {
+    return this.uriStats != null;
+  }
+
+  public void setUriStatsIsSet(boolean value) {
+    if (!value) {
+      this.uriStats = null;
+    }
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case AGENT_ID:
+      if (value == null) {
+        unsetAgentId();
+      } else {
+        setAgentId((String)value);
+      }
+      break;
+
+    case START_TIMESTAMP:
+      if (value == null) {
+        unsetStartTimestamp();
+      } else {
+        setStartTimestamp((Long)value);
+      }
+      break;
+
+    case TIMESTAMP:
+      if (value == null) {
+        unsetTimestamp();
+      } else {
+        setTimestamp((Long)value);
+      }
+      break;
+
+    case INTERVAL:
+      if (value == null) {
+        unsetInterval();
+      } else {
+        setInterval((Integer)value);
+      }
+      break;
+
+    case URI_STATS:
+      if (value == null) {
+        unsetUriStats();
+      } else {
+        setUriStats((List<TUriStat>)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case AGENT_ID:
+      return getAgentId();
+
+    case START_TIMESTAMP:
+      return Long.valueOf(getStartTimestamp());
+
+    case TIMESTAMP:
+      return Long.valueOf(getTimestamp());
+
+    case INTERVAL:
+      return Integer.valueOf(getInterval());
+
+    case URI_STATS:
+      return getUriStats();
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case AGENT_ID:
+      return isSetAgentId();
+    case START_TIMESTAMP:
+      return isSetStartTimestamp();
+    case TIMESTAMP:
+      return isSetTimestamp();
+    case INTERVAL:
+      return isSetInterval();
+    case URI_STATS:
+      return isSetUriStats();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TUriStatBatch)
+      return this.equals((TUriStatBatch)that);
+    return false;
+  }
+
+  public boolean equals(TUriStatBatch that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_agentId = true && this.isSetAgentId();
+    boolean that_present_agentId = true && that.isSetAgentId();
+    if (this_present_agentId || that_present_agentId) {
+      if (!(this_present_agentId && that_present_agentId))
+        return false;
+      if (!this.agentId.equals(that.agentId))
+        return false;
+    }
+
+    boolean this_present_startTimestamp = true;
+    boolean that_present_startTimestamp = true;
+    if (this_present_startTimestamp || that_present_startTimestamp) {
+      if (!(this_present_startTimestamp && that_present_startTimestamp))
+        return false;
+      if (this.startTimestamp != that.startTimestamp)
+        return false;
+    }
+
+    boolean this_present_timestamp = true;
+    boolean that_present_timestamp = true;
+    if (this_present_timestamp || that_present_timestamp) {
+      if (!(this_present_timestamp && that_present_timestamp))
+        return false;
+      if (this.timestamp != that.timestamp)
+        return false;
+    }
+
+    boolean this_present_interval = true;
+    boolean that_present_interval = true;
+    if (this_present_interval || that_present_interval) {
+      if (!(this_present_interval && that_present_interval))
+        return false;
+      if (this.interval != that.interval)
+        return false;
+    }
+
+    boolean this_present_uriStats = true && this.isSetUriStats();
+    boolean that_present_uriStats = true && that.isSetUriStats();
+    if (this_present_uriStats || that_present_uriStats) {
+      if (!(this_present_uriStats && that_present_uriStats))
+        return false;
+      if (!this.uriStats.equals(that.uriStats))
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    List<Object> list = new ArrayList<Object>();
+
+    boolean present_agentId = true && (isSetAgentId());
+    list.add(present_agentId);
+    if (present_agentId)
+      list.add(agentId);
+
+    boolean present_startTimestamp = true;
+    list.add(present_startTimestamp);
+    if (present_startTimestamp)
+      list.add(startTimestamp);
+
+    boolean present_timestamp = true;
+    list.add(present_timestamp);
+    if (present_timestamp)
+      list.add(timestamp);
+
+    boolean present_interval = true;
+    list.add(present_interval);
+    if (present_interval)
+      list.add(interval);
+
+    boolean present_uriStats = true && (isSetUriStats());
+    list.add(present_uriStats);
+    if (present_uriStats)
+      list.add(uriStats);
+
+    return list.hashCode();
+  }
+
+  @Override
+  public int compareTo(TUriStatBatch other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+
+    lastComparison = Boolean.valueOf(isSetAgentId()).compareTo(other.isSetAgentId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetAgentId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.agentId, other.agentId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetStartTimestamp()).compareTo(other.isSetStartTimestamp());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetStartTimestamp()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startTimestamp, other.startTimestamp);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetTimestamp()).compareTo(other.isSetTimestamp());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTimestamp()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timestamp, other.timestamp);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetInterval()).compareTo(other.isSetInterval());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetInterval()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interval, other.interval);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetUriStats()).compareTo(other.isSetUriStats());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetUriStats()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.uriStats, other.uriStats);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TUriStatBatch(");
+    boolean first = true;
+
+    sb.append("agentId:");
+    if (this.agentId == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.agentId);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("startTimestamp:");
+    sb.append(this.startTimestamp);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("timestamp:");
+    sb.append(this.timestamp);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("interval:");
+    sb.append(this.interval);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("uriStats:");
+    if (this.uriStats == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.uriStats);
+    }
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+    // check for sub-struct validity
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te);
+    }
+  }
+
+  private static class TUriStatBatchStandardSchemeFactory implements SchemeFactory {
+    public TUriStatBatchStandardScheme getScheme() {
+      return new TUriStatBatchStandardScheme();
+    }
+  }
+
+  private static class TUriStatBatchStandardScheme extends StandardScheme<TUriStatBatch> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TUriStatBatch struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // AGENT_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.agentId = iprot.readString();
+              struct.setAgentIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // START_TIMESTAMP
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.startTimestamp = iprot.readI64();
+              struct.setStartTimestampIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // TIMESTAMP
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.timestamp = iprot.readI64();
+              struct.setTimestampIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 4: // INTERVAL
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.interval = iprot.readI32();
+              struct.setIntervalIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // URI_STATS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list41 = iprot.readListBegin();
+                struct.uriStats = new ArrayList<TUriStat>(_list41.size);
+                TUriStat _elem42;
+                for (int _i43 = 0; _i43 < _list41.size; ++_i43)
+                {
+                  _elem42 = new TUriStat();
+                  _elem42.read(iprot);
+                  struct.uriStats.add(_elem42);
+                }
+                iprot.readListEnd();
+              }
+              struct.setUriStatsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TUriStatBatch struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.agentId != null) {
+        oprot.writeFieldBegin(AGENT_ID_FIELD_DESC);
+        oprot.writeString(struct.agentId);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldBegin(START_TIMESTAMP_FIELD_DESC);
+      oprot.writeI64(struct.startTimestamp);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(TIMESTAMP_FIELD_DESC);
+      oprot.writeI64(struct.timestamp);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(INTERVAL_FIELD_DESC);
+      oprot.writeI32(struct.interval);
+      oprot.writeFieldEnd();
+      if (struct.uriStats != null) {
+        oprot.writeFieldBegin(URI_STATS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.uriStats.size()));
+          for (TUriStat _iter44 : struct.uriStats)
+          {
+            _iter44.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TUriStatBatchTupleSchemeFactory implements SchemeFactory {
+    public TUriStatBatchTupleScheme getScheme() {
+      return new TUriStatBatchTupleScheme();
+    }
+  }
+
+  private static class TUriStatBatchTupleScheme extends TupleScheme<TUriStatBatch> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TUriStatBatch struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetAgentId()) {
+        optionals.set(0);
+      }
+      if (struct.isSetStartTimestamp()) {
+        optionals.set(1);
+      }
+      if (struct.isSetTimestamp()) {
+        optionals.set(2);
+      }
+      if (struct.isSetInterval()) {
+        optionals.set(3);
+      }
+      if (struct.isSetUriStats()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
+      if (struct.isSetAgentId()) {
+        oprot.writeString(struct.agentId);
+      }
+      if (struct.isSetStartTimestamp()) {
+        oprot.writeI64(struct.startTimestamp);
+      }
+      if (struct.isSetTimestamp()) {
+        oprot.writeI64(struct.timestamp);
+      }
+      if (struct.isSetInterval()) {
+        oprot.writeI32(struct.interval);
+      }
+      if (struct.isSetUriStats()) {
+        {
+          oprot.writeI32(struct.uriStats.size());
+          for (TUriStat _iter45 : struct.uriStats)
+          {
+            _iter45.write(oprot);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TUriStatBatch struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(5);
+      if (incoming.get(0)) {
+        struct.agentId = iprot.readString();
+        struct.setAgentIdIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.startTimestamp = iprot.readI64();
+        struct.setStartTimestampIsSet(true);
+      }
+      if (incoming.get(2)) {
+        struct.timestamp = iprot.readI64();
+        struct.setTimestampIsSet(true);
+      }
+      if (incoming.get(3)) {
+        struct.interval = iprot.readI32();
+        struct.setIntervalIsSet(true);
+      }
+      if (incoming.get(4)) {
+        {
+          org.apache.thrift.protocol.TList _list46 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.uriStats = new ArrayList<TUriStat>(_list46.size);
+          TUriStat _elem47;
+          for (int _i48 = 0; _i48 < _list46.size; ++_i48)
+          {
+            _elem47 = new TUriStat();
+            _elem47.read(iprot);
+            struct.uriStats.add(_elem47);
+          }
+        }
+        struct.setUriStatsIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import java.nio.charset.Charset;
+
+import org.apache.thrift.TException;
+
+/**
+ * Layout of a compressed frame. A whole serialized frame (header + body) is deflated with a preset dictionary
+ * and wrapped in a frame of its own type.
+ * <pre>
+ * signature(1) version(1) type(2) : {@link #COMPRESSED_FRAME}
+ * dictionaryId(1)
+ * uncompressedLength(4)
+ * compressedLength(4)
+ * deflate data(compressedLength)
+ * </pre>
+ *
+ * @author agent
+ */
+public final class FrameCompression {
+
+    public static final short COMPRESSED_FRAME = 900;
+
+    public static final int FRAME_HEADER_SIZE = Header.HEADER_SIZE + 1 + 4 + 4;
+
+    public static final int MAX_UNCOMPRESSED_SIZE = 1024 * 1024 * 16;
+
+    public static final byte DICTIONARY_V1 = 1;
+
+    // the preset dictionary is part of the wire format. never change it, add a new dictionary id instead.
+    // strings used most often should come last. deflate encodes closer matches with fewer bits.
+    private static final String DICTIONARY_V1_STRING = "application/x-www-form-urlencodedapplication/jsontext/html;charset=UTF-8"
+            + "javax.servlet.http.HttpServletRequestorg.springframework.web.servlet.DispatcherServlet"
+            + "java.util.concurrent.ThreadPoolExecutorjava.lang.Threadcom.navercorp.pinpoint."
+            + "java.sql.SQLExceptionjava.net.SocketTimeoutExceptionjava.lang.NullPointerException"
+            + "executeQuery(java.lang.String)executeUpdate(java.lang.String)prepareStatement(java.lang.String)"
+            + "INSERT INTO UPDATE  SET DELETE FROM  VALUES (?, ?) ORDER BY  GROUP BY  LIMIT  AND  OR "
+            + "SELECT * FROM  WHERE  = ?, http://https://localhost:8080/GETPOSTHTTP/1.1 ";
+
+    private static final byte[] DICTIONARY_V1_BYTES = DICTIONARY_V1_STRING.getBytes(Charset.forName("UTF-8"));
+
+    private FrameCompression() {
+    }
+
+    static byte[] getDictionary(byte dictionaryId) throws TException {
+        if (dictionaryId == DICTIONARY_V1) {
+            return DICTIONARY_V1_BYTES;
+        }
+        throw new TException("Unknown compression dictionary:" + dictionaryId);
+    }
+
+    static void writeInt(int value, byte[] buffer, int offset) {
+        buffer[offset] = (byte) (value >> 24);
+        buffer[offset + 1] = (byte) (value >> 16);
+        buffer[offset + 2] = (byte) (value >> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    static int readInt(byte[] buffer, int offset) {
+        return ((buffer[offset] & 0xff) << 24)
+                | ((buffer[offset + 1] & 0xff) << 16)
+                | ((buffer[offset + 2] & 0xff) << 8)
+                | (buffer[offset + 3] & 0xff);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import java.util.zip.Deflater;
+
+import org.apache.thrift.TException;
+
+/**
+ * Deflates serialized frames into {@link FrameCompression} frames.
+ * not thread safe.
+ *
+ * @author agent
+ */
+public class FrameCompressor {
+
+    public static final int DEFAULT_THRESHOLD = 512;
+
+    private final int threshold;
+    private final byte dictionaryId = FrameCompression.DICTIONARY_V1;
+    private final byte[] dictionary;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private byte[] buffer = new byte[0];
+
+    public FrameCompressor() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param threshold frames smaller than threshold are not compressed
+     */
+    public FrameCompressor(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("negative threshold:" + threshold);
+        }
+        this.threshold = threshold;
+        try {
+            this.dictionary = FrameCompression.getDictionary(dictionaryId);
+        } catch (TException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return size of the compressed frame written to {@link #getBuffer()}.
+     * -1 if the frame is smaller than the threshold or the compressed frame would not be smaller than the frame.
+     */
+    public int compress(byte[] frame, int offset, int length) {
+        if (frame == null) {
+            throw new NullPointerException("frame must not be null");
+        }
+        if (length < threshold || length <= FrameCompression.FRAME_HEADER_SIZE) {
+            return -1;
+        }
+        if (buffer.length < length) {
+            buffer = new byte[length];
+        }
+        // give up as soon as the output is not smaller than the input
+        final int maxCompressedLength = length - FrameCompression.FRAME_HEADER_SIZE - 1;
+
+        deflater.reset();
+        deflater.setDictionary(dictionary);
+        deflater.setInput(frame, offset, length);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength >= maxCompressedLength) {
+                return -1;
+            }
+            compressedLength += deflater.deflate(buffer, FrameCompression.FRAME_HEADER_SIZE + compressedLength, maxCompressedLength - compressedLength);
+        }
+
+        buffer[0] = Header.SIGNATURE;
+        buffer[1] = Header.DEFAULT_VERSION;
+        buffer[2] = BytesUtils.writeShort1(FrameCompression.COMPRESSED_FRAME);
+        buffer[3] = BytesUtils.writeShort2(FrameCompression.COMPRESSED_FRAME);
+        buffer[Header.HEADER_SIZE] = dictionaryId;
+        FrameCompression.writeInt(length, buffer, Header.HEADER_SIZE + 1);
+        FrameCompression.writeInt(compressedLength, buffer, Header.HEADER_SIZE + 5);
+        return FrameCompression.FRAME_HEADER_SIZE + compressedLength;
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * releases the native memory of the deflater. the compressor can not be used afterwards.
+     */
+    public void close() {
+        deflater.end();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.apache.thrift.TException;
+
+/**
+ * Inflates {@link FrameCompression} frames.
+ * not thread safe.
+ *
+ * @author agent
+ */
+public class FrameDecompressor {
+
+    private final Inflater inflater = new Inflater();
+
+    /**
+     * @return size of the compressed frame starting at offset, header included.
+     */
+    public static int getFrameLength(byte[] frame, int offset, int length) throws TException {
+        if (length < FrameCompression.FRAME_HEADER_SIZE) {
+            throw new TException("compressed frame too short. length:" + length);
+        }
+        final int compressedLength = FrameCompression.readInt(frame, offset + Header.HEADER_SIZE + 5);
+        if (compressedLength < 0 || compressedLength > length - FrameCompression.FRAME_HEADER_SIZE) {
+            throw new TException("invalid compressedLength:" + compressedLength + " length:" + length);
+        }
+        return FrameCompression.FRAME_HEADER_SIZE + compressedLength;
+    }
+
+    /**
+     * the returned frame is never reused. thrift may read binary fields without copying them.
+     *
+     * @param frame the compressed frame including its header
+     * @return the original frame
+     */
+    public byte[] decompress(byte[] frame, int offset, int length) throws TException {
+        if (frame == null) {
+            throw new NullPointerException("frame must not be null");
+        }
+        final int frameLength = getFrameLength(frame, offset, length);
+        final byte dictionaryId = frame[offset + Header.HEADER_SIZE];
+        final int uncompressedLength = FrameCompression.readInt(frame, offset + Header.HEADER_SIZE + 1);
+        if (uncompressedLength <= 0 || uncompressedLength > FrameCompression.MAX_UNCOMPRESSED_SIZE) {
+            throw new TException("invalid uncompressedLength:" + uncompressedLength);
+        }
+        final byte[] buffer = new byte[uncompressedLength];
+
+        inflater.reset();
+        inflater.setInput(frame, offset + FrameCompression.FRAME_HEADER_SIZE, frameLength - FrameCompression.FRAME_HEADER_SIZE);
+        int read = 0;
+        try {
+            while (read < uncompressedLength) {
+                final int n = inflater.inflate(buffer, read, uncompressedLength - read);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(FrameCompression.getDictionary(dictionaryId));
+                        continue;
+                    }
+                    // finished early or truncated input
+                    break;
+                }
+                read += n;
+            }
+        } catch (DataFormatException e) {
+            throw new TException("invalid compressed frame. " + e.getMessage(), e);
+        }
+        if (read != uncompressedLength) {
+            throw new TException("corrupted compressed frame. expected:" + uncompressedLength + " read:" + read);
+        }
+        return buffer;
+    }
+
+    /**
+     * releases the native memory of the inflater. the decompressor can not be used afterwards.
+     */
+    public void close() {
+        inflater.end();
+    }
+}
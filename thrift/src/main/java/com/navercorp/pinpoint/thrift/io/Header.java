@@ -23,10 +23,12 @@ public class Header {
 
     public static final byte SIGNATURE = (byte) 0xef;
 
+    public static final byte DEFAULT_VERSION = 0x10;
+
     public static final int HEADER_SIZE = 4;
 
     private byte signature = SIGNATURE;
-    private byte version = 0x10;
+    private byte version = DEFAULT_VERSION;
     private short type = 0;
 
     public Header() {
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.thrift.io;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,6 +39,12 @@ public class HeaderTBaseDeserializer {
     private final TMemoryInputTransport trans;
     private final TBaseLocator locator;
 
+    private final TProtocolFactory protocolFactory;
+    private final boolean acceptCompressedFrame;
+    // created on the first compressed frame
+    private FrameDecompressor frameDecompressor;
+    private HeaderTBaseDeserializer frameDeserializer;
+
     /**
      * Create a new TDeserializer. It will use the TProtocol specified by the
      * factory that is passed in.
@@ -45,9 +52,15 @@ public class HeaderTBaseDeserializer {
      * @param protocolFactory Factory to create a protocol
      */
     HeaderTBaseDeserializer(TProtocolFactory protocolFactory, TBaseLocator locator) {
+        this(protocolFactory, locator, true);
+    }
+
+    private HeaderTBaseDeserializer(TProtocolFactory protocolFactory, TBaseLocator locator, boolean acceptCompressedFrame) {
         this.trans = new TMemoryInputTransport();
         this.protocol = protocolFactory.getProtocol(trans);
         this.locator = locator;
+        this.protocolFactory = protocolFactory;
+        this.acceptCompressedFrame = acceptCompressedFrame;
     }
 
     /**
@@ -56,11 +69,28 @@ public class HeaderTBaseDeserializer {
      * @param bytes   The array to read from
      */
     public TBase<?, ?> deserialize(byte[] bytes) throws TException {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        return deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserialize the Thrift object from a region of a byte array without copying it.
+     *
+     * @param bytes   The array to read from
+     * @param offset  The offset into the array
+     * @param length  The length of the region
+     */
+    public TBase<?, ?> deserialize(byte[] bytes, int offset, int length) throws TException {
         try {
-            trans.reset(bytes);
+            trans.reset(bytes, offset, length);
             Header header = readHeader();
             final int validate = validate(header);
             if (validate == HeaderUtils.OK) {
+                if (header.getType() == FrameCompression.COMPRESSED_FRAME) {
+                    return deserializeCompressedFrame(bytes, offset, length);
+                }
                 TBase<?, ?> base = locator.tBaseLookup(header.getType());
                 base.read(protocol);
                 return base;
@@ -74,16 +104,49 @@ public class HeaderTBaseDeserializer {
             protocol.reset();
         }
     }
-    
+
+    /**
+     * Deserialize the Thrift object from the remaining bytes of a ByteBuffer.
+     * heap buffers are read in place; only direct buffers are copied.
+     * the position of the buffer is not changed.
+     *
+     * @param buffer  The buffer to read from
+     */
+    public TBase<?, ?> deserialize(ByteBuffer buffer) throws TException {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        if (buffer.hasArray()) {
+            return deserialize(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return deserialize(copy, 0, copy.length);
+    }
+
     public List<TBase<?, ?>> deserializeList(byte[] buffer) throws TException {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        return deserializeList(buffer, 0, buffer.length);
+    }
+
+    public List<TBase<?, ?>> deserializeList(byte[] buffer, int offset, int length) throws TException {
         List<TBase<?, ?>> tBaseList = new ArrayList<TBase<?,?>>();
         
-        trans.reset(buffer);
+        trans.reset(buffer, offset, length);
         try {
             while (trans.getBytesRemainingInBuffer() > 0) {
                 Header header = readHeader();
                 final int validate = validate(header);
                 if (validate == HeaderUtils.OK) {
+                    if (header.getType() == FrameCompression.COMPRESSED_FRAME) {
+                        final int frameOffset = trans.getBufferPosition() - Header.HEADER_SIZE;
+                        final int frameLength = FrameDecompressor.getFrameLength(buffer, frameOffset, trans.getBytesRemainingInBuffer() + Header.HEADER_SIZE);
+                        tBaseList.add(deserializeCompressedFrame(buffer, frameOffset, frameLength));
+                        trans.consumeBuffer(frameLength - Header.HEADER_SIZE);
+                        continue;
+                    }
                     TBase<?, ?> base = locator.tBaseLookup(header.getType());
                     base.read(protocol);
                     tBaseList.add(base);
@@ -104,6 +167,30 @@ public class HeaderTBaseDeserializer {
         return tBaseList;
     }
 
+    /**
+     * releases the decompressor if a compressed frame has been read. the deserializer creates a new one on the next compressed frame.
+     */
+    public void close() {
+        final FrameDecompressor copy = this.frameDecompressor;
+        if (copy != null) {
+            this.frameDecompressor = null;
+            this.frameDeserializer = null;
+            copy.close();
+        }
+    }
+
+    private TBase<?, ?> deserializeCompressedFrame(byte[] bytes, int offset, int length) throws TException {
+        if (!acceptCompressedFrame) {
+            throw new TException("nested compressed frame");
+        }
+        if (frameDecompressor == null) {
+            this.frameDecompressor = new FrameDecompressor();
+            this.frameDeserializer = new HeaderTBaseDeserializer(protocolFactory, locator, false);
+        }
+        final byte[] frame = frameDecompressor.decompress(bytes, offset, length);
+        return frameDeserializer.deserialize(frame, 0, frame.length);
+    }
+
     private int validate(Header header) throws TException {
         final byte signature = header.getSignature();
         final int result = HeaderUtils.validateSignature(signature);
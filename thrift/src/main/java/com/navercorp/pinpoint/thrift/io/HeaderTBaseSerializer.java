@@ -37,15 +37,22 @@ public class HeaderTBaseSerializer {
     private final ResettableByteArrayOutputStream baos;
     private final TProtocol protocol;
     private final TBaseLocator locator;
+    // null if frame compression is disabled
+    private final FrameCompressor frameCompressor;
 
     /**
      * Create a new HeaderTBaseSerializer. 
      */
     HeaderTBaseSerializer(ResettableByteArrayOutputStream bos, TProtocolFactory protocolFactory, TBaseLocator locator) {
+        this(bos, protocolFactory, locator, null);
+    }
+
+    HeaderTBaseSerializer(ResettableByteArrayOutputStream bos, TProtocolFactory protocolFactory, TBaseLocator locator, FrameCompressor frameCompressor) {
         this.baos = bos;
         TIOStreamTransport transport = new TIOStreamTransport(bos);
         this.protocol = protocolFactory.getProtocol(transport);
         this.locator = locator;
+        this.frameCompressor = frameCompressor;
     }
 
     /**
@@ -61,8 +68,24 @@ public class HeaderTBaseSerializer {
         baos.reset();
         writeHeader(header);
         base.write(protocol);
+        if (frameCompressor != null) {
+            compressFrame();
+        }
         return baos.toByteArray();
     }
+
+    /**
+     * replaces the frame with a compressed frame if it gets smaller.
+     * frames written by continueSerialize() are never compressed. they are framed by the caller.
+     */
+    private void compressFrame() {
+        final int compressedSize = frameCompressor.compress(baos.getInternalBuffer(), 0, baos.size());
+        if (compressedSize == -1) {
+            return;
+        }
+        baos.reset();
+        baos.write(frameCompressor.getBuffer(), 0, compressedSize);
+    }
     
     public byte[] continueSerialize(TBase<?, ?> base) throws TException {
         final Header header = locator.headerLookup(base);
@@ -83,6 +106,15 @@ public class HeaderTBaseSerializer {
         return baos.size();
     }
 
+    /**
+     * releases the compressor. must be called by the thread using the serializer, or after that thread has stopped.
+     */
+    public void close() {
+        if (frameCompressor != null) {
+            frameCompressor.close();
+        }
+    }
+
     private void writeHeader(Header header) throws TException {
         protocol.writeByte(header.getSignature());
         protocol.writeByte(header.getVersion());
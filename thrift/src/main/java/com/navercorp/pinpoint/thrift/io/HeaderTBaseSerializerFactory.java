@@ -30,6 +30,8 @@ public final class HeaderTBaseSerializerFactory implements SerializerFactory<Hea
     public static final int DEFAULT_UDP_STREAM_MAX_SIZE = 1024 * 64;
     private static final boolean DEFAULT_AUTO_EXPAND = true;
 
+    public static final int COMPRESSION_DISABLED = -1;
+
     private static final TBaseLocator DEFAULT_TBASE_LOCATOR = new DefaultTBaseLocator();
     private static final TProtocolFactory DEFAULT_PROTOCOL_FACTORY = new TCompactProtocol.Factory();
 
@@ -40,6 +42,7 @@ public final class HeaderTBaseSerializerFactory implements SerializerFactory<Hea
     private final boolean autoExpand;
     private final TProtocolFactory protocolFactory;
     private final TBaseLocator locator;
+    private final int compressionThreshold;
 
     public HeaderTBaseSerializerFactory() {
         this(DEFAULT_SAFE_GUARANTEED);
@@ -62,11 +65,26 @@ public final class HeaderTBaseSerializerFactory implements SerializerFactory<Hea
     }
     
     public HeaderTBaseSerializerFactory(boolean safetyGuaranteed, int outputStreamSize, boolean autoExpand, TProtocolFactory protocolFactory, TBaseLocator locator) {
+        this(safetyGuaranteed, outputStreamSize, autoExpand, protocolFactory, locator, COMPRESSION_DISABLED);
+    }
+
+    /**
+     * @param compressionThreshold frames of at least this size are sent as {@link FrameCompression} frames. {@link #COMPRESSION_DISABLED} to disable
+     */
+    public HeaderTBaseSerializerFactory(boolean safetyGuaranteed, int outputStreamSize, boolean autoExpand, int compressionThreshold) {
+        this(safetyGuaranteed, outputStreamSize, autoExpand, DEFAULT_PROTOCOL_FACTORY, DEFAULT_TBASE_LOCATOR, compressionThreshold);
+    }
+
+    public HeaderTBaseSerializerFactory(boolean safetyGuaranteed, int outputStreamSize, boolean autoExpand, TProtocolFactory protocolFactory, TBaseLocator locator, int compressionThreshold) {
+        if (compressionThreshold < 0 && compressionThreshold != COMPRESSION_DISABLED) {
+            throw new IllegalArgumentException("invalid compressionThreshold:" + compressionThreshold);
+        }
         this.safetyGuaranteed = safetyGuaranteed;
         this.outputStreamSize = outputStreamSize;
         this.autoExpand = autoExpand;
         this.protocolFactory = protocolFactory;
         this.locator = locator;
+        this.compressionThreshold = compressionThreshold;
     }
 
     public boolean isSafetyGuaranteed() {
@@ -85,6 +103,10 @@ public final class HeaderTBaseSerializerFactory implements SerializerFactory<Hea
         return locator;
     }
 
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
     @Override
     public HeaderTBaseSerializer createSerializer() {
         ResettableByteArrayOutputStream baos = null;
@@ -94,7 +116,10 @@ public final class HeaderTBaseSerializerFactory implements SerializerFactory<Hea
             baos = new UnsafeByteArrayOutputStream(outputStreamSize, autoExpand);
         }
 
-        return new HeaderTBaseSerializer(baos, protocolFactory, locator);
+        if (compressionThreshold == COMPRESSION_DISABLED) {
+            return new HeaderTBaseSerializer(baos, protocolFactory, locator);
+        }
+        return new HeaderTBaseSerializer(baos, protocolFactory, locator, new FrameCompressor(compressionThreshold));
     }
 
 }
@@ -35,5 +35,12 @@ public class ResettableByteArrayOutputStream extends ByteArrayOutputStream {
         
         this.count = resetIndex;
     }
+
+    /**
+     * the internal buffer. valid up to {@link #size()}.
+     */
+    byte[] getInternalBuffer() {
+        return buf;
+    }
     
 }
@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.thrift.io;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author emeroad
  */
@@ -24,10 +27,17 @@ public class ThreadLocalHeaderTBaseDeserializerFactory<E> implements Deserialize
     private final ThreadLocal<E> cache = new ThreadLocal<E>() {
         @Override
         protected E initialValue() {
-            return factory.createDeserializer();
+            final E deserializer = factory.createDeserializer();
+            synchronized (createdList) {
+                createdList.add(deserializer);
+            }
+            return deserializer;
         }
     };
 
+    // every deserializer handed out, so that close() can release them
+    private final List<E> createdList = new ArrayList<E>();
+
     private final DeserializerFactory<E> factory;
 
     public ThreadLocalHeaderTBaseDeserializerFactory(DeserializerFactory<E> factory) {
@@ -41,4 +51,18 @@ public class ThreadLocalHeaderTBaseDeserializerFactory<E> implements Deserialize
     public E createDeserializer() {
         return cache.get();
     }
+
+    /**
+     * releases the resources of every deserializer created by this factory.
+     * must be called after the threads using them have stopped.
+     */
+    public void close() {
+        synchronized (createdList) {
+            for (E deserializer : createdList) {
+                if (deserializer instanceof HeaderTBaseDeserializer) {
+                    ((HeaderTBaseDeserializer) deserializer).close();
+                }
+            }
+        }
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.thrift.util;
 
+import java.nio.ByteBuffer;
+
 import org.apache.thrift.TBase;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
@@ -83,6 +85,13 @@ public final class SerializationUtils {
         return deserializer.deserialize(objectData);
     }
 
+    public static TBase deserialize(ByteBuffer objectData, DeserializerFactory<HeaderTBaseDeserializer> factory) throws TException {
+        assertNotNull(objectData, "TBase may note be null.");
+        assertNotNull(factory, "DeserializerFactory may note be null.");
+
+        return factory.createDeserializer().deserialize(objectData);
+    }
+
     public static TBase deserialize(byte[] objectData, DeserializerFactory<HeaderTBaseDeserializer> factory, TBase defaultValue) {
         try {
             return deserialize(objectData, factory);
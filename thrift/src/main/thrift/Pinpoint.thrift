@@ -67,3 +67,20 @@ struct TAgentStatBatch {
     2: i64                      startTimestamp
     10: list<TAgentStat>        agentStats
 }
+
+struct TUriStat {
+    1: optional string      uri
+    2: optional i32         apiId
+    3: i32                  status
+    4: i64                  totalElapsed
+    5: i32                  maxElapsed
+    10: binary              histogram
+}
+
+struct TUriStatBatch {
+    1: string                   agentId
+    2: i64                      startTimestamp
+    3: i64                      timestamp
+    4: i32                      interval
+    10: list<TUriStat>          uriStats
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class FrameCompressorTest {
+
+    @Test
+    public void compress() throws Exception {
+        byte[] frame = newFrame(4096);
+
+        FrameCompressor compressor = new FrameCompressor(0);
+        int compressedLength = compressor.compress(frame, 0, frame.length);
+        Assert.assertTrue(compressedLength > 0);
+        Assert.assertTrue(compressedLength < frame.length);
+        Assert.assertEquals(compressedLength, FrameDecompressor.getFrameLength(compressor.getBuffer(), 0, compressedLength));
+
+        FrameDecompressor decompressor = new FrameDecompressor();
+        byte[] decompressed = decompressor.decompress(compressor.getBuffer(), 0, compressedLength);
+        Assert.assertArrayEquals(frame, decompressed);
+    }
+
+    @Test
+    public void compressOffset() throws Exception {
+        byte[] frame = newFrame(1024);
+        byte[] padded = new byte[frame.length + 20];
+        System.arraycopy(frame, 0, padded, 10, frame.length);
+
+        FrameCompressor compressor = new FrameCompressor(0);
+        int compressedLength = compressor.compress(padded, 10, frame.length);
+
+        byte[] compressedFrame = new byte[compressedLength + 5];
+        System.arraycopy(compressor.getBuffer(), 0, compressedFrame, 5, compressedLength);
+        byte[] decompressed = new FrameDecompressor().decompress(compressedFrame, 5, compressedLength);
+        Assert.assertArrayEquals(frame, decompressed);
+    }
+
+    @Test
+    public void reuse() throws Exception {
+        FrameCompressor compressor = new FrameCompressor(0);
+        FrameDecompressor decompressor = new FrameDecompressor();
+        for (int size = 64; size < 1024 * 64; size *= 2) {
+            byte[] frame = newFrame(size);
+            int compressedLength = compressor.compress(frame, 0, frame.length);
+            Assert.assertArrayEquals(frame, decompressor.decompress(compressor.getBuffer(), 0, compressedLength));
+        }
+    }
+
+    @Test
+    public void threshold() {
+        byte[] frame = newFrame(100);
+        FrameCompressor compressor = new FrameCompressor(101);
+        Assert.assertEquals(-1, compressor.compress(frame, 0, frame.length));
+    }
+
+    @Test
+    public void incompressible() {
+        byte[] frame = new byte[1024];
+        new Random(1).nextBytes(frame);
+        FrameCompressor compressor = new FrameCompressor(0);
+        Assert.assertEquals(-1, compressor.compress(frame, 0, frame.length));
+    }
+
+    @Test
+    public void corrupted() throws Exception {
+        byte[] frame = newFrame(1024);
+        FrameCompressor compressor = new FrameCompressor(0);
+        int compressedLength = compressor.compress(frame, 0, frame.length);
+        byte[] truncated = Arrays.copyOf(compressor.getBuffer(), compressedLength);
+        // declared uncompressed length is larger than the deflate data
+        FrameCompression.writeInt(frame.length + 1, truncated, Header.HEADER_SIZE + 1);
+        try {
+            new FrameDecompressor().decompress(truncated, 0, truncated.length);
+            Assert.fail();
+        } catch (TException expected) {
+        }
+    }
+
+    @Test
+    public void close() {
+        byte[] frame = newFrame(1024);
+        FrameCompressor compressor = new FrameCompressor(0);
+        compressor.compress(frame, 0, frame.length);
+        compressor.close();
+        try {
+            compressor.compress(frame, 0, frame.length);
+            Assert.fail();
+        } catch (NullPointerException expected) {
+            // deflater has been ended
+        }
+    }
+
+    private byte[] newFrame(int size) {
+        byte[] frame = new byte[size];
+        byte[] pattern = "SELECT * FROM member WHERE id = ? applicationName agentId ".getBytes();
+        for (int i = 0; i < size; i++) {
+            frame[i] = pattern[i % pattern.length];
+        }
+        frame[0] = Header.SIGNATURE;
+        return frame;
+    }
+}
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializerFactory;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
 
+import org.apache.thrift.TBase;
 import org.apache.thrift.TException;
 import org.junit.Assert;
 import org.junit.Test;
@@ -30,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author emeroad
@@ -54,6 +56,68 @@ public class HeaderTBaseSerializerTest {
         test(serializer, deserializer);
     }
     
+    @Test
+    public void testSerializeCompressed() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(true, HeaderTBaseSerializerFactory.DEFAULT_STREAM_SIZE, true, 0).createSerializer();
+        HeaderTBaseDeserializer deserializer = new HeaderTBaseDeserializerFactory().createDeserializer();
+
+        TAgentInfo tAgentInfo = newRepetitiveAgentInfo();
+        byte[] serialize = serializer.serialize(tAgentInfo);
+        dump(serialize);
+        Assert.assertEquals(FrameCompression.COMPRESSED_FRAME, (short) (((serialize[2] & 0xff) << 8) | (serialize[3] & 0xff)));
+
+        byte[] uncompressed = new HeaderTBaseSerializerFactory().createSerializer().serialize(tAgentInfo);
+        Assert.assertTrue(serialize.length < uncompressed.length);
+
+        TAgentInfo deserialize = (TAgentInfo) deserializer.deserialize(serialize);
+        Assert.assertEquals(tAgentInfo, deserialize);
+    }
+
+    @Test
+    public void testSerializeCompressedThreshold() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(true, HeaderTBaseSerializerFactory.DEFAULT_STREAM_SIZE, true, 1024 * 1024).createSerializer();
+
+        TAgentInfo tAgentInfo = newRepetitiveAgentInfo();
+        byte[] serialize = serializer.serialize(tAgentInfo);
+        byte[] uncompressed = new HeaderTBaseSerializerFactory().createSerializer().serialize(tAgentInfo);
+        Assert.assertArrayEquals(uncompressed, serialize);
+    }
+
+    @Test
+    public void testDeserializeListCompressed() throws Exception {
+        HeaderTBaseSerializer compressSerializer = new HeaderTBaseSerializerFactory(true, HeaderTBaseSerializerFactory.DEFAULT_STREAM_SIZE, true, 0).createSerializer();
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory().createSerializer();
+        HeaderTBaseDeserializer deserializer = new HeaderTBaseDeserializerFactory().createDeserializer();
+
+        TAgentInfo tAgentInfo = newRepetitiveAgentInfo();
+        byte[] compressed = compressSerializer.serialize(tAgentInfo);
+        byte[] plain = serializer.serialize(tAgentInfo);
+
+        byte[] buffer = new byte[compressed.length * 2 + plain.length];
+        System.arraycopy(compressed, 0, buffer, 0, compressed.length);
+        System.arraycopy(plain, 0, buffer, compressed.length, plain.length);
+        System.arraycopy(compressed, 0, buffer, compressed.length + plain.length, compressed.length);
+
+        List<TBase<?, ?>> list = deserializer.deserializeList(buffer);
+        Assert.assertEquals(3, list.size());
+        for (TBase<?, ?> tBase : list) {
+            Assert.assertEquals(tAgentInfo, tBase);
+        }
+    }
+
+    private TAgentInfo newRepetitiveAgentInfo() {
+        TAgentInfo tAgentInfo = new TAgentInfo();
+        tAgentInfo.setAgentId("agentId");
+        tAgentInfo.setHostname("host");
+        tAgentInfo.setApplicationName("applicationName");
+        StringBuilder ports = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            ports.append("8080 ");
+        }
+        tAgentInfo.setPorts(ports.toString());
+        return tAgentInfo;
+    }
+
     private void test(HeaderTBaseSerializer serializer, HeaderTBaseDeserializer deserializer) throws TException {
 
         Header header = new Header();
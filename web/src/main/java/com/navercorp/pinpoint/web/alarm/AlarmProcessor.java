@@ -26,6 +26,10 @@ import com.navercorp.pinpoint.web.alarm.checker.AlarmChecker;
 public class AlarmProcessor implements ItemProcessor<AlarmChecker, AlarmChecker> {
     
     public AlarmChecker process(AlarmChecker checker) {
+        // already evaluated by the bulk check of AlarmReader
+        if (checker.isChecked()) {
+            return checker;
+        }
         checker.check();
         return checker;
     }
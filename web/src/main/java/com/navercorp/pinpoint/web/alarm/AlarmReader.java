@@ -16,17 +16,26 @@
 
 package com.navercorp.pinpoint.web.alarm;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
 
 import com.navercorp.pinpoint.web.alarm.DataCollectorFactory.DataCollectorCategory;
 import com.navercorp.pinpoint.web.alarm.checker.AlarmChecker;
@@ -41,7 +50,13 @@ import com.navercorp.pinpoint.web.vo.Application;
  * @author minwoo.jung
  */
 public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListener {
-    
+
+    public static final String COLLECT_TIME = "alarm_collect_time";
+    public static final String CHECK_TIME = "alarm_check_time";
+    public static final String CHECKER_COUNT = "alarm_checker_count";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     @Autowired
     private DataCollectorFactory dataCollectorFactory;
     
@@ -52,6 +67,10 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
     private AlarmService alarmService;
     
     private final Queue<AlarmChecker> checkers = new LinkedList<AlarmChecker>();
+    private final List<DataCollector> collectors = new ArrayList<DataCollector>();
+
+    private boolean bulkEnable = false;
+    private AsyncTaskExecutor bulkTaskExecutor;
 
     public AlarmReader() {
     }
@@ -85,6 +104,97 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
         for(int i = from; i < to; i++) {
             addChecker(applicationList.get(i));
         }
+
+        if (isBulkMode()) {
+            bulkCheck(stepExecution, partitionNumber);
+        }
+    }
+
+    private boolean isBulkMode() {
+        return bulkEnable && bulkTaskExecutor != null;
+    }
+
+    /**
+     * collects the data of every collector in this partition concurrently, then evaluates the checkers concurrently.
+     * a collector that failed is collected once more in sequence before the checkers run,
+     * because checkers sharing a collector would otherwise call collect() on it concurrently.
+     * checkers of a collector that failed again and failed checkers are left as they are, so that AlarmProcessor retries them in sequence.
+     */
+    private void bulkCheck(StepExecution stepExecution, int partitionNumber) {
+        final long collectStartTime = System.currentTimeMillis();
+        final List<Runnable> collectTasks = new ArrayList<Runnable>(collectors.size());
+        for (final DataCollector collector : collectors) {
+            collectTasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    collector.collect();
+                }
+            });
+        }
+        final boolean[] collected = runAll(collectTasks);
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        final Set<DataCollector> failedCollectors = new HashSet<DataCollector>();
+        for (int i = 0; i < collected.length; i++) {
+            if (collected[i]) {
+                continue;
+            }
+            final DataCollector collector = collectors.get(i);
+            try {
+                collector.collect();
+            } catch (Exception e) {
+                logger.warn("collect failed. collector:{} Caused:{}", collector.getDataCollectorCategory(), e.getMessage(), e);
+                failedCollectors.add(collector);
+            }
+        }
+        final long collectTime = System.currentTimeMillis() - collectStartTime;
+
+        final long checkStartTime = System.currentTimeMillis();
+        final List<Runnable> checkTasks = new ArrayList<Runnable>(checkers.size());
+        for (final AlarmChecker checker : checkers) {
+            if (failedCollectors.contains(checker.getDataCollector())) {
+                continue;
+            }
+            checkTasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    checker.check();
+                }
+            });
+        }
+        runAll(checkTasks);
+        final long checkTime = System.currentTimeMillis() - checkStartTime;
+
+        final ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong(COLLECT_TIME, collectTime);
+        executionContext.putLong(CHECK_TIME, checkTime);
+        executionContext.putInt(CHECKER_COUNT, checkers.size());
+        logger.info("partition {} bulk check. collector:{}, checker:{}, collect:{}ms, check:{}ms", partitionNumber, collectors.size(), checkers.size(), collectTime, checkTime);
+    }
+
+    /**
+     * @return whether each task completed normally, in task order
+     */
+    private boolean[] runAll(List<Runnable> tasks) {
+        final List<Future<?>> futures = new ArrayList<Future<?>>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(bulkTaskExecutor.submit(task));
+        }
+        final boolean[] completed = new boolean[futures.size()];
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+                completed[i] = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("bulk check interrupted");
+                return completed;
+            } catch (ExecutionException e) {
+                logger.warn("bulk check task failed. Caused:{}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return completed;
     }
 
     private void addChecker(Application application) {
@@ -99,6 +209,7 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
             if(collector == null) {
                 collector = dataCollectorFactory.createDataCollector(checkerCategory, application, timeSlotEndTime);
                 collectorMap.put(collector.getDataCollectorCategory(), collector);
+                collectors.add(collector);
             }
             
             AlarmChecker checker = checkerCategory.createChecker(collector, rule);
@@ -111,4 +222,12 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
     public ExitStatus afterStep(StepExecution stepExecution) {
         return null;
     }
+
+    public void setBulkEnable(boolean bulkEnable) {
+        this.bulkEnable = bulkEnable;
+    }
+
+    public void setBulkTaskExecutor(AsyncTaskExecutor bulkTaskExecutor) {
+        this.bulkTaskExecutor = bulkTaskExecutor;
+    }
 }
@@ -35,6 +35,7 @@ public abstract class AlarmChecker {
     protected final DataCollector dataCollector;
     protected final Rule rule;
     protected boolean detected = false;
+    private volatile boolean checked = false;
     protected final String unit;
     
     protected AlarmChecker(Rule rule, String unit, DataCollector dataCollector) {
@@ -48,6 +49,10 @@ public abstract class AlarmChecker {
         
     }
     
+    public DataCollector getDataCollector() {
+        return dataCollector;
+    }
+
     public Rule getRule() {
         return rule;
     }
@@ -76,6 +81,11 @@ public abstract class AlarmChecker {
         dataCollector.collect();
         detected = decideResult(getDetectedValue());
         logger.info("{} result is {} for application ({}). value is {}. (threshold : {}).", this.getClass().getSimpleName(), detected, rule.getApplicationId(), getDetectedValue(), rule.getThreshold());
+        checked = true;
+    }
+
+    public boolean isChecked() {
+        return checked;
     }
     
     public List<String> getSmsMessage() {
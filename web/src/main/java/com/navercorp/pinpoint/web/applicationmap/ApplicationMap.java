@@ -43,6 +43,7 @@ public class ApplicationMap {
 
     private List<ApplicationScatterScanResult> applicationScatterScanResultList;
 
+    private boolean truncated;
 
     ApplicationMap(Range range, NodeList nodeList, LinkList linkList) {
         if (range == null) {
@@ -79,6 +80,18 @@ public class ApplicationMap {
         return applicationScatterScanResultList;
     }
 
+    /**
+     * true if the query budget ran out and the map was built from partial data
+     */
+    @JsonProperty("truncated")
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
 
 
 
@@ -90,6 +90,52 @@ public class Histogram {
         throw new IllegalArgumentException("slot not found slotTime:" + slotTime + " count:" + count);
     }
 
+    /**
+     * same slot resolution as {@link #addCallCount(short, long)}
+     */
+    public static SlotType findSlotType(HistogramSchema schema, short slotTime) {
+        if (slotTime == schema.getVerySlowSlot().getSlotTime()) {
+            return SlotType.VERY_SLOW;
+        }
+        if (slotTime == schema.getErrorSlot().getSlotTime()) {
+            return SlotType.ERROR;
+        }
+        if (slotTime <= schema.getFastSlot().getSlotTime()) {
+            return SlotType.FAST;
+        }
+        if (slotTime <= schema.getNormalSlot().getSlotTime()) {
+            return SlotType.NORMAL;
+        }
+        if (slotTime <= schema.getSlowSlot().getSlotTime()) {
+            return SlotType.SLOW;
+        }
+        throw new IllegalArgumentException("slot not found slotTime:" + slotTime);
+    }
+
+    public void addCallCount(final SlotType slotType, final long count) {
+        if (slotType == null) {
+            throw new NullPointerException("slotType must not be null");
+        }
+        switch (slotType) {
+            case FAST:
+                this.fastCount += count;
+                return;
+            case NORMAL:
+                this.normalCount += count;
+                return;
+            case SLOW:
+                this.slowCount += count;
+                return;
+            case VERY_SLOW:
+                this.verySlowCount += count;
+                return;
+            case ERROR:
+                this.errorCount += count;
+                return;
+        }
+        throw new IllegalArgumentException("slotType:" + slotType);
+    }
+
     public HistogramSchema getHistogramSchema() {
         return this.schema;
     }
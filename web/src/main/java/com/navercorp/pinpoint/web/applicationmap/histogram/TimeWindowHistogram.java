@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.histogram;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.trace.SlotType;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+
+/**
+ * {@link TimeHistogram}s of every window of a {@link TimeWindow} packed into a single long array.
+ * counts[windowIndex * SLOT_SIZE + slotType.ordinal()]
+ * <p>
+ * The memory is bounded by the window count instead of the number of rows added.
+ * A timestamp outside of the window range is kept as a {@link TimeHistogram}.
+ *
+ * @author agent
+ */
+public class TimeWindowHistogram {
+
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+    private static final int SLOT_SIZE = SLOT_TYPES.length;
+
+    private final ServiceType serviceType;
+    private final HistogramSchema schema;
+    private final TimeWindow timeWindow;
+    private final int windowCount;
+
+    private long[] counts;
+    private Map<Long, TimeHistogram> outOfWindowMap;
+
+    // TimeHistogram view. cleared on every update
+    private List<TimeHistogram> timeHistogramList;
+
+    public TimeWindowHistogram(ServiceType serviceType, TimeWindow timeWindow) {
+        if (serviceType == null) {
+            throw new NullPointerException("serviceType must not be null");
+        }
+        if (timeWindow == null) {
+            throw new NullPointerException("timeWindow must not be null");
+        }
+        this.serviceType = serviceType;
+        this.schema = serviceType.getHistogramSchema();
+        this.timeWindow = timeWindow;
+        this.windowCount = (int) timeWindow.getWindowRangeCount();
+    }
+
+    public void addCallCount(long timestamp, short slotTime, long count) {
+        final SlotType slotType = Histogram.findSlotType(schema, slotTime);
+        addCallCount(timestamp, slotType, count);
+    }
+
+    private void addCallCount(long timestamp, SlotType slotType, long count) {
+        this.timeHistogramList = null;
+
+        final long refinedTimestamp = timeWindow.refineTimestamp(timestamp);
+        final int windowIndex = timeWindow.getWindowIndex(refinedTimestamp);
+        if (windowIndex < 0 || windowIndex >= windowCount) {
+            getOutOfWindowHistogram(refinedTimestamp).addCallCount(slotType, count);
+            return;
+        }
+        if (counts == null) {
+            counts = new long[windowCount * SLOT_SIZE];
+        }
+        counts[windowIndex * SLOT_SIZE + slotType.ordinal()] += count;
+    }
+
+    private TimeHistogram getOutOfWindowHistogram(long refinedTimestamp) {
+        if (outOfWindowMap == null) {
+            outOfWindowMap = new HashMap<Long, TimeHistogram>();
+        }
+        TimeHistogram histogram = outOfWindowMap.get(refinedTimestamp);
+        if (histogram == null) {
+            histogram = new TimeHistogram(schema, refinedTimestamp);
+            outOfWindowMap.put(refinedTimestamp, histogram);
+        }
+        return histogram;
+    }
+
+    public void add(TimeHistogram timeHistogram) {
+        if (timeHistogram == null) {
+            throw new NullPointerException("timeHistogram must not be null");
+        }
+        final long timeStamp = timeHistogram.getTimeStamp();
+        for (SlotType slotType : SLOT_TYPES) {
+            final long count = timeHistogram.getCount(slotType);
+            if (count != 0) {
+                addCallCount(timeStamp, slotType, count);
+            }
+        }
+    }
+
+    public void add(Collection<TimeHistogram> timeHistogramList) {
+        if (timeHistogramList == null) {
+            throw new NullPointerException("timeHistogramList must not be null");
+        }
+        for (TimeHistogram timeHistogram : timeHistogramList) {
+            add(timeHistogram);
+        }
+    }
+
+    public void add(TimeWindowHistogram histogram) {
+        if (histogram == null) {
+            throw new NullPointerException("histogram must not be null");
+        }
+        if (this.schema != histogram.schema) {
+            throw new IllegalArgumentException("schema not equals. this=" + this + ", histogram=" + histogram);
+        }
+        if (!isSameWindow(histogram)) {
+            add(histogram.getTimeHistogram());
+            return;
+        }
+        this.timeHistogramList = null;
+        final long[] copyCounts = histogram.counts;
+        if (copyCounts != null) {
+            if (this.counts == null) {
+                this.counts = copyCounts.clone();
+            } else {
+                final long[] counts = this.counts;
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += copyCounts[i];
+                }
+            }
+        }
+        if (histogram.outOfWindowMap != null) {
+            for (TimeHistogram timeHistogram : histogram.outOfWindowMap.values()) {
+                getOutOfWindowHistogram(timeHistogram.getTimeStamp()).add(timeHistogram);
+            }
+        }
+    }
+
+    private boolean isSameWindow(TimeWindowHistogram histogram) {
+        if (this.timeWindow == histogram.timeWindow) {
+            return true;
+        }
+        return this.windowCount == histogram.windowCount
+                && this.timeWindow.getWindowSlotSize() == histogram.timeWindow.getWindowSlotSize()
+                && this.timeWindow.getWindowRange().getFrom() == histogram.timeWindow.getWindowRange().getFrom();
+    }
+
+    /**
+     * @return a TimeHistogram for every window that has a count
+     */
+    public Collection<TimeHistogram> getTimeHistogram() {
+        if (timeHistogramList != null) {
+            return timeHistogramList;
+        }
+        final List<TimeHistogram> list = new ArrayList<TimeHistogram>();
+        final long[] counts = this.counts;
+        if (counts != null) {
+            final long windowFrom = timeWindow.getWindowRange().getFrom();
+            final long windowSlotSize = timeWindow.getWindowSlotSize();
+            for (int windowIndex = 0; windowIndex < windowCount; windowIndex++) {
+                final int offset = windowIndex * SLOT_SIZE;
+                if (isEmpty(counts, offset)) {
+                    continue;
+                }
+                final TimeHistogram timeHistogram = new TimeHistogram(schema, windowFrom + (windowIndex * windowSlotSize));
+                for (int slot = 0; slot < SLOT_SIZE; slot++) {
+                    timeHistogram.addCallCount(SLOT_TYPES[slot], counts[offset + slot]);
+                }
+                list.add(timeHistogram);
+            }
+        }
+        if (outOfWindowMap != null) {
+            list.addAll(outOfWindowMap.values());
+        }
+        this.timeHistogramList = Collections.unmodifiableList(list);
+        return timeHistogramList;
+    }
+
+    private boolean isEmpty(long[] counts, int offset) {
+        for (int slot = 0; slot < SLOT_SIZE; slot++) {
+            if (counts[offset + slot] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getTotalCount() {
+        long totalCount = 0;
+        if (counts != null) {
+            for (long count : counts) {
+                totalCount += count;
+            }
+        }
+        if (outOfWindowMap != null) {
+            for (TimeHistogram timeHistogram : outOfWindowMap.values()) {
+                totalCount += timeHistogram.getTotalCount();
+            }
+        }
+        return totalCount;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeWindowHistogram{" +
+                "serviceType=" + serviceType +
+                ", windowCount=" + windowCount +
+                ", totalCount=" + getTotalCount() +
+                '}';
+    }
+}
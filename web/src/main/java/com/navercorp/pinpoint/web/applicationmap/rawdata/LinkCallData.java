@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.web.applicationmap.rawdata;
 
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeWindowHistogram;
 import com.navercorp.pinpoint.web.util.TimeWindow;
 import com.navercorp.pinpoint.web.vo.LinkKey;
 
@@ -35,8 +36,10 @@ public class LinkCallData {
     private final String target;
     private final ServiceType targetServiceType;
 
+    // used without timeWindow
     private final Map<Long, TimeHistogram> targetHistogramTimeMap;
-    private final TimeWindow timeWindow;
+    // used with timeWindow
+    private final TimeWindowHistogram targetHistogram;
 
     public LinkCallData(LinkKey linkKey) {
         this(linkKey, null);
@@ -51,8 +54,13 @@ public class LinkCallData {
         this.target = linkKey.getToApplication();
         this.targetServiceType = linkKey.getToServiceType();
 
-        this.targetHistogramTimeMap = new HashMap<Long, TimeHistogram>();
-        this.timeWindow = timeWindow;
+        if (timeWindow != null) {
+            this.targetHistogramTimeMap = null;
+            this.targetHistogram = new TimeWindowHistogram(targetServiceType, timeWindow);
+        } else {
+            this.targetHistogramTimeMap = new HashMap<Long, TimeHistogram>();
+            this.targetHistogram = null;
+        }
     }
 
     public String getSource() {
@@ -72,15 +80,26 @@ public class LinkCallData {
     }
 
     public Collection<TimeHistogram> getTimeHistogram() {
+        if (targetHistogram != null) {
+            return targetHistogram.getTimeHistogram();
+        }
         return targetHistogramTimeMap.values();
     }
 
     public void addCallData(long timestamp, short slot, long count) {
+        if (targetHistogram != null) {
+            targetHistogram.addCallCount(timestamp, slot, count);
+            return;
+        }
         TimeHistogram histogram = getTimeHistogram(timestamp);
         histogram.addCallCount(slot, count);
     }
 
     public void addCallData(Collection<TimeHistogram> timeHistogramList) {
+        if (targetHistogram != null) {
+            targetHistogram.add(timeHistogramList);
+            return;
+        }
         for (TimeHistogram timeHistogram : timeHistogramList) {
             TimeHistogram histogram = getTimeHistogram(timeHistogram.getTimeStamp());
             histogram.add(timeHistogram);
@@ -104,15 +123,21 @@ public class LinkCallData {
             throw new IllegalArgumentException("targetServiceType not equals");
         }
 
-        for (Map.Entry<Long, TimeHistogram> copyEntry : copyLinkCallData.targetHistogramTimeMap.entrySet()) {
-            final Long timeStamp = copyEntry.getKey();
-            TimeHistogram histogram = getTimeHistogram(timeStamp);
-            histogram.add(copyEntry.getValue());
+        if (targetHistogram != null) {
+            if (copyLinkCallData.targetHistogram != null) {
+                targetHistogram.add(copyLinkCallData.targetHistogram);
+            } else {
+                targetHistogram.add(copyLinkCallData.targetHistogramTimeMap.values());
+            }
+            return;
+        }
+        for (TimeHistogram copyHistogram : copyLinkCallData.getTimeHistogram()) {
+            TimeHistogram histogram = getTimeHistogram(copyHistogram.getTimeStamp());
+            histogram.add(copyHistogram);
         }
     }
 
-    private TimeHistogram getTimeHistogram(Long timeStamp) {
-        long key = timeWindow != null ? timeWindow.refineTimestamp(timeStamp) : timeStamp;
+    private TimeHistogram getTimeHistogram(long key) {
         TimeHistogram histogram = targetHistogramTimeMap.get(key);
         if (histogram == null) {
             histogram = new TimeHistogram(targetServiceType, key);
@@ -122,6 +147,9 @@ public class LinkCallData {
     }
 
     public long getTotalCount() {
+        if (targetHistogram != null) {
+            return targetHistogram.getTotalCount();
+        }
         long totalCount = 0;
         for (TimeHistogram timeHistogram : targetHistogramTimeMap.values()) {
             totalCount += timeHistogram.getTotalCount();
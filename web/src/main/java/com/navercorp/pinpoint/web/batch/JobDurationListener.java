@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.batch;
+
+import java.util.Date;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * records the duration of a job and of its slowest step so that a job outgrowing its schedule interval can be noticed.
+ *
+ * @author agent
+ */
+public class JobDurationListener implements JobExecutionListener {
+
+    public static final String JOB_DURATION = "job_duration";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        final Date startTime = jobExecution.getStartTime();
+        if (startTime == null) {
+            return;
+        }
+        final long duration = System.currentTimeMillis() - startTime.getTime();
+        jobExecution.getExecutionContext().putLong(JOB_DURATION, duration);
+
+        long maxStepDuration = 0;
+        String slowestStep = null;
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            final Date stepStartTime = stepExecution.getStartTime();
+            final Date stepEndTime = stepExecution.getEndTime();
+            if (stepStartTime == null || stepEndTime == null) {
+                continue;
+            }
+            final long stepDuration = stepEndTime.getTime() - stepStartTime.getTime();
+            if (stepDuration >= maxStepDuration) {
+                maxStepDuration = stepDuration;
+                slowestStep = stepExecution.getStepName();
+            }
+        }
+        logger.info("{} job duration:{}ms, status:{}, step:{}, slowest step:{} ({}ms)", jobExecution.getJobInstance().getJobName(), duration,
+                jobExecution.getExitStatus().getExitCode(), jobExecution.getStepExecutions().size(), slowestStep, maxStepDuration);
+    }
+}
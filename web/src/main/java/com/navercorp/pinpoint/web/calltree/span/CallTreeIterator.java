@@ -16,19 +16,30 @@
 
 package com.navercorp.pinpoint.web.calltree.span;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
+ * Flattens a {@link CallTree} in pre-order.
+ * Besides the nodes, a compact index of the tree is kept in int arrays (parent index, subtree size),
+ * so that a window of the tree or a single subtree can be addressed by index without walking the nodes.
+ * The subtree of the node at index i is the range [i, i + getSubtreeSize(i)).
  * 
  * @author jaehong.kim
  *
  */
 public class CallTreeIterator implements Iterator<CallTreeNode> {
 
-    private List<CallTreeNode> nodes = new LinkedList<CallTreeNode>();
+    private static final int[] EMPTY = new int[0];
+
+    // nodes are accessed by index. must be a RandomAccess list.
+    private final List<CallTreeNode> nodes = new ArrayList<CallTreeNode>();
+    private int[] parentIndex = EMPTY;
+    private int[] subtreeSize = EMPTY;
     private int index = -1;
 
     public CallTreeIterator(final CallTreeNode root) {
@@ -37,25 +48,53 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
         }
 
         populate(root);
+        buildIndex();
         index = -1;
     }
 
-    void populate(CallTreeNode node) {
-        nodes.add(node);
-        index++;
+    void populate(CallTreeNode root) {
+        // iterative pre-order walk. a recursive walk overflows the stack on transactions with a large number of siblings.
+        final Deque<NodeEntry> stack = new ArrayDeque<NodeEntry>();
+        stack.push(new NodeEntry(root, -1));
+        int[] parents = new int[64];
+        while (!stack.isEmpty()) {
+            final NodeEntry entry = stack.pop();
+            final CallTreeNode node = entry.node;
+            nodes.add(node);
+            index++;
+            if (index == parents.length) {
+                parents = Arrays.copyOf(parents, parents.length << 1);
+            }
+            parents[index] = entry.parentIndex;
 
-        final SpanAlign align = node.getValue();
-        align.setGap(getGap());
-        align.setDepth(node.getDepth());
-        align.setExecutionMilliseconds(getExecutionTime());
+            final SpanAlign align = node.getValue();
+            align.setGap(getGap());
+            align.setDepth(node.getDepth());
+            align.setExecutionMilliseconds(getExecutionTime());
 
-        if (node.hasChild()) {
-            populate(node.getChild());
+            // the sibling is visited after the whole subtree of the child.
+            if (node.hasSibling()) {
+                stack.push(new NodeEntry(node.getSibling(), entry.parentIndex));
+            }
+            if (node.hasChild()) {
+                stack.push(new NodeEntry(node.getChild(), index));
+            }
         }
+        this.parentIndex = Arrays.copyOf(parents, nodes.size());
+    }
 
-        if (node.hasSibling()) {
-            populate(node.getSibling());
+    private void buildIndex() {
+        final int size = nodes.size();
+        final int[] subtreeSize = new int[size];
+        Arrays.fill(subtreeSize, 1);
+        // a parent always precedes its children in pre-order.
+        for (int i = size - 1; i > 0; i--) {
+            final int parent = parentIndex[i];
+            if (parent >= 0) {
+                subtreeSize[parent] += subtreeSize[i];
+            }
         }
+        this.subtreeSize = subtreeSize;
     }
 
     public long getGap() {
@@ -212,14 +251,49 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
     }
 
     public List<SpanAlign> values() {
-        List<SpanAlign> values = new ArrayList<SpanAlign>();
-        for (CallTreeNode node : nodes) {
+        return values(0, nodes.size());
+    }
+
+    /**
+     * @param fromIndex inclusive
+     * @param toIndex exclusive
+     */
+    public List<SpanAlign> values(int fromIndex, int toIndex) {
+        final List<CallTreeNode> window = nodes.subList(fromIndex, toIndex);
+        final List<SpanAlign> values = new ArrayList<SpanAlign>(window.size());
+        for (CallTreeNode node : window) {
             values.add(node.getValue());
         }
 
         return values;
     }
 
+    public CallTreeNode get(int nodeIndex) {
+        return nodes.get(nodeIndex);
+    }
+
+    /**
+     * @return index of the parent node. -1 for the root.
+     */
+    public int getParentIndex(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return parentIndex[nodeIndex];
+    }
+
+    /**
+     * @return number of nodes in the subtree of the node, including the node itself.
+     */
+    public int getSubtreeSize(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return subtreeSize[nodeIndex];
+    }
+
+    private void checkIndex(int nodeIndex) {
+        if (nodeIndex < 0 || nodeIndex >= nodes.size()) {
+            throw new IndexOutOfBoundsException("index:" + nodeIndex + " size:" + nodes.size());
+        }
+    }
+
     public int size() {
         return nodes.size();
     }
@@ -239,4 +313,14 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
         }
         return sb.toString();
     }
+
+    private static final class NodeEntry {
+        private final CallTreeNode node;
+        private final int parentIndex;
+
+        private NodeEntry(CallTreeNode node, int parentIndex) {
+            this.node = node;
+            this.parentIndex = parentIndex;
+        }
+    }
 }
\ No newline at end of file
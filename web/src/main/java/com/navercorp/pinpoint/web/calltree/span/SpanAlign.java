@@ -36,6 +36,7 @@ public class SpanAlign {
     private long gap;
     private int depth;
     private long executionMilliseconds;
+    private boolean metaDataResolved = false;
 
     public SpanAlign(SpanBo spanBo) {
         if (spanBo == null) {
@@ -89,6 +90,14 @@ public class SpanAlign {
         this.id = id;
     }
 
+    public boolean isMetaDataResolved() {
+        return metaDataResolved;
+    }
+
+    public void setMetaDataResolved(boolean metaDataResolved) {
+        this.metaDataResolved = metaDataResolved;
+    }
+
     public long getGap() {
         return gap;
     }
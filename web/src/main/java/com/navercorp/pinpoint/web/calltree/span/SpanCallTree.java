@@ -20,6 +20,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import com.navercorp.pinpoint.common.bo.AnnotationBo;
+import com.navercorp.pinpoint.common.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+
 /**
  * 
  * @author jaehong.kim
@@ -128,7 +132,30 @@ public class SpanCallTree implements CallTree {
             return spanAlign.getSpanEventBo().getSequence() != 0;
         }
 
-        return cursor.getValue().getSpanEventBo().getSequence() + 1 != spanAlign.getSpanEventBo().getSequence();
+        final SpanEventBo cursorEvent = cursor.getValue().getSpanEventBo();
+        // the sequences of calls collapsed into an aggregated event are not sent
+        return cursorEvent.getSequence() + getAggregatedCount(cursorEvent) != spanAlign.getSpanEventBo().getSequence();
+    }
+
+    /**
+     * @return the number of calls collapsed into the event. 1 if the event is not aggregated
+     */
+    static int getAggregatedCount(final SpanEventBo spanEventBo) {
+        final List<AnnotationBo> annotationBoList = spanEventBo.getAnnotationBoList();
+        if (annotationBoList == null) {
+            return 1;
+        }
+        for (AnnotationBo annotationBo : annotationBoList) {
+            if (annotationBo.getKey() != AnnotationKey.AGGREGATED_CALL_COUNT.getCode()) {
+                continue;
+            }
+            final Object value = annotationBo.getValue();
+            if (!(value instanceof Integer)) {
+                return 1;
+            }
+            return Math.max(1, (Integer) value);
+        }
+        return 1;
     }
 
     CallTreeNode findUpperLevelLastSibling(final int level, final CallTreeNode node) {
@@ -18,10 +18,14 @@ package com.navercorp.pinpoint.web.cluster;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * @author koo.taejin
  *
@@ -32,11 +36,24 @@ public class CollectorClusterInfoRepository {
 
     private static final String PROFILER_SEPARATOR = "\r\n";
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private final Map<String, Map<String, String>> repository = new HashMap<String, Map<String, String>>();
 
     private final Object lock = new Object();
 
+    private final ClusterAgentChangeListener agentChangeListener;
+
+    public CollectorClusterInfoRepository() {
+        this(null);
+    }
+
+    public CollectorClusterInfoRepository(ClusterAgentChangeListener agentChangeListener) {
+        this.agentChangeListener = agentChangeListener;
+    }
+
     public void put(String id, byte[] data) {
+        final List<String> changedKeyList = new ArrayList<String>();
         synchronized (lock) {
             Map<String, String> newMap = new HashMap<String, String>();
 
@@ -50,13 +67,60 @@ public class CollectorClusterInfoRepository {
                 newMap.put(profilerInfo, id);
             }
 
-            repository.put(id, newMap);
+            Map<String, String> oldMap = repository.put(id, newMap);
+            if (oldMap == null) {
+                oldMap = Collections.emptyMap();
+            }
+            addChangedKey(changedKeyList, newMap, oldMap);
+            addChangedKey(changedKeyList, oldMap, newMap);
         }
+        notifyAgentChanged(changedKeyList);
     }
 
     public void remove(String id) {
+        final List<String> changedKeyList = new ArrayList<String>();
         synchronized (lock) {
-            repository.remove(id);
+            Map<String, String> oldMap = repository.remove(id);
+            if (oldMap != null) {
+                changedKeyList.addAll(oldMap.keySet());
+            }
+        }
+        notifyAgentChanged(changedKeyList);
+    }
+
+    private void addChangedKey(List<String> changedKeyList, Map<String, String> map, Map<String, String> compareMap) {
+        if (agentChangeListener == null) {
+            return;
+        }
+        for (String key : map.keySet()) {
+            if (!compareMap.containsKey(key)) {
+                changedKeyList.add(key);
+            }
+        }
+    }
+
+    private void notifyAgentChanged(List<String> changedKeyList) {
+        if (agentChangeListener == null) {
+            return;
+        }
+        for (String key : changedKeyList) {
+            // applicationName:agentId:startTimeStamp
+            final int startTimeStampIndex = key.lastIndexOf(':');
+            final int agentIdIndex = key.lastIndexOf(':', startTimeStampIndex - 1);
+            if (startTimeStampIndex == -1 || agentIdIndex == -1) {
+                logger.warn("invalid agent key:{}", key);
+                continue;
+            }
+            try {
+                final String applicationName = key.substring(0, agentIdIndex);
+                final String agentId = key.substring(agentIdIndex + 1, startTimeStampIndex);
+                final long startTimeStamp = Long.parseLong(key.substring(startTimeStampIndex + 1));
+                agentChangeListener.agentChanged(applicationName, agentId, startTimeStamp);
+            } catch (NumberFormatException e) {
+                logger.warn("invalid agent key:{}", key);
+            } catch (Exception e) {
+                logger.warn("agentChanged() failed. Caused:{}", e.getMessage(), e);
+            }
         }
     }
 
@@ -77,9 +141,16 @@ public class CollectorClusterInfoRepository {
     }
 
     public void clear() {
+        final List<String> changedKeyList = new ArrayList<String>();
         synchronized (lock) {
+            if (agentChangeListener != null) {
+                for (Map<String, String> eachCollectorClusterInfo : repository.values()) {
+                    changedKeyList.addAll(eachCollectorClusterInfo.keySet());
+                }
+            }
             repository.clear();
         }
+        notifyAgentChanged(changedKeyList);
     }
 
     private String bindingKey(String applicationName, String agentId, long startTimeStamp) {
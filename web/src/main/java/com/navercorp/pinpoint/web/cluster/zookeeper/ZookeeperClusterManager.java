@@ -37,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.pinpoint.rpc.util.TimerFactory;
+import com.navercorp.pinpoint.web.cluster.ClusterAgentChangeListener;
 import com.navercorp.pinpoint.web.cluster.ClusterManager;
 import com.navercorp.pinpoint.web.cluster.CollectorClusterInfoRepository;
 import com.navercorp.pinpoint.web.cluster.zookeeper.exception.NoNodeException;
@@ -68,9 +69,15 @@ public class ZookeeperClusterManager implements ClusterManager, Watcher {
 
     private final AtomicReference<PushWebClusterJob> job = new AtomicReference<ZookeeperClusterManager.PushWebClusterJob>();
 
-    private final CollectorClusterInfoRepository collectorClusterInfo = new CollectorClusterInfoRepository();
+    private final CollectorClusterInfoRepository collectorClusterInfo;
 
     public ZookeeperClusterManager(String zookeeperAddress, int sessionTimeout, int retryInterval) throws KeeperException, IOException, InterruptedException {
+        this(zookeeperAddress, sessionTimeout, retryInterval, null);
+    }
+
+    public ZookeeperClusterManager(String zookeeperAddress, int sessionTimeout, int retryInterval, ClusterAgentChangeListener agentChangeListener) throws KeeperException, IOException, InterruptedException {
+        // agentChangeListener can be null
+        this.collectorClusterInfo = new CollectorClusterInfoRepository(agentChangeListener);
         synchronized(initializeLock) {
             this.client = new ZookeeperClient(zookeeperAddress, sessionTimeout, this, DEFAULT_RECONNECT_DELAY_WHEN_SESSION_EXPIRED);
             this.retryInterval = retryInterval;
@@ -20,6 +20,7 @@ package com.navercorp.pinpoint.web.controller;
 import com.navercorp.pinpoint.web.service.AgentEventService;
 import com.navercorp.pinpoint.web.service.AgentInfoService;
 import com.navercorp.pinpoint.web.service.AgentStatService;
+import com.navercorp.pinpoint.web.service.UriStatService;
 import com.navercorp.pinpoint.web.util.TimeWindow;
 import com.navercorp.pinpoint.web.util.TimeWindowSlotCentricSampler;
 import com.navercorp.pinpoint.web.vo.AgentEvent;
@@ -28,6 +29,7 @@ import com.navercorp.pinpoint.web.vo.AgentStat;
 import com.navercorp.pinpoint.web.vo.AgentStatus;
 import com.navercorp.pinpoint.web.vo.ApplicationAgentList;
 import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.UriStatSummary;
 import com.navercorp.pinpoint.web.vo.linechart.agentstat.AgentStatChartGroup;
 
 import org.slf4j.Logger;
@@ -61,6 +63,9 @@ public class AgentStatController {
     @Autowired
     private AgentEventService agentEventService;
 
+    @Autowired
+    private UriStatService uriStatService;
+
     @RequestMapping(value = "/getAgentStat", method = RequestMethod.GET)
     @ResponseBody
     public AgentStatChartGroup getAgentStat(
@@ -88,6 +93,16 @@ public class AgentStatController {
         return chartGroup;
     }
 
+    @RequestMapping(value = "/getUriStat", method = RequestMethod.GET)
+    @ResponseBody
+    public List<UriStatSummary> getUriStat(
+            @RequestParam("agentId") String agentId,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to) {
+        Range range = new Range(from, to);
+        return this.uriStatService.selectUriStatSummaryList(agentId, range);
+    }
+
     @RequestMapping(value = "/getAgentList", method = RequestMethod.GET, params={"application", "from", "to"})
     @ResponseBody
     public ApplicationAgentList getApplicationAgentList(
@@ -48,6 +48,7 @@ import com.navercorp.pinpoint.web.vo.BusinessTransactions;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.TransactionId;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordPage;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 
 /**
@@ -205,4 +206,32 @@ public class BusinessTransactionController {
         }
         return mv;
     }
+
+    /**
+     * call stack of a selected transaction, a window of nodes at a time.
+     * metadata is looked up only for the nodes of the window. the application map is not included.
+     *
+     * @param traceIdParam
+     * @param focusTimestamp
+     * @param offset index of the first node in pre-order. to expand a node, the index of the node
+     * @param limit max number of nodes. to expand a node, its subtree size
+     * @return
+     */
+    @RequestMapping(value = "/transactionInfoPage", method = RequestMethod.GET)
+    @ResponseBody
+    public RecordPage transactionInfoPage(@RequestParam("traceId") String traceIdParam,
+                                          @RequestParam(value = "focusTimestamp", required = false, defaultValue = "0") long focusTimestamp,
+                                          @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+                                          @RequestParam(value = "limit", required = false, defaultValue = "1000") int limit) {
+        logger.debug("traceId:{} offset:{} limit:{}", traceIdParam, offset, limit);
+
+        final TransactionId traceId = new TransactionId(traceIdParam);
+        limit = LimitUtils.checkRange(limit);
+
+        final RecordPage recordPage = this.transactionInfoService.selectRecordPage(traceId, focusTimestamp, offset, limit);
+        if (recordPage == null) {
+            throw new IllegalArgumentException("Trace not found. traceId:" + traceId);
+        }
+        return recordPage;
+    }
 }
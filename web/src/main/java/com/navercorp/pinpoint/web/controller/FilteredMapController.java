@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.controller;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.navercorp.pinpoint.common.service.ServiceTypeRegistryService;
 import com.navercorp.pinpoint.common.util.DateUtils;
@@ -25,6 +26,7 @@ import com.navercorp.pinpoint.web.applicationmap.FilterMapWrap;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.filter.FilterBuilder;
 import com.navercorp.pinpoint.web.service.FilteredMapService;
+import com.navercorp.pinpoint.web.util.DeferredQueryExecutor;
 import com.navercorp.pinpoint.web.util.LimitUtils;
 import com.navercorp.pinpoint.web.util.TimeUtils;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
@@ -39,6 +41,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  *
@@ -59,6 +62,9 @@ public class FilteredMapController {
     @Autowired
     private ServiceTypeRegistryService registry;
 
+    @Autowired
+    private DeferredQueryExecutor deferredQueryExecutor;
+
     /**
    * filtered server map data query within from ~ to timeframe
      *
@@ -72,7 +78,7 @@ public class FilteredMapController {
      */
     @RequestMapping(value = "/getFilteredServerMapData", method = RequestMethod.GET, params="serviceTypeCode")
     @ResponseBody
-    public FilterMapWrap getFilteredServerMapData(
+    public DeferredResult<FilterMapWrap> getFilteredServerMapData(
                                             @RequestParam("applicationName") String applicationName,
                                             @RequestParam("serviceTypeCode") short serviceTypeCode,
                                             @RequestParam("from") long from,
@@ -98,18 +104,29 @@ public class FilteredMapController {
      */
     @RequestMapping(value = "/getFilteredServerMapData", method = RequestMethod.GET, params="serviceTypeName")
     @ResponseBody
-    public FilterMapWrap getFilteredServerMapData(
-                                            @RequestParam("applicationName") String applicationName,
+    public DeferredResult<FilterMapWrap> getFilteredServerMapData(
+                                            @RequestParam("applicationName") final String applicationName,
                                             @RequestParam("serviceTypeName") String serviceTypeName,
                                             @RequestParam("from") long from,
                                             @RequestParam("to") long to,
-                                            @RequestParam("originTo") long originTo,
+                                            @RequestParam("originTo") final long originTo,
                                             @RequestParam(value = "filter", required = false) String filterText,
                                             @RequestParam(value = "hint", required = false) String filterHint,
                                             @RequestParam(value = "limit", required = false, defaultValue = "10000") int limit) {
-        limit = LimitUtils.checkRange(limit);
+        final int checkedLimit = LimitUtils.checkRange(limit);
         final Filter filter = filterBuilder.build(filterText, filterHint);
         final Range range = new Range(from, to);
+        return deferredQueryExecutor.execute(new Callable<FilterMapWrap>() {
+            @Override
+            public FilterMapWrap call() throws Exception {
+                return selectFilteredServerMap(applicationName, range, originTo, filter, checkedLimit);
+            }
+        });
+    }
+
+    private FilterMapWrap selectFilteredServerMap(String applicationName, Range range, long originTo, Filter filter, int limit) {
+        final long from = range.getFrom();
+        final long to = range.getTo();
         final LimitedScanResult<List<TransactionId>> limitedScanResult = filteredMapService.selectTraceIdsFromApplicationTraceIndex(applicationName, range, limit);
 
         final long lastScanTime = limitedScanResult.getLimitedTime();
@@ -141,7 +158,7 @@ public class FilteredMapController {
      */
     @RequestMapping(value = "/getLastFilteredServerMapData", method = RequestMethod.GET, params="serviceTypeCode")
     @ResponseBody
-    public FilterMapWrap getLastFilteredServerMapData(
+    public DeferredResult<FilterMapWrap> getLastFilteredServerMapData(
             @RequestParam("applicationName") String applicationName,
             @RequestParam("serviceTypeCode") short serviceTypeCode,
             @RequestParam("period") long period,
@@ -164,7 +181,7 @@ public class FilteredMapController {
      */
     @RequestMapping(value = "/getLastFilteredServerMapData", method = RequestMethod.GET, params="serviceTypeName")
     @ResponseBody
-    public FilterMapWrap getLastFilteredServerMapData(
+    public DeferredResult<FilterMapWrap> getLastFilteredServerMapData(
             @RequestParam("applicationName") String applicationName,
             @RequestParam("serviceTypeName") String serviceTypeName,
             @RequestParam("period") long period,
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.web.applicationmap.histogram.Histogram;
 import com.navercorp.pinpoint.web.applicationmap.histogram.NodeHistogram;
 import com.navercorp.pinpoint.web.service.ApplicationFactory;
 import com.navercorp.pinpoint.web.service.MapService;
+import com.navercorp.pinpoint.web.util.DeferredQueryExecutor;
 import com.navercorp.pinpoint.web.util.Limiter;
 import com.navercorp.pinpoint.web.util.TimeUtils;
 import com.navercorp.pinpoint.web.view.ResponseTimeViewModel;
@@ -39,10 +40,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
 
@@ -67,6 +70,9 @@ public class MapController {
     @Autowired
     private ApplicationFactory applicationFactory;
 
+    @Autowired
+    private DeferredQueryExecutor deferredQueryExecutor;
+
     private static final String DEFAULT_SEARCH_DEPTH = "8";
     private static final int DEFAULT_MAX_SEARCH_DEPTH = 8;
 
@@ -81,7 +87,7 @@ public class MapController {
      */
     @RequestMapping(value = "/getServerMapData", method = RequestMethod.GET, params="serviceTypeCode")
     @ResponseBody
-    public MapWrap getServerMapData(
+    public DeferredResult<MapWrap> getServerMapData(
                                     @RequestParam("applicationName") String applicationName,
                                     @RequestParam("serviceTypeCode") short serviceTypeCode,
                                     @RequestParam("from") long from,
@@ -96,7 +102,7 @@ public class MapController {
 
         Application application = applicationFactory.createApplication(applicationName, serviceTypeCode);
 
-        return selectApplicationMap(application, range, searchOption);
+        return deferredApplicationMap(application, range, searchOption);
     }
 
 
@@ -112,7 +118,7 @@ public class MapController {
      */
     @RequestMapping(value = "/getServerMapData", method = RequestMethod.GET, params="serviceTypeName")
     @ResponseBody
-    public MapWrap getServerMapData(
+    public DeferredResult<MapWrap> getServerMapData(
                                     @RequestParam("applicationName") String applicationName,
                                     @RequestParam("serviceTypeName") String serviceTypeName,
                                     @RequestParam("from") long from,
@@ -127,7 +133,16 @@ public class MapController {
 
         Application application = applicationFactory.createApplicationByTypeName(applicationName, serviceTypeName);
 
-        return selectApplicationMap(application, range, searchOption);
+        return deferredApplicationMap(application, range, searchOption);
+    }
+
+    private DeferredResult<MapWrap> deferredApplicationMap(final Application application, final Range range, final SearchOption searchOption) {
+        return deferredQueryExecutor.execute(new Callable<MapWrap>() {
+            @Override
+            public MapWrap call() throws Exception {
+                return selectApplicationMap(application, range, searchOption);
+            }
+        });
     }
 
     private MapWrap selectApplicationMap(Application application, Range range, SearchOption searchOption) {
@@ -175,7 +190,7 @@ public class MapController {
      */
     @RequestMapping(value = "/getLastServerMapData", method = RequestMethod.GET, params="serviceTypeCode")
     @ResponseBody
-    public MapWrap getLastServerMapData(
+    public DeferredResult<MapWrap> getLastServerMapData(
                                         @RequestParam("applicationName") String applicationName,
                                         @RequestParam("serviceTypeCode") short serviceTypeCode,
                                         @RequestParam("period") long period,
@@ -193,7 +208,7 @@ public class MapController {
 
         Application application = applicationFactory.createApplication(applicationName, serviceTypeCode);
 
-        return selectApplicationMap(application, range, searchOption);
+        return deferredApplicationMap(application, range, searchOption);
     }
 
     /**
@@ -206,7 +221,7 @@ public class MapController {
      */
     @RequestMapping(value = "/getLastServerMapData", method = RequestMethod.GET, params="serviceTypeName")
     @ResponseBody
-    public MapWrap getLastServerMapData(
+    public DeferredResult<MapWrap> getLastServerMapData(
                                         @RequestParam("applicationName") String applicationName,
                                         @RequestParam("serviceTypeName") String serviceTypeName,
                                         @RequestParam("period") long period,
@@ -223,7 +238,7 @@ public class MapController {
         assertSearchOption(searchOption);
 
         Application application = applicationFactory.createApplicationByTypeName(applicationName, serviceTypeName);
-        return selectApplicationMap(application, range, searchOption);
+        return deferredApplicationMap(application, range, searchOption);
     }
 
     /**
@@ -17,20 +17,26 @@
 package com.navercorp.pinpoint.web.controller;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.navercorp.pinpoint.common.bo.SpanBo;
+import com.navercorp.pinpoint.common.hbase.QueryContext;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.util.DateUtils;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.filter.FilterBuilder;
 import com.navercorp.pinpoint.web.service.FilteredMapService;
 import com.navercorp.pinpoint.web.service.ScatterChartService;
+import com.navercorp.pinpoint.web.util.DeferredQueryExecutor;
 import com.navercorp.pinpoint.web.util.LimitUtils;
+import com.navercorp.pinpoint.web.util.ScatterColumnsBinaryView;
 import com.navercorp.pinpoint.web.util.TimeUtils;
 import com.navercorp.pinpoint.web.vo.*;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
 import com.navercorp.pinpoint.web.vo.scatter.ScatterIndex;
 
 import org.slf4j.Logger;
@@ -40,9 +46,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StopWatch;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.ModelAndView;
 
 /**
@@ -63,10 +72,15 @@ public class ScatterChartController {
     @Autowired
     private FilterBuilder filterBuilder;
 
+    @Autowired
+    private DeferredQueryExecutor deferredQueryExecutor;
+
     private static final String PREFIX_TRANSACTION_ID = "I";
     private static final String PREFIX_TIME = "T";
     private static final String PREFIX_RESPONSE_TIME = "R";
 
+    private static final String FORMAT_BINARY = "binary";
+
     @Deprecated
     @RequestMapping(value = "/scatterpopup", method = RequestMethod.GET)
     public String scatterPopup(Model model,
@@ -91,19 +105,77 @@ public class ScatterChartController {
      * @param to
      * @param limit           max number of data return. if the requested data exceed this limit, we need additional calls to
      *                        fetch the rest of the data
+     * @param format          "binary" returns packed columns (see {@link ScatterColumnsBinaryView}) instead of json.
+     * @param reportTruncated opt-in. adds "truncated"(true if the query budget ran out) to the json response.
+     *                        the binary format always reports it in the {@link ScatterColumnsBinaryView#HEADER_TRUNCATED} header.
      * @return
      */
     @RequestMapping(value = "/getScatterData", method = RequestMethod.GET)
-    public ModelAndView getScatterData(
-            @RequestParam("application") String applicationName,
-            @RequestParam("from") long from,
-            @RequestParam("to") long to,
+    public DeferredResult<ModelAndView> getScatterData(
+            @RequestParam("application") final String applicationName,
+            @RequestParam("from") final long from,
+            @RequestParam("to") final long to,
             @RequestParam("limit") int limit,
-            @RequestParam(value = "filter", required = false) String filterText,
-            @RequestParam(value = "_callback", required = false) String jsonpCallback,
-            @RequestParam(value = "v", required = false, defaultValue = "2") int version) {
-        limit = LimitUtils.checkRange(limit);
+            @RequestParam(value = "filter", required = false) final String filterText,
+            @RequestParam(value = "_callback", required = false) final String jsonpCallback,
+            @RequestParam(value = "v", required = false, defaultValue = "2") final int version,
+            @RequestParam(value = "format", required = false) final String format,
+            @RequestParam(value = "reportTruncated", required = false, defaultValue = "false") final boolean reportTruncated) {
+        final int checkedLimit = LimitUtils.checkRange(limit);
+
+        if (filterText == null) {
+            // a single trace index scan. served by the non-blocking dao without holding a query thread
+            return deferredQueryExecutor.executeAsync(new DeferredQueryExecutor.AsyncQuery<ModelAndView>() {
+                @Override
+                public ListenableFuture<ModelAndView> call(QueryContext queryContext) throws Exception {
+                    return fetchScatterDataAsync(applicationName, from, to, checkedLimit, jsonpCallback, version, format, reportTruncated, queryContext);
+                }
+            });
+        }
+        return deferredQueryExecutor.execute(new Callable<ModelAndView>() {
+            @Override
+            public ModelAndView call() throws Exception {
+                return fetchFilterScatterData(applicationName, from, to, checkedLimit, filterText, jsonpCallback, version, format, reportTruncated);
+            }
+        });
+    }
+
+    private ListenableFuture<ModelAndView> fetchScatterDataAsync(String applicationName, long from, long to, int limit, final String jsonpCallback, final int version,
+                                                                 String format, final boolean reportTruncated, final QueryContext queryContext) {
+        final long startTime = System.currentTimeMillis();
 
+        // TODO range check verification exception occurs. "from" is bigger than "to"
+        final Range range = Range.createUncheckedRange(from, to);
+        logger.debug("fetch scatter data async. {}, LIMIT={}", range, limit);
+
+        if (FORMAT_BINARY.equals(format)) {
+            final ListenableFuture<ScatterColumns> columnsFuture = scatter.selectScatterColumnsAsync(applicationName, range, limit);
+            return new ListenableFutureAdapter<ModelAndView, ScatterColumns>(columnsFuture) {
+                @Override
+                protected ModelAndView adapt(ScatterColumns columns) {
+                    final ModelAndView mv = createScatterColumnsModelAndView(getScatterColumnsResultRange(columns, range), columns);
+                    mv.addObject(ScatterColumnsBinaryView.MODEL_TRUNCATED, queryContext.isTruncated());
+                    logger.info("Fetch scatterData time : {}ms", System.currentTimeMillis() - startTime);
+                    return mv;
+                }
+            };
+        }
+
+        final ListenableFuture<List<Dot>> dotFuture = scatter.selectScatterDataAsync(applicationName, range, limit);
+        return new ListenableFutureAdapter<ModelAndView, List<Dot>>(dotFuture) {
+            @Override
+            protected ModelAndView adapt(List<Dot> scatterData) {
+                final ModelAndView mv = createModelAndView(getScatterDataResultRange(scatterData, range), jsonpCallback, scatterData, version);
+                if (reportTruncated) {
+                    mv.addObject(ScatterColumnsBinaryView.MODEL_TRUNCATED, queryContext.isTruncated());
+                }
+                logger.info("Fetch scatterData time : {}ms", System.currentTimeMillis() - startTime);
+                return mv;
+            }
+        };
+    }
+
+    private ModelAndView fetchFilterScatterData(String applicationName, long from, long to, int limit, String filterText, String jsonpCallback, int version, String format, boolean reportTruncated) {
         StopWatch watch = new StopWatch();
         watch.start("selectScatterData");
 
@@ -112,10 +184,16 @@ public class ScatterChartController {
         logger.debug("fetch scatter data. {}, LIMIT={}, FILTER={}", range, limit, filterText);
 
         ModelAndView mv;
-        if (filterText == null) {
-            mv = selectScatterData(applicationName, range, limit, jsonpCallback, version);
+        if (FORMAT_BINARY.equals(format)) {
+            mv = selectFilterScatterColumns(applicationName, range, filterText, limit);
+            // resultFrom already points to the last dot read, so the client continues from there
+            mv.addObject(ScatterColumnsBinaryView.MODEL_TRUNCATED, QueryContextHolder.isTruncated());
         } else {
             mv = selectFilterScatterDataData(applicationName, range, filterText, limit, jsonpCallback, version);
+            // the json response keeps its shape unless the client asks for the flag
+            if (reportTruncated) {
+                mv.addObject(ScatterColumnsBinaryView.MODEL_TRUNCATED, QueryContextHolder.isTruncated());
+            }
         }
 
         watch.stop();
@@ -152,16 +230,47 @@ public class ScatterChartController {
         return createModelAndView(resultRange, jsonpCallback, scatterData, version);
     }
 
-    private ModelAndView selectScatterData(String applicationName, Range range, int limit, String jsonpCallback, int version) {
+    private Range getScatterDataResultRange(List<Dot> scatterData, Range range) {
+        if (scatterData.isEmpty()) {
+            return new Range(-1, -1);
+        }
+        return new Range(scatterData.get(scatterData.size() - 1).getAcceptedTime(), range.getTo());
+    }
 
-        final List<Dot> scatterData = scatter.selectScatterData(applicationName, range, limit);
+    private Range getScatterColumnsResultRange(ScatterColumns columns, Range range) {
+        if (columns.isEmpty()) {
+            return new Range(-1, -1);
+        }
+        return new Range(columns.getAcceptedTime(columns.size() - 1), range.getTo());
+    }
+
+    private ModelAndView selectFilterScatterColumns(String applicationName, Range range, String filterText, int limit) {
+        final LimitedScanResult<List<TransactionId>> limitedScanResult = flow.selectTraceIdsFromApplicationTraceIndex(applicationName, range, limit);
+        final List<TransactionId> traceIdList = limitedScanResult.getScanData();
+        final SortedSet<TransactionId> traceIdSet = new TreeSet<TransactionId>(traceIdList);
+
+        final Filter filter = filterBuilder.build(filterText);
+        final List<Dot> scatterData = scatter.selectScatterData(traceIdSet, applicationName, filter);
+        final ScatterColumns columns = new ScatterColumns(range.getFrom(), scatterData.size());
+        for (Dot dot : scatterData) {
+            columns.add(dot);
+        }
         Range resultRange;
-        if (scatterData.isEmpty()) {
+        if (traceIdList.isEmpty()) {
             resultRange = new Range(-1, -1);
         } else {
-            resultRange = new Range(scatterData.get(scatterData.size() - 1).getAcceptedTime(), range.getTo());
+            resultRange = new Range(limitedScanResult.getLimitedTime(), range.getTo());
         }
-        return createModelAndView(resultRange, jsonpCallback, scatterData, version);
+        return createScatterColumnsModelAndView(resultRange, columns);
+    }
+
+    private ModelAndView createScatterColumnsModelAndView(Range resultRange, ScatterColumns columns) {
+        ModelAndView mv = new ModelAndView();
+        mv.addObject(ScatterColumnsBinaryView.MODEL_RESULT_FROM, resultRange.getFrom());
+        mv.addObject(ScatterColumnsBinaryView.MODEL_RESULT_TO, resultRange.getTo());
+        mv.addObject(ScatterColumnsBinaryView.MODEL_SCATTER, columns);
+        mv.setViewName("scatterBinaryView");
+        return mv;
     }
 
     private ModelAndView createModelAndView(Range range, String jsonpCallback, List<Dot> scatterData, int version) {
@@ -198,23 +307,25 @@ public class ScatterChartController {
      *
      * @param applicationName
      * @param limit
+     * @param reportTruncated see {@link #getScatterData}
      * @return
      */
     @RequestMapping(value = "/getLastScatterData", method = RequestMethod.GET)
-    public ModelAndView getLastScatterData(
+    public DeferredResult<ModelAndView> getLastScatterData(
             @RequestParam("application") String applicationName,
             @RequestParam("period") long period,
             @RequestParam("limit") int limit,
             @RequestParam(value = "filter", required = false) String filterText,
             @RequestParam(value = "_callback", required = false) String jsonpCallback,
-            @RequestParam(value = "v", required = false, defaultValue = "1") int version) {
+            @RequestParam(value = "v", required = false, defaultValue = "1") int version,
+            @RequestParam(value = "reportTruncated", required = false, defaultValue = "false") boolean reportTruncated) {
         limit = LimitUtils.checkRange(limit);
 
         long to = TimeUtils.getDelayLastTime();
         long from = to - period;
 
         // TODO versioning is temporary. to sync template change and server dev
-        return getScatterData(applicationName, from, to, limit, filterText, jsonpCallback, version);
+        return getScatterData(applicationName, from, to, limit, filterText, jsonpCallback, version, null, reportTruncated);
     }
 
     /**
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.web.dao;
 
+import java.util.List;
+
 import com.navercorp.pinpoint.common.bo.AgentInfoBo;
 
 /**
@@ -25,6 +27,8 @@ import com.navercorp.pinpoint.common.bo.AgentInfoBo;
 public interface AgentInfoDao {
     
     AgentInfoBo getAgentInfo(String agentId, long timestamp);
+
+    List<AgentInfoBo> getAgentInfo(List<String> agentIds, long timestamp);
     
     AgentInfoBo getInitialAgentInfo(String agentId);
 }
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.web.dao;
 
+import java.util.List;
+
 import com.navercorp.pinpoint.common.bo.AgentLifeCycleBo;
 
 /**
@@ -24,5 +26,7 @@ import com.navercorp.pinpoint.common.bo.AgentLifeCycleBo;
 public interface AgentLifeCycleDao {
 
     AgentLifeCycleBo getAgentLifeCycle(String agentId, long timestamp);
+
+    List<AgentLifeCycleBo> getAgentLifeCycle(List<String> agentIds, long timestamp);
     
 }
@@ -18,11 +18,14 @@ package com.navercorp.pinpoint.web.dao;
 
 import java.util.List;
 
+import org.springframework.util.concurrent.ListenableFuture;
+
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.SelectedScatterArea;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
 
 /**
  * @author emeroad
@@ -36,6 +39,22 @@ public interface ApplicationTraceIndexDao {
 
     List<Dot> scanTraceScatter(String applicationName, Range range, int limit);
 
+    /**
+     * same as {@link #scanTraceScatter(String, Range, int)} but decodes into packed columns instead of {@link Dot} objects.
+     * acceptedTime is stored as an offset from range.getFrom().
+     */
+    ScatterColumns scanTraceScatterColumns(String applicationName, Range range, int limit);
+
+    /**
+     * non-blocking {@link #scanTraceScatter(String, Range, int)}. the scan runs on the pool of {@link com.navercorp.pinpoint.common.hbase.AsyncHbaseOperations2}.
+     */
+    ListenableFuture<List<Dot>> scanTraceScatterAsync(String applicationName, Range range, int limit);
+
+    /**
+     * non-blocking {@link #scanTraceScatterColumns(String, Range, int)}.
+     */
+    ListenableFuture<ScatterColumns> scanTraceScatterColumnsAsync(String applicationName, Range range, int limit);
+
     /**
      *
      * select transactions in a selection range(box) in the scatter chart.
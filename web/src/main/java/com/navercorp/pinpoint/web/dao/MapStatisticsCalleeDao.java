@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.web.dao;
 
 import java.util.List;
 
+import org.springframework.util.concurrent.ListenableFuture;
+
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.Range;
@@ -30,6 +32,11 @@ import com.navercorp.pinpoint.web.vo.Range;
 public interface MapStatisticsCalleeDao {
     LinkDataMap selectCallee(Application calleeApplication, Range range);
 
+    /**
+     * same as {@link #selectCallee(Application, Range)} without blocking the calling thread
+     */
+    ListenableFuture<LinkDataMap> selectCalleeAsync(Application calleeApplication, Range range);
+
     @Deprecated
     List<LinkDataMap> selectCalleeStatistics(Application callerApplication, Application calleeApplication, Range range);
 }
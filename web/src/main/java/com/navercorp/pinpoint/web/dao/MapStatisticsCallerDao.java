@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.web.dao;
 
 import java.util.List;
 
+import org.springframework.util.concurrent.ListenableFuture;
+
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.Range;
@@ -30,5 +32,10 @@ import com.navercorp.pinpoint.web.vo.Range;
 public interface MapStatisticsCallerDao {
     LinkDataMap selectCaller(Application callerApplication, Range range);
 
+    /**
+     * same as {@link #selectCaller(Application, Range)} without blocking the calling thread
+     */
+    ListenableFuture<LinkDataMap> selectCallerAsync(Application callerApplication, Range range);
+
     List<LinkDataMap> selectCallerStatistics(Application callerApplication, Application calleeApplication, Range range);
 }
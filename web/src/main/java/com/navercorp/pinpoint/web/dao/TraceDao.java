@@ -20,6 +20,8 @@ package com.navercorp.pinpoint.web.dao;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.util.concurrent.ListenableFuture;
+
 import com.navercorp.pinpoint.common.bo.SpanBo;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 
@@ -36,6 +38,11 @@ public interface TraceDao {
     
     List<List<SpanBo>> selectAllSpans(Collection<TransactionId> transactionIdList);
 
+    /**
+     * same as {@link #selectAllSpans(Collection)} without blocking the calling thread. the result keeps the order of transactionIdList
+     */
+    ListenableFuture<List<List<SpanBo>>> selectAllSpansAsync(Collection<TransactionId> transactionIdList);
+
     List<SpanBo> selectSpans(TransactionId transactionId);
     
 }
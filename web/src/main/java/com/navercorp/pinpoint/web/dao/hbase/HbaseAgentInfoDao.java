@@ -28,6 +28,10 @@ import com.navercorp.pinpoint.common.util.RowKeyUtils;
 import com.navercorp.pinpoint.common.util.TimeUtils;
 import com.navercorp.pinpoint.web.dao.AgentInfoDao;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.hadoop.hbase.client.*;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.slf4j.Logger;
@@ -75,6 +79,34 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
         }
         return result;
     }
+
+    /**
+     * Returns the information of each agent with its start time closest to the given timestamp.
+     * AgentInfo rows are keyed by agentId, so there is still one scan per agent, but all of them run on a single table.
+     *
+     * @param agentIds
+     * @param timestamp
+     * @return same order as agentIds, null for an agent without information
+     */
+    @Override
+    public List<AgentInfoBo> getAgentInfo(final List<String> agentIds, final long timestamp) {
+        if (agentIds == null) {
+            throw new NullPointerException("agentIds must not be null");
+        }
+        if (agentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<Scan> scans = new ArrayList<Scan>(agentIds.size());
+        for (String agentId : agentIds) {
+            Scan scan = createScan(agentId, timestamp);
+            scan.setMaxVersions(1);
+            scan.setCaching(1);
+            scans.add(scan);
+        }
+
+        return this.hbaseOperations2.find(HBaseTables.AGENTINFO, scans, new AgentInfoBoResultsExtractor(null));
+    }
     
     /**
      * Returns the very first information of the agent
@@ -118,6 +150,7 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
     
     private class AgentInfoBoResultsExtractor implements ResultsExtractor<AgentInfoBo> {
         
+        // null reads the agentId from the row key
         private final String agentId;
         
         private AgentInfoBoResultsExtractor(String agentId) {
@@ -128,6 +161,7 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
         public AgentInfoBo extractData(ResultScanner results) throws Exception {
             for (Result next : results) {
                 byte[] row = next.getRow();
+                final String agentId = this.agentId != null ? this.agentId : BytesUtils.toStringAndRightTrim(row, 0, HBaseTables.AGENT_NAME_MAX_LEN);
                 long reverseStartTime = BytesUtils.bytesToLong(row, HBaseTables.AGENT_NAME_MAX_LEN);
                 long startTime = TimeUtils.recoveryTimeMillis(reverseStartTime);
                 
@@ -135,7 +169,7 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
                 byte[] serializedServerMetaData = next.getValue(HBaseTables.AGENTINFO_CF_INFO, HBaseTables.AGENTINFO_CF_INFO_SERVER_META_DATA);
 
                 final AgentInfoBo.Builder agentInfoBoBuilder = createBuilderFromValue(serializedAgentInfo);
-                agentInfoBoBuilder.setAgentId(this.agentId);
+                agentInfoBoBuilder.setAgentId(agentId);
                 agentInfoBoBuilder.setStartTime(startTime);
                 // TODO fix
                 agentInfoBoBuilder.setServiceType(registry.findServiceType(agentInfoBoBuilder.getServiceTypeCode()));
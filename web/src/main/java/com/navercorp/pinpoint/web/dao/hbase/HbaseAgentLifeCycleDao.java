@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.dao.hbase;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.hadoop.hbase.client.Result;
@@ -65,19 +66,7 @@ public class HbaseAgentLifeCycleDao implements AgentLifeCycleDao {
             throw new IllegalArgumentException("timestamp must not be less than 0");
         }
 
-        Scan scan = new Scan();
-        scan.setMaxVersions(1);
-        scan.setCaching(SCAN_CACHING_SIZE);
-
-        long fromTime = TimeUtils.reverseTimeMillis(timestamp);
-
-        byte[] agentIdBytes = Bytes.toBytes(agentId);
-        byte[] startKeyBytes = RowKeyUtils.concatFixedByteAndLong(agentIdBytes, HBaseTables.AGENT_NAME_MAX_LEN, fromTime);
-        byte[] endKeyBytes = RowKeyUtils.concatFixedByteAndLong(agentIdBytes, HBaseTables.AGENT_NAME_MAX_LEN, Long.MAX_VALUE);
-
-        scan.setStartRow(startKeyBytes);
-        scan.setStopRow(endKeyBytes);
-        scan.addColumn(HBaseTables.AGENT_LIFECYCLE_CF_STATUS, HBaseTables.AGENT_LIFECYCLE_CF_STATUS_QUALI_STATES);
+        Scan scan = createScan(agentId, timestamp);
 
         try {
             List<AgentLifeCycleBo> agentLifeCycles = this.hbaseOperations2.find(HBaseTables.AGENT_LIFECYCLE, scan, new AgentLifeCycleResultsExtractor(timestamp));
@@ -95,6 +84,57 @@ public class HbaseAgentLifeCycleDao implements AgentLifeCycleDao {
         }
     }
 
+    /**
+     * one scan per agent, all of them run on a single table.
+     * @return same order as agentIds, null for an agent without life cycle
+     */
+    @Override
+    public List<AgentLifeCycleBo> getAgentLifeCycle(List<String> agentIds, long timestamp) {
+        if (agentIds == null) {
+            throw new NullPointerException("agentIds must not be null");
+        }
+        if (timestamp < 0) {
+            throw new IllegalArgumentException("timestamp must not be less than 0");
+        }
+        if (agentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<Scan> scans = new ArrayList<Scan>(agentIds.size());
+        for (String agentId : agentIds) {
+            scans.add(createScan(agentId, timestamp));
+        }
+
+        try {
+            List<List<AgentLifeCycleBo>> agentLifeCyclesList = this.hbaseOperations2.find(HBaseTables.AGENT_LIFECYCLE, scans, new AgentLifeCycleResultsExtractor(timestamp));
+            final List<AgentLifeCycleBo> latestLifeCycles = new ArrayList<AgentLifeCycleBo>(agentLifeCyclesList.size());
+            for (List<AgentLifeCycleBo> agentLifeCycles : agentLifeCyclesList) {
+                latestLifeCycles.add(agentLifeCycles.isEmpty() ? null : agentLifeCycles.get(0));
+            }
+            return latestLifeCycles;
+        } catch (Exception e) {
+            logger.warn("could not retrieve agentLifeCycle for agentIds={}, timestamp={}", agentIds, timestamp);
+            return Collections.nCopies(agentIds.size(), null);
+        }
+    }
+
+    private Scan createScan(String agentId, long timestamp) {
+        Scan scan = new Scan();
+        scan.setMaxVersions(1);
+        scan.setCaching(SCAN_CACHING_SIZE);
+
+        long fromTime = TimeUtils.reverseTimeMillis(timestamp);
+
+        byte[] agentIdBytes = Bytes.toBytes(agentId);
+        byte[] startKeyBytes = RowKeyUtils.concatFixedByteAndLong(agentIdBytes, HBaseTables.AGENT_NAME_MAX_LEN, fromTime);
+        byte[] endKeyBytes = RowKeyUtils.concatFixedByteAndLong(agentIdBytes, HBaseTables.AGENT_NAME_MAX_LEN, Long.MAX_VALUE);
+
+        scan.setStartRow(startKeyBytes);
+        scan.setStopRow(endKeyBytes);
+        scan.addColumn(HBaseTables.AGENT_LIFECYCLE_CF_STATUS, HBaseTables.AGENT_LIFECYCLE_CF_STATUS_QUALI_STATES);
+        return scan;
+    }
+
     private class AgentLifeCycleResultsExtractor implements ResultsExtractor<List<AgentLifeCycleBo>> {
         
         private final long timestamp;
@@ -51,6 +51,9 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
     @Qualifier("metadataRowKeyDistributor")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     @Override
     @Cacheable(value="apiMetaData", key=SPEL_KEY)
     public List<ApiMetaDataBo> getApiMetaData(String agentId, long time, int apiId) {
@@ -62,7 +65,12 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
         byte[] sqlId = getDistributedKey(apiMetaDataBo.toRowKey());
         Get get = new Get(sqlId);
         get.addFamily(HBaseTables.API_METADATA_CF_API);
-        return hbaseOperations2.get(HBaseTables.API_METADATA, get, apiMetaDataMapper);
+        final List<ApiMetaDataBo> apiMetaDataList = hbaseOperations2.get(HBaseTables.API_METADATA, get, apiMetaDataMapper);
+        if (apiMetaDataList != null && !apiMetaDataList.isEmpty()) {
+            return apiMetaDataList;
+        }
+        // the id may be a content hash id
+        return metaDataHashDao.getApiMetaData(agentId, time, apiId);
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -36,10 +36,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.hadoop.hbase.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 
 import com.navercorp.pinpoint.common.PinpointConstants;
 import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.hbase.AsyncHbaseOperations2;
 import com.navercorp.pinpoint.common.hbase.HBaseTables;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.hbase.LimitEventHandler;
@@ -48,6 +51,7 @@ import com.navercorp.pinpoint.common.util.DateUtils;
 import com.navercorp.pinpoint.common.util.SpanUtils;
 import com.navercorp.pinpoint.common.util.TimeUtils;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.mapper.TraceIndexScatterColumnsExtractor;
 import com.navercorp.pinpoint.web.mapper.TraceIndexScatterMapper2;
 import com.navercorp.pinpoint.web.mapper.TransactionIdMapper;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
@@ -56,6 +60,7 @@ import com.navercorp.pinpoint.web.vo.ResponseTimeRange;
 import com.navercorp.pinpoint.web.vo.SelectedScatterArea;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
 
 /**
@@ -70,6 +75,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
     @Autowired
     private HbaseOperations2 hbaseOperations2;
 
+    @Autowired
+    private AsyncHbaseOperations2 asyncHbaseOperations2;
+
     @Autowired
     @Qualifier("transactionIdMapper")
     private RowMapper<List<TransactionId>> traceIndexMapper;
@@ -245,6 +253,33 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         Scan scan = createScan(applicationName, range);
 
         List<List<Dot>> dotListList = hbaseOperations2.find(HBaseTables.APPLICATION_TRACE_INDEX, scan, traceIdRowKeyDistributor, limit, traceIndexScatterMapper);
+        return mergeDotList(dotListList, limit);
+    }
+
+    @Override
+    public ListenableFuture<List<Dot>> scanTraceScatterAsync(String applicationName, Range range, final int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceScatterAsync");
+        Scan scan = createScan(applicationName, range);
+
+        ListenableFuture<List<List<Dot>>> future = asyncHbaseOperations2.find(HBaseTables.APPLICATION_TRACE_INDEX, scan, traceIdRowKeyDistributor, limit, traceIndexScatterMapper);
+        return new ListenableFutureAdapter<List<Dot>, List<List<Dot>>>(future) {
+            @Override
+            protected List<Dot> adapt(List<List<Dot>> dotListList) {
+                return mergeDotList(dotListList, limit);
+            }
+        };
+    }
+
+    private List<Dot> mergeDotList(List<List<Dot>> dotListList, int limit) {
         List<Dot> mergeList = new ArrayList<Dot>(limit + 10);
         for(List<Dot> dotList : dotListList) {
             mergeList.addAll(dotList);
@@ -252,6 +287,42 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return mergeList;
     }
 
+    @Override
+    public ScatterColumns scanTraceScatterColumns(String applicationName, Range range, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceScatterColumns");
+        Scan scan = createScan(applicationName, range);
+
+        TraceIndexScatterColumnsExtractor extractor = new TraceIndexScatterColumnsExtractor(range.getFrom(), limit);
+        return hbaseOperations2.find(HBaseTables.APPLICATION_TRACE_INDEX, scan, traceIdRowKeyDistributor, extractor);
+    }
+
+    @Override
+    public ListenableFuture<ScatterColumns> scanTraceScatterColumnsAsync(String applicationName, Range range, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceScatterColumnsAsync");
+        Scan scan = createScan(applicationName, range);
+
+        TraceIndexScatterColumnsExtractor extractor = new TraceIndexScatterColumnsExtractor(range.getFrom(), limit);
+        return asyncHbaseOperations2.find(HBaseTables.APPLICATION_TRACE_INDEX, scan, traceIdRowKeyDistributor, extractor);
+    }
+
     /**
      *
      */
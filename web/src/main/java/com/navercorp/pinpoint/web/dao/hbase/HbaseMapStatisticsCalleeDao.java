@@ -18,12 +18,16 @@ package com.navercorp.pinpoint.web.dao.hbase;
 
 import java.util.*;
 
+import javax.annotation.PostConstruct;
+
+import com.navercorp.pinpoint.common.hbase.AsyncHbaseOperations2;
 import com.navercorp.pinpoint.common.hbase.HBaseTables;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.mapper.*;
+import com.navercorp.pinpoint.web.util.ListenableFutures;
 import com.navercorp.pinpoint.web.util.TimeWindow;
 import com.navercorp.pinpoint.web.util.TimeWindowDownSampler;
 import com.navercorp.pinpoint.web.vo.Application;
@@ -36,9 +40,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.hadoop.hbase.ResultsExtractor;
 import org.springframework.data.hadoop.hbase.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 
 /**
  * 
@@ -55,6 +62,9 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
     @Autowired
     private HbaseOperations2 hbaseOperations2;
 
+    @Autowired
+    private AsyncHbaseOperations2 asyncHbaseOperations2;
+
     @Autowired
     @Qualifier("mapStatisticsCalleeMapperBackwardCompatibility")
     private RowMapper<LinkDataMap> mapStatisticsCalleeMapperBackwardCompatibility;
@@ -70,6 +80,28 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
     @Qualifier("statisticsCalleeRowKeyDistributor")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Value("#{pinpointWebProps['web.mapstatistics.segmentcache.enable'] ?: false}")
+    private boolean segmentCacheEnable;
+
+    @Value("#{pinpointWebProps['web.mapstatistics.segmentcache.size'] ?: 20000}")
+    private int segmentCacheSize;
+
+    @Value("#{pinpointWebProps['web.mapstatistics.segmentcache.openslot'] ?: 120000}")
+    private long segmentCacheOpenSlotMillis;
+
+    @Value("#{pinpointWebProps['web.mapstatistics.segmentcache.expire'] ?: 600000}")
+    private long segmentCacheExpireMillis;
+
+    private LinkDataMapSegmentCache segmentCache;
+
+    @PostConstruct
+    public void init() {
+        if (segmentCacheEnable) {
+            this.segmentCache = new LinkDataMapSegmentCache(segmentCacheSize, segmentCacheOpenSlotMillis, segmentCacheExpireMillis);
+            logger.info("callee segment cache enabled. size:{}, openSlot:{}ms, expire:{}ms", segmentCacheSize, segmentCacheOpenSlotMillis, segmentCacheExpireMillis);
+        }
+    }
+
     @Override
     public LinkDataMap selectCallee(Application calleeApplication, Range range) {
         if (calleeApplication == null) {
@@ -81,8 +113,14 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         final Scan scan = createScan(calleeApplication, range);
         final TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
         // find distributed key.
-        ResultsExtractor<LinkDataMap> resultExtractor = new RowMapReduceResultExtractor<LinkDataMap>(mapStatisticsCalleeMapper, new MapStatisticsTimeWindowReducer(timeWindow));
-        LinkDataMap linkDataMap = hbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, rowKeyDistributorByHashPrefix, resultExtractor);
+        LinkDataMap linkDataMap;
+        ResultsExtractor<LinkDataMap> resultExtractor;
+        if (segmentCache != null) {
+            linkDataMap = segmentCache.select(calleeApplication, range, timeWindow, new StatisticsSegmentScanner(calleeApplication));
+        } else {
+            resultExtractor = new RowMapReduceResultExtractor<LinkDataMap>(mapStatisticsCalleeMapper, new MapStatisticsTimeWindowReducer(timeWindow));
+            linkDataMap = hbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, rowKeyDistributorByHashPrefix, resultExtractor);
+        }
         logger.debug("Callee data. {}, {}", linkDataMap, range);
 
         if (linkDataMap == null || linkDataMap.size() ==0) {
@@ -99,6 +137,50 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         return linkDataMap;
     }
 
+    @Override
+    public ListenableFuture<LinkDataMap> selectCalleeAsync(final Application calleeApplication, final Range range) {
+        if (calleeApplication == null) {
+            throw new NullPointerException("calleeApplication must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (segmentCache != null) {
+            // segments are mostly served from memory
+            return ListenableFutures.immediate(selectCallee(calleeApplication, range));
+        }
+
+        final Scan scan = createScan(calleeApplication, range);
+        final TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
+        // find distributed key.
+        final ResultsExtractor<LinkDataMap> resultExtractor = new RowMapReduceResultExtractor<LinkDataMap>(mapStatisticsCalleeMapper, new MapStatisticsTimeWindowReducer(timeWindow));
+        final ListenableFuture<LinkDataMap> distributed = asyncHbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, rowKeyDistributorByHashPrefix, resultExtractor);
+        return ListenableFutures.transformAsync(distributed, new ListenableFutures.AsyncFunction<LinkDataMap, LinkDataMap>() {
+            @Override
+            public ListenableFuture<LinkDataMap> apply(LinkDataMap linkDataMap) {
+                logger.debug("Callee data. {}, {}", linkDataMap, range);
+                if (linkDataMap != null && linkDataMap.size() != 0) {
+                    return ListenableFutures.immediate(linkDataMap);
+                }
+                logger.debug("There's no callee data. {}, {}", calleeApplication, range);
+
+                // backward compatibility - non distributed.
+                final ResultsExtractor<LinkDataMap> backwardCompatibilityExtractor = new RowMapReduceResultExtractor<LinkDataMap>(mapStatisticsCalleeMapperBackwardCompatibility, new MapStatisticsTimeWindowReducer(timeWindow));
+                final ListenableFuture<LinkDataMap> nonDistributed = asyncHbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, backwardCompatibilityExtractor);
+                return new ListenableFutureAdapter<LinkDataMap, LinkDataMap>(nonDistributed) {
+                    @Override
+                    protected LinkDataMap adapt(LinkDataMap linkDataMap) {
+                        logger.debug("Callee data. {}, {}", linkDataMap, range);
+                        if (linkDataMap == null) {
+                            return new LinkDataMap();
+                        }
+                        return linkDataMap;
+                    }
+                };
+            }
+        });
+    }
+
     /**
      * statistics information used when a link between nodes is clicked at the server map
      *
@@ -127,9 +209,27 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         return hbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, mapper);
     }
 
+    private class StatisticsSegmentScanner implements LinkDataMapSegmentCache.SegmentScanner {
+        private final Application application;
+
+        private StatisticsSegmentScanner(Application application) {
+            this.application = application;
+        }
+
+        @Override
+        public Map<Long, LinkDataMap> scan(Range statisticsRange) {
+            final Scan scan = createStatisticsScan(application, statisticsRange);
+            final ResultsExtractor<Map<Long, LinkDataMap>> segmentExtractor = new MapStatisticsSegmentExtractor(mapStatisticsCalleeMapper, rowKeyDistributorByHashPrefix);
+            return hbaseOperations2.find(HBaseTables.MAP_STATISTICS_CALLER, scan, rowKeyDistributorByHashPrefix, segmentExtractor);
+        }
+    }
+
     private Scan createScan(Application application, Range range) {
         range = rangeFactory.createStatisticsRange(range);
+        return createStatisticsScan(application, range);
+    }
 
+    private Scan createStatisticsScan(Application application, Range range) {
         if (logger.isDebugEnabled()) {
             logger.debug("scan time:{} ", range.prettyToString());
         }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.hadoop.hbase.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.navercorp.pinpoint.common.bo.ApiMetaDataBo;
+import com.navercorp.pinpoint.common.bo.SqlMetaDataBo;
+import com.navercorp.pinpoint.common.bo.StringMetaDataBo;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.hbase.HBaseAdminTemplate;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+
+/**
+ * resolves metadata stored by content hash id. see collector HbaseMetaDataHashDao.
+ * used as a fallback when the agent keyed metadata row does not exist.
+ *
+ * @author agent
+ */
+@Repository
+public class HbaseMetaDataHashDao {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final RowMapper<List<Cell>> CELL_MAPPER = new RowMapper<List<Cell>>() {
+        @Override
+        public List<Cell> mapRow(Result result, int rowNum) throws Exception {
+            if (result.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return Arrays.asList(result.rawCells());
+        }
+    };
+
+    @Autowired
+    private HbaseOperations2 hbaseOperations2;
+
+    private final boolean tableExists;
+
+    @Autowired
+    public HbaseMetaDataHashDao(HBaseAdminTemplate hBaseAdminTemplate) {
+        this.tableExists = hBaseAdminTemplate.tableExists(HBaseTables.METADATA_HASH);
+        if (!tableExists) {
+            logger.info("{} table not found. content hash metadata lookup disabled.", HBaseTables.METADATA_HASH);
+        }
+    }
+
+    public List<SqlMetaDataBo> getSqlMetaData(String agentId, long time, int sqlId) {
+        final List<Cell> cellList = get(HBaseTables.METADATA_HASH_CF_SQL, sqlId);
+        if (cellList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<SqlMetaDataBo> sqlMetaDataList = new ArrayList<SqlMetaDataBo>(cellList.size());
+        for (Cell cell : cellList) {
+            final SqlMetaDataBo sqlMetaDataBo = new SqlMetaDataBo(agentId, time, sqlId);
+            sqlMetaDataBo.setSql(Bytes.toString(CellUtil.cloneQualifier(cell)));
+            sqlMetaDataList.add(sqlMetaDataBo);
+        }
+        return sqlMetaDataList;
+    }
+
+    public List<ApiMetaDataBo> getApiMetaData(String agentId, long time, int apiId) {
+        final List<Cell> cellList = get(HBaseTables.METADATA_HASH_CF_API, apiId);
+        if (cellList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ApiMetaDataBo> apiMetaDataList = new ArrayList<ApiMetaDataBo>(cellList.size());
+        for (Cell cell : cellList) {
+            // the qualifier is the api descriptor, the value is in the same format as ApiMetaDataMapper.
+            // cells written before the descriptor became the qualifier carry that format in the qualifier and an empty value
+            final byte[] value = cell.getValueLength() > 0 ? CellUtil.cloneValue(cell) : CellUtil.cloneQualifier(cell);
+            final Buffer buffer = new FixedBuffer(value);
+            final ApiMetaDataBo apiMetaDataBo = new ApiMetaDataBo(agentId, time, apiId);
+            apiMetaDataBo.setApiInfo(buffer.readPrefixedString());
+            apiMetaDataBo.setLineNumber(buffer.readInt());
+            if (buffer.limit() > 0) {
+                apiMetaDataBo.setType(buffer.readInt());
+            }
+            apiMetaDataList.add(apiMetaDataBo);
+        }
+        return apiMetaDataList;
+    }
+
+    public List<StringMetaDataBo> getStringMetaData(String agentId, long time, int stringId) {
+        final List<Cell> cellList = get(HBaseTables.METADATA_HASH_CF_STR, stringId);
+        if (cellList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<StringMetaDataBo> stringMetaDataList = new ArrayList<StringMetaDataBo>(cellList.size());
+        for (Cell cell : cellList) {
+            final StringMetaDataBo stringMetaDataBo = new StringMetaDataBo(agentId, time, stringId);
+            stringMetaDataBo.setStringValue(Bytes.toString(CellUtil.cloneQualifier(cell)));
+            stringMetaDataList.add(stringMetaDataBo);
+        }
+        return stringMetaDataList;
+    }
+
+    private List<Cell> get(byte[] family, int id) {
+        if (!tableExists) {
+            return Collections.emptyList();
+        }
+        final Get get = new Get(Bytes.toBytes(id));
+        get.addFamily(family);
+        final List<Cell> result = hbaseOperations2.get(HBaseTables.METADATA_HASH, get, CELL_MAPPER);
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        return result;
+    }
+}
@@ -45,6 +45,9 @@ public class HbaseSqlMetaDataCompatibility implements SqlMetaDataDao {
 //    @Autowired
     private SqlMetaDataDao hbaseSqlMetaDataDao;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     
     @Autowired
     public HbaseSqlMetaDataCompatibility(HBaseAdminTemplate hBaseAdminTemplate) {
@@ -79,9 +82,14 @@ public class HbaseSqlMetaDataCompatibility implements SqlMetaDataDao {
         
         if(SQL_METADATA_EXISTED) {
             sqlMetaDataList = hbaseSqlMetaDataPastVersionDao.getSqlMetaData(agentId, time, hashCode);
+            
+            if (sqlMetaDataList.size() >= 1) {
+                return sqlMetaDataList;
+            }
         }
-    
-        return sqlMetaDataList;
+        
+        // the id may be a content hash id
+        return metaDataHashDao.getSqlMetaData(agentId, time, hashCode);
     }
     
     public void setHbaseSqlMetaDataDao(SqlMetaDataDao hbaseSqlMetaDataDao) {
@@ -47,6 +47,9 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
     @Qualifier("metadataRowKeyDistributor")
     private RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    @Autowired
+    private HbaseMetaDataHashDao metaDataHashDao;
+
     @Override
     public List<StringMetaDataBo> getStringMetaData(String agentId, long time, int stringId) {
         if (agentId == null) {
@@ -59,7 +62,12 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
         Get get = new Get(rowKey);
         get.addFamily(HBaseTables.STRING_METADATA_CF_STR);
 
-        return hbaseOperations2.get(HBaseTables.STRING_METADATA, get, stringMetaDataMapper);
+        final List<StringMetaDataBo> stringMetaDataList = hbaseOperations2.get(HBaseTables.STRING_METADATA, get, stringMetaDataMapper);
+        if (stringMetaDataList != null && !stringMetaDataList.isEmpty()) {
+            return stringMetaDataList;
+        }
+        // the id may be a content hash id
+        return metaDataHashDao.getStringMetaData(agentId, time, stringId);
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
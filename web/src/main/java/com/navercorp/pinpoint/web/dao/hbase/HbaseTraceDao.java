@@ -21,9 +21,11 @@ import java.util.Collection;
 import java.util.List;
 
 import com.navercorp.pinpoint.common.bo.SpanBo;
+import com.navercorp.pinpoint.common.hbase.AsyncHbaseOperations2;
 import com.navercorp.pinpoint.common.hbase.HBaseTables;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
 import com.navercorp.pinpoint.web.dao.TraceDao;
+import com.navercorp.pinpoint.web.util.ListenableFutures;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
 
@@ -32,6 +34,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.hadoop.hbase.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 
 /**
  * @author emeroad
@@ -39,9 +43,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class HbaseTraceDao implements TraceDao {
 
+    // gets of a multi get sent in parallel by selectAllSpansAsync
+    static final int ASYNC_GET_CHUNK_SIZE = 100;
+
     @Autowired
     private HbaseOperations2 template2;
 
+    @Autowired
+    private AsyncHbaseOperations2 asyncTemplate2;
+
     @Autowired
     @Qualifier("traceDistributor")
     private AbstractRowKeyDistributor rowKeyDistributor;
@@ -100,6 +110,36 @@ public class HbaseTraceDao implements TraceDao {
             throw new NullPointerException("transactionIdList must not be null");
         }
 
+        final List<Get> gets = createAllSpansGetList(transactionIdList);
+        return template2.get(HBaseTables.TRACES, gets, spanMapper);
+    }
+
+    @Override
+    public ListenableFuture<List<List<SpanBo>>> selectAllSpansAsync(Collection<TransactionId> transactionIdList) {
+        if (transactionIdList == null) {
+            throw new NullPointerException("transactionIdList must not be null");
+        }
+
+        final List<Get> gets = createAllSpansGetList(transactionIdList);
+        final List<ListenableFuture<List<List<SpanBo>>>> chunkFutureList = new ArrayList<ListenableFuture<List<List<SpanBo>>>>();
+        for (int from = 0; from < gets.size(); from += ASYNC_GET_CHUNK_SIZE) {
+            final int to = Math.min(from + ASYNC_GET_CHUNK_SIZE, gets.size());
+            chunkFutureList.add(asyncTemplate2.get(HBaseTables.TRACES, gets.subList(from, to), spanMapper));
+        }
+        final int size = gets.size();
+        return new ListenableFutureAdapter<List<List<SpanBo>>, List<List<List<SpanBo>>>>(ListenableFutures.allAsList(chunkFutureList)) {
+            @Override
+            protected List<List<SpanBo>> adapt(List<List<List<SpanBo>>> chunkList) {
+                final List<List<SpanBo>> spanList = new ArrayList<List<SpanBo>>(size);
+                for (List<List<SpanBo>> chunk : chunkList) {
+                    spanList.addAll(chunk);
+                }
+                return spanList;
+            }
+        };
+    }
+
+    private List<Get> createAllSpansGetList(Collection<TransactionId> transactionIdList) {
         final List<Get> gets = new ArrayList<Get>(transactionIdList.size());
         for (TransactionId transactionId : transactionIdList) {
             final byte[] transactionIdBytes = this.rowKeyDistributor.getDistributedKey(transactionId.getBytes());
@@ -108,7 +148,7 @@ public class HbaseTraceDao implements TraceDao {
             get.addFamily(HBaseTables.TRACES_CF_TERMINALSPAN);
             gets.add(get);
         }
-        return template2.get(HBaseTables.TRACES, gets, spanMapper);
+        return gets;
     }
 
     @Override
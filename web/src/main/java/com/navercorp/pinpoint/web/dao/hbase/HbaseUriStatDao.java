@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.Scan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.hadoop.hbase.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.navercorp.pinpoint.common.bo.UriStatBo;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.RowKeyUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.navercorp.pinpoint.web.dao.UriStatDao;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+
+/**
+ * @author agent
+ */
+@Repository
+public class HbaseUriStatDao implements UriStatDao {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Autowired
+    private HbaseOperations2 hbaseOperations2;
+
+    @Autowired
+    @Qualifier("uriStatMapper")
+    private RowMapper<List<UriStatBo>> uriStatMapper;
+
+    @Autowired
+    @Qualifier("agentStatRowKeyDistributor")
+    private AbstractRowKeyDistributor rowKeyDistributor;
+
+    private int scanCacheSize = 64;
+
+    public void setScanCacheSize(int scanCacheSize) {
+        this.scanCacheSize = scanCacheSize;
+    }
+
+    @Override
+    public List<UriStatBo> scanUriStatList(String agentId, Range range) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("scanUriStat : agentId={}, {}", agentId, range);
+        }
+
+        final Scan scan = createScan(agentId, range);
+        final List<List<UriStatBo>> intermediate = hbaseOperations2.find(URI_STAT, scan, rowKeyDistributor, uriStatMapper);
+
+        final List<UriStatBo> merged = new ArrayList<UriStatBo>();
+        for (List<UriStatBo> each : intermediate) {
+            merged.addAll(each);
+        }
+        return merged;
+    }
+
+    /**
+     * FIXME same as HbaseAgentStatDao
+     */
+    private byte[] getRowKey(String agentId, long timestamp) {
+        byte[] bAgentId = BytesUtils.toBytes(agentId);
+        return RowKeyUtils.concatFixedByteAndLong(bAgentId, AGENT_NAME_MAX_LEN, TimeUtils.reverseTimeMillis(timestamp));
+    }
+
+    private Scan createScan(String agentId, Range range) {
+        Scan scan = new Scan();
+        scan.setCaching(this.scanCacheSize);
+
+        byte[] startKey = getRowKey(agentId, range.getFrom());
+        byte[] endKey = getRowKey(agentId, range.getTo());
+
+        // start key is replaced by end key because key has been reversed
+        scan.setStartRow(endKey);
+        scan.setStopRow(startKey);
+        scan.addFamily(URI_STAT_CF_STATISTICS);
+        scan.setId("UriStatScan");
+        return scan;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.Range;
+
+/**
+ * Caches per-minute {@link LinkDataMap} segments of the map statistics tables.
+ * Only closed time slots are cached. Missing closed slots and the open tail
+ * (the last few slots, which the collector may still be writing) are scanned on every request,
+ * and all segments are merged into a single {@link LinkDataMap} of the requested {@link TimeWindow}.
+ *
+ * @author agent
+ */
+public class LinkDataMapSegmentCache {
+
+    public static final long DEFAULT_SLOT_RESOLUTION = 60000;
+
+    public interface SegmentScanner {
+        /**
+         * @param statisticsRange reversed statistics range. (from, to]
+         * @return raw segments keyed by time slot
+         */
+        Map<Long, LinkDataMap> scan(Range statisticsRange);
+    }
+
+    private final Cache<SegmentKey, LinkDataMap> cache;
+    private final long slotResolution;
+    private final long openSlotMillis;
+
+    public LinkDataMapSegmentCache(int maxSize, long openSlotMillis, long expireAfterWriteMillis) {
+        this(maxSize, openSlotMillis, expireAfterWriteMillis, DEFAULT_SLOT_RESOLUTION);
+    }
+
+    public LinkDataMapSegmentCache(int maxSize, long openSlotMillis, long expireAfterWriteMillis, long slotResolution) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("negative maxSize:" + maxSize);
+        }
+        if (openSlotMillis < 0) {
+            throw new IllegalArgumentException("negative openSlotMillis:" + openSlotMillis);
+        }
+        if (expireAfterWriteMillis <= 0) {
+            throw new IllegalArgumentException("invalid expireAfterWriteMillis:" + expireAfterWriteMillis);
+        }
+        if (slotResolution <= 0) {
+            throw new IllegalArgumentException("invalid slotResolution:" + slotResolution);
+        }
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWriteMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.openSlotMillis = openSlotMillis;
+        this.slotResolution = slotResolution;
+    }
+
+    public LinkDataMap select(Application application, Range range, TimeWindow timeWindow, SegmentScanner scanner) {
+        if (application == null) {
+            throw new NullPointerException("application must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (scanner == null) {
+            throw new NullPointerException("scanner must not be null");
+        }
+        final LinkDataMap result = new LinkDataMap(timeWindow);
+
+        final long firstSlot = getTimeSlot(range.getFrom());
+        final long lastSlot = getTimeSlot(range.getTo());
+        // slots equal to or after openSlot may still receive data
+        final long openSlot = getTimeSlot(currentTimeMillis()) - openSlotMillis;
+
+        long slot = firstSlot;
+        long missingFrom = -1;
+        for (; slot <= lastSlot && slot < openSlot; slot += slotResolution) {
+            final LinkDataMap segment = cache.getIfPresent(new SegmentKey(application, slot));
+            if (segment == null) {
+                if (missingFrom == -1) {
+                    missingFrom = slot;
+                }
+                continue;
+            }
+            if (missingFrom != -1) {
+                loadClosedSegments(application, missingFrom, slot - slotResolution, scanner, result);
+                missingFrom = -1;
+            }
+            result.addLinkDataMap(segment);
+        }
+        if (missingFrom != -1) {
+            loadClosedSegments(application, missingFrom, slot - slotResolution, scanner, result);
+        }
+
+        if (slot <= lastSlot) {
+            // open tail. never cached
+            final Map<Long, LinkDataMap> openSegments = scanner.scan(createStatisticsRange(slot, lastSlot));
+            for (LinkDataMap segment : openSegments.values()) {
+                result.addLinkDataMap(segment);
+            }
+        }
+        return result;
+    }
+
+    private void loadClosedSegments(Application application, long fromSlot, long toSlot, SegmentScanner scanner, LinkDataMap result) {
+        final Map<Long, LinkDataMap> segments = scanner.scan(createStatisticsRange(fromSlot, toSlot));
+        if (QueryContextHolder.isTruncated()) {
+            // partially scanned. never cached
+            for (LinkDataMap segment : segments.values()) {
+                result.addLinkDataMap(segment);
+            }
+            return;
+        }
+        for (long slot = fromSlot; slot <= toSlot; slot += slotResolution) {
+            LinkDataMap segment = segments.get(slot);
+            if (segment == null) {
+                // cache empty slots as well so that idle minutes are not scanned again
+                segment = new LinkDataMap();
+            } else {
+                result.addLinkDataMap(segment);
+            }
+            cache.put(new SegmentKey(application, slot), segment);
+        }
+    }
+
+    private Range createStatisticsRange(long fromSlot, long toSlot) {
+        // same as RangeFactory.createStatisticsRange()
+        return Range.createUncheckedRange(fromSlot - 1, toSlot);
+    }
+
+    private long getTimeSlot(long time) {
+        return (time / slotResolution) * slotResolution;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static final class SegmentKey {
+        private final String applicationName;
+        private final short serviceTypeCode;
+        private final long slot;
+
+        private SegmentKey(Application application, long slot) {
+            this.applicationName = application.getName();
+            this.serviceTypeCode = application.getServiceTypeCode();
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            SegmentKey that = (SegmentKey) o;
+
+            if (serviceTypeCode != that.serviceTypeCode) return false;
+            if (slot != that.slot) return false;
+            return applicationName.equals(that.applicationName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = applicationName.hashCode();
+            result = 31 * result + (int) serviceTypeCode;
+            result = 31 * result + (int) (slot ^ (slot >>> 32));
+            return result;
+        }
+    }
+}
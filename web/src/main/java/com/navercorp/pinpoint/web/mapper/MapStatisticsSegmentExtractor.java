@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
+import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.springframework.data.hadoop.hbase.ResultsExtractor;
+import org.springframework.data.hadoop.hbase.RowMapper;
+
+/**
+ * groups mapped map statistics rows by the time slot of their row key.
+ *
+ * @author agent
+ */
+public class MapStatisticsSegmentExtractor implements ResultsExtractor<Map<Long, LinkDataMap>> {
+
+    private final RowMapper<LinkDataMap> rowMapper;
+    private final AbstractRowKeyDistributor rowKeyDistributor;
+
+    public MapStatisticsSegmentExtractor(RowMapper<LinkDataMap> rowMapper, AbstractRowKeyDistributor rowKeyDistributor) {
+        if (rowMapper == null) {
+            throw new NullPointerException("rowMapper must not be null");
+        }
+        if (rowKeyDistributor == null) {
+            throw new NullPointerException("rowKeyDistributor must not be null");
+        }
+        this.rowMapper = rowMapper;
+        this.rowKeyDistributor = rowKeyDistributor;
+    }
+
+    @Override
+    public Map<Long, LinkDataMap> extractData(ResultScanner results) throws Exception {
+        final Map<Long, LinkDataMap> segments = new HashMap<Long, LinkDataMap>();
+        int rowNum = 0;
+        for (Result result : results) {
+            if (!QueryContextHolder.consume(result)) {
+                break;
+            }
+            if (result.isEmpty()) {
+                continue;
+            }
+            final LinkDataMap linkDataMap = rowMapper.mapRow(result, rowNum++);
+
+            final byte[] originalKey = rowKeyDistributor.getOriginalKey(result.getRow());
+            final Long timestamp = ApplicationMapStatisticsUtils.getTimestampFromRowKey(originalKey);
+            final LinkDataMap segment = segments.get(timestamp);
+            if (segment == null) {
+                segments.put(timestamp, linkDataMap);
+            } else {
+                segment.addLinkDataMap(linkDataMap);
+            }
+        }
+        return segments;
+    }
+}
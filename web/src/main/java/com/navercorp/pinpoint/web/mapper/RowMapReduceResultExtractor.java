@@ -9,6 +9,7 @@ import org.springframework.data.hadoop.hbase.ResultsExtractor;
 import org.springframework.data.hadoop.hbase.RowMapper;
 import org.springframework.util.Assert;
 
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.hbase.RowReducer;
 
 public class RowMapReduceResultExtractor<T> implements ResultsExtractor<T>{
@@ -26,6 +27,9 @@ public class RowMapReduceResultExtractor<T> implements ResultsExtractor<T>{
         int rowNum = 0;
         T r = null;
         for (Result result : results) {
+            if (!QueryContextHolder.consume(result)) {
+                break;
+            }
             T map = this.rowMapper.mapRow(result, rowNum++);
             r = rowReducer.reduce(map);
         }
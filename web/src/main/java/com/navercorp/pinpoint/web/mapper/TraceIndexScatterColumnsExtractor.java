@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.springframework.data.hadoop.hbase.ResultsExtractor;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
+
+/**
+ * Decodes application trace index cells directly into {@link ScatterColumns} without creating a {@link com.navercorp.pinpoint.web.vo.scatter.Dot} per cell.
+ *
+ * @author agent
+ */
+public class TraceIndexScatterColumnsExtractor implements ResultsExtractor<ScatterColumns> {
+
+    private final long baseTime;
+    private final int limit;
+
+    public TraceIndexScatterColumnsExtractor(long baseTime, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        this.baseTime = baseTime;
+        this.limit = limit;
+    }
+
+    @Override
+    public ScatterColumns extractData(ResultScanner results) throws Exception {
+        final ScatterColumns columns = new ScatterColumns(baseTime, Math.min(limit + 10, 1024 * 16));
+        for (Result result : results) {
+            if (!QueryContextHolder.consume(result)) {
+                break;
+            }
+            if (result.isEmpty()) {
+                continue;
+            }
+            final Cell[] rawCells = result.rawCells();
+            for (Cell cell : rawCells) {
+                addCell(columns, cell);
+            }
+            // same as LimitRowMapperResultsExtractor. the limit is checked per row
+            if (columns.size() >= limit) {
+                break;
+            }
+        }
+        return columns;
+    }
+
+    private void addCell(ScatterColumns columns, Cell cell) {
+        final Buffer valueBuffer = new OffsetFixedBuffer(cell.getValueArray(), cell.getValueOffset());
+        final int elapsed = valueBuffer.readVarInt();
+        final int exceptionCode = valueBuffer.readSVarInt();
+        final String agentId = valueBuffer.readPrefixedString();
+
+        final long reverseAcceptedTime = BytesUtils.bytesToLong(cell.getRowArray(), cell.getRowOffset() + HBaseTables.APPLICATION_NAME_MAX_LEN + HBaseTables.APPLICATION_TRACE_INDEX_ROW_DISTRIBUTE_SIZE);
+        final long acceptedTime = TimeUtils.recoveryTimeMillis(reverseAcceptedTime);
+
+        // same layout as TransactionIdMapper.parseVarTransactionId
+        final Buffer qualifierBuffer = new OffsetFixedBuffer(cell.getQualifierArray(), cell.getQualifierOffset());
+        final String transactionAgentId = qualifierBuffer.readPrefixedString();
+        final long transactionAgentStartTime = qualifierBuffer.readSVarLong();
+        final long transactionSequence = qualifierBuffer.readVarLong();
+
+        columns.add(transactionAgentId, transactionAgentStartTime, transactionSequence, acceptedTime, elapsed, exceptionCode, agentId);
+    }
+}
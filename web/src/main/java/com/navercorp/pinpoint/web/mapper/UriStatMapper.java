@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper;
+
+import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Result;
+import org.springframework.data.hadoop.hbase.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.navercorp.pinpoint.common.bo.UriStatBo;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+
+/**
+ * @author agent
+ */
+@Component
+public class UriStatMapper implements RowMapper<List<UriStatBo>> {
+
+    @Override
+    public List<UriStatBo> mapRow(Result result, int rowNum) throws Exception {
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final byte[] row = result.getRow();
+        // skip the prefix added by agentStatRowKeyDistributor
+        final String agentId = BytesUtils.toStringAndRightTrim(row, AGENT_STAT_ROW_DISTRIBUTE_SIZE, AGENT_NAME_MAX_LEN);
+
+        final Cell[] rawCells = result.rawCells();
+        final List<UriStatBo> uriStatBoList = new ArrayList<UriStatBo>(rawCells.length);
+        for (Cell cell : rawCells) {
+            if (!CellUtil.matchingFamily(cell, URI_STAT_CF_STATISTICS)) {
+                continue;
+            }
+            final UriStatBo.Builder builder = new UriStatBo.Builder(agentId, cell.getTimestamp(),
+                    cell.getQualifierArray(), cell.getQualifierOffset(), cell.getValueArray(), cell.getValueOffset());
+            uriStatBoList.add(builder.build());
+        }
+        return uriStatBoList;
+    }
+}
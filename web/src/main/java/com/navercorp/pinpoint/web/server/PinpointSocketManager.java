@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.rpc.packet.*;
 import com.navercorp.pinpoint.rpc.server.PinpointServer;
 import com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor;
 import com.navercorp.pinpoint.rpc.server.ServerMessageListener;
+import com.navercorp.pinpoint.web.cluster.ClusterAgentChangeListener;
 import com.navercorp.pinpoint.web.cluster.ClusterManager;
 import com.navercorp.pinpoint.web.cluster.zookeeper.ZookeeperClusterManager;
 import com.navercorp.pinpoint.web.config.WebConfig;
@@ -29,6 +30,7 @@ import com.navercorp.pinpoint.web.vo.AgentInfo;
 import org.apache.zookeeper.KeeperException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -58,6 +60,9 @@ public class PinpointSocketManager {
 
     private ClusterManager clusterManager;
 
+    @Autowired(required = false)
+    private ClusterAgentChangeListener clusterAgentChangeListener;
+
     public PinpointSocketManager(WebConfig config) {
         this.config = config;
         this.serverAcceptor = new PinpointServerAcceptor();
@@ -85,7 +90,7 @@ public class PinpointSocketManager {
             this.serverAcceptor.setMessageListener(new PinpointSocketManagerHandler());
             this.serverAcceptor.bind(representationLocalIp, config.getClusterTcpPort());
 
-            this.clusterManager = new ZookeeperClusterManager(config.getClusterZookeeperAddress(), config.getClusterZookeeperSessionTimeout(), config.getClusterZookeeperRetryInterval());
+            this.clusterManager = new ZookeeperClusterManager(config.getClusterZookeeperAddress(), config.getClusterZookeeperSessionTimeout(), config.getClusterZookeeperRetryInterval(), clusterAgentChangeListener);
 
             // TODO need modification - storing ip list using \r\n as delimiter since json list is not supported natively
             this.clusterManager.registerWebCluster(nodeName, convertIpListToBytes(localIpList, "\r\n"));
@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.service;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import com.navercorp.pinpoint.common.bo.AgentInfoBo;
 import com.navercorp.pinpoint.common.bo.AgentLifeCycleBo;
@@ -53,6 +54,9 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     @Autowired
     private AgentLifeCycleDao agentLifeCycleDao;
 
+    @Autowired
+    private ApplicationAgentInfoCache applicationAgentInfoCache;
+
     @Override
     public ApplicationAgentList getApplicationAgentList(String applicationName, long timestamp) {
         if (applicationName == null) {
@@ -110,23 +114,45 @@ public class AgentInfoServiceImpl implements AgentInfoService {
     }
 
     @Override
-    public Set<AgentInfo> getAgentsByApplicationName(String applicationName, long timestamp) {
+    public Set<AgentInfo> getAgentsByApplicationName(final String applicationName, final long timestamp) {
         if (applicationName == null) {
             throw new NullPointerException("applicationName must not be null");
         }
 
+        if (applicationAgentInfoCache.isCacheable(timestamp)) {
+            return applicationAgentInfoCache.get(applicationName, timestamp, new Callable<Set<AgentInfo>>() {
+                @Override
+                public Set<AgentInfo> call() throws Exception {
+                    return selectAgentsByApplicationName(applicationName, timestamp);
+                }
+            });
+        }
+        return selectAgentsByApplicationName(applicationName, timestamp);
+    }
+
+    private Set<AgentInfo> selectAgentsByApplicationName(String applicationName, long timestamp) {
         List<String> agentIds = this.applicationIndexDao.selectAgentIds(applicationName);
-        Set<AgentInfo> agentSet = new HashSet<AgentInfo>();
-        for (String agentId : agentIds) {
-            // TODO Temporarily scans for the most recent AgentInfo row starting from range's to value.
-            // (As we do not yet have a way to accurately record the agent's lifecycle.)
-            AgentInfoBo agentInfoBo = this.agentInfoDao.getAgentInfo(agentId, timestamp);
+        // TODO Temporarily scans for the most recent AgentInfo row starting from range's to value.
+        // (As we do not yet have a way to accurately record the agent's lifecycle.)
+        // agent infos and life cycles of all agents are each loaded with a single dao call
+        final List<AgentInfoBo> agentInfoBoList = this.agentInfoDao.getAgentInfo(agentIds, timestamp);
+        final List<String> foundAgentIds = new ArrayList<String>(agentIds.size());
+        final List<AgentInfo> foundAgentInfos = new ArrayList<AgentInfo>(agentIds.size());
+        for (int i = 0; i < agentInfoBoList.size(); i++) {
+            AgentInfoBo agentInfoBo = agentInfoBoList.get(i);
             if (agentInfoBo != null) {
-                AgentInfo agentInfo = new AgentInfo(agentInfoBo);
-                agentInfo.setStatus(this.getAgentStatus(agentId, timestamp));
-                agentSet.add(agentInfo);
+                foundAgentIds.add(agentIds.get(i));
+                foundAgentInfos.add(new AgentInfo(agentInfoBo));
             }
         }
+        final List<AgentLifeCycleBo> agentLifeCycleBoList = this.agentLifeCycleDao.getAgentLifeCycle(foundAgentIds, timestamp);
+
+        Set<AgentInfo> agentSet = new HashSet<AgentInfo>();
+        for (int i = 0; i < foundAgentInfos.size(); i++) {
+            AgentInfo agentInfo = foundAgentInfos.get(i);
+            agentInfo.setStatus(createAgentStatus(foundAgentIds.get(i), agentLifeCycleBoList.get(i)));
+            agentSet.add(agentInfo);
+        }
         return agentSet;
     }
 
@@ -156,6 +182,10 @@ public class AgentInfoServiceImpl implements AgentInfoService {
             throw new IllegalArgumentException("timestamp must not be less than 0");
         }
         AgentLifeCycleBo agentLifeCycleBo = this.agentLifeCycleDao.getAgentLifeCycle(agentId, timestamp);
+        return createAgentStatus(agentId, agentLifeCycleBo);
+    }
+
+    private AgentStatus createAgentStatus(String agentId, AgentLifeCycleBo agentLifeCycleBo) {
         if (agentLifeCycleBo == null) {
             AgentStatus agentStatus = new AgentStatus();
             agentStatus.setAgentId(agentId);
@@ -19,6 +19,8 @@
 
 package com.navercorp.pinpoint.web.service;
 
+import com.navercorp.pinpoint.rpc.BatchFuture;
+import com.navercorp.pinpoint.rpc.DefaultFuture;
 import com.navercorp.pinpoint.rpc.Future;
 import com.navercorp.pinpoint.rpc.ResponseMessage;
 import com.navercorp.pinpoint.rpc.server.PinpointServer;
@@ -167,22 +169,46 @@ public class AgentServiceImpl implements AgentService {
     @Override
     public Map<AgentInfo, PinpointRouteResponse> invoke(List<AgentInfo> agentInfoList, byte[] payload, long timeout)
             throws TException {
-        Map<AgentInfo, Future<ResponseMessage>> futureMap = new HashMap<AgentInfo, Future<ResponseMessage>>();
+        // requests routed through the same collector are written together and awaited as one batch
+        Map<PinpointServer, List<AgentInfo>> collectorAgentMap = new HashMap<PinpointServer, List<AgentInfo>>();
+        Map<AgentInfo, PinpointRouteResponse> result = new HashMap<AgentInfo, PinpointRouteResponse>();
         for (AgentInfo agentInfo : agentInfoList) {
-            TCommandTransfer transferObject = createCommandTransferObject(agentInfo, payload);
             PinpointServer collector = pinpointSocketManager.getCollector(agentInfo);
-            Future<ResponseMessage> future = collector.request(serialize(transferObject));
-            futureMap.put(agentInfo, future);
+            if (collector == null) {
+                result.put(agentInfo, new FailedPinpointRouteResponse(TRouteResult.NOT_FOUND, null));
+                continue;
+            }
+            List<AgentInfo> agentList = collectorAgentMap.get(collector);
+            if (agentList == null) {
+                agentList = new ArrayList<AgentInfo>();
+                collectorAgentMap.put(collector, agentList);
+            }
+            agentList.add(agentInfo);
         }
 
         long startTime = System.currentTimeMillis();
 
-        Map<AgentInfo, PinpointRouteResponse> result = new HashMap<AgentInfo, PinpointRouteResponse>();
-        for (Map.Entry<AgentInfo, Future<ResponseMessage>> futureEntry : futureMap.entrySet()) {
-            AgentInfo agentInfo = futureEntry.getKey();
-            Future<ResponseMessage> future = futureEntry.getValue();
-            PinpointRouteResponse response = getResponse(future, getTimeoutMillis(startTime, timeout));
-            result.put(agentInfo, response);
+        Map<PinpointServer, BatchFuture<ResponseMessage>> batchFutureMap = new HashMap<PinpointServer, BatchFuture<ResponseMessage>>();
+        for (Map.Entry<PinpointServer, List<AgentInfo>> entry : collectorAgentMap.entrySet()) {
+            List<AgentInfo> agentList = entry.getValue();
+            List<byte[]> requestList = new ArrayList<byte[]>(agentList.size());
+            for (AgentInfo agentInfo : agentList) {
+                TCommandTransfer transferObject = createCommandTransferObject(agentInfo, payload);
+                requestList.add(serialize(transferObject));
+            }
+            BatchFuture<ResponseMessage> batchFuture = entry.getKey().request(requestList, timeout);
+            batchFutureMap.put(entry.getKey(), batchFuture);
+        }
+
+        for (Map.Entry<PinpointServer, List<AgentInfo>> entry : collectorAgentMap.entrySet()) {
+            List<AgentInfo> agentList = entry.getValue();
+            BatchFuture<ResponseMessage> batchFuture = batchFutureMap.get(entry.getKey());
+            batchFuture.await(getTimeoutMillis(startTime, timeout));
+
+            List<DefaultFuture<ResponseMessage>> futureList = batchFuture.getFutureList();
+            for (int i = 0; i < agentList.size(); i++) {
+                result.put(agentList.get(i), getResponse(futureList.get(i)));
+            }
         }
 
         return result;
@@ -234,8 +260,12 @@ public class AgentServiceImpl implements AgentService {
     }
 
     private PinpointRouteResponse getResponse(Future<ResponseMessage> future, long timeout) {
-        boolean completed = future.await(DEFAULT_FUTURE_TIMEOUT);
-        if (completed) {
+        future.await(timeout);
+        return getResponse(future);
+    }
+
+    private PinpointRouteResponse getResponse(Future<ResponseMessage> future) {
+        if (future.isSuccess()) {
             DefaultPinpointRouteResponse response = new DefaultPinpointRouteResponse(future.getResult().getMessage());
             response.parse(commandDeserializerFactory);
             return response;
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.navercorp.pinpoint.web.cluster.ClusterAgentChangeListener;
+import com.navercorp.pinpoint.web.vo.AgentInfo;
+import com.navercorp.pinpoint.web.vo.AgentStatus;
+
+/**
+ * Caches the agent set of an application loaded at (about) the current time.
+ * Entries are keyed by application and by time slot of expire(ms), so a query only shares the agent set loaded for a timestamp in the same slot.
+ * An entry is dropped after expire(ms), or as soon as the collector cluster reports that an agent of the application connected or disconnected.
+ *
+ * @author agent
+ */
+@Component
+public class ApplicationAgentInfoCache implements ClusterAgentChangeListener {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("#{pinpointWebProps['web.agentinfo.cache.enable'] ?: false}")
+    private boolean enable;
+
+    @Value("#{pinpointWebProps['web.agentinfo.cache.size'] ?: 1000}")
+    private int maxSize;
+
+    @Value("#{pinpointWebProps['web.agentinfo.cache.expire'] ?: 10000}")
+    private long expireMillis;
+
+    private Cache<CacheKey, Set<AgentInfo>> cache;
+
+    public ApplicationAgentInfoCache() {
+    }
+
+    public ApplicationAgentInfoCache(boolean enable, int maxSize, long expireMillis) {
+        this.enable = enable;
+        this.maxSize = maxSize;
+        this.expireMillis = expireMillis;
+        init();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enable) {
+            logger.info("ApplicationAgentInfoCache disabled");
+            return;
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        if (expireMillis <= 0) {
+            throw new IllegalArgumentException("expireMillis must be greater than 0");
+        }
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS)
+                .build();
+        logger.info("ApplicationAgentInfoCache enabled. size:{} expire:{}", maxSize, expireMillis);
+    }
+
+    /**
+     * only a query for a timestamp within expire(ms) of the current time can be answered from the cache.
+     */
+    public boolean isCacheable(long timestamp) {
+        if (cache == null) {
+            return false;
+        }
+        return Math.abs(currentTimeMillis() - timestamp) <= expireMillis;
+    }
+
+    /**
+     * Returns a copy of the agent set cached for the time slot of timestamp.
+     * Concurrent callers for the same application and time slot share a single loader call.
+     */
+    public Set<AgentInfo> get(String applicationName, long timestamp, Callable<Set<AgentInfo>> loader) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (loader == null) {
+            throw new NullPointerException("loader must not be null");
+        }
+        if (cache == null) {
+            throw new IllegalStateException("ApplicationAgentInfoCache disabled");
+        }
+        final CacheKey key = new CacheKey(applicationName, timestamp / expireMillis);
+        try {
+            final Set<AgentInfo> agentSet = cache.get(key, loader);
+            // callers are allowed to modify the returned set and its agents
+            return copyAgentSet(agentSet);
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    public void evict(String applicationName) {
+        if (cache == null) {
+            return;
+        }
+        final Iterator<CacheKey> keys = cache.asMap().keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().applicationName.equals(applicationName)) {
+                keys.remove();
+            }
+        }
+    }
+
+    @Override
+    public void agentChanged(String applicationName, String agentId, long startTimeStamp) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("agentChanged. evict applicationName:{} agentId:{} startTimeStamp:{}", applicationName, agentId, startTimeStamp);
+        }
+        evict(applicationName);
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static Set<AgentInfo> copyAgentSet(Set<AgentInfo> agentSet) {
+        final Set<AgentInfo> copy = new HashSet<AgentInfo>(agentSet.size());
+        for (AgentInfo agentInfo : agentSet) {
+            copy.add(copyAgentInfo(agentInfo));
+        }
+        return copy;
+    }
+
+    private static AgentInfo copyAgentInfo(AgentInfo agentInfo) {
+        final AgentInfo copy = new AgentInfo();
+        copy.setApplicationName(agentInfo.getApplicationName());
+        copy.setAgentId(agentInfo.getAgentId());
+        copy.setStartTimestamp(agentInfo.getStartTimestamp());
+        copy.setHostName(agentInfo.getHostName());
+        copy.setIp(agentInfo.getIp());
+        copy.setPorts(agentInfo.getPorts());
+        copy.setServiceType(agentInfo.getServiceType());
+        copy.setPid(agentInfo.getPid());
+        copy.setVmVersion(agentInfo.getVmVersion());
+        copy.setAgentVersion(agentInfo.getAgentVersion());
+        copy.setServerMetaData(agentInfo.getServerMetaData());
+        copy.setInitialStartTimestamp(agentInfo.getInitialStartTimestamp());
+        copy.setStatus(copyAgentStatus(agentInfo.getStatus()));
+        return copy;
+    }
+
+    private static AgentStatus copyAgentStatus(AgentStatus agentStatus) {
+        if (agentStatus == null) {
+            return null;
+        }
+        final AgentStatus copy = new AgentStatus();
+        copy.setAgentId(agentStatus.getAgentId());
+        copy.setStartTimestamp(agentStatus.getStartTimestamp());
+        copy.setEventTimestamp(agentStatus.getEventTimestamp());
+        copy.setState(agentStatus.getState());
+        return copy;
+    }
+
+    private static final class CacheKey {
+        private final String applicationName;
+        private final long timeSlot;
+
+        private CacheKey(String applicationName, long timeSlot) {
+            this.applicationName = applicationName;
+            this.timeSlot = timeSlot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CacheKey that = (CacheKey) o;
+
+            if (timeSlot != that.timeSlot) return false;
+            return applicationName.equals(that.applicationName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = applicationName.hashCode();
+            result = 31 * result + (int) (timeSlot ^ (timeSlot >>> 32));
+            return result;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.web.service;
 
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.*;
@@ -25,6 +26,7 @@ import com.navercorp.pinpoint.web.dao.MapStatisticsCallerDao;
 import com.navercorp.pinpoint.web.service.map.AcceptApplication;
 import com.navercorp.pinpoint.web.service.map.AcceptApplicationLocalCache;
 import com.navercorp.pinpoint.web.service.map.RpcApplication;
+import com.navercorp.pinpoint.web.util.ListenableFutures;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.LinkKey;
 import com.navercorp.pinpoint.web.vo.Range;
@@ -33,6 +35,7 @@ import com.navercorp.pinpoint.web.vo.SearchOption;
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.*;
 
@@ -43,6 +46,9 @@ import java.util.*;
  */
 public class BFSLinkSelector implements LinkSelector {
 
+    // applications of a depth whose caller/callee statistics are scanned in parallel
+    static final int MAX_PARALLEL_APPLICATION = 8;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
@@ -85,45 +91,97 @@ public class BFSLinkSelector implements LinkSelector {
 
         final LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
 
+        final int size = targetApplicationList.size();
+        for (int from = 0; from < size; from += MAX_PARALLEL_APPLICATION) {
+            final int to = Math.min(from + MAX_PARALLEL_APPLICATION, size);
+            final boolean exhausted = selectLink(targetApplicationList.subList(from, to), range, callerDepth, calleeDepth, searchResult);
+            if (exhausted) {
+                break;
+            }
+        }
+        logger.debug("{} depth search end", callerDepth.getDepth());
+        return searchResult;
+    }
+
+    /**
+     * starts the caller/callee scans of all targetApplicationList at once, then reads the results in order
+     *
+     * @return true if the query budget is exhausted
+     */
+    private boolean selectLink(List<Application> targetApplicationList, Range range, SearchDepth callerDepth, SearchDepth calleeDepth, LinkDataDuplexMap searchResult) {
+        boolean exhausted = false;
+        final List<Application> callerApplicationList = new ArrayList<Application>();
+        final List<ListenableFuture<LinkDataMap>> callerFutureList = new ArrayList<ListenableFuture<LinkDataMap>>();
+        final List<Application> calleeApplicationList = new ArrayList<Application>();
+        final List<ListenableFuture<LinkDataMap>> calleeFutureList = new ArrayList<ListenableFuture<LinkDataMap>>();
         for (Application targetApplication : targetApplicationList) {
+            if (QueryContextHolder.isExhausted()) {
+                logger.info("query budget exhausted. stop link search application:{}", targetApplication);
+                exhausted = true;
+                break;
+            }
             final boolean searchCallerNode = checkNextCaller(targetApplication, callerDepth);
             if (searchCallerNode) {
-                final LinkDataMap caller = mapStatisticsCallerDao.selectCaller(targetApplication, range);
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Found Caller. count={}, caller={}, depth={}", caller.size(), targetApplication, callerDepth.getDepth());
-                }
+                callerApplicationList.add(targetApplication);
+                callerFutureList.add(mapStatisticsCallerDao.selectCallerAsync(targetApplication, range));
+            }
+
+            final boolean searchCalleeNode = checkNextCallee(targetApplication, calleeDepth);
+            if (searchCalleeNode) {
+                calleeApplicationList.add(targetApplication);
+                calleeFutureList.add(mapStatisticsCalleeDao.selectCalleeAsync(targetApplication, range));
+            }
+        }
+
+        final ListenableFuture<List<LinkDataMap>> callerFuture = ListenableFutures.allAsList(callerFutureList);
+        final ListenableFuture<List<LinkDataMap>> calleeFuture = ListenableFutures.allAsList(calleeFutureList);
+        try {
+            final List<LinkDataMap> callerList = ListenableFutures.get(callerFuture);
+            for (int i = 0; i < callerList.size(); i++) {
+                addCaller(callerApplicationList.get(i), callerList.get(i), range, callerDepth, searchResult);
+            }
+            final List<LinkDataMap> calleeList = ListenableFutures.get(calleeFuture);
+            for (int i = 0; i < calleeList.size(); i++) {
+                addCallee(calleeApplicationList.get(i), calleeList.get(i), calleeDepth, searchResult);
+            }
+        } finally {
+            // stops the scans still running if one of them failed
+            callerFuture.cancel(true);
+            calleeFuture.cancel(true);
+        }
+        return exhausted;
+    }
 
-                final LinkDataMap replaceRpcCaller = replaceRpcCaller(caller, range);
+    private void addCaller(Application targetApplication, LinkDataMap caller, Range range, SearchDepth callerDepth, LinkDataDuplexMap searchResult) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found Caller. count={}, caller={}, depth={}", caller.size(), targetApplication, callerDepth.getDepth());
+        }
 
-                for (LinkData link : replaceRpcCaller.getLinkDataList()) {
-                    searchResult.addSourceLinkData(link);
+        final LinkDataMap replaceRpcCaller = replaceRpcCaller(caller, range);
 
-                    final Application toApplication = link.getToApplication();
-                    // skip if nextApplication is a terminal or an unknown cloud
-                    if (toApplication.getServiceType().isTerminal() || toApplication.getServiceType().isUnknown()) {
-                        continue;
-                    }
+        for (LinkData link : replaceRpcCaller.getLinkDataList()) {
+            searchResult.addSourceLinkData(link);
 
-                    addNextNode(toApplication);
-                }
+            final Application toApplication = link.getToApplication();
+            // skip if nextApplication is a terminal or an unknown cloud
+            if (toApplication.getServiceType().isTerminal() || toApplication.getServiceType().isUnknown()) {
+                continue;
             }
 
-            final boolean searchCalleeNode = checkNextCallee(targetApplication, calleeDepth);
-            if (searchCalleeNode) {
-                final LinkDataMap callee = mapStatisticsCalleeDao.selectCallee(targetApplication, range);
-                if (logger.isInfoEnabled()) {
-                    logger.debug("Found Callee. count={}, callee={}, depth={}", callee.size(), targetApplication, calleeDepth.getDepth());
-                }
-                for (LinkData stat : callee.getLinkDataList()) {
-                    searchResult.addTargetLinkData(stat);
+            addNextNode(toApplication);
+        }
+    }
 
-                    final Application fromApplication = stat.getFromApplication();
-                    addNextNode(fromApplication);
-                }
-            }
+    private void addCallee(Application targetApplication, LinkDataMap callee, SearchDepth calleeDepth, LinkDataDuplexMap searchResult) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found Callee. count={}, callee={}, depth={}", callee.size(), targetApplication, calleeDepth.getDepth());
+        }
+        for (LinkData stat : callee.getLinkDataList()) {
+            searchResult.addTargetLinkData(stat);
+
+            final Application fromApplication = stat.getFromApplication();
+            addNextNode(fromApplication);
         }
-        logger.debug("{} depth search end", callerDepth.getDepth());
-        return searchResult;
     }
 
     private void addNextNode(Application sourceApplication) {
@@ -316,6 +374,10 @@ public class BFSLinkSelector implements LinkSelector {
         LinkDataDuplexMap linkDataDuplexMap = new LinkDataDuplexMap();
 
         while (!this.nextQueue.isEmpty()) {
+            if (QueryContextHolder.isExhausted()) {
+                logger.info("query budget exhausted. depth caller:{} callee:{}", callerDepth.getDepth(), calleeDepth.getDepth());
+                break;
+            }
 
             final List<Application> currentNode = this.nextQueue.copyAndClear();
 
@@ -351,6 +413,9 @@ public class BFSLinkSelector implements LinkSelector {
 
         final LinkDataMap calleeLinkData = new LinkDataMap();
         for (Application application : unvisitedList) {
+            if (QueryContextHolder.isExhausted()) {
+                break;
+            }
             LinkDataMap callee = mapStatisticsCalleeDao.selectCallee(application, range);
             logger.debug("calleeNode:{}", callee);
             calleeLinkData.addLinkDataMap(callee);
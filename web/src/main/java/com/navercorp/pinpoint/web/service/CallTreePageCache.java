@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.navercorp.pinpoint.web.vo.TransactionId;
+
+/**
+ * Keeps the aligned call tree of recently paged transactions, so that paging through a large transaction
+ * does not read and align all spans again for every window.
+ * Metadata resolved for a window stays resolved in the cached tree.
+ *
+ * @author agent
+ */
+@Component
+public class CallTreePageCache {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("#{pinpointWebProps['web.calltree.page.cache.size'] ?: 16}")
+    private int maxSize;
+
+    @Value("#{pinpointWebProps['web.calltree.page.cache.expire'] ?: 60000}")
+    private long expireMillis;
+
+    private Cache<String, SpanResult> cache;
+
+    public CallTreePageCache() {
+    }
+
+    public CallTreePageCache(int maxSize, long expireMillis) {
+        this.maxSize = maxSize;
+        this.expireMillis = expireMillis;
+        init();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        if (expireMillis <= 0) {
+            throw new IllegalArgumentException("expireMillis must be greater than 0");
+        }
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireMillis, TimeUnit.MILLISECONDS)
+                .build();
+        logger.info("CallTreePageCache size:{} expire:{}", maxSize, expireMillis);
+    }
+
+    /**
+     * Concurrent callers for the same transaction share a single loader call.
+     */
+    public SpanResult get(TransactionId transactionId, long focusTimestamp, Callable<SpanResult> loader) {
+        if (transactionId == null) {
+            throw new NullPointerException("transactionId must not be null");
+        }
+        if (loader == null) {
+            throw new NullPointerException("loader must not be null");
+        }
+        // the alignment depends on the focused span.
+        final String key = transactionId.getFormatString() + "^" + focusTimestamp;
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+}
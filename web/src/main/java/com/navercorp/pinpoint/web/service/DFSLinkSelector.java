@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.web.service;
 
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.*;
@@ -79,6 +80,10 @@ public class DFSLinkSelector implements LinkSelector {
      * @return
      */
     private LinkDataDuplexMap selectCaller(Application callerApplication, Range range, SearchDepth searchDepth) {
+        if (QueryContextHolder.isExhausted()) {
+            logger.debug("query budget exhausted. skip caller:{}", callerApplication);
+            return new LinkDataDuplexMap();
+        }
         // skip if the callerApplication has already been checked
         if (linkVisitChecker.visitCaller(callerApplication)) {
             return new LinkDataDuplexMap();
@@ -138,6 +143,10 @@ public class DFSLinkSelector implements LinkSelector {
      * @return
      */
     private LinkDataDuplexMap selectCallee(Application calleeApplication, Range range, SearchDepth searchDepth) {
+        if (QueryContextHolder.isExhausted()) {
+            logger.debug("query budget exhausted. skip callee:{}", calleeApplication);
+            return new LinkDataDuplexMap();
+        }
         // skip if the calleeApplication has already been checked
         if (linkVisitChecker.visitCallee(calleeApplication)) {
             return new LinkDataDuplexMap();
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.bo.SpanBo;
 import com.navercorp.pinpoint.common.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.service.ServiceTypeRegistryService;
 import com.navercorp.pinpoint.common.trace.HistogramSchema;
 import com.navercorp.pinpoint.common.trace.HistogramSlot;
@@ -29,6 +30,7 @@ import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.filter.Filter;
+import com.navercorp.pinpoint.web.util.ListenableFutures;
 import com.navercorp.pinpoint.web.util.TimeWindow;
 import com.navercorp.pinpoint.web.util.TimeWindowDownSampler;
 import com.navercorp.pinpoint.web.vo.*;
@@ -201,6 +203,7 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         final List<List<SpanBo>> filterList = selectFilteredSpan(transactionIdList, filter);
 
         ApplicationMap map = createMap(originalRange, scanRange, filterList);
+        map.setTruncated(QueryContextHolder.isTruncated());
 
         watch.stop();
         logger.debug("Select filtered application map elapsed. {}ms", watch.getTotalTimeMillis());
@@ -214,7 +217,8 @@ public class FilteredMapServiceImpl implements FilteredMapService {
         final Collection<TransactionId> recursiveFilterList = recursiveCallFilter(transactionIdList);
 
         // FIXME might be better to simply traverse the List<Span> and create a process chain for execution
-        final List<List<SpanBo>> originalList = this.traceDao.selectAllSpans(recursiveFilterList);
+        // the multi get is split and fetched in parallel
+        final List<List<SpanBo>> originalList = ListenableFutures.get(this.traceDao.selectAllSpansAsync(recursiveFilterList));
 
         return filterList2(originalList, filter);
     }
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.web.service;
 
 import java.util.*;
 
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMap;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapBuilder;
@@ -88,6 +89,7 @@ public class MapServiceImpl implements MapService {
         if (map.getNodes().isEmpty()) {
             map = builder.build(sourceApplication, agentInfoService);
         }
+        map.setTruncated(QueryContextHolder.isTruncated());
         watch.stop();
         if (logger.isInfoEnabled()) {
             logger.info("ApplicationMap BuildTime: {}", watch.prettyPrint());
@@ -23,10 +23,13 @@ import com.navercorp.pinpoint.web.vo.SelectedScatterArea;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 import com.navercorp.pinpoint.web.vo.TransactionMetadataQuery;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
 
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.util.concurrent.ListenableFuture;
+
 public interface ScatterChartService {
 
     /**
@@ -49,6 +52,26 @@ public interface ScatterChartService {
      */
     List<Dot> selectScatterData(String applicationName, Range range, int limit);
 
+    /**
+     * Queries for data using time range. result is packed into columns.
+     *
+     * @param applicationName
+     * @param range
+     * @param limit
+     * @return
+     */
+    ScatterColumns selectScatterColumns(String applicationName, Range range, int limit);
+
+    /**
+     * non-blocking {@link #selectScatterData(String, Range, int)}
+     */
+    ListenableFuture<List<Dot>> selectScatterDataAsync(String applicationName, Range range, int limit);
+
+    /**
+     * non-blocking {@link #selectScatterColumns(String, Range, int)}
+     */
+    ListenableFuture<ScatterColumns> selectScatterColumnsAsync(String applicationName, Range range, int limit);
+
     /**
      * @param applicationName
      * @param area
@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.web.service;
 
+import java.util.List;
+
+import com.navercorp.pinpoint.web.calltree.span.SpanAlign;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 
 /**
@@ -23,4 +26,15 @@ import com.navercorp.pinpoint.web.vo.TransactionId;
  */
 public interface SpanService {
     SpanResult selectSpan(TransactionId transactionId, long selectedSpanHint);
+
+    /**
+     * aligns the spans into a call tree without looking up api/sql/string metadata.
+     * the metadata of the part of the tree to be shown is looked up later with {@link #resolveMetaData(List)}.
+     */
+    SpanResult selectSpanWithoutMetaData(TransactionId transactionId, long selectedSpanHint);
+
+    /**
+     * looks up the metadata of the given SpanAligns. already resolved SpanAligns are skipped.
+     */
+    void resolveMetaData(List<SpanAlign> spanAlignList);
 }
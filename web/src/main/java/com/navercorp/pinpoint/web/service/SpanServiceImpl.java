@@ -68,6 +68,17 @@ public class SpanServiceImpl implements SpanService {
 
     @Override
     public SpanResult selectSpan(TransactionId transactionId, long selectedSpanHint) {
+        final SpanResult result = selectSpanWithoutMetaData(transactionId, selectedSpanHint);
+        final CallTreeIterator callTreeIterator = result.getCallTree();
+        final List<SpanAlign> values = callTreeIterator.values();
+        
+        resolveMetaData(values);
+        // TODO need to at least show the row data when root span is not found. 
+        return result;
+    }
+
+    @Override
+    public SpanResult selectSpanWithoutMetaData(TransactionId transactionId, long selectedSpanHint) {
         if (transactionId == null) {
             throw new NullPointerException("transactionId must not be null");
         }
@@ -77,16 +88,31 @@ public class SpanServiceImpl implements SpanService {
             return new SpanResult(SpanAligner2.FAIL_MATCH, new CallTreeIterator(null));
         }
 
-        final SpanResult result = order(spans, selectedSpanHint);
-        final CallTreeIterator callTreeIterator = result.getCallTree();
-        final List<SpanAlign> values = callTreeIterator.values();
-        
-        transitionDynamicApiId(values);
-        transitionSqlId(values);
-        transitionCachedString(values);
-        transitionException(values);
-        // TODO need to at least show the row data when root span is not found. 
-        return result;
+        return order(spans, selectedSpanHint);
+    }
+
+    @Override
+    public void resolveMetaData(List<SpanAlign> spanAlignList) {
+        if (spanAlignList == null) {
+            throw new NullPointerException("spanAlignList must not be null");
+        }
+
+        // the transitions append annotations. resolving a SpanAlign twice would duplicate them.
+        final List<SpanAlign> unresolved = new ArrayList<SpanAlign>(spanAlignList.size());
+        for (SpanAlign spanAlign : spanAlignList) {
+            if (!spanAlign.isMetaDataResolved()) {
+                spanAlign.setMetaDataResolved(true);
+                unresolved.add(spanAlign);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        transitionDynamicApiId(unresolved);
+        transitionSqlId(unresolved);
+        transitionCachedString(unresolved);
+        transitionException(unresolved);
     }
 
 
@@ -286,17 +312,20 @@ public class SpanServiceImpl implements SpanService {
                         api.setKey(AnnotationKey.ERROR_API_METADATA_NOT_FOUND.getCode());
                         api.setValue("CACHED-STRING-ID not found. stringId:" + cachedArgsKey);
                         annotationBoList.add(api);
-                    } else if (size >= 1) {
-                        // key collision shouldn't really happen (probability too low)
+                    } else if (size == 1) {
                         StringMetaDataBo stringMetaDataBo = stringMetaList.get(0);
 
                         AnnotationBo stringMetaData = new AnnotationBo();
                         stringMetaData.setKey(AnnotationKey.cachedArgsToArgs(cachedArgsKey));
                         stringMetaData.setValue(stringMetaDataBo.getStringValue());
                         annotationBoList.add(stringMetaData);
-                        if (size > 1) {
-                            logger.warn("stringMetaData size not 1 :{}", stringMetaList);
-                        }
+                    } else {
+                        // content hash ids(profiler.metadata.hashid) can collide
+                        logger.warn("stringMetaData size not 1 :{}", stringMetaList);
+                        AnnotationBo stringMetaData = new AnnotationBo();
+                        stringMetaData.setKey(AnnotationKey.cachedArgsToArgs(cachedArgsKey));
+                        stringMetaData.setValue(collisionStringIdMessage(stringMetaDataId, stringMetaList));
+                        annotationBoList.add(stringMetaData);
                     }
                 }
             }
@@ -347,10 +376,27 @@ public class SpanServiceImpl implements SpanService {
             return metaDataList.get(0);
         } else {
             logger.warn("stringMetaData size not 1 :{}", metaDataList);
-            return metaDataList.get(0);
+            StringMetaDataBo stringMetaDataBo = new StringMetaDataBo(agentId, agentStartTime, cacheId);
+            stringMetaDataBo.setStringValue(collisionStringIdMessage(cacheId, metaDataList));
+            return stringMetaDataBo;
         }
     }
 
+    private String collisionStringIdMessage(int stringId, List<StringMetaDataBo> stringMetaDataList) {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("Collision String id:");
+        sb.append(stringId);
+        sb.append('\n');
+        for (int i = 0; i < stringMetaDataList.size(); i++) {
+            if (i != 0) {
+                sb.append("or\n");
+            }
+            StringMetaDataBo stringMetaDataBo = stringMetaDataList.get(i);
+            sb.append(stringMetaDataBo.getStringValue());
+        }
+        return sb.toString();
+    }
+
     private int getApiId(SpanAlign spanAlign) {
         if (spanAlign.isSpan()) {
             return spanAlign.getSpanBo().getApiId();
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.vo.BusinessTransactions;
 import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.TransactionId;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordPage;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 
 /**
@@ -31,5 +32,12 @@ import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 public interface TransactionInfoService {
     RecordSet createRecordSet(CallTreeIterator callTreeIterator, long focusTimestamp);
 
+    /**
+     * creates the records of the nodes [offset, offset + limit) of the call tree only.
+     * metadata is looked up for those nodes only.
+     * @return null if the transaction is not found
+     */
+    RecordPage selectRecordPage(TransactionId transactionId, long focusTimestamp, int offset, int limit);
+
     BusinessTransactions selectBusinessTransactions(List<TransactionId> traceIds, String applicationName, Range range, Filter filter);
 }
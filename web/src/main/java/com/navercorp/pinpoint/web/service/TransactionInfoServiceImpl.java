@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.web.service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 import com.navercorp.pinpoint.common.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.bo.Span;
@@ -38,6 +39,7 @@ import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.TransactionId;
 import com.navercorp.pinpoint.web.vo.callstacks.Record;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordFactory;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordPage;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 
 import org.slf4j.Logger;
@@ -66,6 +68,12 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
     @Autowired
     private AnnotationKeyRegistryService annotationKeyRegistryService;
 
+    @Autowired
+    private SpanService spanService;
+
+    @Autowired
+    private CallTreePageCache callTreePageCache;
+
     // Temporarily disabled Because We need to solve authentication problem inter system.
     // @Value("#{pinpointWebProps['log.enable'] ?: false}")
     // private boolean logLinkEnable;
@@ -123,9 +131,87 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
             throw new NullPointerException("callTreeIterator must not be null");
         }
 
-        RecordSet recordSet = new RecordSet();
         final List<SpanAlign> spanAlignList = callTreeIterator.values();
+        final RecordSet recordSet = new RecordSet();
+        final SpanBo focusTimeSpanBo = populateRecordSetHeader(recordSet, spanAlignList, focusTimestamp);
+
+        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator);
+        logger.debug("RecordList:{}", recordList);
+
+        if (focusTimeSpanBo != null) {
+            // mark the record to be used as focus
+            long beginTimeStamp = focusTimeSpanBo.getStartTime();
+            markFocusRecord(recordList, beginTimeStamp);
+            recordSet.setBeginTimestamp(beginTimeStamp);
+        }
+
+        recordSet.setRecordList(recordList);
+
+        return recordSet;
+    }
+
+    @Override
+    public RecordPage selectRecordPage(final TransactionId transactionId, final long focusTimestamp, int offset, int limit) {
+        if (transactionId == null) {
+            throw new NullPointerException("transactionId must not be null");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("negative offset:" + offset);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0. limit:" + limit);
+        }
+
+        final SpanResult spanResult = callTreePageCache.get(transactionId, focusTimestamp, new Callable<SpanResult>() {
+            @Override
+            public SpanResult call() throws Exception {
+                final SpanResult spanResult = spanService.selectSpanWithoutMetaData(transactionId, focusTimestamp);
+                // record ids must not depend on the window. the parent of a node may be outside of it.
+                final CallTreeIterator callTreeIterator = spanResult.getCallTree();
+                for (int i = 0; i < callTreeIterator.size(); i++) {
+                    callTreeIterator.get(i).getValue().setId(RecordPage.getNodeRecordId(i));
+                }
+                return spanResult;
+            }
+        });
+        final CallTreeIterator callTreeIterator = spanResult.getCallTree();
+        if (callTreeIterator.isEmpty()) {
+            return null;
+        }
+
+        final int nodeCount = callTreeIterator.size();
+        final int fromIndex = Math.min(offset, nodeCount);
+        final int toIndex = (int) Math.min((long) fromIndex + limit, nodeCount);
+
+        // the cached tree is shared by concurrent requests for the same transaction.
+        synchronized (spanResult) {
+            spanService.resolveMetaData(callTreeIterator.values(fromIndex, toIndex));
+
+            final RecordSet recordSet = new RecordSet();
+            final SpanBo focusTimeSpanBo = populateRecordSetHeader(recordSet, callTreeIterator.values(), focusTimestamp);
+
+            final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+            final List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator, fromIndex, toIndex);
+            if (focusTimeSpanBo != null) {
+                long beginTimeStamp = focusTimeSpanBo.getStartTime();
+                markFocusRecord(recordList, beginTimeStamp);
+                recordSet.setBeginTimestamp(beginTimeStamp);
+            }
+            recordSet.setRecordList(recordList);
+
+            final int[] subtreeSize = new int[toIndex - fromIndex];
+            for (int i = fromIndex; i < toIndex; i++) {
+                subtreeSize[i - fromIndex] = callTreeIterator.getSubtreeSize(i);
+            }
+            return new RecordPage(fromIndex, nodeCount, subtreeSize, spanResult.getCompleteTypeString(), recordSet);
+        }
+    }
 
+    /**
+     * @return focused span. null if not found
+     */
+    private SpanBo populateRecordSetHeader(RecordSet recordSet, List<SpanAlign> spanAlignList, long focusTimestamp) {
         // finds and marks the focusTimestamp.
         // focusTimestamp is needed to determine which span to use as reference when there are more than 2 spans making up a transaction.
         // for cases where focus cannot be found due to an error, a separate marker is needed.
@@ -150,20 +236,7 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
         
         recordSet.setLoggingTransactionInfo(findIsLoggingTransactionInfo(spanAlignList));
 
-        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
-        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator);
-        logger.debug("RecordList:{}", recordList);
-
-        if (focusTimeSpanBo != null) {
-            // mark the record to be used as focus
-            long beginTimeStamp = focusTimeSpanBo.getStartTime();
-            markFocusRecord(recordList, beginTimeStamp);
-            recordSet.setBeginTimestamp(beginTimeStamp);
-        }
-
-        recordSet.setRecordList(recordList);
-
-        return recordSet;
+        return focusTimeSpanBo;
     }
 
     private boolean findIsLoggingTransactionInfo(List<SpanAlign> spanAlignList) {
@@ -357,33 +430,72 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
                     logger.warn("Corrupt CallTree found : {}", callTreeIterator.toString());
                     throw new IllegalStateException("CallTree corrupted");
                 }
-                final SpanAlign align = node.getValue();
-                final String argument = getArgument(align);
-                final Record record = factory.get(node, argument);
-                recordList.add(record);
-
-                // add exception record.
-                if(align.hasException()) {
-                    final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
-                    if(exceptionRecord != null) {
-                        recordList.add(exceptionRecord);
-                    }
-                }
-                
-                // add annotation record.
-                if(align.getAnnotationBoList().size() > 0) {
-                    final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
-                    recordList.addAll(annotations);
-                }
-                
-                // add remote record.(span only)
-                if (align.getRemoteAddr() != null) {
-                    final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
-                    recordList.add(remoteAddressRecord);
+                addRecord(recordList, factory, node);
+            }
+
+            return recordList;
+        }
+
+        /**
+         * creates the records of the nodes [fromIndex, toIndex) only. record ids are derived from the node index.
+         */
+        private List<Record> populateSpanRecord(CallTreeIterator callTreeIterator, int fromIndex, int toIndex) {
+            if (callTreeIterator == null) {
+                throw new NullPointerException("callTreeIterator must not be null");
+            }
+
+            final List<Record> recordList = new ArrayList<Record>((toIndex - fromIndex) * 2);
+            final RecordFactory factory = new RecordFactory(registry, annotationKeyRegistryService);
+
+            for (int i = fromIndex; i < toIndex; i++) {
+                final int nodeRecordId = RecordPage.getNodeRecordId(i);
+                factory.setNextId(nodeRecordId);
+                final int recordIndex = recordList.size();
+                addRecord(recordList, factory, callTreeIterator.get(i));
+
+                final int recordCount = recordList.size() - recordIndex;
+                if (recordCount > RecordPage.RECORD_ID_STRIDE) {
+                    // the ids of the remaining records would collide with the next node.
+                    // the last id of the node is replaced by a marker so the cut is visible.
+                    logger.warn("too many records. nodeIndex:{} recordCount:{}", i, recordCount);
+                    final Record nodeRecord = recordList.get(recordIndex);
+                    final int keepCount = RecordPage.RECORD_ID_STRIDE - 1;
+                    recordList.subList(recordIndex + keepCount, recordList.size()).clear();
+
+                    factory.setNextId(nodeRecordId + keepCount);
+                    final int omittedCount = recordCount - keepCount;
+                    recordList.add(factory.getParameter(nodeRecord.getTab() + 1, nodeRecord.getId(), RecordPage.TRUNCATED_RECORD_TITLE, omittedCount + " records omitted"));
                 }
             }
 
             return recordList;
         }
+
+        private void addRecord(List<Record> recordList, RecordFactory factory, CallTreeNode node) {
+            final SpanAlign align = node.getValue();
+            final String argument = getArgument(align);
+            final Record record = factory.get(node, argument);
+            recordList.add(record);
+
+            // add exception record.
+            if(align.hasException()) {
+                final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
+                if(exceptionRecord != null) {
+                    recordList.add(exceptionRecord);
+                }
+            }
+            
+            // add annotation record.
+            if(align.getAnnotationBoList().size() > 0) {
+                final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
+                recordList.addAll(annotations);
+            }
+            
+            // add remote record.(span only)
+            if (align.getRemoteAddr() != null) {
+                final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
+                recordList.add(remoteAddressRecord);
+            }
+        }
     }
 }
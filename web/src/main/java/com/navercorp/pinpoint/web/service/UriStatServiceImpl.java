@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.navercorp.pinpoint.common.bo.UriStatBo;
+import com.navercorp.pinpoint.web.dao.UriStatDao;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.UriStatSummary;
+
+/**
+ * @author agent
+ */
+@Service
+public class UriStatServiceImpl implements UriStatService {
+
+    private static final Comparator<UriStatSummary> COUNT_DESC = new Comparator<UriStatSummary>() {
+        @Override
+        public int compare(UriStatSummary o1, UriStatSummary o2) {
+            final long count1 = o1.getCount();
+            final long count2 = o2.getCount();
+            return count1 > count2 ? -1 : (count1 == count2 ? 0 : 1);
+        }
+    };
+
+    @Autowired
+    private UriStatDao uriStatDao;
+
+    @Override
+    public List<UriStatSummary> selectUriStatSummaryList(String agentId, Range range) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        final List<UriStatBo> uriStatBoList = uriStatDao.scanUriStatList(agentId, range);
+        return merge(uriStatBoList);
+    }
+
+    List<UriStatSummary> merge(List<UriStatBo> uriStatBoList) {
+        final Map<String, UriStatSummary> summaryMap = new HashMap<String, UriStatSummary>();
+        for (UriStatBo uriStatBo : uriStatBoList) {
+            final String key = uriStatBo.getUri() + "^" + uriStatBo.getApiId() + "^" + uriStatBo.getStatus();
+            UriStatSummary summary = summaryMap.get(key);
+            if (summary == null) {
+                summary = new UriStatSummary(uriStatBo.getUri(), uriStatBo.getApiId(), uriStatBo.getStatus());
+                summaryMap.put(key, summary);
+            }
+            summary.add(uriStatBo.getHistogram(), uriStatBo.getTotalElapsed(), uriStatBo.getMaxElapsed());
+        }
+        final List<UriStatSummary> result = new ArrayList<UriStatSummary>(summaryMap.values());
+        Collections.sort(result, COUNT_DESC);
+        return result;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.ListenableFutureTask;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.navercorp.pinpoint.common.hbase.QueryContext;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+
+/**
+ * runs heavy queries on a bounded pool and returns a Servlet 3 async result so that the request thread is released immediately.
+ * each query runs with a {@link QueryContext}. once its deadline or row/byte budget is exhausted, or the client goes away,
+ * scans stop and the partial result is returned marked as truncated.
+ * the query thread is interrupted only if it has not finished within a grace period after the deadline.
+ * the grace period is enforced by this executor, the async timeout of the servlet container is only a fallback.
+ * every query has a deadline(web.query.timeout, 30 seconds by default). a query still running at deadline + grace period
+ * completes its DeferredResult with a {@link QueryTimeoutException}(504).
+ * <p>
+ * {@link #execute(Callable)} runs a blocking query on a pool thread of this executor.
+ * {@link #executeAsync(AsyncQuery)} starts a query made of non-blocking dao calls on the request thread
+ * and completes the DeferredResult from the callback of its future, so no thread waits for the result.
+ * the hbase calls of those daos run on the pool of {@link com.navercorp.pinpoint.common.hbase.AsyncHbaseOperations2}.
+ *
+ * @author agent
+ */
+@Component
+public class DeferredQueryExecutor implements DisposableBean {
+
+    // time left to build and write a partial result after the query deadline
+    private static final long DEFAULT_RESPONSE_GRACE_MILLIS = 5000;
+
+    static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("#{pinpointWebProps['web.query.async.poolsize'] ?: 32}")
+    private int poolSize;
+
+    @Value("#{pinpointWebProps['web.query.async.queuesize'] ?: 64}")
+    private int queueSize;
+
+    @Value("#{pinpointWebProps['web.query.timeout'] ?: " + DEFAULT_TIMEOUT_MILLIS + "}")
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    @Value("#{pinpointWebProps['web.query.budget.rows'] ?: 10000000}")
+    private long maxRows;
+
+    @Value("#{pinpointWebProps['web.query.budget.bytes'] ?: 1073741824}")
+    private long maxBytes;
+
+    private long responseGraceMillis = DEFAULT_RESPONSE_GRACE_MILLIS;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService timeoutScheduler;
+
+    public DeferredQueryExecutor() {
+    }
+
+    DeferredQueryExecutor(int poolSize, int queueSize, long timeoutMillis, long responseGraceMillis) {
+        this.poolSize = poolSize;
+        this.queueSize = queueSize;
+        this.timeoutMillis = timeoutMillis;
+        this.responseGraceMillis = responseGraceMillis;
+        this.maxRows = Long.MAX_VALUE;
+        this.maxBytes = Long.MAX_VALUE;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("web.query.async.poolsize must be greater than 0");
+        }
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("web.query.async.queuesize must be greater than 0");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("web.query.timeout must be greater than 0");
+        }
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new PinpointThreadFactory("Pinpoint-web-query", true));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-web-query-timeout", true));
+        logger.info("DeferredQueryExecutor started. poolSize:{}, queueSize:{}, timeout:{}ms, maxRows:{}, maxBytes:{}", poolSize, queueSize, timeoutMillis, maxRows, maxBytes);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * a query made of non-blocking dao calls.
+     */
+    public interface AsyncQuery<T> {
+        /**
+         * called on the request thread with queryContext bound to it, so that the dao calls started here run with its budget.
+         * the queryContext may not be bound to the thread completing the future: read the truncated flag from the argument.
+         */
+        ListenableFuture<T> call(QueryContext queryContext) throws Exception;
+    }
+
+    public <T> DeferredResult<T> executeAsync(final AsyncQuery<T> query) {
+        if (query == null) {
+            throw new NullPointerException("query must not be null");
+        }
+        final QueryContext queryContext = new QueryContext(timeoutMillis, maxRows, maxBytes);
+        final long responseTimeoutMillis = timeoutMillis + responseGraceMillis;
+        final DeferredResult<T> deferredResult = new DeferredResult<T>(responseTimeoutMillis);
+
+        final ListenableFuture<T> future;
+        QueryContextHolder.setContext(queryContext);
+        try {
+            future = query.call(queryContext);
+        } catch (Exception e) {
+            deferredResult.setErrorResult(e);
+            return deferredResult;
+        } finally {
+            QueryContextHolder.resetContext();
+        }
+
+        final Runnable timeoutHandler = new Runnable() {
+            @Override
+            public void run() {
+                if (deferredResult.isSetOrExpired()) {
+                    return;
+                }
+                logger.warn("async query timeout. {}ms {}", timeoutMillis, queryContext);
+                queryContext.cancel();
+                future.cancel(true);
+                deferredResult.setErrorResult(new QueryTimeoutException("query timeout. " + timeoutMillis + "ms"));
+            }
+        };
+        final ScheduledFuture<?> timeoutFuture = scheduleTimeout(timeoutHandler, responseTimeoutMillis);
+        future.addCallback(new ListenableFutureCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                cancelTimeout(timeoutFuture);
+                if (queryContext.isTruncated()) {
+                    logger.info("async query truncated. {}", queryContext);
+                }
+                deferredResult.setResult(result);
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                cancelTimeout(timeoutFuture);
+                if (ex instanceof CancellationException) {
+                    // cancelled at the deadline of the hbase call. no-op if the result is already set
+                    deferredResult.setErrorResult(new QueryTimeoutException("query timeout. " + timeoutMillis + "ms"));
+                    return;
+                }
+                deferredResult.setErrorResult(ex);
+            }
+        });
+        deferredResult.onTimeout(timeoutHandler);
+        // client disconnected or response already written
+        deferredResult.onCompletion(new Runnable() {
+            @Override
+            public void run() {
+                cancelTimeout(timeoutFuture);
+                queryContext.cancel();
+                future.cancel(true);
+            }
+        });
+        return deferredResult;
+    }
+
+    public <T> DeferredResult<T> execute(final Callable<T> query) {
+        if (query == null) {
+            throw new NullPointerException("query must not be null");
+        }
+        final QueryContext queryContext = new QueryContext(timeoutMillis, maxRows, maxBytes);
+        final long responseTimeoutMillis = timeoutMillis + responseGraceMillis;
+        final DeferredResult<T> deferredResult = new DeferredResult<T>(responseTimeoutMillis);
+        final ListenableFutureTask<T> task = new ListenableFutureTask<T>(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                QueryContextHolder.setContext(queryContext);
+                try {
+                    return query.call();
+                } finally {
+                    QueryContextHolder.resetContext();
+                    if (queryContext.isTruncated()) {
+                        logger.info("query truncated. {}", queryContext);
+                    }
+                }
+            }
+        });
+        final Runnable timeoutHandler = new Runnable() {
+            @Override
+            public void run() {
+                if (deferredResult.isSetOrExpired()) {
+                    return;
+                }
+                logger.warn("query timeout. {}ms {}", timeoutMillis, queryContext);
+                queryContext.cancel();
+                task.cancel(true);
+                deferredResult.setErrorResult(new QueryTimeoutException("query timeout. " + timeoutMillis + "ms"));
+            }
+        };
+        final ScheduledFuture<?> timeoutFuture = scheduleTimeout(timeoutHandler, responseTimeoutMillis);
+        task.addCallback(new ListenableFutureCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                cancelTimeout(timeoutFuture);
+                deferredResult.setResult(result);
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                if (task.isCancelled()) {
+                    // cancelled by the timeout handler or on completion
+                    return;
+                }
+                cancelTimeout(timeoutFuture);
+                if (ex instanceof CancellationException) {
+                    // an asynchronous hbase call waited for by the query was cancelled at its deadline
+                    deferredResult.setErrorResult(new QueryTimeoutException("query timeout. " + timeoutMillis + "ms"));
+                    return;
+                }
+                deferredResult.setErrorResult(ex);
+            }
+        });
+        deferredResult.onTimeout(timeoutHandler);
+        // client disconnected or response already written
+        deferredResult.onCompletion(new Runnable() {
+            @Override
+            public void run() {
+                cancelTimeout(timeoutFuture);
+                queryContext.cancel();
+                task.cancel(true);
+            }
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            cancelTimeout(timeoutFuture);
+            logger.warn("query rejected. active:{} queued:{}", executor.getActiveCount(), executor.getQueue().size());
+            deferredResult.setErrorResult(new RejectedExecutionException("too many concurrent queries. try again later"));
+        }
+        return deferredResult;
+    }
+
+    private ScheduledFuture<?> scheduleTimeout(Runnable timeoutHandler, long responseTimeoutMillis) {
+        return timeoutScheduler.schedule(timeoutHandler, responseTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelTimeout(ScheduledFuture<?> timeoutFuture) {
+        timeoutFuture.cancel(false);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor == null) {
+            return;
+        }
+        timeoutScheduler.shutdownNow();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
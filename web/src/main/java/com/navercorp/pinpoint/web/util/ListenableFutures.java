@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * composition of spring {@link ListenableFuture}s returned by the asynchronous daos.
+ * cancelling a composed future cancels the futures it is made of, which interrupts their hbase calls.
+ *
+ * @author agent
+ */
+public final class ListenableFutures {
+
+    private ListenableFutures() {
+    }
+
+    public interface AsyncFunction<S, T> {
+        ListenableFuture<T> apply(S input) throws Exception;
+    }
+
+    public static <T> ListenableFuture<T> immediate(T value) {
+        final SettableListenableFuture<T> future = new SettableListenableFuture<T>();
+        future.set(value);
+        return future;
+    }
+
+    /**
+     * @return the results in the order of futures. fails with the first failure and cancels the other futures
+     */
+    public static <T> ListenableFuture<List<T>> allAsList(final List<ListenableFuture<T>> futures) {
+        if (futures == null) {
+            throw new NullPointerException("futures must not be null");
+        }
+        final int size = futures.size();
+        if (size == 0) {
+            return immediate(Collections.<T>emptyList());
+        }
+        final AtomicReferenceArray<T> values = new AtomicReferenceArray<T>(size);
+        final AtomicInteger remaining = new AtomicInteger(size);
+        final SettableListenableFuture<List<T>> result = new SettableListenableFuture<List<T>>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                final boolean cancelled = super.cancel(mayInterruptIfRunning);
+                cancelAll(futures, mayInterruptIfRunning);
+                return cancelled;
+            }
+        };
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            futures.get(i).addCallback(new ListenableFutureCallback<T>() {
+                @Override
+                public void onSuccess(T value) {
+                    values.set(index, value);
+                    if (remaining.decrementAndGet() == 0) {
+                        final List<T> list = new ArrayList<T>(size);
+                        for (int j = 0; j < size; j++) {
+                            list.add(values.get(j));
+                        }
+                        result.set(list);
+                    }
+                }
+
+                @Override
+                public void onFailure(Throwable ex) {
+                    if (result.setException(ex)) {
+                        cancelAll(futures, true);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * chains a call which depends on the result of source. function runs on the thread completing source.
+     */
+    public static <S, T> ListenableFuture<T> transformAsync(final ListenableFuture<S> source, final AsyncFunction<S, T> function) {
+        if (source == null) {
+            throw new NullPointerException("source must not be null");
+        }
+        if (function == null) {
+            throw new NullPointerException("function must not be null");
+        }
+        final AtomicReference<ListenableFuture<T>> next = new AtomicReference<ListenableFuture<T>>();
+        final SettableListenableFuture<T> result = new SettableListenableFuture<T>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                final boolean cancelled = super.cancel(mayInterruptIfRunning);
+                source.cancel(mayInterruptIfRunning);
+                final ListenableFuture<T> nextFuture = next.get();
+                if (nextFuture != null) {
+                    nextFuture.cancel(mayInterruptIfRunning);
+                }
+                return cancelled;
+            }
+        };
+        source.addCallback(new ListenableFutureCallback<S>() {
+            @Override
+            public void onSuccess(S value) {
+                final ListenableFuture<T> nextFuture;
+                try {
+                    nextFuture = function.apply(value);
+                } catch (Exception e) {
+                    result.setException(e);
+                    return;
+                }
+                next.set(nextFuture);
+                if (result.isCancelled()) {
+                    nextFuture.cancel(true);
+                    return;
+                }
+                nextFuture.addCallback(new ListenableFutureCallback<T>() {
+                    @Override
+                    public void onSuccess(T nextValue) {
+                        result.set(nextValue);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable ex) {
+                        result.setException(ex);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(Throwable ex) {
+                result.setException(ex);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * waits for a future whose deadline is enforced by the code completing it, e.g. {@link com.navercorp.pinpoint.common.hbase.AsyncHbaseTemplate2}.
+     * the cause of a failure is rethrown as is if it is unchecked. the future is cancelled if the waiting thread is interrupted.
+     */
+    public static <T> T get(ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for an hbase call", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static <T> void cancelAll(List<ListenableFuture<T>> futures, boolean mayInterruptIfRunning) {
+        for (ListenableFuture<T> future : futures) {
+            future.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * error result of a query that did not finish within web.query.timeout. answered with 504 instead of a generic server error.
+ *
+ * @author agent
+ */
+@ResponseStatus(value = HttpStatus.GATEWAY_TIMEOUT, reason = "query timeout")
+public class QueryTimeoutException extends TimeoutException {
+
+    public QueryTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.view.AbstractView;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
+
+/**
+ * writes {@link ScatterColumns} as a binary columnar stream.
+ * <pre>
+ * version(byte)
+ * resultFrom(long) resultTo(long) baseTime(long)
+ * agentCount(varint) agentId(prefixed string) * agentCount
+ * size(varint)
+ * elapsed(varint) * size
+ * timeOffset(svarlong) * size
+ * agentIndex(varint) * size
+ * exception bitmap((size + 7) / 8 bytes)
+ * transactionAgentIndex(varint) * size
+ * transactionAgentStartTime(svarlong) * size
+ * transactionSequence(varlong) * size
+ * </pre>
+ * @author agent
+ */
+public class ScatterColumnsBinaryView extends AbstractView {
+
+    public static final String CONTENT_TYPE_BINARY = "application/octet-stream";
+
+    public static final byte VERSION = 1;
+
+    public static final String MODEL_RESULT_FROM = "resultFrom";
+    public static final String MODEL_RESULT_TO = "resultTo";
+    public static final String MODEL_SCATTER = "scatter";
+    public static final String MODEL_TRUNCATED = "truncated";
+
+    /**
+     * set when the query budget ran out. the binary layout is left unchanged
+     */
+    public static final String HEADER_TRUNCATED = "Pinpoint-Query-Truncated";
+
+    public ScatterColumnsBinaryView() {
+        setContentType(CONTENT_TYPE_BINARY);
+        setExposePathVariables(false);
+    }
+
+    @Override
+    protected void renderMergedOutputModel(Map<String, Object> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        final ScatterColumns columns = (ScatterColumns) model.get(MODEL_SCATTER);
+        if (columns == null) {
+            throw new IllegalStateException("scatter not found");
+        }
+        final long resultFrom = (Long) model.get(MODEL_RESULT_FROM);
+        final long resultTo = (Long) model.get(MODEL_RESULT_TO);
+
+        final byte[] bytes = write(resultFrom, resultTo, columns);
+
+        response.setContentType(getContentType());
+        if (Boolean.TRUE.equals(model.get(MODEL_TRUNCATED))) {
+            response.setHeader(HEADER_TRUNCATED, "true");
+        }
+        response.setContentLength(bytes.length);
+        final ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(bytes);
+        outputStream.flush();
+    }
+
+    public static byte[] write(long resultFrom, long resultTo, ScatterColumns columns) {
+        if (columns == null) {
+            throw new NullPointerException("columns must not be null");
+        }
+        final int size = columns.size();
+        final Buffer buffer = new AutomaticBuffer(64 + (size * 16));
+        buffer.put(VERSION);
+        buffer.put(resultFrom);
+        buffer.put(resultTo);
+        buffer.put(columns.getBaseTime());
+
+        final List<String> agentIdList = columns.getAgentIdList();
+        buffer.putVar(agentIdList.size());
+        for (String agentId : agentIdList) {
+            buffer.putPrefixedString(agentId);
+        }
+
+        buffer.putVar(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putVar(columns.getElapsed(i));
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putSVar(columns.getTimeOffset(i));
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putVar(columns.getAgentIndex(i));
+        }
+        final byte[] exceptionBitmap = new byte[(size + 7) / 8];
+        for (int i = 0; i < size; i++) {
+            if (columns.isException(i)) {
+                exceptionBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        buffer.put(exceptionBitmap);
+        for (int i = 0; i < size; i++) {
+            buffer.putVar(columns.getTransactionAgentIndex(i));
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putSVar(columns.getTransactionAgentStartTime(i));
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putVar(columns.getTransactionSequence(i));
+        }
+        return buffer.getBuffer();
+    }
+}
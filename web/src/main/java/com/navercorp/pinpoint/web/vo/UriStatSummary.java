@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo;
+
+import com.navercorp.pinpoint.common.util.LatencyHistogram;
+
+/**
+ * response time of one uri(or api) and status merged over the queried range.
+ * percentiles are upper bounds of the histogram bucket, so they may be up to 12.5% above the real value.
+ *
+ * @author agent
+ */
+public class UriStatSummary {
+
+    private final String uri;
+    private final int apiId;
+    private final int status;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long totalElapsed;
+    private int maxElapsed;
+
+    public UriStatSummary(String uri, int apiId, int status) {
+        this.uri = uri;
+        this.apiId = apiId;
+        this.status = status;
+    }
+
+    public void add(LatencyHistogram histogram, long totalElapsed, int maxElapsed) {
+        if (histogram == null) {
+            throw new NullPointerException("histogram must not be null");
+        }
+        this.histogram.merge(histogram);
+        this.totalElapsed += totalElapsed;
+        if (maxElapsed > this.maxElapsed) {
+            this.maxElapsed = maxElapsed;
+        }
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getApiId() {
+        return apiId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getTotalElapsed() {
+        return totalElapsed;
+    }
+
+    public long getAvgElapsed() {
+        final long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        return totalElapsed / count;
+    }
+
+    public int getMaxElapsed() {
+        return maxElapsed;
+    }
+
+    public long getP50() {
+        return histogram.getPercentile(50);
+    }
+
+    public long getP95() {
+        return histogram.getPercentile(95);
+    }
+
+    public long getP99() {
+        return histogram.getPercentile(99);
+    }
+
+    @Override
+    public String toString() {
+        return "UriStatSummary{" +
+                "uri='" + uri + '\'' +
+                ", apiId=" + apiId +
+                ", status=" + status +
+                ", count=" + getCount() +
+                ", totalElapsed=" + totalElapsed +
+                ", maxElapsed=" + maxElapsed +
+                '}';
+    }
+}
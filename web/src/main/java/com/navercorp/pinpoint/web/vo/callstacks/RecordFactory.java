@@ -183,6 +183,13 @@ public class RecordFactory {
         return idGen++;
     }
 
+    /**
+     * ids are assigned sequentially from the given id on. used to keep ids stable when only a part of the call tree is created.
+     */
+    public void setNextId(int nextId) {
+        this.idGen = nextId;
+    }
+
     private class Api {
         private String title = "";
         private String className = "";
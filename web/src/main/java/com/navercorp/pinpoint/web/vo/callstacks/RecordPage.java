@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.callstacks;
+
+/**
+ * A window of the call tree of a transaction.
+ * Nodes are numbered in pre-order. The window holds the nodes [offset, offset + subtreeSize.length)
+ * and the records of a node are created only when the node is in a requested window.
+ * <p>
+ * Record ids are stable across windows: the record of the node at index i has the id i * {@link #RECORD_ID_STRIDE} + 1,
+ * and the exception/annotation records of the node follow it.
+ * When a node has more records than the stride, the last id of the node holds a {@link #TRUNCATED_RECORD_TITLE} record
+ * that tells how many records were omitted.
+ * An expanded subtree is requested with offset = node index and limit = subtreeSize of the node.
+ *
+ * @author agent
+ */
+public class RecordPage {
+
+    public static final int RECORD_ID_STRIDE = 256;
+    public static final String TRUNCATED_RECORD_TITLE = "TRUNCATED";
+
+    private final int offset;
+    private final int nodeCount;
+    private final int[] subtreeSize;
+    private final String completeState;
+    private final RecordSet recordSet;
+
+    public RecordPage(int offset, int nodeCount, int[] subtreeSize, String completeState, RecordSet recordSet) {
+        if (subtreeSize == null) {
+            throw new NullPointerException("subtreeSize must not be null");
+        }
+        if (recordSet == null) {
+            throw new NullPointerException("recordSet must not be null");
+        }
+        this.offset = offset;
+        this.nodeCount = nodeCount;
+        this.subtreeSize = subtreeSize;
+        this.completeState = completeState;
+        this.recordSet = recordSet;
+    }
+
+    public static int getNodeRecordId(int nodeIndex) {
+        return nodeIndex * RECORD_ID_STRIDE + 1;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * subtree size of each node in the window, in window order.
+     */
+    public int[] getSubtreeSize() {
+        return subtreeSize;
+    }
+
+    public String getCompleteState() {
+        return completeState;
+    }
+
+    public RecordSet getRecordSet() {
+        return recordSet;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(64);
+        sb.append("RecordPage{");
+        sb.append("offset=").append(offset);
+        sb.append(", nodeCount=").append(nodeCount);
+        sb.append(", windowSize=").append(subtreeSize.length);
+        sb.append(", completeState='").append(completeState).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
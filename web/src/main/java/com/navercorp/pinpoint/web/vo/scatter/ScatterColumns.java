@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.scatter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.navercorp.pinpoint.web.vo.TransactionId;
+
+/**
+ * Columnar representation of scatter dots.
+ * Instead of one {@link Dot} per transaction, every attribute is packed into its own primitive array
+ * and agentIds are stored once in a dictionary and referenced by index.
+ *
+ * @author agent
+ */
+public class ScatterColumns {
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private final long baseTime;
+
+    private final List<String> agentIdList = new ArrayList<String>();
+    private final Map<String, Integer> agentIndexMap = new HashMap<String, Integer>();
+
+    private int size = 0;
+
+    private int[] elapsed;
+    private long[] timeOffset;
+    private int[] agentIndex;
+    private final BitSet exception = new BitSet();
+
+    private int[] transactionAgentIndex;
+    private long[] transactionAgentStartTime;
+    private long[] transactionSequence;
+
+    public ScatterColumns(long baseTime) {
+        this(baseTime, DEFAULT_CAPACITY);
+    }
+
+    public ScatterColumns(long baseTime, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("negative initialCapacity:" + initialCapacity);
+        }
+        this.baseTime = baseTime;
+        this.elapsed = new int[initialCapacity];
+        this.timeOffset = new long[initialCapacity];
+        this.agentIndex = new int[initialCapacity];
+        this.transactionAgentIndex = new int[initialCapacity];
+        this.transactionAgentStartTime = new long[initialCapacity];
+        this.transactionSequence = new long[initialCapacity];
+    }
+
+    public void add(String transactionAgentId, long transactionAgentStartTime, long transactionSequence, long acceptedTime, int elapsed, int exceptionCode, String agentId) {
+        if (transactionAgentId == null) {
+            throw new NullPointerException("transactionAgentId must not be null");
+        }
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        ensureCapacity(size + 1);
+
+        this.elapsed[size] = elapsed;
+        this.timeOffset[size] = acceptedTime - baseTime;
+        this.agentIndex[size] = getAgentIndex(agentId);
+        if (exceptionCode != Dot.EXCEPTION_NONE) {
+            this.exception.set(size);
+        }
+        this.transactionAgentIndex[size] = getAgentIndex(transactionAgentId);
+        this.transactionAgentStartTime[size] = transactionAgentStartTime;
+        this.transactionSequence[size] = transactionSequence;
+        size++;
+    }
+
+    public void add(Dot dot) {
+        if (dot == null) {
+            throw new NullPointerException("dot must not be null");
+        }
+        final TransactionId transactionId = new TransactionId(dot.getTransactionId());
+        add(transactionId.getAgentId(), transactionId.getAgentStartTime(), transactionId.getTransactionSequence(),
+                dot.getAcceptedTime(), dot.getElapsedTime(), dot.getExceptionCode(), dot.getAgentId());
+    }
+
+    private int getAgentIndex(String agentId) {
+        final Integer index = agentIndexMap.get(agentId);
+        if (index != null) {
+            return index;
+        }
+        final int newIndex = agentIdList.size();
+        agentIdList.add(agentId);
+        agentIndexMap.put(agentId, newIndex);
+        return newIndex;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elapsed.length) {
+            return;
+        }
+        int newCapacity = Math.max(elapsed.length << 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        this.elapsed = Arrays.copyOf(elapsed, newCapacity);
+        this.timeOffset = Arrays.copyOf(timeOffset, newCapacity);
+        this.agentIndex = Arrays.copyOf(agentIndex, newCapacity);
+        this.transactionAgentIndex = Arrays.copyOf(transactionAgentIndex, newCapacity);
+        this.transactionAgentStartTime = Arrays.copyOf(transactionAgentStartTime, newCapacity);
+        this.transactionSequence = Arrays.copyOf(transactionSequence, newCapacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getBaseTime() {
+        return baseTime;
+    }
+
+    public List<String> getAgentIdList() {
+        return agentIdList;
+    }
+
+    public int getElapsed(int index) {
+        checkIndex(index);
+        return elapsed[index];
+    }
+
+    public long getTimeOffset(int index) {
+        checkIndex(index);
+        return timeOffset[index];
+    }
+
+    public long getAcceptedTime(int index) {
+        checkIndex(index);
+        return baseTime + timeOffset[index];
+    }
+
+    public int getAgentIndex(int index) {
+        checkIndex(index);
+        return agentIndex[index];
+    }
+
+    public String getAgentId(int index) {
+        return agentIdList.get(getAgentIndex(index));
+    }
+
+    public boolean isException(int index) {
+        checkIndex(index);
+        return exception.get(index);
+    }
+
+    public int getTransactionAgentIndex(int index) {
+        checkIndex(index);
+        return transactionAgentIndex[index];
+    }
+
+    public long getTransactionAgentStartTime(int index) {
+        checkIndex(index);
+        return transactionAgentStartTime[index];
+    }
+
+    public long getTransactionSequence(int index) {
+        checkIndex(index);
+        return transactionSequence[index];
+    }
+
+    public TransactionId getTransactionId(int index) {
+        final String transactionAgentId = agentIdList.get(getTransactionAgentIndex(index));
+        return new TransactionId(transactionAgentId, transactionAgentStartTime[index], transactionSequence[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index:" + index + " size:" + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(64);
+        sb.append("ScatterColumns{");
+        sb.append("baseTime=").append(baseTime);
+        sb.append(", size=").append(size);
+        sb.append(", agentIdList=").append(agentIdList);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -16,20 +16,25 @@
 
 package com.navercorp.pinpoint.web.alarm;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
 
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.alarm.checker.AlarmChecker;
 import com.navercorp.pinpoint.web.alarm.collector.DataCollector;
 import com.navercorp.pinpoint.web.alarm.collector.ResponseTimeDataCollector;
 import com.navercorp.pinpoint.web.alarm.vo.Rule;
@@ -101,6 +106,42 @@ public class ReaderTest {
         assertNull(reader.read());
     }
     
+    @Test
+    public void bulkReadTest() {
+        StepExecution stepExecution = new StepExecution("alarmStep", null);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(AlarmPartitioner.PARTITION_NUMBER, 1);
+        stepExecution.setExecutionContext(executionContext);
+
+        final AtomicInteger collectCount = new AtomicInteger();
+        DataCollectorFactory countingFactory = new DataCollectorFactory() {
+            @Override
+            public DataCollector createDataCollector(CheckerCategory checker, Application application, long timeSlotEndTime) {
+                return new ResponseTimeDataCollector(DataCollectorCategory.RESPONSE_TIME, application, null, 0, 0) {
+                    @Override
+                    public void collect() {
+                        collectCount.incrementAndGet();
+                    }
+                };
+            }
+        };
+
+        AlarmReader reader = new AlarmReader(countingFactory, applicationIndexDao, alarmService);
+        reader.setBulkEnable(true);
+        reader.setBulkTaskExecutor(new SimpleAsyncTaskExecutor());
+        reader.beforeStep(stepExecution);
+
+        for(int i = 0; i < 5; i++) {
+            AlarmChecker checker = reader.read();
+            assertNotNull(checker);
+            assertTrue(checker.isChecked());
+        }
+        assertNull(reader.read());
+        // once by the bulk collect and once by each checker
+        assertEquals(10, collectCount.get());
+        assertEquals(5, executionContext.getInt(AlarmReader.CHECKER_COUNT));
+    }
+
     @BeforeClass
     public static void beforeClass() {
         applicationIndexDao = new ApplicationIndexDao() {
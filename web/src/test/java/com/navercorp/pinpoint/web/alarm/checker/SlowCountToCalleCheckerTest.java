@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.alarm.CheckerCategory;
@@ -55,6 +56,11 @@ public class SlowCountToCalleCheckerTest {
                 return null;
             }
             
+            @Override
+            public ListenableFuture<LinkDataMap> selectCallerAsync(Application callerApplication, Range range) {
+                return null;
+            }
+            
             @Override
             public LinkDataMap selectCaller(Application callerApplication, Range range) {
                 long timeStamp = 1409814914298L;
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.histogram;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.util.TimeWindowDownSampler;
+import com.navercorp.pinpoint.web.vo.Range;
+
+/**
+ * @author agent
+ */
+public class TimeWindowHistogramTest {
+
+    private static final long ONE_MINUTE = 60000;
+
+    private final TimeWindow timeWindow = new TimeWindow(new Range(0, 10 * ONE_MINUTE), TimeWindowDownSampler.SAMPLER);
+
+    @Test
+    public void addCallCount() {
+        TimeWindowHistogram histogram = new TimeWindowHistogram(ServiceType.STAND_ALONE, timeWindow);
+        histogram.addCallCount(0, (short) 1000, 1);
+        histogram.addCallCount(10, (short) 1000, 2);
+        histogram.addCallCount(ONE_MINUTE * 2, (short) -1, 3);
+        histogram.addCallCount(ONE_MINUTE * 2, (short) 0, 4);
+
+        List<TimeHistogram> list = sort(histogram.getTimeHistogram());
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(0, list.get(0).getTimeStamp());
+        Assert.assertEquals(3, list.get(0).getFastCount());
+        Assert.assertEquals(ONE_MINUTE * 2, list.get(1).getTimeStamp());
+        Assert.assertEquals(3, list.get(1).getErrorCount());
+        Assert.assertEquals(4, list.get(1).getVerySlowCount());
+
+        Assert.assertEquals(10, histogram.getTotalCount());
+    }
+
+    @Test
+    public void outOfWindow() {
+        TimeWindowHistogram histogram = new TimeWindowHistogram(ServiceType.STAND_ALONE, timeWindow);
+        histogram.addCallCount(ONE_MINUTE * 100, (short) 1000, 1);
+        histogram.addCallCount(ONE_MINUTE, (short) 3000, 1);
+
+        List<TimeHistogram> list = sort(histogram.getTimeHistogram());
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(ONE_MINUTE, list.get(0).getTimeStamp());
+        Assert.assertEquals(1, list.get(0).getNormalCount());
+        Assert.assertEquals(ONE_MINUTE * 100, list.get(1).getTimeStamp());
+        Assert.assertEquals(2, histogram.getTotalCount());
+    }
+
+    @Test
+    public void add() {
+        TimeWindowHistogram histogram1 = new TimeWindowHistogram(ServiceType.STAND_ALONE, timeWindow);
+        histogram1.addCallCount(ONE_MINUTE, (short) 1000, 1);
+
+        TimeWindowHistogram histogram2 = new TimeWindowHistogram(ServiceType.STAND_ALONE, timeWindow);
+        histogram2.addCallCount(ONE_MINUTE, (short) 1000, 2);
+        histogram2.addCallCount(ONE_MINUTE * 3, (short) 5000, 5);
+
+        histogram1.add(histogram2);
+
+        TimeHistogram timeHistogram = new TimeHistogram(ServiceType.STAND_ALONE, ONE_MINUTE * 3);
+        timeHistogram.addCallCount((short) 5000, 1);
+        histogram1.add(timeHistogram);
+
+        List<TimeHistogram> list = sort(histogram1.getTimeHistogram());
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(3, list.get(0).getFastCount());
+        Assert.assertEquals(6, list.get(1).getSlowCount());
+    }
+
+    private List<TimeHistogram> sort(Collection<TimeHistogram> timeHistograms) {
+        List<TimeHistogram> list = new ArrayList<TimeHistogram>(timeHistograms);
+        Collections.sort(list, TimeHistogram.TIME_STAMP_ASC_COMPARATOR);
+        return list;
+    }
+}
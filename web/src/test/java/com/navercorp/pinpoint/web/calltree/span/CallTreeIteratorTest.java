@@ -220,6 +220,45 @@ public class CallTreeIteratorTest {
         }
     }
 
+    @Test
+    public void index() {
+        SpanAlign root = makeSpanAlign(START_TIME, 240);
+        CallTree callTree = new SpanCallTree(root);
+        callTree.add(1, makeSpanAlign(root.getSpanBo(), SYNC, (short) 0, 1, 1));
+        callTree.add(2, makeSpanAlign(root.getSpanBo(), SYNC, (short) 1, 2, 1));
+        callTree.add(3, makeSpanAlign(root.getSpanBo(), SYNC, (short) 2, 3, 1));
+        callTree.add(2, makeSpanAlign(root.getSpanBo(), SYNC, (short) 3, 4, 1));
+        callTree.add(1, makeSpanAlign(root.getSpanBo(), SYNC, (short) 4, 5, 1));
+
+        CallTreeIterator iterator = callTree.iterator();
+        assertEquals(6, iterator.size());
+
+        int[] parentIndex = {-1, 0, 1, 2, 1, 0};
+        int[] subtreeSize = {6, 4, 2, 1, 1, 1};
+        for (int i = 0; i < iterator.size(); i++) {
+            assertEquals(parentIndex[i], iterator.getParentIndex(i));
+            assertEquals(subtreeSize[i], iterator.getSubtreeSize(i));
+        }
+        assertEquals(2, iterator.values(2, 4).size());
+        assertSame(iterator.get(3).getValue(), iterator.values(2, 4).get(1));
+    }
+
+    @Test
+    public void wideTree() {
+        final int siblings = Short.MAX_VALUE;
+        SpanAlign root = makeSpanAlign(START_TIME, 240);
+        CallTree callTree = new SpanCallTree(root);
+        for (int i = 0; i < siblings; i++) {
+            callTree.add(1, makeSpanAlign(root.getSpanBo(), SYNC, (short) i, 1, 1));
+        }
+
+        CallTreeIterator iterator = callTree.iterator();
+        assertEquals(siblings + 1, iterator.size());
+        assertEquals(siblings + 1, iterator.getSubtreeSize(0));
+        assertEquals(0, iterator.getParentIndex(siblings));
+        assertEquals(1, iterator.getSubtreeSize(siblings));
+    }
+
     private SpanAlign makeSpanAlign(long startTime, int elapsed) {
         SpanBo span = new SpanBo();
         span.setStartTime(startTime);
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.span;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.common.bo.SpanBo;
+import com.navercorp.pinpoint.common.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.TransactionIdUtils;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+
+/**
+ * @author agent
+ */
+public class SpanAligner2Test {
+
+    @Test
+    public void aggregatedEvent() {
+        TSpan tSpan = createTSpan();
+        // sequence 1 ~ 3 are collapsed into sequence 1 by the agent
+        TSpanEvent aggregated = createTSpanEvent(1, 2);
+        TAnnotation annotation = new TAnnotation(AnnotationKey.AGGREGATED_CALL.getCode());
+        annotation.setValue(TAnnotationValue.stringValue("count=3 total=30ms min=5ms max=15ms error=0"));
+        aggregated.addToAnnotations(annotation);
+        TAnnotation count = new TAnnotation(AnnotationKey.AGGREGATED_CALL_COUNT.getCode());
+        count.setValue(TAnnotationValue.intValue(3));
+        aggregated.addToAnnotations(count);
+
+        SpanBo spanBo = storeAndRead(tSpan, Arrays.asList(createTSpanEvent(0, 1), aggregated, createTSpanEvent(4, 2), createTSpanEvent(5, 1)));
+
+        CallTree callTree = new SpanAligner2(Arrays.asList(spanBo), spanBo.getCollectorAcceptTime()).sort();
+
+        List<Short> sequenceList = new ArrayList<Short>();
+        CallTreeIterator iterator = callTree.iterator();
+        while (iterator.hasNext()) {
+            SpanAlign spanAlign = iterator.next().getValue();
+            if (spanAlign.isSpan()) {
+                continue;
+            }
+            Assert.assertNotEquals("corrupted", ServiceType.COLLECTOR.getCode(), spanAlign.getSpanEventBo().getServiceType());
+            sequenceList.add(spanAlign.getSpanEventBo().getSequence());
+        }
+        Assert.assertEquals(Arrays.asList((short) 0, (short) 1, (short) 4, (short) 5), sequenceList);
+    }
+
+    @Test
+    public void sequenceGapWithoutAggregation() {
+        TSpan tSpan = createTSpan();
+        SpanBo spanBo = storeAndRead(tSpan, Arrays.asList(createTSpanEvent(0, 1), createTSpanEvent(1, 2), createTSpanEvent(4, 2)));
+
+        CallTree callTree = new SpanAligner2(Arrays.asList(spanBo), spanBo.getCollectorAcceptTime()).sort();
+
+        SpanAlign last = null;
+        CallTreeIterator iterator = callTree.iterator();
+        while (iterator.hasNext()) {
+            last = iterator.next().getValue();
+        }
+        Assert.assertEquals(ServiceType.COLLECTOR.getCode(), last.getSpanEventBo().getServiceType());
+    }
+
+    private TSpan createTSpan() {
+        TSpan tSpan = new TSpan();
+        tSpan.setAgentId("agent");
+        tSpan.setApplicationName("application");
+        tSpan.setAgentStartTime(1000);
+        tSpan.setTransactionId(TransactionIdUtils.formatBytes("agent", 1000, 1));
+        tSpan.setSpanId(10);
+        tSpan.setParentSpanId(-1);
+        tSpan.setStartTime(2000);
+        tSpan.setElapsed(100);
+        tSpan.setServiceType(ServiceType.STAND_ALONE.getCode());
+        return tSpan;
+    }
+
+    private TSpanEvent createTSpanEvent(int sequence, int depth) {
+        TSpanEvent tSpanEvent = new TSpanEvent();
+        tSpanEvent.setSequence((short) sequence);
+        tSpanEvent.setDepth(depth);
+        tSpanEvent.setStartElapsed(sequence);
+        tSpanEvent.setEndElapsed(1);
+        tSpanEvent.setServiceType(ServiceType.INTERNAL_METHOD.getCode());
+        tSpanEvent.setApiId(1);
+        return tSpanEvent;
+    }
+
+    /**
+     * writes the span events the way the collector does and reads them back the way the web does.
+     */
+    private SpanBo storeAndRead(TSpan tSpan, List<TSpanEvent> tSpanEventList) {
+        SpanBo spanBo = new SpanBo(tSpan);
+        for (TSpanEvent tSpanEvent : tSpanEventList) {
+            byte[] value = new SpanEventBo(tSpan, tSpanEvent).writeValue();
+
+            SpanEventBo spanEventBo = new SpanEventBo();
+            spanEventBo.readValue(value, 0, value.length);
+            // the sequence is stored in the qualifier
+            spanEventBo.setSequence(tSpanEvent.getSequence());
+            spanBo.addSpanEvent(spanEventBo);
+        }
+        return spanBo;
+    }
+}
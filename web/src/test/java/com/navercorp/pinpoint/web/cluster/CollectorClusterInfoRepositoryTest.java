@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.cluster;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class CollectorClusterInfoRepositoryTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void agentChanged() {
+        RecordingListener listener = new RecordingListener();
+        CollectorClusterInfoRepository repository = new CollectorClusterInfoRepository(listener);
+
+        repository.put("collector1", toBytes("app:agent1:1000\r\napp:agent2:2000\r\n"));
+        Assert.assertEquals(list("app/agent1/1000", "app/agent2/2000"), listener.drain());
+
+        // unchanged
+        repository.put("collector1", toBytes("app:agent1:1000\r\napp:agent2:2000\r\n"));
+        Assert.assertEquals(list(), listener.drain());
+
+        // agent2 disconnected, agent3 connected
+        repository.put("collector1", toBytes("app:agent1:1000\r\nbatch:agent3:3000\r\n"));
+        Assert.assertEquals(list("app/agent2/2000", "batch/agent3/3000"), listener.drain());
+
+        repository.remove("collector1");
+        Assert.assertEquals(list("app/agent1/1000", "batch/agent3/3000"), listener.drain());
+    }
+
+    @Test
+    public void agentChanged_applicationNameWithSeparator() {
+        RecordingListener listener = new RecordingListener();
+        CollectorClusterInfoRepository repository = new CollectorClusterInfoRepository(listener);
+
+        repository.put("collector1", toBytes("app:v1:agent1:1000\r\ninvalid\r\n"));
+        Assert.assertEquals(list("app:v1/agent1/1000"), listener.drain());
+
+        repository.clear();
+        Assert.assertEquals(list("app:v1/agent1/1000"), listener.drain());
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(UTF_8);
+    }
+
+    private List<String> list(String... values) {
+        List<String> list = new ArrayList<String>();
+        Collections.addAll(list, values);
+        Collections.sort(list);
+        return list;
+    }
+
+    private static class RecordingListener implements ClusterAgentChangeListener {
+
+        private final List<String> changed = new ArrayList<String>();
+
+        @Override
+        public void agentChanged(String applicationName, String agentId, long startTimeStamp) {
+            changed.add(applicationName + "/" + agentId + "/" + startTimeStamp);
+        }
+
+        public List<String> drain() {
+            List<String> copy = new ArrayList<String>(changed);
+            Collections.sort(copy);
+            changed.clear();
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.util.TimeWindowDownSampler;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.Range;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class LinkDataMapSegmentCacheTest {
+
+    private static final long MINUTE = 60000;
+
+    private final Application caller = new Application("caller", ServiceType.STAND_ALONE);
+    private final Application callee = new Application("callee", ServiceType.STAND_ALONE);
+
+    @Test
+    public void closedSlotCached() {
+        final TestSegmentCache cache = new TestSegmentCache(10 * MINUTE + 30000);
+        final TestScanner scanner = new TestScanner();
+        scanner.addSegment(6 * MINUTE, 3);
+        scanner.addSegment(9 * MINUTE, 2);
+
+        final Range range = new Range(5 * MINUTE, 10 * MINUTE);
+        final LinkDataMap first = cache.select(caller, range, new TimeWindow(range, TimeWindowDownSampler.SAMPLER), scanner);
+        Assert.assertEquals(5, first.getTotalCount());
+        Assert.assertEquals(2, scanner.scanList.size());
+        assertRange(scanner.scanList.get(0), 5 * MINUTE - 1, 7 * MINUTE);
+        assertRange(scanner.scanList.get(1), 8 * MINUTE - 1, 10 * MINUTE);
+        // closed slots 5, 6, 7 including empty ones
+        Assert.assertEquals(3, cache.size());
+
+        scanner.scanList.clear();
+        final LinkDataMap second = cache.select(caller, range, new TimeWindow(range, TimeWindowDownSampler.SAMPLER), scanner);
+        Assert.assertEquals(5, second.getTotalCount());
+        Assert.assertEquals(1, scanner.scanList.size());
+        assertRange(scanner.scanList.get(0), 8 * MINUTE - 1, 10 * MINUTE);
+    }
+
+    @Test
+    public void slidingRange() {
+        final TestSegmentCache cache = new TestSegmentCache(10 * MINUTE);
+        final TestScanner scanner = new TestScanner();
+        final Range range = new Range(5 * MINUTE, 10 * MINUTE);
+        cache.select(caller, range, null, scanner);
+
+        scanner.scanList.clear();
+        cache.currentTime = 11 * MINUTE;
+        final Range nextRange = new Range(6 * MINUTE, 11 * MINUTE);
+        cache.select(caller, nextRange, null, scanner);
+        Assert.assertEquals(2, scanner.scanList.size());
+        // only the newly closed slot and the open tail
+        assertRange(scanner.scanList.get(0), 8 * MINUTE - 1, 8 * MINUTE);
+        assertRange(scanner.scanList.get(1), 9 * MINUTE - 1, 11 * MINUTE);
+    }
+
+    @Test
+    public void applicationIsolation() {
+        final TestSegmentCache cache = new TestSegmentCache(10 * MINUTE);
+        final TestScanner scanner = new TestScanner();
+        final Range range = new Range(5 * MINUTE, 7 * MINUTE);
+        cache.select(caller, range, null, scanner);
+        Assert.assertEquals(1, scanner.scanList.size());
+
+        cache.select(callee, range, null, scanner);
+        Assert.assertEquals(2, scanner.scanList.size());
+    }
+
+    private void assertRange(Range range, long from, long to) {
+        Assert.assertEquals(from, range.getFrom());
+        Assert.assertEquals(to, range.getTo());
+    }
+
+    private LinkDataMap createLinkDataMap(long timestamp, long count) {
+        final LinkDataMap linkDataMap = new LinkDataMap();
+        linkDataMap.addLinkData(caller, "callerAgent", callee, "calleeAgent", timestamp, (short) 100, count);
+        return linkDataMap;
+    }
+
+    private class TestScanner implements LinkDataMapSegmentCache.SegmentScanner {
+        private final Map<Long, LinkDataMap> segments = new HashMap<Long, LinkDataMap>();
+        private final List<Range> scanList = new ArrayList<Range>();
+
+        private void addSegment(long slot, long count) {
+            segments.put(slot, createLinkDataMap(slot, count));
+        }
+
+        @Override
+        public Map<Long, LinkDataMap> scan(Range statisticsRange) {
+            scanList.add(statisticsRange);
+            final Map<Long, LinkDataMap> result = new HashMap<Long, LinkDataMap>();
+            for (Map.Entry<Long, LinkDataMap> entry : segments.entrySet()) {
+                final long slot = entry.getKey();
+                if (slot > statisticsRange.getFrom() && slot <= statisticsRange.getTo()) {
+                    result.put(slot, entry.getValue());
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class TestSegmentCache extends LinkDataMapSegmentCache {
+        private long currentTime;
+
+        private TestSegmentCache(long currentTime) {
+            super(100, 2 * MINUTE, 10 * MINUTE);
+            this.currentTime = currentTime;
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return currentTime;
+        }
+    }
+}
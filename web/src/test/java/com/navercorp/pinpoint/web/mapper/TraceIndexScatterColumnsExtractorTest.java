@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.SpanUtils;
+import com.navercorp.pinpoint.web.vo.TransactionId;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
+
+/**
+ * @author agent
+ */
+public class TraceIndexScatterColumnsExtractorTest {
+
+    private static final String APPLICATION_NAME = "application";
+
+    @Test
+    public void extractData() throws Exception {
+        final long baseTime = 1000000;
+        Result row1 = Result.create(new Cell[] {
+                createCell(baseTime + 200, "agent1", 10, 1, 50, 0, "agent2"),
+                createCell(baseTime + 200, "agent2", 20, 2, 60, 1, "agent1")
+        });
+        Result row2 = Result.create(new Cell[] {
+                createCell(baseTime + 100, "agent1", 10, 3, 70, 0, "agent1")
+        });
+
+        TraceIndexScatterColumnsExtractor extractor = new TraceIndexScatterColumnsExtractor(baseTime, 100);
+        ScatterColumns columns = extractor.extractData(createScanner(row1, row2));
+
+        Assert.assertEquals(3, columns.size());
+        Assert.assertEquals(baseTime, columns.getBaseTime());
+        Assert.assertEquals(Arrays.asList("agent2", "agent1"), columns.getAgentIdList());
+
+        Assert.assertEquals(baseTime + 200, columns.getAcceptedTime(0));
+        Assert.assertEquals(50, columns.getElapsed(0));
+        Assert.assertEquals("agent2", columns.getAgentId(0));
+        Assert.assertFalse(columns.isException(0));
+        Assert.assertEquals(new TransactionId("agent1", 10, 1), columns.getTransactionId(0));
+
+        Assert.assertEquals(60, columns.getElapsed(1));
+        Assert.assertTrue(columns.isException(1));
+        Assert.assertEquals(new TransactionId("agent2", 20, 2), columns.getTransactionId(1));
+
+        Assert.assertEquals(baseTime + 100, columns.getAcceptedTime(2));
+        Assert.assertEquals(100, columns.getTimeOffset(2));
+        Assert.assertEquals(new TransactionId("agent1", 10, 3), columns.getTransactionId(2));
+    }
+
+    @Test
+    public void extractDataLimitPerRow() throws Exception {
+        final long baseTime = 1000000;
+        Result row1 = Result.create(new Cell[] {
+                createCell(baseTime + 200, "agent", 10, 1, 50, 0, "agent"),
+                createCell(baseTime + 200, "agent", 10, 2, 50, 0, "agent")
+        });
+        Result row2 = Result.create(new Cell[] {
+                createCell(baseTime + 100, "agent", 10, 3, 50, 0, "agent")
+        });
+
+        TraceIndexScatterColumnsExtractor extractor = new TraceIndexScatterColumnsExtractor(baseTime, 1);
+        ScatterColumns columns = extractor.extractData(createScanner(row1, row2));
+
+        // the whole first row is kept, the second row is not read
+        Assert.assertEquals(2, columns.size());
+        Assert.assertEquals(2, columns.getTransactionSequence(1));
+    }
+
+    @Test
+    public void extractDataEmpty() throws Exception {
+        TraceIndexScatterColumnsExtractor extractor = new TraceIndexScatterColumnsExtractor(1000, 10);
+        ScatterColumns columns = extractor.extractData(createScanner(Result.create(new Cell[0])));
+
+        Assert.assertTrue(columns.isEmpty());
+        Assert.assertTrue(columns.getAgentIdList().isEmpty());
+    }
+
+    private ResultScanner createScanner(Result... results) {
+        List<Result> resultList = new ArrayList<Result>(Arrays.asList(results));
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.iterator()).thenReturn(resultList.iterator());
+        return scanner;
+    }
+
+    private Cell createCell(long acceptedTime, String transactionAgentId, long transactionAgentStartTime, long transactionSequence, int elapsed, int exceptionCode, String agentId) {
+        // same layout as the collector's HbaseApplicationTraceIndexDao, with a one byte distribute prefix
+        final byte[] rowKey = SpanUtils.getApplicationTraceIndexRowKey(APPLICATION_NAME, acceptedTime);
+        final byte[] distributedKey = new byte[HBaseTables.APPLICATION_TRACE_INDEX_ROW_DISTRIBUTE_SIZE + rowKey.length];
+        distributedKey[0] = 7;
+        BytesUtils.writeBytes(distributedKey, HBaseTables.APPLICATION_TRACE_INDEX_ROW_DISTRIBUTE_SIZE, rowKey);
+
+        final Buffer qualifier = new AutomaticBuffer(32);
+        qualifier.putPrefixedString(transactionAgentId);
+        qualifier.putSVar(transactionAgentStartTime);
+        qualifier.putVar(transactionSequence);
+
+        final Buffer value = new AutomaticBuffer(32);
+        value.putVar(elapsed);
+        value.putSVar(exceptionCode);
+        value.putPrefixedString(agentId);
+
+        return CellUtil.createCell(distributedKey, HBaseTables.APPLICATION_TRACE_INDEX_CF_TRACE, qualifier.getBuffer(), acceptedTime, KeyValue.Type.Put.getCode(), value.getBuffer());
+    }
+}
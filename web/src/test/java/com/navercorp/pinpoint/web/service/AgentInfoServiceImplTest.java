@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.navercorp.pinpoint.common.bo.AgentInfoBo;
+import com.navercorp.pinpoint.common.bo.AgentLifeCycleBo;
+import com.navercorp.pinpoint.common.util.AgentLifeCycleState;
+import com.navercorp.pinpoint.web.dao.AgentInfoDao;
+import com.navercorp.pinpoint.web.dao.AgentLifeCycleDao;
+import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
+import com.navercorp.pinpoint.web.vo.AgentInfo;
+
+/**
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AgentInfoServiceImplTest {
+
+    private static final long TIMESTAMP = 1000;
+
+    @Mock
+    private ApplicationIndexDao applicationIndexDao;
+
+    @Mock
+    private AgentInfoDao agentInfoDao;
+
+    @Mock
+    private AgentLifeCycleDao agentLifeCycleDao;
+
+    @Mock
+    private ApplicationAgentInfoCache applicationAgentInfoCache;
+
+    @InjectMocks
+    private AgentInfoServiceImpl agentInfoService = new AgentInfoServiceImpl();
+
+    @Test
+    public void getAgentsByApplicationNameLoadsAllAgentsAtOnce() {
+        when(applicationIndexDao.selectAgentIds("application")).thenReturn(Arrays.asList("agent1", "agent2", "agent3"));
+        // agent2 has no agent info
+        final AgentInfoBo agent1Info = createAgentInfoBo("agent1");
+        final AgentInfoBo agent3Info = createAgentInfoBo("agent3");
+        when(agentInfoDao.getAgentInfo(Arrays.asList("agent1", "agent2", "agent3"), TIMESTAMP))
+                .thenReturn(Arrays.asList(agent1Info, null, agent3Info));
+        // agent3 has no life cycle
+        final AgentLifeCycleBo agent1LifeCycle = new AgentLifeCycleBo("agent1", 10, 20, 0, AgentLifeCycleState.RUNNING);
+        when(agentLifeCycleDao.getAgentLifeCycle(Arrays.asList("agent1", "agent3"), TIMESTAMP))
+                .thenReturn(Arrays.asList(agent1LifeCycle, null));
+
+        Set<AgentInfo> agentSet = agentInfoService.getAgentsByApplicationName("application", TIMESTAMP);
+
+        Map<String, AgentInfo> agentMap = new HashMap<String, AgentInfo>();
+        for (AgentInfo agentInfo : agentSet) {
+            agentMap.put(agentInfo.getAgentId(), agentInfo);
+        }
+        Assert.assertEquals(2, agentMap.size());
+        Assert.assertEquals(AgentLifeCycleState.RUNNING, agentMap.get("agent1").getStatus().getState());
+        Assert.assertEquals("agent3", agentMap.get("agent3").getStatus().getAgentId());
+        Assert.assertEquals(AgentLifeCycleState.UNKNOWN, agentMap.get("agent3").getStatus().getState());
+
+        verify(agentInfoDao, never()).getAgentInfo(anyString(), anyLong());
+        verify(agentLifeCycleDao, never()).getAgentLifeCycle(anyString(), anyLong());
+    }
+
+    private AgentInfoBo createAgentInfoBo(String agentId) {
+        AgentInfoBo agentInfoBo = mock(AgentInfoBo.class);
+        when(agentInfoBo.getAgentId()).thenReturn(agentId);
+        return agentInfoBo;
+    }
+}
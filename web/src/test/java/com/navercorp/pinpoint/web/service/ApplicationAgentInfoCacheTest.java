@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.navercorp.pinpoint.web.vo.AgentInfo;
+import com.navercorp.pinpoint.web.vo.AgentStatus;
+
+/**
+ * @author agent
+ */
+public class ApplicationAgentInfoCacheTest {
+
+    private static final long EXPIRE = 10000;
+
+    @Test
+    public void sameTimeSlot() {
+        ApplicationAgentInfoCache cache = new ApplicationAgentInfoCache(true, 100, EXPIRE);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("app", EXPIRE * 5, loader);
+        cache.get("app", EXPIRE * 5 + EXPIRE - 1, loader);
+        Assert.assertEquals(1, loader.count.get());
+    }
+
+    @Test
+    public void differentTimeSlot() {
+        ApplicationAgentInfoCache cache = new ApplicationAgentInfoCache(true, 100, EXPIRE);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("app", EXPIRE * 5, loader);
+        cache.get("app", EXPIRE * 6, loader);
+        Assert.assertEquals(2, loader.count.get());
+    }
+
+    @Test
+    public void returnsCopies() {
+        ApplicationAgentInfoCache cache = new ApplicationAgentInfoCache(true, 100, EXPIRE);
+        CountingLoader loader = new CountingLoader();
+
+        Set<AgentInfo> first = cache.get("app", EXPIRE, loader);
+        AgentInfo firstAgent = first.iterator().next();
+        firstAgent.setHostName("changed");
+        firstAgent.getStatus().setEventTimestamp(-1);
+        first.clear();
+
+        Set<AgentInfo> second = cache.get("app", EXPIRE, loader);
+        Assert.assertEquals(1, loader.count.get());
+        Assert.assertEquals(1, second.size());
+        AgentInfo secondAgent = second.iterator().next();
+        Assert.assertEquals("host", secondAgent.getHostName());
+        Assert.assertEquals(100, secondAgent.getStatus().getEventTimestamp());
+    }
+
+    @Test
+    public void evictAllTimeSlots() {
+        ApplicationAgentInfoCache cache = new ApplicationAgentInfoCache(true, 100, EXPIRE);
+        CountingLoader loader = new CountingLoader();
+
+        cache.get("app", EXPIRE * 5, loader);
+        cache.get("app", EXPIRE * 6, loader);
+        cache.agentChanged("app", "agent", 0);
+
+        cache.get("app", EXPIRE * 5, loader);
+        cache.get("app", EXPIRE * 6, loader);
+        Assert.assertEquals(4, loader.count.get());
+    }
+
+    private static class CountingLoader implements Callable<Set<AgentInfo>> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Set<AgentInfo> call() throws Exception {
+            count.incrementAndGet();
+
+            AgentStatus status = new AgentStatus();
+            status.setAgentId("agent");
+            status.setEventTimestamp(100);
+
+            AgentInfo agentInfo = new AgentInfo();
+            agentInfo.setApplicationName("app");
+            agentInfo.setAgentId("agent");
+            agentInfo.setHostName("host");
+            agentInfo.setStatus(status);
+
+            Set<AgentInfo> agentSet = new HashSet<AgentInfo>();
+            agentSet.add(agentInfo);
+            return agentSet;
+        }
+    }
+}
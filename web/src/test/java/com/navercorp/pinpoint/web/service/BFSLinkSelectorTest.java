@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.web.dao.HostApplicationMapDao;
 import com.navercorp.pinpoint.web.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.dao.MapStatisticsCallerDao;
 import com.navercorp.pinpoint.web.service.map.AcceptApplication;
+import com.navercorp.pinpoint.web.util.ListenableFutures;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.LinkKey;
 import com.navercorp.pinpoint.web.vo.Range;
@@ -30,6 +31,9 @@ import com.navercorp.pinpoint.web.vo.SearchOption;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.HashSet;
 
@@ -63,6 +67,22 @@ public class BFSLinkSelectorTest {
         this.callerDao = mock(MapStatisticsCallerDao.class);
         this.calleeDao = mock(MapStatisticsCalleeDao.class);
         this.hostApplicationMapDao = mock(HostApplicationMapDao.class);
+
+        // the async calls answer with the stubs of the blocking ones
+        when(callerDao.selectCallerAsync(any(Application.class), any(Range.class))).thenAnswer(new Answer<ListenableFuture<LinkDataMap>>() {
+            @Override
+            public ListenableFuture<LinkDataMap> answer(InvocationOnMock invocation) throws Throwable {
+                final Object[] arguments = invocation.getArguments();
+                return ListenableFutures.immediate(callerDao.selectCaller((Application) arguments[0], (Range) arguments[1]));
+            }
+        });
+        when(calleeDao.selectCalleeAsync(any(Application.class), any(Range.class))).thenAnswer(new Answer<ListenableFuture<LinkDataMap>>() {
+            @Override
+            public ListenableFuture<LinkDataMap> answer(InvocationOnMock invocation) throws Throwable {
+                final Object[] arguments = invocation.getArguments();
+                return ListenableFutures.immediate(calleeDao.selectCallee((Application) arguments[0], (Range) arguments[1]));
+            }
+        });
     }
 
     private LinkSelector createLinkSelector() {
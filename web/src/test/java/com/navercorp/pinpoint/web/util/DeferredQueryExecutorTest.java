@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.navercorp.pinpoint.common.hbase.QueryContext;
+import com.navercorp.pinpoint.common.hbase.QueryContextHolder;
+
+/**
+ * @author agent
+ */
+public class DeferredQueryExecutorTest {
+
+    private DeferredQueryExecutor executor;
+
+    @After
+    public void tearDown() throws Exception {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    private DeferredQueryExecutor createExecutor(int poolSize, int queueSize, long timeoutMillis, long graceMillis) {
+        this.executor = new DeferredQueryExecutor(poolSize, queueSize, timeoutMillis, graceMillis);
+        this.executor.init();
+        return this.executor;
+    }
+
+    @Test
+    public void result() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        DeferredResult<String> deferredResult = executor.execute(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return "result";
+            }
+        });
+        Assert.assertEquals("result", awaitResult(deferredResult));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void deadlineRequired() throws Exception {
+        createExecutor(1, 1, 0, 0);
+    }
+
+    @Test
+    public void defaultDeadline() throws Exception {
+        DeferredQueryExecutor defaultExecutor = new DeferredQueryExecutor();
+        Assert.assertEquals(DeferredQueryExecutor.DEFAULT_TIMEOUT_MILLIS, defaultExecutor.getTimeoutMillis());
+    }
+
+    @Test
+    public void error() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        final IllegalStateException error = new IllegalStateException("query fail");
+        DeferredResult<String> deferredResult = executor.execute(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                throw error;
+            }
+        });
+        Assert.assertSame(error, awaitResult(deferredResult));
+    }
+
+    @Test
+    public void timeout() throws Exception {
+        createExecutor(1, 1, 100, 100);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final CountDownLatch finished = new CountDownLatch(1);
+        DeferredResult<String> deferredResult = executor.execute(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                try {
+                    // ignores the query context, like a scan stuck in hbase
+                    Thread.sleep(10000);
+                    return "late";
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                } finally {
+                    finished.countDown();
+                }
+            }
+        });
+        Object result = awaitResult(deferredResult);
+        Assert.assertTrue("result:" + result, result instanceof QueryTimeoutException);
+        Assert.assertTrue(finished.await(5000, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(interrupted.get());
+    }
+
+    @Test
+    public void rejected() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        final CountDownLatch release = new CountDownLatch(1);
+        Callable<String> blocked = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                release.await();
+                return "result";
+            }
+        };
+        DeferredResult<String> running = executor.execute(blocked);
+        DeferredResult<String> queued = executor.execute(blocked);
+        DeferredResult<String> rejected = executor.execute(blocked);
+        try {
+            Assert.assertTrue(awaitResult(rejected) instanceof RejectedExecutionException);
+        } finally {
+            release.countDown();
+        }
+        Assert.assertEquals("result", awaitResult(running));
+        Assert.assertEquals("result", awaitResult(queued));
+    }
+
+    @Test
+    public void cancelledHbaseCall() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        DeferredResult<String> deferredResult = executor.execute(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                // an asynchronous hbase call cancelled at its deadline
+                throw new CancellationException();
+            }
+        });
+        Assert.assertTrue(awaitResult(deferredResult) instanceof QueryTimeoutException);
+    }
+
+    @Test
+    public void asyncResult() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        final SettableListenableFuture<String> future = new SettableListenableFuture<String>();
+        final AtomicBoolean bound = new AtomicBoolean();
+        DeferredResult<String> deferredResult = executor.executeAsync(new DeferredQueryExecutor.AsyncQuery<String>() {
+            @Override
+            public ListenableFuture<String> call(QueryContext queryContext) throws Exception {
+                bound.set(QueryContextHolder.getContext() == queryContext);
+                return future;
+            }
+        });
+        Assert.assertNull(QueryContextHolder.getContext());
+        Assert.assertTrue(bound.get());
+        Assert.assertFalse(deferredResult.hasResult());
+
+        future.set("result");
+        Assert.assertEquals("result", awaitResult(deferredResult));
+    }
+
+    @Test
+    public void asyncError() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        final IllegalStateException error = new IllegalStateException("query fail");
+        final SettableListenableFuture<String> future = new SettableListenableFuture<String>();
+        future.setException(error);
+        DeferredResult<String> deferredResult = executor.executeAsync(new DeferredQueryExecutor.AsyncQuery<String>() {
+            @Override
+            public ListenableFuture<String> call(QueryContext queryContext) throws Exception {
+                return future;
+            }
+        });
+        Assert.assertSame(error, awaitResult(deferredResult));
+    }
+
+    @Test
+    public void asyncCancelled() throws Exception {
+        createExecutor(1, 1, 1000, 1000);
+        final SettableListenableFuture<String> future = new SettableListenableFuture<String>();
+        DeferredResult<String> deferredResult = executor.executeAsync(new DeferredQueryExecutor.AsyncQuery<String>() {
+            @Override
+            public ListenableFuture<String> call(QueryContext queryContext) throws Exception {
+                return future;
+            }
+        });
+        // cancelled at the deadline of the hbase call
+        future.cancel(true);
+        Assert.assertTrue(awaitResult(deferredResult) instanceof QueryTimeoutException);
+    }
+
+    @Test
+    public void asyncTimeout() throws Exception {
+        createExecutor(1, 1, 100, 100);
+        final SettableListenableFuture<String> future = new SettableListenableFuture<String>();
+        DeferredResult<String> deferredResult = executor.executeAsync(new DeferredQueryExecutor.AsyncQuery<String>() {
+            @Override
+            public ListenableFuture<String> call(QueryContext queryContext) throws Exception {
+                return future;
+            }
+        });
+        Object result = awaitResult(deferredResult);
+        Assert.assertTrue("result:" + result, result instanceof QueryTimeoutException);
+        Assert.assertTrue(future.isCancelled());
+    }
+
+    private Object awaitResult(DeferredResult<?> deferredResult) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!deferredResult.hasResult()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("no result");
+            }
+            Thread.sleep(10);
+        }
+        return deferredResult.getResult();
+    }
+}
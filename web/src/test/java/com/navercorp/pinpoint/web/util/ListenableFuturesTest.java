@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * @author agent
+ */
+public class ListenableFuturesTest {
+
+    @Test
+    public void allAsList() {
+        final SettableListenableFuture<String> first = new SettableListenableFuture<String>();
+        final SettableListenableFuture<String> second = new SettableListenableFuture<String>();
+        final List<ListenableFuture<String>> futureList = Arrays.<ListenableFuture<String>>asList(first, second);
+        final ListenableFuture<List<String>> all = ListenableFutures.allAsList(futureList);
+
+        // completion order does not change the result order
+        second.set("second");
+        Assert.assertFalse(all.isDone());
+        first.set("first");
+
+        Assert.assertEquals(Arrays.asList("first", "second"), ListenableFutures.get(all));
+    }
+
+    @Test
+    public void allAsListEmpty() {
+        final List<ListenableFuture<String>> futureList = Collections.emptyList();
+        Assert.assertTrue(ListenableFutures.get(ListenableFutures.allAsList(futureList)).isEmpty());
+    }
+
+    @Test
+    public void allAsListFailure() {
+        final SettableListenableFuture<String> first = new SettableListenableFuture<String>();
+        final SettableListenableFuture<String> second = new SettableListenableFuture<String>();
+        final List<ListenableFuture<String>> futureList = Arrays.<ListenableFuture<String>>asList(first, second);
+        final ListenableFuture<List<String>> all = ListenableFutures.allAsList(futureList);
+
+        final IllegalStateException error = new IllegalStateException("scan fail");
+        first.setException(error);
+
+        Assert.assertTrue(second.isCancelled());
+        try {
+            ListenableFutures.get(all);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertSame(error, e);
+        }
+    }
+
+    @Test
+    public void allAsListCancel() {
+        final SettableListenableFuture<String> first = new SettableListenableFuture<String>();
+        final List<ListenableFuture<String>> futureList = Collections.<ListenableFuture<String>>singletonList(first);
+        final ListenableFuture<List<String>> all = ListenableFutures.allAsList(futureList);
+
+        all.cancel(true);
+        Assert.assertTrue(first.isCancelled());
+    }
+
+    @Test
+    public void transformAsync() {
+        final SettableListenableFuture<String> source = new SettableListenableFuture<String>();
+        final SettableListenableFuture<String> fallback = new SettableListenableFuture<String>();
+        final ListenableFuture<String> result = ListenableFutures.transformAsync(source, new ListenableFutures.AsyncFunction<String, String>() {
+            @Override
+            public ListenableFuture<String> apply(String input) throws Exception {
+                if (input.isEmpty()) {
+                    return fallback;
+                }
+                return ListenableFutures.immediate(input);
+            }
+        });
+
+        source.set("");
+        Assert.assertFalse(result.isDone());
+        fallback.set("fallback");
+        Assert.assertEquals("fallback", ListenableFutures.get(result));
+    }
+
+    @Test
+    public void transformAsyncCancel() {
+        final SettableListenableFuture<String> source = new SettableListenableFuture<String>();
+        final SettableListenableFuture<String> next = new SettableListenableFuture<String>();
+        final ListenableFuture<String> result = ListenableFutures.transformAsync(source, new ListenableFutures.AsyncFunction<String, String>() {
+            @Override
+            public ListenableFuture<String> apply(String input) throws Exception {
+                return next;
+            }
+        });
+
+        source.set("source");
+        result.cancel(true);
+        Assert.assertTrue(next.isCancelled());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterColumns;
+
+/**
+ * @author agent
+ */
+public class ScatterColumnsBinaryViewTest {
+
+    @Test
+    public void roundTrip() {
+        final long baseTime = 1000000;
+        ScatterColumns columns = new ScatterColumns(baseTime);
+        columns.add("agent1", 10, 1, baseTime + 100, 50, 0, "agent2");
+        columns.add("agent2", 20, 2, baseTime + 200, 60, 1, "agent1");
+        columns.add("agent1", 10, 3, baseTime - 300, 0, 0, "agent1");
+        columns.add("agent3", -5, Long.MAX_VALUE, baseTime + Integer.MAX_VALUE + 1000L, Integer.MAX_VALUE, -1, "agent3");
+        for (int i = 0; i < 20; i++) {
+            columns.add("agent1", 10, 100 + i, baseTime + i, i, i % 3 == 0 ? 1 : 0, "agent2");
+        }
+
+        byte[] bytes = ScatterColumnsBinaryView.write(baseTime - 500, baseTime + 500, columns);
+
+        assertRoundTrip(baseTime - 500, baseTime + 500, columns, bytes);
+    }
+
+    @Test
+    public void roundTripEmpty() {
+        ScatterColumns columns = new ScatterColumns(1000);
+
+        byte[] bytes = ScatterColumnsBinaryView.write(10, 20, columns);
+
+        assertRoundTrip(10, 20, columns, bytes);
+        // version, three longs, agentCount and size
+        Assert.assertEquals(1 + 8 * 3 + 1 + 1, bytes.length);
+    }
+
+    @Test
+    public void roundTripSingleDot() {
+        ScatterColumns columns = new ScatterColumns(1000);
+        columns.add("agent", 10, 1, 1100, 50, 1, "agent");
+
+        byte[] bytes = ScatterColumnsBinaryView.write(1000, 2000, columns);
+
+        assertRoundTrip(1000, 2000, columns, bytes);
+    }
+
+    @Test
+    public void render() throws Exception {
+        ScatterColumns columns = new ScatterColumns(1000);
+        columns.add("agent", 10, 1, 1100, 50, 0, "agent");
+
+        Map<String, Object> model = new HashMap<String, Object>();
+        model.put(ScatterColumnsBinaryView.MODEL_RESULT_FROM, 1000L);
+        model.put(ScatterColumnsBinaryView.MODEL_RESULT_TO, 2000L);
+        model.put(ScatterColumnsBinaryView.MODEL_SCATTER, columns);
+        model.put(ScatterColumnsBinaryView.MODEL_TRUNCATED, Boolean.TRUE);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ScatterColumnsBinaryView().render(model, new MockHttpServletRequest(), response);
+
+        Assert.assertEquals(ScatterColumnsBinaryView.CONTENT_TYPE_BINARY, response.getContentType());
+        Assert.assertEquals("true", response.getHeader(ScatterColumnsBinaryView.HEADER_TRUNCATED));
+        assertRoundTrip(1000, 2000, columns, response.getContentAsByteArray());
+    }
+
+    private void assertRoundTrip(long resultFrom, long resultTo, ScatterColumns expected, byte[] bytes) {
+        final Buffer buffer = new FixedBuffer(bytes);
+        Assert.assertEquals(ScatterColumnsBinaryView.VERSION, buffer.readByte());
+        Assert.assertEquals(resultFrom, buffer.readLong());
+        Assert.assertEquals(resultTo, buffer.readLong());
+        Assert.assertEquals(expected.getBaseTime(), buffer.readLong());
+
+        final int agentCount = buffer.readVarInt();
+        Assert.assertEquals(expected.getAgentIdList().size(), agentCount);
+        for (int i = 0; i < agentCount; i++) {
+            Assert.assertEquals(expected.getAgentIdList().get(i), buffer.readPrefixedString());
+        }
+
+        final int size = buffer.readVarInt();
+        Assert.assertEquals(expected.size(), size);
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getElapsed(i), buffer.readVarInt());
+        }
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getTimeOffset(i), buffer.readSVarLong());
+        }
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getAgentIndex(i), buffer.readVarInt());
+        }
+        final byte[] exceptionBitmap = buffer.readPadBytes((size + 7) / 8);
+        for (int i = 0; i < size; i++) {
+            final boolean exception = (exceptionBitmap[i >>> 3] & (1 << (i & 7))) != 0;
+            Assert.assertEquals(expected.isException(i), exception);
+        }
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getTransactionAgentIndex(i), buffer.readVarInt());
+        }
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getTransactionAgentStartTime(i), buffer.readSVarLong());
+        }
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(expected.getTransactionSequence(i), buffer.readVarLong());
+        }
+        Assert.assertEquals("trailing bytes", bytes.length, buffer.getOffset());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.scatter;
+
+import com.navercorp.pinpoint.web.vo.TransactionId;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class ScatterColumnsTest {
+
+    @Test
+    public void testAdd() {
+        ScatterColumns columns = new ScatterColumns(1000, 1);
+        columns.add("agent1", 10, 1, 1100, 50, 0, "agent2");
+        columns.add("agent2", 20, 2, 1200, 60, 1, "agent1");
+        columns.add("agent1", 10, 3, 1300, 70, 0, "agent1");
+
+        Assert.assertEquals(3, columns.size());
+        Assert.assertEquals(2, columns.getAgentIdList().size());
+
+        Assert.assertEquals(1100, columns.getAcceptedTime(0));
+        Assert.assertEquals(100, columns.getTimeOffset(0));
+        Assert.assertEquals(50, columns.getElapsed(0));
+        Assert.assertEquals("agent2", columns.getAgentId(0));
+        Assert.assertFalse(columns.isException(0));
+        Assert.assertEquals(new TransactionId("agent1", 10, 1), columns.getTransactionId(0));
+
+        Assert.assertTrue(columns.isException(1));
+        Assert.assertEquals(new TransactionId("agent2", 20, 2), columns.getTransactionId(1));
+
+        Assert.assertEquals(columns.getAgentIndex(1), columns.getAgentIndex(2));
+    }
+
+    @Test
+    public void testAddDot() {
+        ScatterColumns columns = new ScatterColumns(100);
+        TransactionId transactionId = new TransactionId("aigw.dev.1^1395798795017^1527177");
+        columns.add(new Dot(transactionId, 150, 99, 1, "agent"));
+
+        Assert.assertEquals(1, columns.size());
+        Assert.assertEquals(transactionId, columns.getTransactionId(0));
+        Assert.assertEquals(150, columns.getAcceptedTime(0));
+        Assert.assertTrue(columns.isException(0));
+    }
+
+    @Test
+    public void testAcceptedTimeBeyondIntOffset() {
+        final long baseTime = 1000;
+        final long acceptedTime = baseTime + Integer.MAX_VALUE + 1000L;
+        ScatterColumns columns = new ScatterColumns(baseTime);
+        columns.add("agent", 10, 1, acceptedTime, 50, 0, "agent");
+        columns.add("agent", 10, 2, baseTime - Integer.MAX_VALUE - 1000L, 50, 0, "agent");
+
+        Assert.assertEquals(acceptedTime, columns.getAcceptedTime(0));
+        Assert.assertEquals(Integer.MAX_VALUE + 1000L, columns.getTimeOffset(0));
+        Assert.assertEquals(baseTime - Integer.MAX_VALUE - 1000L, columns.getAcceptedTime(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        ScatterColumns columns = new ScatterColumns(100);
+        columns.getElapsed(0);
+    }
+}